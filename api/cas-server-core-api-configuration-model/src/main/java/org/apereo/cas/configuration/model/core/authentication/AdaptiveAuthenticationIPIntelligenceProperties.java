@@ -43,6 +43,12 @@ public class AdaptiveAuthenticationIPIntelligenceProperties implements Serializa
      */
     private BlackDot blackDot = new BlackDot();
 
+    /**
+     * Cache results of IP address examinations.
+     */
+    @NestedConfigurationProperty
+    private IPAddressEnrichmentCacheProperties cache = new IPAddressEnrichmentCacheProperties();
+
     @RequiresModule(name = "cas-server-core-authentication", automated = true)
     @Getter
     @Setter
@@ -0,0 +1,49 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationPolicyDecisionCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuthenticationPolicyDecisionCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -4263701898126471209L;
+
+    /**
+     * Duration for which a successful decision of the policy endpoint is remembered
+     * for the same principal and attributes. A zero or blank duration
+     * disables caching, and the endpoint is contacted on every authentication attempt.
+     */
+    @DurationCapable
+    private String timeToLive;
+
+    /**
+     * Duration for which a failed decision of the policy endpoint is remembered.
+     * If undefined, falls back to the duration defined for successful decisions.
+     */
+    @DurationCapable
+    private String negativeTimeToLive;
+
+    /**
+     * Duration for which an expired decision may still be used
+     * while a new decision is obtained in the background, or while the
+     * policy endpoint cannot be reached.
+     */
+    @DurationCapable
+    private String staleWhileRevalidate;
+}
@@ -50,4 +50,10 @@ public class CoreAuthenticationProperties implements Serializable {
     @NestedConfigurationProperty
     private AuthenticationEngineProperties engine = new AuthenticationEngineProperties();
 
+    /**
+     * Control how principals are handed to provisioning targets, such as SCIM or Apache Syncope.
+     */
+    @NestedConfigurationProperty
+    private PrincipalProvisioningQueueProperties provisioning = new PrincipalProvisioningQueueProperties();
+
 }
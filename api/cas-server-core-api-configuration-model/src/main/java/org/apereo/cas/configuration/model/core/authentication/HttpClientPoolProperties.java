@@ -0,0 +1,72 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties for pooled HTTP clients that are shared
+ * across outbound HTTP calls made by CAS.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class HttpClientPoolProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3121842387616517455L;
+
+    /**
+     * Whether HTTP clients should be pooled and shared across requests
+     * that use the same connection settings, such as the proxy, TLS context and timeouts.
+     * Pooled clients keep connections alive and allow TLS sessions to be reused.
+     * When disabled, a new HTTP client is created for every request.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of connections allowed in each pool.
+     */
+    private int maxConnectionsTotal = 200;
+
+    /**
+     * Maximum number of connections allowed per destination in each pool.
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * Maximum amount of time a pooled connection may be kept and reused.
+     */
+    @DurationCapable
+    private String connectionTimeToLive = "PT60S";
+
+    /**
+     * Connections that remain idle for longer than this duration are evicted from the pool.
+     */
+    @DurationCapable
+    private String idleConnectionEviction = "PT30S";
+
+    /**
+     * Pooled clients that are not requested for longer than this duration are evicted and closed.
+     * This typically applies to clients built for TLS contexts or hostname verifiers
+     * that were replaced when the configuration was refreshed.
+     */
+    @DurationCapable
+    private String unusedClientEviction = "PT10M";
+
+    /**
+     * Whether HTTP/2 should be negotiated for asynchronous requests
+     * over TLS, when supported by the remote server.
+     */
+    private boolean http2Enabled;
+}
@@ -106,4 +106,23 @@ public class HttpClientProperties implements Serializable {
      * along with request.
      */
     private Map<String, String> defaultHeaders = new HashMap<>();
+
+    /**
+     * Settings that control pooled HTTP clients shared across outbound requests.
+     */
+    @NestedConfigurationProperty
+    private HttpClientPoolProperties pool = new HttpClientPoolProperties();
+
+    /**
+     * Settings that control TLS contexts and sessions shared across outbound connections.
+     */
+    @NestedConfigurationProperty
+    private HttpClientTlsProperties tls = new HttpClientTlsProperties();
+
+    /**
+     * Settings that control the HTTP client used to verify proxy callback urls
+     * and deliver proxy granting tickets.
+     */
+    @NestedConfigurationProperty
+    private HttpClientProxyCallbackProperties proxyCallback = new HttpClientProxyCallbackProperties();
 }
@@ -0,0 +1,70 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties for the HTTP client that verifies proxy callback urls
+ * and delivers proxy granting tickets to client applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class HttpClientProxyCallbackProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2866123051476613982L;
+
+    /**
+     * Whether proxy callbacks should be handled by a dedicated pooled HTTP client
+     * that remembers verified callback origins and limits concurrent callbacks per host.
+     * When disabled, proxy callbacks are verified and delivered using the default
+     * HTTP client that supports the CAS truststore.
+     */
+    private boolean enabled;
+
+    /**
+     * Amount of time a successful verification of a callback origin, i.e. scheme, host and port,
+     * is remembered. While remembered, callback urls on the same origin are not probed again
+     * before the proxy granting ticket is delivered. A value of zero disables caching.
+     */
+    @DurationCapable
+    private String verificationCacheTtl = "PT5M";
+
+    /**
+     * Maximum number of callback origins whose verification results are remembered.
+     */
+    private long verificationCacheSize = 10_000;
+
+    /**
+     * Maximum number of callbacks that may be in flight for the same host at any given time.
+     */
+    private int maxConcurrentCallbacksPerHost = 10;
+
+    /**
+     * Amount of time to wait for a callback slot on a busy host before the callback is rejected.
+     */
+    @DurationCapable
+    private String acquireTimeout = "PT1S";
+
+    /**
+     * Maximum number of connections kept by the proxy callback client.
+     */
+    private int maxConnectionsTotal = 100;
+
+    /**
+     * Maximum number of connections kept by the proxy callback client per host.
+     */
+    private int maxConnectionsPerRoute = 10;
+}
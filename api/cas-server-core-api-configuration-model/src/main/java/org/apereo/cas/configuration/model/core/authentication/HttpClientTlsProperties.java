@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties for TLS contexts and socket factories
+ * that are shared across outbound connections made by CAS.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class HttpClientTlsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4408213906525017781L;
+
+    /**
+     * Maximum number of client TLS sessions kept for resumption
+     * by each shared TLS context. A value of zero removes the limit.
+     */
+    private int sessionCacheSize = 20480;
+
+    /**
+     * Amount of time a cached client TLS session may be resumed
+     * by each shared TLS context before a full handshake is required again.
+     */
+    @DurationCapable
+    private String sessionTimeout = "PT24H";
+
+    /**
+     * Maximum number of TLS contexts whose shared socket factories are kept.
+     * Each TLS context holds one socket factory per hostname verifier.
+     */
+    private long maxSocketFactories = 100;
+}
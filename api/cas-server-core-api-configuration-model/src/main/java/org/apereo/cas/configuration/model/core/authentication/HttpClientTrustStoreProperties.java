@@ -41,4 +41,11 @@ public class HttpClientTrustStoreProperties implements Serializable {
      * Truststore type used to create a SSL context for http client.
      */
     private String type = KeyStore.getDefaultType();
+
+    /**
+     * Whether the truststore file should be watched for changes.
+     * When the file is modified, trust and key material are reloaded in place
+     * and cached TLS sessions are discarded, without rebuilding the TLS context.
+     */
+    private boolean watchResource;
 }
@@ -0,0 +1,67 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link IPAddressEnrichmentCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class IPAddressEnrichmentCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3188503405471863529L;
+
+    /**
+     * Duration for which a successful or favorable lookup result is remembered
+     * for the same IP address. A zero or blank duration disables caching,
+     * and the upstream service is contacted for every lookup.
+     */
+    @DurationCapable
+    private String timeToLive = "PT0S";
+
+    /**
+     * Duration for which an unfavorable or empty lookup result is remembered.
+     * If undefined, falls back to the duration defined for favorable results.
+     */
+    @DurationCapable
+    private String negativeTimeToLive;
+
+    /**
+     * Maximum number of lookup results to remember.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Number of leading bits of an IPv4 address used to build cache keys.
+     * The default considers the full address, while a value such as {@code 24}
+     * allows all addresses of the same network to share a result.
+     */
+    private int ipv4PrefixLength = 32;
+
+    /**
+     * Number of leading bits of an IPv6 address used to build cache keys.
+     * The default considers the full address, while a value such as {@code 48}
+     * allows all addresses of the same network to share a result.
+     */
+    private int ipv6PrefixLength = 128;
+
+    /**
+     * Location of a file on disk where cached results are saved on shutdown,
+     * and restored from on startup to keep the cache warm across restarts.
+     * Results that have expired in the meantime are not restored.
+     */
+    private String snapshotLocation;
+}
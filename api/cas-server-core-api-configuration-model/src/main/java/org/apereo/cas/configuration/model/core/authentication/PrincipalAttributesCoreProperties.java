@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -84,6 +85,25 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * When multiple attribute repositories are defined, query
+     * independent repositories concurrently rather than one after another.
+     * Results are still merged in the order in which repositories are defined.
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#CASCADE},
+     * repositories are always queried one after another, since each repository
+     * is queried with the results of the repositories before it.
+     */
+    private boolean parallelExecution;
+
+    /**
+     * When {@link #parallelExecution} is enabled, the maximum amount of time
+     * to wait for each attribute repository to produce a result. Repositories that
+     * fail to respond in time are treated as having produced no results, subject
+     * to {@link #recoverExceptions}.
+     */
+    @DurationCapable
+    private String parallelExecutionTimeout = "PT10S";
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -0,0 +1,92 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link PrincipalProvisioningQueueProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class PrincipalProvisioningQueueProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5530163385874152447L;
+
+    /**
+     * Whether principal provisioning should be placed into a queue
+     * and carried out in the background, so that authentication proceeds
+     * without waiting for the provisioning target. Repeated requests to provision
+     * the same principal that are still waiting in the queue are coalesced into one.
+     * Registered services may still require provisioning to complete
+     * during authentication via the {@code principalProvisioningSynchronous} property.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of principals that can be waiting in the queue.
+     * Requests that cannot be queued once this limit is reached are provisioned
+     * on the calling thread instead.
+     */
+    private int capacity = 50_000;
+
+    /**
+     * Maximum number of queued principals handed to a provisioner at once.
+     * Provisioners that support bulk operations may send the whole batch in a single request.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How often the queue is drained.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Maximum number of batches that may be provisioned concurrently.
+     */
+    private int maxConcurrency = 4;
+
+    /**
+     * Maximum number of provisioning attempts for a principal before it is dead-lettered.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Delay before the first retry of a failed provisioning attempt.
+     * The delay doubles with every subsequent attempt, up to {@link #maxBackoff}.
+     */
+    @DurationCapable
+    private String initialBackoff = "PT2S";
+
+    /**
+     * Upper bound for the delay between retries of a failed provisioning attempt.
+     */
+    @DurationCapable
+    private String maxBackoff = "PT5M";
+
+    /**
+     * Maximum number of dead-lettered provisioning requests to keep around
+     * for reconciliation. Oldest entries are discarded first.
+     */
+    private int deadLetterCapacity = 1000;
+
+    /**
+     * How long to keep provisioning requests still waiting in the queue
+     * when the queue is shut down. Requests that cannot be provisioned in time are discarded.
+     */
+    @DurationCapable
+    private String shutdownTimeout = "PT10S";
+}
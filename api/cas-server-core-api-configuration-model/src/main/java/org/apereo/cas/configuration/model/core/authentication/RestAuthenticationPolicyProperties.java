@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -22,4 +23,10 @@ import java.io.Serial;
 public class RestAuthenticationPolicyProperties extends BaseRestEndpointProperties {
     @Serial
     private static final long serialVersionUID = -8979188862774758908L;
+
+    /**
+     * Control how decisions of the policy endpoint are remembered.
+     */
+    @NestedConfigurationProperty
+    private AuthenticationPolicyDecisionCacheProperties decisionCache = new AuthenticationPolicyDecisionCacheProperties();
 }
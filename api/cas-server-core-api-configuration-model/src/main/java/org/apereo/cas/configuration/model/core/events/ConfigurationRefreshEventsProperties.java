@@ -0,0 +1,77 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings that control how refreshable components are rebuilt
+ * when CAS configuration is modified.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-events-configuration", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ConfigurationRefreshEventsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2157093356428190442L;
+
+    /**
+     * Whether configuration changes should only rebuild the refreshable components
+     * that are mapped to the modified settings, rather than every refreshable component.
+     * Refreshable components that depend on them, directly or through an object provider, are rebuilt as well.
+     * Each replacement component is built before it takes the place of the component it replaces.
+     * If any of the modified settings is not mapped to a component, all refreshable components are rebuilt.
+     */
+    private boolean targeted;
+
+    /**
+     * Map of setting prefixes to the names of the refreshable components that
+     * must be rebuilt when a setting under that prefix is modified.
+     * Prefixes are matched using relaxed names, i.e. {@code cas.authn.spnego} matches
+     * {@code cas.authn.spnego.dns-timeout}. When defined in properties files, prefixes that
+     * contain dots must be enclosed in square brackets, i.e. {@code [cas.authn.spnego]}.
+     */
+    private Map<String, List<String>> dependencies = new LinkedHashMap<>();
+
+    /**
+     * Setting prefixes that do not require any component to be rebuilt,
+     * typically because the settings are read again on every use.
+     */
+    private List<String> ignoredPrefixes = new ArrayList<>();
+
+    /**
+     * Maximum amount of time to wait for replacement components to be built.
+     * Components whose replacements are not built in time are left in place.
+     */
+    @DurationCapable
+    private String warmUpTimeout = "PT1M";
+
+    /**
+     * Amount of time to wait after a replacement component has taken the place of
+     * the component it replaces before the previous component is destroyed, so that
+     * requests in flight can finish using it. Previous components that are still held by
+     * components that are not rebuilt are never destroyed.
+     */
+    @DurationCapable
+    private String destroyDelay = "PT30S";
+
+    /**
+     * Number of refresh reports to keep for reporting purposes.
+     */
+    private int historySize = 20;
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -47,4 +48,11 @@ public class CoreEventsProperties implements Serializable {
      * configuration files and reloading context conditionally if there are any changes.
      */
     private boolean trackConfigurationModifications;
+
+    /**
+     * Settings that control how refreshable components are rebuilt
+     * when configuration modifications are detected.
+     */
+    @NestedConfigurationProperty
+    private ConfigurationRefreshEventsProperties configurationRefresh = new ConfigurationRefreshEventsProperties();
 }
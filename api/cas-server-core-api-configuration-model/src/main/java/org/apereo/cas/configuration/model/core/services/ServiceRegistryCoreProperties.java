@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -64,4 +65,10 @@ public class ServiceRegistryCoreProperties implements Serializable {
      * The indexes allow CAS to execute a direct query on loaded service objects to find the relevant definition.
      */
     private boolean indexServices = true;
+
+    /**
+     * Control how service URLs that cannot be matched with any registered service are cached.
+     */
+    @NestedConfigurationProperty
+    private ServiceRegistryNegativeCacheProperties negativeCache = new ServiceRegistryNegativeCacheProperties();
 }
@@ -0,0 +1,48 @@
+package org.apereo.cas.configuration.model.core.services;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link ServiceRegistryNegativeCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-services", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ServiceRegistryNegativeCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2377612081447286384L;
+
+    /**
+     * Whether service URLs that could not be matched with any registered service
+     * should be remembered for a period of time. When a service is not found in the
+     * services cache, CAS falls back onto the service registry which, for remote registries,
+     * typically translates into a network fetch and deserialization of service definitions.
+     * Remembering unmatched service URLs prevents repeated lookups for unknown services
+     * and concurrent lookups for the same service URL are also collapsed into a single fetch.
+     * All remembered entries are discarded once service definitions are saved, deleted or reloaded.
+     */
+    private boolean enabled;
+
+    /**
+     * Duration for which an unmatched service URL is remembered.
+     */
+    @DurationCapable
+    private String expiration = "PT5M";
+
+    /**
+     * Maximum number of unmatched service URLs to remember.
+     */
+    private long maximumSize = 10_000;
+}
@@ -0,0 +1,70 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutOutboxProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SingleLogoutOutboxProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2284139162314729573L;
+
+    /**
+     * Whether back-channel logout messages should be placed into an outbox
+     * and dispatched concurrently in the background, with retries. When enabled,
+     * logout operations return as soon as all messages are queued and the
+     * {@code asynchronous} setting for single logout is ignored.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of logout messages that can be pending in the outbox.
+     * Messages that cannot be queued once this limit is reached are considered failed.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of logout messages that may be sent concurrently to the same host.
+     */
+    private int maxConcurrencyPerHost = 4;
+
+    /**
+     * Maximum number of delivery attempts for a logout message before it is dead-lettered.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed logout message.
+     * The delay doubles with every subsequent attempt, up to {@link #maxBackoff}.
+     */
+    @DurationCapable
+    private String initialBackoff = "PT1S";
+
+    /**
+     * Upper bound for the delay between retries of a failed logout message.
+     */
+    @DurationCapable
+    private String maxBackoff = "PT30S";
+
+    /**
+     * Maximum number of dead-lettered logout messages to keep around for inspection.
+     * Oldest entries are discarded first.
+     */
+    private int deadLetterCapacity = 1000;
+}
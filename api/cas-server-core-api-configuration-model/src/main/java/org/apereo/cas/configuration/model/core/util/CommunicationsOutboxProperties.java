@@ -0,0 +1,91 @@
+package org.apereo.cas.configuration.model.core.util;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link CommunicationsOutboxProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-core-notifications", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class CommunicationsOutboxProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 5511870376640148813L;
+
+    /**
+     * Whether messages should be queued and delivered in the background,
+     * rather than on the thread that produces them. Queued messages are
+     * reported back as successful once accepted by the outbox, unless
+     * delivery confirmation is required.
+     */
+    private boolean enabled;
+
+    /**
+     * Whether callers should wait for messages to be delivered,
+     * in which case the delivery outcome is reported back to the caller.
+     */
+    private boolean deliveryConfirmationRequired;
+
+    /**
+     * Maximum amount of time to wait for delivery
+     * when delivery confirmation is required.
+     */
+    @DurationCapable
+    private String deliveryConfirmationTimeout = "PT30S";
+
+    /**
+     * Number of workers that deliver queued messages.
+     */
+    private int poolSize = 2;
+
+    /**
+     * Maximum number of messages that may wait in the outbox.
+     * Once the outbox is full, messages are delivered on the calling thread,
+     * or queued again shortly after if the rate limit does not allow immediate delivery.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Maximum number of queued messages a worker
+     * delivers at once, allowing providers to reuse the same connection.
+     */
+    private int batchSize = 10;
+
+    /**
+     * Maximum number of delivery attempts per message.
+     */
+    private int maximumAttempts = 3;
+
+    /**
+     * Delay before the first retry of a failed delivery.
+     * The delay doubles for each subsequent attempt.
+     */
+    @DurationCapable
+    private String retryBackoff = "PT2S";
+
+    /**
+     * Maximum number of messages delivered per second
+     * to the provider. Zero or negative values disable rate limiting.
+     */
+    private int rateLimitPerSecond;
+
+    /**
+     * Maximum amount of time to wait for queued messages
+     * to be delivered when the outbox is shut down.
+     * Messages that cannot be delivered within this period are reported as failed.
+     */
+    @DurationCapable
+    private String shutdownGracePeriod = "PT30S";
+}
@@ -0,0 +1,52 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Controls whether an inquiry that is carried out after authentication,
+ * such as interrupt notifications, acceptable usage policy or attribute consent,
+ * should be started in the background as soon as the principal is resolved
+ * so that its result is ready by the time the webflow asks for it.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow", automated = true)
+@Accessors(chain = true)
+
+public class PostAuthenticationPrefetchProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6280914635372087261L;
+
+    /**
+     * Whether the inquiry should be started in the background
+     * once authentication has completed.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum amount of time to wait for the result of the background
+     * inquiry once the webflow asks for it. When the result is not ready in time,
+     * or the inquiry fails, the webflow carries out the inquiry itself.
+     */
+    @DurationCapable
+    private String timeout = "PT3S";
+
+    /**
+     * Maximum number of inquiries of this kind that may run in the background
+     * at the same time. Once reached, further inquiries are not started in the background
+     * and the webflow carries them out itself.
+     */
+    private int maximumConcurrency = 100;
+}
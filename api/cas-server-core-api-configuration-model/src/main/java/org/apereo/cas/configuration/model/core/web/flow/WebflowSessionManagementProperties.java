@@ -39,4 +39,26 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     @RequiredProperty
     private boolean storage;
+
+    /**
+     * Controls how webflow state is encoded when sessions are stored on the client side.
+     */
+    private ClientSessionTranscoderTypes transcoder = ClientSessionTranscoderTypes.DEFAULT;
+
+    /**
+     * The client-side session transcoder types.
+     */
+    public enum ClientSessionTranscoderTypes {
+        /**
+         * Java serialization compressed with gzip, then encrypted.
+         */
+        DEFAULT,
+        /**
+         * Java serialization compressed with deflate and a preset dictionary
+         * of common webflow class and attribute names, then encrypted.
+         * Produces smaller payloads and is able to decode state produced by {@link #DEFAULT},
+         * which allows switching to this option without breaking in-progress flows.
+         */
+        COMPACT
+    }
 }
@@ -0,0 +1,72 @@
+package org.apereo.cas.configuration.model.core.web.view;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that control how themes and view templates that are fetched
+ * from remote endpoints are cached.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-themes")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class RemoteViewContentCacheProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6217743080652164417L;
+
+    /**
+     * Whether themes and view templates that are fetched from remote endpoints
+     * should be cached. When enabled, results are remembered per service, locale and template,
+     * {@code Cache-Control} and {@code ETag} response headers are honored, stale results are
+     * served while they are refreshed in the background, concurrent requests share a single fetch,
+     * and the last known result is used when the remote endpoint fails.
+     */
+    private boolean enabled;
+
+    /**
+     * Amount of time a result is considered fresh, when the response
+     * does not specify a {@code max-age} via its {@code Cache-Control} header.
+     */
+    @DurationCapable
+    private String timeToLive = "PT5M";
+
+    /**
+     * Amount of time after a result has become stale during which it is still served,
+     * while it is refreshed in the background, when the response does not specify
+     * a {@code stale-while-revalidate} via its {@code Cache-Control} header.
+     */
+    @DurationCapable
+    private String staleWhileRevalidate = "PT1M";
+
+    /**
+     * Amount of time after a result has become stale during which it is still served
+     * if the remote endpoint fails, when the response does not specify
+     * a {@code stale-if-error} via its {@code Cache-Control} header.
+     */
+    @DurationCapable
+    private String staleIfError = "PT1H";
+
+    /**
+     * Amount of time a failure to fetch a result is remembered, when nothing usable
+     * is remembered for the request, before the remote endpoint is contacted again.
+     */
+    @DurationCapable
+    private String failureTimeToLive = "PT30S";
+
+    /**
+     * Maximum number of results to remember.
+     */
+    private long maximumSize = 10_000;
+}
@@ -105,4 +105,10 @@ public class ViewProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private RestfulViewProperties rest = new RestfulViewProperties();
+
+    /**
+     * Cache themes and views that are fetched from remote endpoints.
+     */
+    @NestedConfigurationProperty
+    private RemoteViewContentCacheProperties remoteCache = new RemoteViewContentCacheProperties();
 }
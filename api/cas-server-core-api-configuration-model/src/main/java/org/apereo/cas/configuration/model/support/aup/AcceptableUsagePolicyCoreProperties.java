@@ -1,12 +1,14 @@
 package org.apereo.cas.configuration.model.support.aup;
 
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -59,4 +61,10 @@ public class AcceptableUsagePolicyCoreProperties implements Serializable, CasFea
      */
     private boolean aupOmitIfAttributeMissing;
 
+    /**
+     * Start the acceptable usage policy inquiry in the background once authentication has completed.
+     */
+    @NestedConfigurationProperty
+    private PostAuthenticationPrefetchProperties prefetch = new PostAuthenticationPrefetchProperties();
+
 }
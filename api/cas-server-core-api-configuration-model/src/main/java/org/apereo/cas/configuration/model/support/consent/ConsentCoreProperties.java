@@ -3,6 +3,7 @@ package org.apereo.cas.configuration.model.support.consent;
 import org.apereo.cas.configuration.model.core.util.EncryptionJwtCryptoProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionJwtSigningJwtCryptographyProperties;
 import org.apereo.cas.configuration.model.core.util.SigningJwtCryptoProperties;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
 import org.apereo.cas.configuration.model.core.web.flow.WebflowAutoConfigurationProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
@@ -74,6 +75,12 @@ public class ConsentCoreProperties implements Serializable {
     @NestedConfigurationProperty
     private WebflowAutoConfigurationProperties webflow = new WebflowAutoConfigurationProperties().setOrder(100);
 
+    /**
+     * Start the attribute consent inquiry in the background once authentication has completed.
+     */
+    @NestedConfigurationProperty
+    private PostAuthenticationPrefetchProperties prefetch = new PostAuthenticationPrefetchProperties();
+
     public ConsentCoreProperties() {
         crypto.getEncryption().setKeySize(EncryptionJwtCryptoProperties.DEFAULT_STRINGABLE_ENCRYPTION_KEY_SIZE);
         crypto.getSigning().setKeySize(SigningJwtCryptoProperties.DEFAULT_STRINGABLE_SIGNING_KEY_SIZE);
@@ -28,4 +28,17 @@ public class DynamoDbConsentProperties extends AbstractDynamoDbProperties {
      * The table name used and created by CAS to hold consent records in DynamoDb.
      */
     private String tableName = "DynamoDbConsentRecords";
+
+    /**
+     * Whether CAS should create and use a global secondary index
+     * on the consent records table, keyed by principal and service.
+     * When enabled, looking up the consent decisions of a principal
+     * is done via an index query instead of a full table scan.
+     */
+    private boolean principalIndexEnabled;
+
+    /**
+     * The name of the global secondary index keyed by principal and service.
+     */
+    private String principalIndexName = "principalServiceIndex";
 }
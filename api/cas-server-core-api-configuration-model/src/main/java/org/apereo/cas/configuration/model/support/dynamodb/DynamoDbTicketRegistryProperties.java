@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.dynamodb;
 
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
@@ -50,6 +51,54 @@ public class DynamoDbTicketRegistryProperties extends AbstractDynamoDbProperties
      */
     private String transientSessionTicketsTableName = "transientSessionTicketsTable";
 
+    /**
+     * The table name used and created by CAS to hold per ticket-type counters in DynamoDb,
+     * when ticket counters are enabled.
+     */
+    private String ticketCountersTableName = "ticketCountersTable";
+
+    /**
+     * Number of segments to use when scanning ticket tables.
+     * Each segment is scanned in parallel as a separate request,
+     * which allows large tables to be read much faster than a single sequential scan.
+     * A value of {@code 1} disables parallel scans.
+     */
+    private int scanTotalSegments = 4;
+
+    /**
+     * Maximum number of table segments that may be scanned concurrently.
+     */
+    private int scanMaxConcurrency = 4;
+
+    /**
+     * Whether CAS should create and use a global secondary index
+     * on the ticket-granting tickets table, keyed by principal and ticket prefix.
+     * When enabled, looking up and counting sessions for a principal
+     * is done via an index query instead of a full table scan.
+     */
+    private boolean principalIndexEnabled;
+
+    /**
+     * The name of the global secondary index keyed by principal and ticket prefix.
+     */
+    private String principalIndexName = "principalPrefixIndex";
+
+    /**
+     * Whether CAS should maintain an atomic counter item per ticket type
+     * that is updated as tickets are added and removed. When enabled,
+     * counting tickets by type is done via a single item read instead of a table scan.
+     * Note that tickets removed by DynamoDb's time-to-live process are not reflected
+     * in counters until the next reconciliation.
+     */
+    private boolean ticketCountersEnabled;
+
+    /**
+     * Interval after which ticket counters are considered stale
+     * and are reconciled using a parallel count scan of the ticket table.
+     */
+    @DurationCapable
+    private String ticketCountersReconciliationInterval = "PT15M";
+
     /**
      * Crypto settings for the registry.
      */
@@ -27,4 +27,17 @@ public class DynamoDbTrustedDevicesMultifactorProperties extends AbstractDynamoD
      * The table name used and created by CAS to hold mfa trust definitions in DynamoDb.
      */
     private String tableName = "DynamoDbCasMfaTrustRecords";
+
+    /**
+     * Whether CAS should create and use a global secondary index
+     * on the trust records table, keyed by principal.
+     * When enabled, looking up the trusted devices of a principal
+     * is done via an index query instead of a full table scan.
+     */
+    private boolean principalIndexEnabled;
+
+    /**
+     * The name of the global secondary index keyed by principal.
+     */
+    private String principalIndexName = "principalIndex";
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.email;
 
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.util.CommunicationsOutboxProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
@@ -34,5 +35,10 @@ public class EmailProvidersProperties implements CasFeatureModule, Serializable
      */
     @NestedConfigurationProperty
     private MailjetProperties mailjet = new MailjetProperties();
-    
+
+    /**
+     * Control how email messages are queued and delivered in the background.
+     */
+    @NestedConfigurationProperty
+    private CommunicationsOutboxProperties outbox = new CommunicationsOutboxProperties();
 }
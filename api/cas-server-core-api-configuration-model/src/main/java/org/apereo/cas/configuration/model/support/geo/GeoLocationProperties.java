@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.geo;
 
 import org.apereo.cas.configuration.model.SpringResourceProperties;
+import org.apereo.cas.configuration.model.core.authentication.IPAddressEnrichmentCacheProperties;
 import org.apereo.cas.configuration.model.support.geo.azure.AzureMapsProperties;
 import org.apereo.cas.configuration.model.support.geo.googlemaps.GoogleMapsProperties;
 import org.apereo.cas.configuration.model.support.geo.ip.IPGeoLocationProperties;
@@ -58,4 +59,10 @@ public class GeoLocationProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private SpringResourceProperties groovy = new SpringResourceProperties();
+
+    /**
+     * Cache results of geolocation lookups by IP address.
+     */
+    @NestedConfigurationProperty
+    private IPAddressEnrichmentCacheProperties cache = new IPAddressEnrichmentCacheProperties();
 }
@@ -0,0 +1,39 @@
+package org.apereo.cas.configuration.model.support.heimdall;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link HeimdallAuthorizationCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-heimdall")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class HeimdallAuthorizationCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 8160537403411652961L;
+
+    /**
+     * Duration for which authorization decisions are remembered
+     * for the same subject, claims, namespace, method and URI.
+     * Changes to authorizable resources or to the subject's token are only picked up
+     * once remembered decisions expire, so this is typically kept short.
+     * A zero duration disables the cache.
+     */
+    @DurationCapable
+    private String timeToLive = "PT0S";
+
+    /**
+     * Maximum number of authorization decisions to remember.
+     */
+    private long maximumSize = 50_000;
+}
@@ -30,4 +30,16 @@ public class HeimdallAuthorizationProperties implements Serializable {
      */
     @NestedConfigurationProperty
     private SpringResourceProperties json = new SpringResourceProperties();
+
+    /**
+     * Control how authorization decisions are cached.
+     */
+    @NestedConfigurationProperty
+    private HeimdallAuthorizationCacheProperties cache = new HeimdallAuthorizationCacheProperties();
+
+    /**
+     * Maximum number of authorization requests that may be
+     * submitted in a single batch authorization call.
+     */
+    private int maximumBatchSize = 100;
 }
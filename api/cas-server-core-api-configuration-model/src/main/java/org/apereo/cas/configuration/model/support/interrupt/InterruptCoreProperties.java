@@ -1,10 +1,12 @@
 package org.apereo.cas.configuration.model.support.interrupt;
 
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -38,6 +40,12 @@ public class InterruptCoreProperties implements Serializable {
      */
     private InterruptTriggerModes triggerMode = InterruptTriggerModes.AFTER_AUTHENTICATION;
 
+    /**
+     * Start the interrupt inquiry in the background once authentication has completed.
+     */
+    @NestedConfigurationProperty
+    private PostAuthenticationPrefetchProperties prefetch = new PostAuthenticationPrefetchProperties();
+
     /**
      * Enumerate the trigger modes for
      * interrupt authentication.
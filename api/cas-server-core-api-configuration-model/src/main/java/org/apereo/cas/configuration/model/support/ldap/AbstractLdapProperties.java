@@ -86,6 +86,15 @@ public abstract class AbstractLdapProperties implements Serializable, CasFeature
      */
     private boolean disablePooling;
 
+    /**
+     * Whether the connection pool should be shared with other LDAP-backed features
+     * that are configured with the same effective connection settings, such as
+     * URLs, bind credentials, TLS and connection strategy. A shared pool is created
+     * once, handed out to all such features and is closed once the last feature
+     * that uses it is shut down.
+     */
+    private boolean sharePool;
+
     /**
      * Minimum LDAP connection pool size.
      * Size the pool should be initialized to and pruned to
@@ -30,5 +30,14 @@ public class WebAuthnLdapMultifactorProperties extends AbstractLdapSearchPropert
      */
     @RequiredProperty
     private String accountAttributeName = "casWebAuthnRecord";
+
+    /**
+     * Name of LDAP attribute that holds hashed credential ids and user handles
+     * of the WebAuthn registrations stored for the entry. When defined, registrations
+     * are located by credential id or user handle via a search on this attribute,
+     * which should be indexed by the directory server. When left undefined,
+     * such lookups require reading all registrations.
+     */
+    private String indexAttributeName;
 }
 
@@ -31,6 +31,24 @@ public class OidcJsonWebKeystoreCoreProperties implements Serializable {
     @DurationCapable
     private String jwksCacheExpiration = "PT60M";
 
+    /**
+     * Whether the public keystore document served by the JWKS endpoint
+     * should be precomputed and served from memory. When enabled, the document is rebuilt
+     * only when keys are rotated or revoked, when the keystore is modified or when
+     * relying parties that carry their own keys are modified, and at the latest
+     * once the cache expiration timeout defined by {@link #jwksCacheExpiration} elapses.
+     * Responses carry an entity tag and caching headers,
+     * allowing clients to revalidate their copy of the document.
+     */
+    private boolean jwksDocumentCacheEnabled;
+
+    /**
+     * How long clients may reuse the document served by the JWKS endpoint
+     * before revalidating it, when the document cache is enabled.
+     */
+    @DurationCapable
+    private String jwksDocumentMaxAge = "PT5M";
+
     /**
      * The key size for the generated jwks. This is an algorithm-specific metric,
      * such as modulus length, specified in number of bits.
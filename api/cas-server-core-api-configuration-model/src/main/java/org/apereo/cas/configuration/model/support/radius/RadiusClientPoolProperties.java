@@ -0,0 +1,77 @@
+package org.apereo.cas.configuration.model.support.radius;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that control long-lived RADIUS client connections,
+ * shared across authentication requests sent to the same server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-radius")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class RadiusClientPoolProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3372019562848206135L;
+
+    /**
+     * Whether RADIUS client connections should be kept and reused across requests.
+     * When enabled, requests to each server are spread across a small pool of sockets,
+     * the number of requests in flight for each server is bounded by the pool size,
+     * and servers are tried in order of health and observed latency rather than
+     * the order in which they are defined. When disabled, a new client connection
+     * is created for every request.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of client connections kept for each server,
+     * which is also the maximum number of requests in flight for the server.
+     */
+    private int maxConnections = 4;
+
+    /**
+     * Amount of time to wait for a client connection to become available
+     * before the request fails.
+     */
+    @DurationCapable
+    private String acquireTimeout = "PT2S";
+
+    /**
+     * Number of consecutive failed requests after which the server is marked as unavailable.
+     * Unavailable servers are only tried once all other servers have failed.
+     */
+    private int failureThreshold = 3;
+
+    /**
+     * Amount of time between probes sent to a server that is marked as unavailable.
+     * Once the server answers a probe, it is marked as available again.
+     */
+    @DurationCapable
+    private String probeInterval = "PT10S";
+
+    /**
+     * Username to use in probe requests sent to unavailable servers.
+     * Any answer, including a rejection, marks the server as available.
+     * When left undefined, unavailable servers are not probed and become
+     * available again once the probe interval has passed.
+     */
+    private String probeUsername;
+
+    /**
+     * Password to use in probe requests sent to unavailable servers.
+     */
+    private String probePassword;
+}
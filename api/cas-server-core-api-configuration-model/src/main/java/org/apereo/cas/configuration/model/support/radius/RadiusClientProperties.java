@@ -7,6 +7,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -60,6 +61,12 @@ public class RadiusClientProperties implements CasFeatureModule, Serializable {
      */
     private RadiusClientTransportTypes transportType = RadiusClientTransportTypes.UDP;
 
+    /**
+     * Settings that control long-lived client connections to the server.
+     */
+    @NestedConfigurationProperty
+    private RadiusClientPoolProperties pool = new RadiusClientPoolProperties();
+
     /**
      * Transport layer options.
      */
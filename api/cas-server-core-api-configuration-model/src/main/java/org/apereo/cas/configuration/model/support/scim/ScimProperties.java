@@ -54,4 +54,11 @@ public class ScimProperties implements CasFeatureModule, Serializable {
      */
     @RequiredProperty
     private String password;
+
+    /**
+     * Whether principals waiting in the provisioning queue should be sent to the SCIM server
+     * using bulk operations, when the server supports them. Existing users are looked up
+     * with a single query per batch, and are then created or updated with one bulk request.
+     */
+    private boolean bulkEnabled;
 }
@@ -1,6 +1,7 @@
 package org.apereo.cas.configuration.model.support.sms;
 
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.util.CommunicationsOutboxProperties;
 import org.apereo.cas.configuration.model.support.email.MailjetProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -79,4 +80,10 @@ public class SmsProvidersProperties implements CasFeatureModule, Serializable {
      */
     @NestedConfigurationProperty
     private RestfulSmsProperties rest = new RestfulSmsProperties();
+
+    /**
+     * Control how SMS messages are queued and delivered in the background.
+     */
+    @NestedConfigurationProperty
+    private CommunicationsOutboxProperties outbox = new CommunicationsOutboxProperties();
 }
@@ -0,0 +1,65 @@
+package org.apereo.cas.configuration.model.support.spnego;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Settings that control how the classification of client systems
+ * as known or unknown for spnego is remembered per client address.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiresModule(name = "cas-server-support-spnego-webflow")
+@Getter
+@Setter
+@Accessors(chain = true)
+public class SpnegoClientSystemsCacheProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -4371096410528472214L;
+
+    /**
+     * Whether the outcome of client system checks should be cached per client address.
+     * When enabled, the reverse DNS lookup and the LDAP search or host name match
+     * that decide whether a client system is known are performed once per address
+     * and reused for subsequent requests, and concurrent requests from the same
+     * address share a single lookup.
+     */
+    private boolean enabled;
+
+    /**
+     * Amount of time a client system that is classified as known is remembered.
+     */
+    @DurationCapable
+    private String knownTimeToLive = "PT30M";
+
+    /**
+     * Amount of time a client system that is classified as unknown is remembered.
+     * This is typically shorter than the time-to-live for known systems,
+     * so that newly registered client systems are recognized quickly.
+     */
+    @DurationCapable
+    private String unknownTimeToLive = "PT2M";
+
+    /**
+     * Amount of time after which a cached classification is refreshed in the background
+     * on the next request from the client address, while the current classification
+     * continues to be used. Refreshing only takes effect if this is shorter than the
+     * applicable time-to-live.
+     */
+    @DurationCapable
+    private String refreshAfter = "PT20M";
+
+    /**
+     * Maximum number of client addresses to remember.
+     */
+    private long maximumSize = 10_000;
+}
@@ -84,6 +84,12 @@ public class SpnegoProperties implements Serializable {
     @DurationCapable
     private String dnsTimeout = "PT2S";
 
+    /**
+     * Settings that control caching of client system checks per client address.
+     */
+    @NestedConfigurationProperty
+    private SpnegoClientSystemsCacheProperties clientSystemsCache = new SpnegoClientSystemsCacheProperties();
+
     /**
      * A regex pattern that indicates whether the client host name is allowed for spnego.
      */
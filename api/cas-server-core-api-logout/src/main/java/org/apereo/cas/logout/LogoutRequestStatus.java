@@ -20,5 +20,11 @@ public enum LogoutRequestStatus {
     /**
      * The logout request is successful.
      */
-    SUCCESS
+    SUCCESS,
+
+    /**
+     * The logout request is accepted for delivery in the background,
+     * and its outcome is not yet known.
+     */
+    PENDING
 }
@@ -4,6 +4,12 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.services.RegisteredService;
 
+import lombok.val;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * This is {@link PrincipalProvisioner}.
  *
@@ -38,4 +44,23 @@ public interface PrincipalProvisioner {
      * @return true/false
      */
     boolean provision(Principal principal, Credential credential);
+
+    /**
+     * Provision a batch of principals, typically drained from a provisioning queue.
+     * Implementations that are able to talk to the provisioning target in bulk
+     * may override this to provision the batch with fewer requests.
+     *
+     * @param requests the requests
+     * @return the provisioning result of each principal, keyed by principal id
+     */
+    default Map<String, Boolean> provision(final List<PrincipalProvisioningRequest> requests) {
+        val results = new LinkedHashMap<String, Boolean>();
+        for (val request : requests) {
+            val result = request.authentication() != null
+                ? provision(request.authentication(), request.credential(), request.registeredService())
+                : provision(request.principal(), request.credential());
+            results.put(request.principal().getId(), result);
+        }
+        return results;
+    }
 }
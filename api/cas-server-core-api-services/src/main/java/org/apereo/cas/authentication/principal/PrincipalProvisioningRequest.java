@@ -0,0 +1,44 @@
+package org.apereo.cas.authentication.principal;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.services.RegisteredService;
+
+/**
+ * This is {@link PrincipalProvisioningRequest} that carries
+ * everything a {@link PrincipalProvisioner} needs to provision a principal,
+ * so that requests may be queued and provisioned later, possibly in bulk.
+ *
+ * @param principal         the principal
+ * @param authentication    the authentication, if any
+ * @param credential        the credential
+ * @param registeredService the registered service, if any
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public record PrincipalProvisioningRequest(Principal principal, Authentication authentication,
+                                           Credential credential, RegisteredService registeredService) {
+    /**
+     * Build a provisioning request from an authentication attempt.
+     *
+     * @param authentication    the authentication
+     * @param credential        the credential
+     * @param registeredService the registered service
+     * @return the principal provisioning request
+     */
+    public static PrincipalProvisioningRequest of(final Authentication authentication, final Credential credential,
+                                                  final RegisteredService registeredService) {
+        return new PrincipalProvisioningRequest(authentication.getPrincipal(), authentication, credential, registeredService);
+    }
+
+    /**
+     * Build a provisioning request for the principal.
+     *
+     * @param principal  the principal
+     * @param credential the credential
+     * @return the principal provisioning request
+     */
+    public static PrincipalProvisioningRequest of(final Principal principal, final Credential credential) {
+        return new PrincipalProvisioningRequest(principal, null, credential, null);
+    }
+}
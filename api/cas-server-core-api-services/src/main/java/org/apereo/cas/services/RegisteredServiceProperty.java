@@ -579,6 +579,12 @@ public interface RegisteredServiceProperty extends Serializable {
         CAPTCHA_ENABLED("captchaEnabled", "true",
             RegisteredServicePropertyGroups.RECAPTCHA, RegisteredServicePropertyTypes.BOOLEAN,
             "Whether reCAPTCHA should be enabled."),
+        /**
+         * Whether principal provisioning must complete during authentication.
+         */
+        PRINCIPAL_PROVISIONING_SYNCHRONOUS("principalProvisioningSynchronous", "false",
+            RegisteredServicePropertyGroups.REGISTERED_SERVICES, RegisteredServicePropertyTypes.BOOLEAN,
+            "Whether principal provisioning must complete during authentication, even if provisioning is queued."),
         /**
          * Define SCIM oauth token.
          */
@@ -1477,6 +1477,11 @@ public interface CasWebflowConstants {
      */
     String ACTION_ID_AUTHENTICATION_VIA_FORM_ACTION = "authenticationViaFormAction";
 
+    /**
+     * Action id 'postAuthenticationPrefetchAction'.
+     */
+    String ACTION_ID_POST_AUTHENTICATION_PREFETCH = "postAuthenticationPrefetchAction";
+
     /**
      * Action id 'initialFlowSetupAction'.
      */
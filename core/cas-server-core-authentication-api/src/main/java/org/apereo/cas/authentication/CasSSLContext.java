@@ -106,6 +106,12 @@ public interface CasSSLContext {
     class DisabledCasSslContext implements CasSSLContext {
         private static final X509Certificate[] ACCEPTED_ISSUERS = {};
 
+        private final SSLContext sslContext = Unchecked.supplier(() -> {
+            val sc = SSLContext.getInstance("SSL");
+            sc.init(getKeyManagers(), getTrustManagers(), null);
+            return sc;
+        }).get();
+
         private static X509TrustManager getDisabledTrustedManager() {
             return new X509TrustManager() {
                 @Override
@@ -125,11 +131,7 @@ public interface CasSSLContext {
 
         @Override
         public SSLContext getSslContext() {
-            return Unchecked.supplier(() -> {
-                val sc = SSLContext.getInstance("SSL");
-                sc.init(getKeyManagers(), getTrustManagers(), null);
-                return sc;
-            }).get();
+            return sslContext;
         }
 
         @Override
@@ -176,9 +178,11 @@ public interface CasSSLContext {
 
 
     class SystemCasSSLContext implements CasSSLContext {
+        private final SSLContext sslContext = SSLContexts.createSystemDefault();
+
         @Override
         public SSLContext getSslContext() {
-            return SSLContexts.createSystemDefault();
+            return sslContext;
         }
 
         @Override
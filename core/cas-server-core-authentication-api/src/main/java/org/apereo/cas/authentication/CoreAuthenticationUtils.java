@@ -1,7 +1,10 @@
 package org.apereo.cas.authentication;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
+import org.apereo.cas.authentication.adaptive.intel.BaseIPAddressIntelligenceService;
 import org.apereo.cas.authentication.adaptive.intel.DefaultIPAddressIntelligenceService;
 import org.apereo.cas.authentication.adaptive.intel.GroovyIPAddressIntelligenceService;
+import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceResponse;
 import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceService;
 import org.apereo.cas.authentication.adaptive.intel.RestfulIPAddressIntelligenceService;
 import org.apereo.cas.authentication.policy.AllAuthenticationHandlersSucceededAuthenticationPolicy;
@@ -352,18 +355,31 @@ public class CoreAuthenticationUtils {
      * @return the ip address intelligence service
      */
     public static IPAddressIntelligenceService newIpAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptive) {
+        return newIpAddressIntelligenceService(adaptive, BaseIPAddressIntelligenceService.newEnrichmentCache(adaptive));
+    }
+
+    /**
+     * New ip address intelligence service that remembers results in the given cache.
+     *
+     * @param adaptive        the adaptive
+     * @param enrichmentCache the enrichment cache
+     * @return the ip address intelligence service
+     */
+    public static IPAddressIntelligenceService newIpAddressIntelligenceService(
+        final AdaptiveAuthenticationProperties adaptive,
+        final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
         val intel = adaptive.getIpIntel();
 
         if (StringUtils.isNotBlank(intel.getRest().getUrl())) {
-            return new RestfulIPAddressIntelligenceService(adaptive);
+            return new RestfulIPAddressIntelligenceService(adaptive, enrichmentCache);
         }
         if (intel.getGroovy().getLocation() != null && CasRuntimeHintsRegistrar.notInNativeImage()) {
-            return new GroovyIPAddressIntelligenceService(adaptive);
+            return new GroovyIPAddressIntelligenceService(adaptive, enrichmentCache);
         }
         if (StringUtils.isNotBlank(intel.getBlackDot().getEmailAddress())) {
-            return new RestfulIPAddressIntelligenceService(adaptive);
+            return new RestfulIPAddressIntelligenceService(adaptive, enrichmentCache);
         }
-        return new DefaultIPAddressIntelligenceService(adaptive);
+        return new DefaultIPAddressIntelligenceService(adaptive, enrichmentCache);
     }
 
     /**
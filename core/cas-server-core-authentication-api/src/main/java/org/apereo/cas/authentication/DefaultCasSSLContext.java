@@ -2,13 +2,20 @@ package org.apereo.cas.authentication;
 
 import org.apereo.cas.configuration.model.core.authentication.HttpClientProperties;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.io.FileWatcherService;
 import org.apereo.cas.util.ssl.CompositeX509KeyManager;
 import org.apereo.cas.util.ssl.CompositeX509TrustManager;
+import org.apereo.cas.util.ssl.SSLUtils;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import javax.net.ssl.HostnameVerifier;
@@ -20,7 +27,12 @@ import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509KeyManager;
 import javax.net.ssl.X509TrustManager;
 
+import java.net.Socket;
 import java.security.KeyStore;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -28,12 +40,16 @@ import java.util.stream.Collectors;
 
 /**
  * This is {@link DefaultCasSSLContext}.
+ * Trust and key material loaded from the CAS truststore may be reloaded in place,
+ * so that the TLS context and the socket factories built from it remain the same
+ * while the truststore changes.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
  */
 @Getter
-public class DefaultCasSSLContext implements CasSSLContext {
+@Slf4j
+public class DefaultCasSSLContext implements CasSSLContext, DisposableBean {
     private static final String ALG_NAME_PKIX = "PKIX";
 
     private final SSLContext sslContext;
@@ -44,45 +60,39 @@ public class DefaultCasSSLContext implements CasSSLContext {
 
     private final HostnameVerifier hostnameVerifier;
 
-    private final KeyStore casTrustStore;
+    private final Resource trustStoreFile;
 
-    private final KeyManagerFactory keyManagerFactory;
+    @Getter(AccessLevel.NONE)
+    private final String trustStorePassword;
+
+    private final String trustStoreType;
+
+    private volatile KeyStore casTrustStore;
+
+    private volatile KeyManagerFactory keyManagerFactory;
+
+    @Getter(AccessLevel.NONE)
+    private FileWatcherService trustStoreWatcherService;
 
     public DefaultCasSSLContext(final Resource trustStoreFile,
                                 final String trustStorePassword,
                                 final String trustStoreType,
                                 final HttpClientProperties httpClientProperties,
                                 final HostnameVerifier hostnameVerifier) throws Exception {
+        this.trustStoreFile = trustStoreFile;
+        this.trustStorePassword = trustStorePassword;
+        this.trustStoreType = trustStoreType;
         val disabled = "none".equalsIgnoreCase(httpClientProperties.getHostNameVerifier());
         if (disabled) {
-            this.trustManagers = CasSSLContext.disabled().getTrustManagers();
-            this.keyManagerFactory = CasSSLContext.disabled().getKeyManagerFactory();
+            val disabledContext = CasSSLContext.disabled();
+            this.trustManagers = disabledContext.getTrustManagers();
+            this.keyManagerFactory = disabledContext.getKeyManagerFactory();
             this.casTrustStore = null;
-            this.keyManagers = CasSSLContext.disabled().getKeyManagers();
+            this.keyManagers = disabledContext.getKeyManagers();
         } else {
-            casTrustStore = KeyStore.getInstance(trustStoreType);
-            val trustStorePasswordCharArray = trustStorePassword.toCharArray();
-            try (val casStream = trustStoreFile.getInputStream()) {
-                casTrustStore.load(casStream, trustStorePasswordCharArray);
-            }
-
-            this.keyManagerFactory = getKeyManagerFactory(ALG_NAME_PKIX, casTrustStore, trustStorePasswordCharArray);
-            val customKeyManager = (X509KeyManager) keyManagerFactory.getKeyManagers()[0];
-
-            val defaultAlgorithm = KeyManagerFactory.getDefaultAlgorithm();
-
-            val jvmKeyManagerFactory = getKeyManagerFactory(defaultAlgorithm, null, null);
-            val jvmKeyManager = (X509KeyManager) jvmKeyManagerFactory.getKeyManagers()[0];
-
-            val defaultTrustAlgorithm = TrustManagerFactory.getDefaultAlgorithm();
-            val customTrustManager = getTrustManager(ALG_NAME_PKIX, casTrustStore);
-            val jvmTrustManagers = getTrustManager(defaultTrustAlgorithm, null);
-            val allManagers = new ArrayList<>(customTrustManager);
-            allManagers.addAll(jvmTrustManagers);
-            this.trustManagers = new TrustManager[]{new CompositeX509TrustManager(allManagers)};
-            this.keyManagers = new KeyManager[]{
-                new CompositeX509KeyManager(CollectionUtils.wrapList(jvmKeyManager, customKeyManager))
-            };
+            this.trustManagers = new TrustManager[]{new ReloadableX509TrustManager()};
+            this.keyManagers = new KeyManager[]{new ReloadableX509KeyManager()};
+            loadTrustStore();
         }
         this.sslContext = SSLContexts.custom().setProtocol("SSL").build();
         this.sslContext.init(this.keyManagers, this.trustManagers, null);
@@ -114,4 +124,125 @@ public class DefaultCasSSLContext implements CasSSLContext {
             return factory;
         }).get();
     }
+
+    /**
+     * Reload trust and key material from the truststore and discard
+     * client sessions cached by the TLS context, so that new connections
+     * are verified against the reloaded material.
+     *
+     * @throws Exception the exception
+     */
+    public void reload() throws Exception {
+        if (trustManagers[0] instanceof ReloadableX509TrustManager) {
+            LOGGER.info("Reloading CAS truststore from [{}]", trustStoreFile);
+            loadTrustStore();
+            SSLUtils.getSslContextRegistry().invalidate(sslContext);
+        }
+    }
+
+    /**
+     * Watch the truststore file and reload trust and key material once it changes.
+     *
+     * @throws Exception the exception
+     */
+    public void watchTrustStore() throws Exception {
+        if (ResourceUtils.isFile(trustStoreFile)) {
+            this.trustStoreWatcherService = new FileWatcherService(trustStoreFile.getFile(), file -> {
+                try {
+                    reload();
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                }
+            });
+            this.trustStoreWatcherService.start(getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (trustStoreWatcherService != null) {
+            trustStoreWatcherService.close();
+        }
+    }
+
+    private void loadTrustStore() throws Exception {
+        val trustStore = KeyStore.getInstance(trustStoreType);
+        val trustStorePasswordCharArray = trustStorePassword.toCharArray();
+        try (val casStream = trustStoreFile.getInputStream()) {
+            trustStore.load(casStream, trustStorePasswordCharArray);
+        }
+
+        val customKeyManagerFactory = getKeyManagerFactory(ALG_NAME_PKIX, trustStore, trustStorePasswordCharArray);
+        val customKeyManager = (X509KeyManager) customKeyManagerFactory.getKeyManagers()[0];
+
+        val defaultAlgorithm = KeyManagerFactory.getDefaultAlgorithm();
+
+        val jvmKeyManagerFactory = getKeyManagerFactory(defaultAlgorithm, null, null);
+        val jvmKeyManager = (X509KeyManager) jvmKeyManagerFactory.getKeyManagers()[0];
+
+        val defaultTrustAlgorithm = TrustManagerFactory.getDefaultAlgorithm();
+        val customTrustManager = getTrustManager(ALG_NAME_PKIX, trustStore);
+        val jvmTrustManagers = getTrustManager(defaultTrustAlgorithm, null);
+        val allManagers = new ArrayList<>(customTrustManager);
+        allManagers.addAll(jvmTrustManagers);
+
+        ((ReloadableX509TrustManager) trustManagers[0]).delegate = new CompositeX509TrustManager(allManagers);
+        ((ReloadableX509KeyManager) keyManagers[0]).delegate =
+            new CompositeX509KeyManager(CollectionUtils.wrapList(jvmKeyManager, customKeyManager));
+        this.casTrustStore = trustStore;
+        this.keyManagerFactory = customKeyManagerFactory;
+    }
+
+    private static final class ReloadableX509TrustManager implements X509TrustManager {
+        private volatile X509TrustManager delegate;
+
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType) throws CertificateException {
+            delegate.checkClientTrusted(chain, authType);
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType) throws CertificateException {
+            delegate.checkServerTrusted(chain, authType);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return delegate.getAcceptedIssuers();
+        }
+    }
+
+    private static final class ReloadableX509KeyManager implements X509KeyManager {
+        private volatile X509KeyManager delegate;
+
+        @Override
+        public String[] getClientAliases(final String keyType, final Principal[] issuers) {
+            return delegate.getClientAliases(keyType, issuers);
+        }
+
+        @Override
+        public String chooseClientAlias(final String[] keyType, final Principal[] issuers, final Socket socket) {
+            return delegate.chooseClientAlias(keyType, issuers, socket);
+        }
+
+        @Override
+        public String[] getServerAliases(final String keyType, final Principal[] issuers) {
+            return delegate.getServerAliases(keyType, issuers);
+        }
+
+        @Override
+        public String chooseServerAlias(final String keyType, final Principal[] issuers, final Socket socket) {
+            return delegate.chooseServerAlias(keyType, issuers, socket);
+        }
+
+        @Override
+        public X509Certificate[] getCertificateChain(final String alias) {
+            return delegate.getCertificateChain(alias);
+        }
+
+        @Override
+        public PrivateKey getPrivateKey(final String alias) {
+            return delegate.getPrivateKey(alias);
+        }
+    }
 }
@@ -0,0 +1,311 @@
+package org.apereo.cas.authentication.adaptive;
+
+import org.apereo.cas.configuration.model.core.authentication.IPAddressEnrichmentCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.net.InetAddresses;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.beans.factory.DisposableBean;
+import java.io.File;
+import java.io.Serial;
+import java.io.Serializable;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link IPAddressEnrichmentCache}.
+ * Remembers results of lookups that enrich an IP address, such as geolocation
+ * or IP intelligence, so that the same address is not looked up repeatedly
+ * by the various components that take part in a single authentication attempt.
+ * Results may be shared by all addresses of the same network, favorable and unfavorable
+ * results are kept for separate durations, and concurrent lookups of the same key
+ * are collapsed into a single upstream call. Results may be saved to disk on shutdown
+ * and restored on startup to keep the cache warm. Caches are registered as beans,
+ * so that their statistics can be published.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ * @param <V> the result type
+ */
+@Slf4j
+@Getter
+public class IPAddressEnrichmentCache<V extends Serializable> implements DisposableBean {
+    /**
+     * Default bean name of the cache for IP address intelligence results.
+     */
+    public static final String BEAN_NAME_IP_ADDRESS_INTELLIGENCE = "ipAddressIntelligenceEnrichmentCache";
+
+    /**
+     * Default bean name of the cache for geolocation results.
+     */
+    public static final String BEAN_NAME_GEO_LOCATION = "geoLocationEnrichmentCache";
+
+    private final String name;
+
+    private final IPAddressEnrichmentCacheProperties properties;
+
+    private final Predicate<V> favorableResult;
+
+    private final Duration timeToLive;
+
+    private final Duration negativeTimeToLive;
+
+    private final Clock clock;
+
+    private final Cache<String, Enrichment<V>> results;
+
+    private final Map<String, CompletableFuture<Enrichment<V>>> inflightLookups = new ConcurrentHashMap<>();
+
+    private final EnrichmentStatistics statistics = new EnrichmentStatistics();
+
+    public IPAddressEnrichmentCache(final String name, final IPAddressEnrichmentCacheProperties properties,
+                                    final Predicate<V> favorableResult) {
+        this(name, properties, favorableResult, Clock.systemUTC());
+    }
+
+    public IPAddressEnrichmentCache(final String name, final IPAddressEnrichmentCacheProperties properties,
+                                    final Predicate<V> favorableResult, final Clock clock) {
+        this.name = name;
+        this.properties = properties;
+        this.favorableResult = favorableResult;
+        this.clock = clock;
+        this.timeToLive = StringUtils.isBlank(properties.getTimeToLive()) ? Duration.ZERO : Beans.newDuration(properties.getTimeToLive());
+        this.negativeTimeToLive = StringUtils.isBlank(properties.getNegativeTimeToLive())
+            ? timeToLive : Beans.newDuration(properties.getNegativeTimeToLive());
+        this.results = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new EnrichmentExpiry<V>(clock))
+            .build();
+        if (isEnabled()) {
+            loadSnapshot();
+        }
+    }
+
+    public boolean isEnabled() {
+        return timeToLive.isPositive() || negativeTimeToLive.isPositive();
+    }
+
+    /**
+     * Produce the result for the given address, either from the cache
+     * or by asking the upstream service. Failures of the upstream service
+     * are passed back to the caller and are not remembered.
+     *
+     * @param ipAddress the ip address
+     * @param lookup    the lookup
+     * @return the result, which may be null
+     * @throws Throwable the throwable
+     */
+    public V get(final String ipAddress, final CheckedSupplier<V> lookup) throws Throwable {
+        if (!isEnabled() || StringUtils.isBlank(ipAddress)) {
+            return lookup.get();
+        }
+        val key = toCacheKey(ipAddress);
+        val cached = results.getIfPresent(key);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+            statistics.getHits().increment();
+            return cached.value();
+        }
+        statistics.getMisses().increment();
+        try {
+            return fetch(key, lookup).join().value();
+        } catch (final CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Build the cache key for the address, taking only the configured
+     * number of leading bits into account. Values that are not IP addresses
+     * are used as they are.
+     *
+     * @param ipAddress the ip address
+     * @return the cache key
+     */
+    public String toCacheKey(final String ipAddress) {
+        val value = StringUtils.strip(ipAddress, "[]");
+        if (!InetAddresses.isInetAddress(value)) {
+            return ipAddress;
+        }
+        val bytes = InetAddresses.forString(value).getAddress();
+        val prefixLength = bytes.length == 4 ? properties.getIpv4PrefixLength() : properties.getIpv6PrefixLength();
+        if (prefixLength <= 0 || prefixLength >= bytes.length * Byte.SIZE) {
+            return InetAddresses.toAddrString(InetAddresses.forString(value));
+        }
+        for (var i = 0; i < bytes.length; i++) {
+            val remainingBits = prefixLength - i * Byte.SIZE;
+            if (remainingBits <= 0) {
+                bytes[i] = 0;
+            } else if (remainingBits < Byte.SIZE) {
+                bytes[i] &= (byte) (0xFF << (Byte.SIZE - remainingBits));
+            }
+        }
+        val network = FunctionUtils.doUnchecked(() -> InetAddress.getByAddress(bytes));
+        return InetAddresses.toAddrString(network) + '/' + prefixLength;
+    }
+
+    /**
+     * Forget all results.
+     */
+    public void invalidate() {
+        results.invalidateAll();
+    }
+
+    /**
+     * Save unexpired results to the snapshot location, if one is defined.
+     */
+    public void saveSnapshot() {
+        if (StringUtils.isBlank(properties.getSnapshotLocation())) {
+            return;
+        }
+        try {
+            val snapshot = new HashMap<String, Enrichment<V>>(results.asMap());
+            val file = new File(properties.getSnapshotLocation());
+            val parent = file.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            val temporary = File.createTempFile(file.getName(), ".tmp", parent);
+            Files.write(temporary.toPath(), SerializationUtils.serialize(snapshot));
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Saved [{}] result(s) of [{}] to [{}]", snapshot.size(), name, file);
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, "Unable to save results of %s to %s".formatted(name, properties.getSnapshotLocation()), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (isEnabled()) {
+            saveSnapshot();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loadSnapshot() {
+        if (StringUtils.isBlank(properties.getSnapshotLocation())) {
+            return;
+        }
+        val file = new File(properties.getSnapshotLocation());
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            val snapshot = (Map<String, Enrichment<V>>) SerializationUtils.deserialize(Files.readAllBytes(file.toPath()), HashMap.class);
+            val now = clock.millis();
+            snapshot.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().expiresAt() > now)
+                .forEach(entry -> results.put(entry.getKey(), entry.getValue()));
+            LOGGER.debug("Restored [{}] result(s) of [{}] from [{}]", results.estimatedSize(), name, file);
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, "Unable to restore results of %s from %s".formatted(name, file), e);
+        }
+    }
+
+    private CompletableFuture<Enrichment<V>> fetch(final String key, final CheckedSupplier<V> lookup) {
+        val future = new CompletableFuture<Enrichment<V>>();
+        val inflight = inflightLookups.putIfAbsent(key, future);
+        if (inflight != null) {
+            statistics.getCoalesced().increment();
+            return inflight;
+        }
+        val startTime = System.nanoTime();
+        try {
+            val value = lookup.get();
+            val duration = value != null && favorableResult.test(value) ? timeToLive : negativeTimeToLive;
+            val enrichment = new Enrichment<>(value, clock.millis() + duration.toMillis());
+            if (duration.isPositive()) {
+                results.put(key, enrichment);
+            }
+            future.complete(enrichment);
+        } catch (final Throwable e) {
+            statistics.getFailures().increment();
+            future.completeExceptionally(e);
+        } finally {
+            statistics.getFetches().increment();
+            statistics.getFetchTime().add(System.nanoTime() - startTime);
+            inflightLookups.remove(key, future);
+        }
+        return future;
+    }
+
+    private record Enrichment<V extends Serializable>(V value, long expiresAt) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -1527930567413265419L;
+    }
+
+    private record EnrichmentExpiry<V extends Serializable>(Clock clock) implements Expiry<String, Enrichment<V>> {
+        @Override
+        public long expireAfterCreate(final String key, final Enrichment<V> value, final long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt() - clock.millis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Enrichment<V> value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Enrichment<V> value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Enrichment statistics.
+     */
+    @Getter
+    public static class EnrichmentStatistics {
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder fetches = new LongAdder();
+
+        private final LongAdder fetchTime = new LongAdder();
+
+        /**
+         * Ratio of lookups answered from the cache.
+         *
+         * @return the ratio
+         */
+        public double getHitRatio() {
+            val total = hits.sum() + misses.sum();
+            return total == 0 ? 0 : hits.sum() / (double) total;
+        }
+
+        /**
+         * Average latency of the upstream service in milliseconds.
+         *
+         * @return the latency
+         */
+        public double getAverageFetchLatency() {
+            val count = fetches.sum();
+            return count == 0 ? 0 : fetchTime.sum() / (double) count / 1_000_000D;
+        }
+    }
+}
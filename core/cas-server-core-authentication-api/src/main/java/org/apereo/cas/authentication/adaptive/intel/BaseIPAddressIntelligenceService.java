@@ -1,28 +1,64 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.webflow.execution.RequestContext;
 
 import java.util.regex.Pattern;
 
 /**
  * This is {@link BaseIPAddressIntelligenceService}.
+ * Results of examinations may be cached by IP address or network,
+ * while rejected addresses are always evaluated first.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class BaseIPAddressIntelligenceService implements IPAddressIntelligenceService {
+public abstract class BaseIPAddressIntelligenceService implements IPAddressIntelligenceService, DisposableBean {
     /**
      * Adaptive authentication settings.
      */
     protected final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties;
 
+    @Getter
+    private final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache;
+
+    private final boolean enrichmentCacheOwned;
+
+    protected BaseIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties) {
+        this(adaptiveAuthenticationProperties, newEnrichmentCache(adaptiveAuthenticationProperties), true);
+    }
+
+    protected BaseIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                               final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
+        this(adaptiveAuthenticationProperties, enrichmentCache, false);
+    }
+
+    private BaseIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                             final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache,
+                                             final boolean enrichmentCacheOwned) {
+        this.adaptiveAuthenticationProperties = adaptiveAuthenticationProperties;
+        this.enrichmentCache = enrichmentCache;
+        this.enrichmentCacheOwned = enrichmentCacheOwned;
+    }
+
+    /**
+     * Build the cache that remembers results of IP address intelligence services.
+     *
+     * @param adaptiveAuthenticationProperties the adaptive authentication properties
+     * @return the enrichment cache
+     */
+    public static IPAddressEnrichmentCache<IPAddressIntelligenceResponse> newEnrichmentCache(
+        final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties) {
+        return new IPAddressEnrichmentCache<>(IPAddressIntelligenceService.class.getSimpleName(),
+            adaptiveAuthenticationProperties.getIpIntel().getCache(), IPAddressIntelligenceResponse::isAllowed);
+    }
+
     private static void trackResponseInRequestContext(final RequestContext context, final IPAddressIntelligenceResponse response) {
         context.getFlowScope().put("ipAddressIntelligenceResponse", response);
     }
@@ -34,11 +70,18 @@ public abstract class BaseIPAddressIntelligenceService implements IPAddressIntel
             trackResponseInRequestContext(context, response);
             return response;
         }
-        val response = examineInternal(context, clientIpAddress);
+        val response = enrichmentCache.get(clientIpAddress, () -> examineInternal(context, clientIpAddress));
         trackResponseInRequestContext(context, response);
         return response;
     }
 
+    @Override
+    public void destroy() {
+        if (enrichmentCacheOwned) {
+            enrichmentCache.destroy();
+        }
+    }
+
     /**
      * Examine internally and build intelligence response.
      *
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.http.HttpExecutionRequest;
@@ -36,6 +37,11 @@ public class BlackDotIPAddressIntelligenceService extends BaseIPAddressIntellige
         super(adaptiveAuthenticationProperties);
     }
 
+    public BlackDotIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                                final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
+        super(adaptiveAuthenticationProperties, enrichmentCache);
+    }
+
     @Override
     public IPAddressIntelligenceResponse examineInternal(final RequestContext context, final String clientIpAddress) {
         val bannedResponse = IPAddressIntelligenceResponse.banned();
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
 
 import org.springframework.webflow.execution.RequestContext;
@@ -15,6 +16,11 @@ public class DefaultIPAddressIntelligenceService extends BaseIPAddressIntelligen
         super(adaptiveAuthenticationProperties);
     }
 
+    public DefaultIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                               final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
+        super(adaptiveAuthenticationProperties, enrichmentCache);
+    }
+
     @Override
     public IPAddressIntelligenceResponse examineInternal(final RequestContext context, final String clientIpAddress) {
         return IPAddressIntelligenceResponse.allowed();
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
 import org.apereo.cas.util.scripting.ExecutableCompiledScript;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
@@ -19,9 +20,19 @@ public class GroovyIPAddressIntelligenceService extends BaseIPAddressIntelligenc
 
     public GroovyIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties) {
         super(adaptiveAuthenticationProperties);
+        this.watchableScript = getScript(adaptiveAuthenticationProperties);
+    }
+
+    public GroovyIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                              final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
+        super(adaptiveAuthenticationProperties, enrichmentCache);
+        this.watchableScript = getScript(adaptiveAuthenticationProperties);
+    }
+
+    private static ExecutableCompiledScript getScript(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties) {
         val groovyScript = adaptiveAuthenticationProperties.getIpIntel().getGroovy().getLocation();
         val scriptFactory = ExecutableCompiledScriptFactory.getExecutableCompiledScriptFactory();
-        this.watchableScript = scriptFactory.fromResource(groovyScript);
+        return scriptFactory.fromResource(groovyScript);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication.adaptive.intel;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.authentication.AuthenticationException;
 import org.apereo.cas.configuration.model.core.authentication.AdaptiveAuthenticationProperties;
 import org.apereo.cas.util.LoggingUtils;
@@ -28,6 +29,11 @@ public class RestfulIPAddressIntelligenceService extends BaseIPAddressIntelligen
         super(adaptiveAuthenticationProperties);
     }
 
+    public RestfulIPAddressIntelligenceService(final AdaptiveAuthenticationProperties adaptiveAuthenticationProperties,
+                                               final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> enrichmentCache) {
+        super(adaptiveAuthenticationProperties, enrichmentCache);
+    }
+
     @Override
     public IPAddressIntelligenceResponse examineInternal(final RequestContext context, final String clientIpAddress) {
         HttpResponse response = null;
@@ -5,18 +5,29 @@ import org.apereo.cas.authentication.principal.attribute.PersonAttributeDaoFilte
 import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
 import org.apereo.cas.authentication.principal.merger.AttributeMerger;
 import org.apereo.cas.authentication.principal.merger.MultivaluedAttributeMerger;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.util.function.FunctionUtils;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -66,6 +77,34 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
     @Setter
     protected boolean requireAll;
 
+    /**
+     * Query child DAOs concurrently, each on its own virtual thread,
+     * and merge their results in the order in which DAOs are defined.
+     * Parallel execution is not used when {@link #stopOnSuccess} is enabled,
+     * or when the aggregation does not support it, since those modes
+     * depend on the outcome of the previous DAO.
+     */
+    @Getter
+    @Setter
+    protected boolean parallel;
+
+    /**
+     * Maximum amount of time to wait for each child DAO
+     * to produce a result when queried in parallel.
+     */
+    @Getter
+    @Setter
+    protected Duration parallelTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Observer used to collect latency and error metrics
+     * for each child DAO query.
+     */
+    @Getter
+    @Setter
+    @JsonIgnore
+    protected ExecutableObserver executableObserver;
+
     @Override
     public String[] getId() {
         val ids = new ArrayList<String>();
@@ -78,6 +117,10 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
     public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
                                                                     final PersonAttributeDaoFilter filter,
                                                                     final Set<PersonAttributes> resultPeople) {
+        if (this.parallel && !this.stopOnSuccess && isParallelExecutionSupported()) {
+            return getPeopleWithMultivaluedAttributesInParallel(query, filter);
+        }
+
         Set<PersonAttributes> results = null;
         var isFirstQuery = true;
         for (val currentlyConsidering : this.personAttributeDaos) {
@@ -88,7 +131,10 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
             var handledException = false;
             Set<PersonAttributes> currentPeople = null;
             try {
-                currentPeople = getAttributesFromDao(query, isFirstQuery, currentlyConsidering, results, filter);
+                val firstQuery = isFirstQuery;
+                val resultPeopleSoFar = results;
+                currentPeople = observePersonAttributeDao(currentlyConsidering,
+                    () -> getAttributesFromDao(query, firstQuery, currentlyConsidering, resultPeopleSoFar, filter));
                 isFirstQuery = false;
 
                 LOGGER.debug("Retrieved attributes=[{}] for query=[{}], isFirstQuery=[{}], currentlyConsidering=[{}], resultAttributes=[{}]",
@@ -124,6 +170,143 @@ public abstract class AbstractAggregatingDefaultQueryPersonAttributeDao extends
         return Set.copyOf(results);
     }
 
+    /**
+     * Whether child DAOs are independent of one another
+     * and can be queried concurrently.
+     *
+     * @return true if parallel execution is supported
+     */
+    protected boolean isParallelExecutionSupported() {
+        return true;
+    }
+
+    /**
+     * Query all eligible child DAOs concurrently with the same seed, and merge
+     * their results in the order in which DAOs are defined so that the outcome
+     * matches the sequential merge semantics of the configured {@link AttributeMerger}.
+     *
+     * @param query  the query
+     * @param filter the filter
+     * @return the merged results, or null
+     */
+    protected Set<PersonAttributes> getPeopleWithMultivaluedAttributesInParallel(final Map<String, List<Object>> query,
+                                                                                 final PersonAttributeDaoFilter filter) {
+        val daos = getChosenPersonAttributeDaos(filter);
+        val people = queryPersonAttributeDaosInParallel(daos,
+            dao -> getAttributesFromDao(query, true, dao, null, filter));
+        val results = mergeResultsInOrder(daos, people, null);
+        if (results == null) {
+            return null;
+        }
+        LOGGER.debug("Aggregated parallel search results [{}] for query [{}]", results, query);
+        return Set.copyOf(results);
+    }
+
+    /**
+     * Gets child DAOs that are chosen by the filter, in the order in which they are defined.
+     *
+     * @param filter the filter
+     * @return the chosen person attribute daos
+     */
+    protected List<PersonAttributeDao> getChosenPersonAttributeDaos(final PersonAttributeDaoFilter filter) {
+        return this.personAttributeDaos
+            .stream()
+            .filter(dao -> filter == null || filter.choosePersonAttributeDao(dao))
+            .toList();
+    }
+
+    /**
+     * Run the query function against all given DAOs concurrently on virtual threads.
+     * Each DAO is allowed at most {@link #parallelTimeout} to produce a result;
+     * DAOs that fail or time out are handled via {@link #recoverExceptions}
+     * and produce a {@code null} entry in the returned list.
+     *
+     * @param daos  the daos
+     * @param query the query
+     * @return the results, positionally matching the given DAOs
+     */
+    protected List<Set<PersonAttributes>> queryPersonAttributeDaosInParallel(
+        final List<PersonAttributeDao> daos,
+        final Function<PersonAttributeDao, Set<PersonAttributes>> query) {
+        val executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            val futures = daos
+                .stream()
+                .map(dao -> executor.submit(() -> observePersonAttributeDao(dao, () -> query.apply(dao))))
+                .toList();
+            val deadline = System.nanoTime() + parallelTimeout.toNanos();
+            val results = new ArrayList<Set<PersonAttributes>>(daos.size());
+            for (var i = 0; i < futures.size(); i++) {
+                results.add(getParallelResult(daos.get(i), futures.get(i), deadline));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Merge the results produced by the given DAOs in order, on top of the given initial results.
+     *
+     * @param daos           the daos
+     * @param people         the people, positionally matching the given DAOs
+     * @param initialResults the initial results, may be null
+     * @return the merged results, or null if nothing was found or if {@link #requireAll} is violated
+     */
+    protected Set<PersonAttributes> mergeResultsInOrder(final List<PersonAttributeDao> daos,
+                                                        final List<Set<PersonAttributes>> people,
+                                                        final Set<PersonAttributes> initialResults) {
+        var results = initialResults;
+        for (var i = 0; i < daos.size(); i++) {
+            val currentPeople = people.get(i);
+            if (currentPeople != null) {
+                results = results == null ? new LinkedHashSet<>(currentPeople) : attributeMerger.mergeResults(results, currentPeople);
+            } else if (this.requireAll) {
+                LOGGER.debug("Attribute repository dao [{}] did not resolve a person "
+                    + "and configuration requires all sources to produce valid results. "
+                    + "Short-circuiting the execution and returning null instead", daos.get(i));
+                return null;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Query the given DAO, reporting latency and errors to the {@link #executableObserver}, if any.
+     *
+     * @param dao      the dao
+     * @param supplier the supplier
+     * @return the results
+     */
+    protected Set<PersonAttributes> observePersonAttributeDao(final PersonAttributeDao dao,
+                                                              final Supplier<Set<PersonAttributes>> supplier) {
+        if (executableObserver == null) {
+            return supplier.get();
+        }
+        val task = new MonitorableTask(PersonAttributeDao.class.getSimpleName())
+            .withBoundedValue("personAttributeDao", String.join(",", dao.getId()));
+        return FunctionUtils.doUnchecked(() -> executableObserver.supply(task, supplier::get));
+    }
+
+    private Set<PersonAttributes> getParallelResult(final PersonAttributeDao dao,
+                                                    final Future<Set<PersonAttributes>> future,
+                                                    final long deadline) {
+        try {
+            val remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            LOGGER.warn("Attribute repository dao [{}] did not produce a result within [{}]", dao, parallelTimeout);
+            handleRuntimeException(dao, e);
+        } catch (final ExecutionException e) {
+            handleRuntimeException(dao, e.getCause() instanceof final Exception cause ? cause : e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleRuntimeException(dao, e);
+        }
+        return null;
+    }
+
     private boolean handleRuntimeException(final PersonAttributeDao currentlyConsidering, final Exception ex) {
         if (this.recoverExceptions) {
             LOGGER.warn("Recovering From Exception thrown by [{}]", currentlyConsidering, ex);
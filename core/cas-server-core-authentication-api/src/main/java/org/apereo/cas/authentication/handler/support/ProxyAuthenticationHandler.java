@@ -48,7 +48,7 @@ public class ProxyAuthenticationHandler extends AbstractAuthenticationHandler {
 
         LOGGER.debug("Attempting to authenticate [{}]", httpCredential);
         val callbackUrl = httpCredential.getCallbackUrl();
-        if (!httpClient.isValidEndPoint(callbackUrl)) {
+        if (!httpClient.verifyEndPoint(callbackUrl)) {
             throw new FailedLoginException(callbackUrl.toExternalForm() + " sent an unacceptable response status code");
         }
         val principalId = httpCredential.getCredentialMetadata().getId();
@@ -8,9 +8,12 @@ import org.apereo.cas.authentication.exceptions.AccountPasswordMustChangeExcepti
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.configuration.model.core.authentication.RestAuthenticationPolicyProperties;
 import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
@@ -49,6 +52,11 @@ import java.util.Set;
 @AllArgsConstructor
 @Accessors(chain = true)
 public class RestfulAuthenticationPolicy extends BaseAuthenticationPolicy {
+    /**
+     * Bean name of the decision cache shared by restful authentication policies.
+     */
+    public static final String DECISION_CACHE_BEAN_NAME = "restfulAuthenticationPolicyDecisionCache";
+
     @Serial
     private static final long serialVersionUID = -7688729533538097898L;
 
@@ -79,15 +87,42 @@ public class RestfulAuthenticationPolicy extends BaseAuthenticationPolicy {
         return new FailedLoginException("Rest endpoint returned an unknown status code " + statusCode);
     }
 
+    /**
+     * Build the decision cache shared by restful authentication policies.
+     * Server errors are never remembered.
+     *
+     * @return the decision cache
+     */
+    public static AuthorizationDecisionCache<HttpStatus> newDecisionCache() {
+        return new AuthorizationDecisionCache<>(RestfulAuthenticationPolicy.class.getSimpleName(), HttpStatus.OK::equals,
+            status -> status.is2xxSuccessful() || status.is4xxClientError());
+    }
+
     @Override
     public AuthenticationPolicyExecutionResult isSatisfiedBy(final Authentication authentication,
                                                              final Set<AuthenticationHandler> authenticationHandlers,
                                                              final ConfigurableApplicationContext applicationContext,
                                                              final Map<String, ? extends Serializable> context) throws Exception {
-        HttpResponse response = null;
         val principal = authentication.getPrincipal();
+        val entity = MAPPER.writeValueAsString(principal);
+        val cacheProperties = properties.getDecisionCache();
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of(cacheProperties.getTimeToLive(),
+            cacheProperties.getNegativeTimeToLive(), cacheProperties.getStaleWhileRevalidate());
+        val key = DigestUtils.sha256(properties.getUrl() + '|' + entity);
+        val decisionCache = ApplicationContextProvider.getBean(applicationContext, DECISION_CACHE_BEAN_NAME, AuthorizationDecisionCache.class);
+        val statusCode = decisionCache.isPresent()
+            ? (HttpStatus) decisionCache.get().decide(key, settings, () -> fetchPolicyDecision(entity))
+            : fetchPolicyDecision(entity);
+        if (statusCode != HttpStatus.OK) {
+            val ex = handleResponseStatusCode(statusCode, principal);
+            throw new GeneralSecurityException(ex);
+        }
+        return AuthenticationPolicyExecutionResult.success();
+    }
+
+    private HttpStatus fetchPolicyDecision(final String entity) {
+        HttpResponse response = null;
         try {
-            val entity = MAPPER.writeValueAsString(principal);
             val headers = CollectionUtils.<String, String>wrap("Content-Type", MediaType.APPLICATION_JSON_VALUE);
             headers.putAll(properties.getHeaders());
             val exec = HttpExecutionRequest.builder()
@@ -99,12 +134,10 @@ public class RestfulAuthenticationPolicy extends BaseAuthenticationPolicy {
                 .headers(headers)
                 .build();
             response = HttpUtils.execute(exec);
-            val statusCode = HttpStatus.valueOf(response.getCode());
-            if (statusCode != HttpStatus.OK) {
-                val ex = handleResponseStatusCode(statusCode, principal);
-                throw new GeneralSecurityException(ex);
+            if (response == null) {
+                throw new IllegalStateException("Unable to obtain authentication policy decision from " + properties.getUrl());
             }
-            return AuthenticationPolicyExecutionResult.success();
+            return HttpStatus.valueOf(response.getCode());
         } finally {
             HttpUtils.close(response);
         }
@@ -0,0 +1,406 @@
+package org.apereo.cas.authentication.principal.provision;
+
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.credential.BasicIdentifiableCredential;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalProvisioningQueueProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link PrincipalProvisioningQueue} that holds principals waiting to be provisioned
+ * and hands them to their provisioners in batches in the background. Requests to provision
+ * a principal that is already waiting in the queue replace the waiting request, so that
+ * repeated logins only lead to one provisioning operation. Failed requests are retried with
+ * exponential backoff, and requests that exhaust all attempts are dead-lettered for reconciliation.
+ * Queued requests keep a copy of the principal, the authentication date and the credential only;
+ * dead-lettered requests keep the credential identifier and never its password.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class PrincipalProvisioningQueue implements DisposableBean {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "principalProvisioningQueue";
+
+    private static final long SHUTDOWN_POLL_INTERVAL_MILLIS = 50;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+
+    private final Map<String, QueuedRequest> pending = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+
+    private final ConcurrentLinkedDeque<QueuedRequest> deadLetters = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    @Getter
+    private final ProvisioningStatistics statistics = new ProvisioningStatistics();
+
+    @Getter
+    private final PrincipalProvisioningQueueProperties properties;
+
+    private final Semaphore permits;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    public PrincipalProvisioningQueue(final PrincipalProvisioningQueueProperties properties) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConcurrency());
+        this.initialBackoff = Beans.newDuration(properties.getInitialBackoff());
+        this.maxBackoff = Beans.newDuration(properties.getMaxBackoff());
+    }
+
+    /**
+     * Queue the request for provisioning. If a request with the same key is already waiting,
+     * it is replaced by this request.
+     *
+     * @param key         the key that identifies the principal and the provisioning target
+     * @param provisioner the provisioner
+     * @param request     the request
+     * @return true if the request was queued, false if the queue is full
+     */
+    public boolean submit(final String key, final PrincipalProvisioner provisioner,
+                          final PrincipalProvisioningRequest request) {
+        return enqueue(new QueuedRequest(key, provisioner, detach(request, true), 1, null));
+    }
+
+    /**
+     * Produce a reconciliation report of the queue.
+     *
+     * @return the report
+     */
+    public PrincipalProvisioningReport getReport() {
+        val counters = new LinkedHashMap<String, Long>();
+        counters.put("queued", statistics.getQueued().sum());
+        counters.put("coalesced", statistics.getCoalesced().sum());
+        counters.put("provisioned", statistics.getProvisioned().sum());
+        counters.put("retried", statistics.getRetried().sum());
+        counters.put("deadLettered", statistics.getDeadLettered().sum());
+        counters.put("rejected", statistics.getRejected().sum());
+        val letters = deadLetters.stream()
+            .map(entry -> new DeadLetter(entry.request().principal().getId(), getServiceId(entry.request()),
+                entry.provisioner().getClass().getSimpleName(), entry.attempt(), entry.error(), entry.timestamp()))
+            .toList();
+        return new PrincipalProvisioningReport(pending.size(), inFlight.get(), counters, letters);
+    }
+
+    /**
+     * Put dead-lettered requests back into the queue
+     * so they are provisioned again.
+     *
+     * @return the number of requests queued again
+     */
+    public int retryDeadLetters() {
+        var count = 0;
+        var entry = deadLetters.pollFirst();
+        while (entry != null) {
+            if (enqueue(new QueuedRequest(entry.key(), entry.provisioner(), entry.request(), 1, null))) {
+                count++;
+            }
+            entry = deadLetters.pollFirst();
+        }
+        return count;
+    }
+
+    /**
+     * Discard all dead-lettered requests.
+     */
+    public void clearDeadLetters() {
+        deadLetters.clear();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        val deadline = System.nanoTime() + Beans.newDuration(properties.getShutdownTimeout()).toNanos();
+        try {
+            while (!pending.isEmpty() && deadline - System.nanoTime() > 0) {
+                drain();
+                Thread.sleep(SHUTDOWN_POLL_INTERVAL_MILLIS);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+        if (!pending.isEmpty()) {
+            LOGGER.warn("Principal provisioning queue is shutting down with [{}] requests that could not be provisioned", pending.size());
+        }
+    }
+
+    /**
+     * Drain waiting requests in batches and hand each batch to its provisioner.
+     */
+    protected void drain() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            val batch = nextBatch();
+            if (batch.isEmpty()) {
+                permits.release();
+                return;
+            }
+            inFlight.addAndGet(batch.size());
+            executor.execute(() -> {
+                try {
+                    provision(batch);
+                } finally {
+                    inFlight.addAndGet(-batch.size());
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Provision the batch, grouping requests by their provisioner.
+     *
+     * @param batch the batch
+     */
+    protected void provision(final List<QueuedRequest> batch) {
+        val groups = new IdentityHashMap<PrincipalProvisioner, List<QueuedRequest>>();
+        batch.forEach(entry -> groups.computeIfAbsent(entry.provisioner(), __ -> new ArrayList<>()).add(entry));
+        groups.forEach((provisioner, entries) -> {
+            try {
+                val requests = entries.stream().map(QueuedRequest::request).toList();
+                LOGGER.debug("Provisioning [{}] principal(s) via [{}]", requests.size(), provisioner.getClass().getSimpleName());
+                val results = provisioner.provision(requests);
+                entries.forEach(entry -> {
+                    val provisioned = Boolean.TRUE.equals(results.get(entry.request().principal().getId()));
+                    complete(entry, provisioned, provisioned ? null : "Provisioner did not report success");
+                });
+            } catch (final Throwable e) {
+                LoggingUtils.warn(LOGGER, e);
+                entries.forEach(entry -> complete(entry, false, StringUtils.defaultIfBlank(e.getMessage(), e.getClass().getSimpleName())));
+            }
+        });
+    }
+
+    /**
+     * Gets the delay before the next attempt, doubling the initial backoff
+     * with every failed attempt up to the configured maximum.
+     *
+     * @param attempt the failed attempt number
+     * @return the delay
+     */
+    protected Duration getBackoffDelay(final int attempt) {
+        val factor = 1L << Math.min(attempt - 1, 20);
+        val delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean enqueue(final QueuedRequest entry) {
+        val coalesced = new AtomicBoolean();
+        val accepted = new AtomicBoolean(true);
+        pending.compute(entry.key(), (key, existing) -> {
+            if (existing != null) {
+                coalesced.set(true);
+                return entry;
+            }
+            if (pending.size() >= properties.getCapacity()) {
+                accepted.set(false);
+                return null;
+            }
+            order.add(key);
+            return entry;
+        });
+        if (!accepted.get()) {
+            statistics.getRejected().increment();
+            LOGGER.warn("Principal provisioning queue is full with [{}] pending requests; Unable to queue [{}]",
+                properties.getCapacity(), entry.key());
+            return false;
+        }
+        if (coalesced.get()) {
+            statistics.getCoalesced().increment();
+            LOGGER.trace("Coalesced provisioning request [{}] with a pending request", entry.key());
+        } else if (entry.attempt() == 1) {
+            statistics.getQueued().increment();
+        }
+        start();
+        return true;
+    }
+
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            val interval = Beans.newDuration(properties.getFlushInterval()).toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    drain();
+                } catch (final Throwable e) {
+                    LoggingUtils.error(LOGGER, e);
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private List<QueuedRequest> nextBatch() {
+        val batch = new ArrayList<QueuedRequest>();
+        var key = order.poll();
+        while (key != null) {
+            Optional.ofNullable(pending.remove(key)).ifPresent(batch::add);
+            if (batch.size() >= properties.getBatchSize()) {
+                break;
+            }
+            key = order.poll();
+        }
+        return batch;
+    }
+
+    private void complete(final QueuedRequest entry, final boolean provisioned, final String error) {
+        if (provisioned) {
+            statistics.getProvisioned().increment();
+            LOGGER.debug("Provisioned [{}] after [{}] attempt(s)", entry.key(), entry.attempt());
+        } else if (entry.attempt() < properties.getMaxAttempts() && !scheduler.isShutdown()) {
+            statistics.getRetried().increment();
+            val delay = getBackoffDelay(entry.attempt());
+            LOGGER.debug("Failed to provision [{}]; Retrying in [{}]", entry.key(), delay);
+            val retry = new QueuedRequest(entry.key(), entry.provisioner(), entry.request(), entry.attempt() + 1, error);
+            scheduler.schedule(() -> {
+                if (!pending.containsKey(retry.key())) {
+                    enqueue(retry);
+                }
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            statistics.getDeadLettered().increment();
+            LOGGER.warn("Unable to provision [{}] after [{}] attempt(s); Request is dead-lettered", entry.key(), entry.attempt());
+            deadLetters.addLast(new QueuedRequest(entry.key(), entry.provisioner(), detach(entry.request(), false), entry.attempt(), error));
+            while (deadLetters.size() > properties.getDeadLetterCapacity()) {
+                deadLetters.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Copy what provisioners need out of the request, so that queued requests do not keep
+     * the authentication attempt, its credentials metadata and handler results alive.
+     *
+     * @param request        the request
+     * @param retainPassword whether the password of the credential should be kept
+     * @return the detached request
+     */
+    private static PrincipalProvisioningRequest detach(final PrincipalProvisioningRequest request, final boolean retainPassword) {
+        val principal = copy(request.principal());
+        val authentication = Optional.ofNullable(request.authentication())
+            .map(authn -> DefaultAuthenticationBuilder.newInstance(principal)
+                .setAuthenticationDate(authn.getAuthenticationDate())
+                .build())
+            .orElse(null);
+        return new PrincipalProvisioningRequest(principal, authentication,
+            copy(request.credential(), retainPassword), request.registeredService());
+    }
+
+    private static Principal copy(final Principal principal) {
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        principal.getAttributes().forEach((name, values) -> attributes.put(name, new ArrayList<>(values)));
+        return FunctionUtils.doUnchecked(() -> PrincipalFactoryUtils.newPrincipalFactory().createPrincipal(principal.getId(), attributes));
+    }
+
+    private static Credential copy(final Credential credential, final boolean retainPassword) {
+        if (credential instanceof final UsernamePasswordCredential upc && retainPassword && upc.getPassword() != null) {
+            return new UsernamePasswordCredential(upc.getUsername(), upc.getPassword(), upc.getSource(), upc.getCustomFields());
+        }
+        return credential == null ? null : new BasicIdentifiableCredential(credential.getId());
+    }
+
+    private static String getServiceId(final PrincipalProvisioningRequest request) {
+        return Optional.ofNullable(request.registeredService())
+            .map(service -> service.getName() + '-' + service.getId())
+            .orElse(null);
+    }
+
+    protected record QueuedRequest(String key, PrincipalProvisioner provisioner, PrincipalProvisioningRequest request,
+                                   int attempt, String error, Instant timestamp) {
+        QueuedRequest(final String key, final PrincipalProvisioner provisioner, final PrincipalProvisioningRequest request,
+                      final int attempt, final String error) {
+            this(key, provisioner, request, attempt, error, Instant.now());
+        }
+    }
+
+    /**
+     * Provisioning request that could not be completed.
+     *
+     * @param principal   the principal id
+     * @param service     the registered service, if any
+     * @param provisioner the provisioner
+     * @param attempts    the attempts
+     * @param error       the last error
+     * @param timestamp   the timestamp
+     */
+    public record DeadLetter(String principal, String service, String provisioner,
+                             int attempts, String error, Instant timestamp) {
+    }
+
+    /**
+     * Reconciliation report of the queue.
+     *
+     * @param pending     the number of requests waiting in the queue
+     * @param inFlight    the number of requests being provisioned
+     * @param statistics  the provisioning counters
+     * @param deadLetters the dead-lettered requests
+     */
+    public record PrincipalProvisioningReport(int pending, int inFlight, Map<String, Long> statistics,
+                                              List<DeadLetter> deadLetters) {
+    }
+
+    /**
+     * Provisioning counters.
+     */
+    @Getter
+    public static class ProvisioningStatistics {
+        private final LongAdder queued = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder provisioned = new LongAdder();
+
+        private final LongAdder retried = new LongAdder();
+
+        private final LongAdder deadLettered = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+    }
+}
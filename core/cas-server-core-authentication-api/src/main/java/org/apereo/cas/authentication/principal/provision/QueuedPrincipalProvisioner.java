@@ -0,0 +1,65 @@
+package org.apereo.cas.authentication.principal.provision;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is {@link QueuedPrincipalProvisioner} that places provisioning requests
+ * into a {@link PrincipalProvisioningQueue} instead of provisioning principals during authentication.
+ * Requests are provisioned on the calling thread when the registered service requires
+ * provisioning to complete during authentication, or when the queue is full.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class QueuedPrincipalProvisioner implements PrincipalProvisioner {
+    private final PrincipalProvisioner delegate;
+
+    private final PrincipalProvisioningQueue queue;
+
+    private final String name;
+
+    @Override
+    public boolean provision(final Authentication authentication, final Credential credential,
+                             final RegisteredService registeredService) {
+        if (registeredService != null
+            && RegisteredServiceProperties.PRINCIPAL_PROVISIONING_SYNCHRONOUS.getPropertyBooleanValue(registeredService)) {
+            LOGGER.debug("Registered service [{}] requires principal provisioning during authentication", registeredService.getName());
+            return delegate.provision(authentication, credential, registeredService);
+        }
+        val request = PrincipalProvisioningRequest.of(authentication, credential, registeredService);
+        return queue.submit(getQueueKey(request), delegate, request)
+            || delegate.provision(authentication, credential, registeredService);
+    }
+
+    @Override
+    public boolean provision(final Principal principal, final Credential credential) {
+        val request = PrincipalProvisioningRequest.of(principal, credential);
+        return queue.submit(getQueueKey(request), delegate, request) || delegate.provision(principal, credential);
+    }
+
+    @Override
+    public Map<String, Boolean> provision(final List<PrincipalProvisioningRequest> requests) {
+        return delegate.provision(requests);
+    }
+
+    protected String getQueueKey(final PrincipalProvisioningRequest request) {
+        return name + ':' + request.principal().getId();
+    }
+}
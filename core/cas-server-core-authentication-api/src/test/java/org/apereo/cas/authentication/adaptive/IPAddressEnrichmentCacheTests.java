@@ -0,0 +1,146 @@
+package org.apereo.cas.authentication.adaptive;
+
+import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceResponse;
+import org.apereo.cas.configuration.model.core.authentication.IPAddressEnrichmentCacheProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link IPAddressEnrichmentCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Authentication")
+class IPAddressEnrichmentCacheTests {
+    @TempDir
+    private File directory;
+
+    @Test
+    void verifyCacheDisabledByDefault() throws Throwable {
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test",
+            new IPAddressEnrichmentCacheProperties(), IPAddressIntelligenceResponse::isAllowed);
+        val lookups = new AtomicInteger();
+        cache.get("1.2.3.4", () -> countedLookup(lookups));
+        cache.get("1.2.3.4", () -> countedLookup(lookups));
+        assertFalse(cache.isEnabled());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void verifyResultsCachedByNetwork() throws Throwable {
+        val properties = new IPAddressEnrichmentCacheProperties()
+            .setTimeToLive("PT1M")
+            .setIpv4PrefixLength(24)
+            .setIpv6PrefixLength(48);
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        assertEquals("10.20.30.0/24", cache.toCacheKey("10.20.30.40"));
+        assertEquals("2001:db8:1::/48", cache.toCacheKey("2001:db8:1:2::5"));
+        assertEquals("unknown", cache.toCacheKey("unknown"));
+
+        val lookups = new AtomicInteger();
+        assertTrue(cache.get("10.20.30.40", () -> countedLookup(lookups)).isAllowed());
+        assertTrue(cache.get("10.20.30.41", () -> countedLookup(lookups)).isAllowed());
+        assertEquals(1, lookups.get());
+        cache.get("10.20.31.40", () -> countedLookup(lookups));
+        assertEquals(2, lookups.get());
+        assertEquals(1, cache.getStatistics().getHits().sum());
+        assertTrue(cache.getStatistics().getHitRatio() > 0);
+    }
+
+    @Test
+    void verifyDisabledCacheSavesNoSnapshot() throws Throwable {
+        val snapshot = new File(directory, "disabled.bin");
+        val properties = new IPAddressEnrichmentCacheProperties().setSnapshotLocation(snapshot.getAbsolutePath());
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("disabled", properties, IPAddressIntelligenceResponse::isAllowed);
+        cache.get("1.2.3.4", IPAddressIntelligenceResponse::allowed);
+        cache.destroy();
+        assertFalse(snapshot.exists());
+    }
+
+    @Test
+    void verifyUnfavorableResultsExpireSeparately() throws Throwable {
+        val properties = new IPAddressEnrichmentCacheProperties()
+            .setTimeToLive("PT1M")
+            .setNegativeTimeToLive("PT0S");
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        val lookups = new AtomicInteger();
+        cache.get("1.2.3.4", () -> {
+            lookups.incrementAndGet();
+            return IPAddressIntelligenceResponse.banned();
+        });
+        cache.get("1.2.3.4", () -> {
+            lookups.incrementAndGet();
+            return IPAddressIntelligenceResponse.banned();
+        });
+        assertEquals(2, lookups.get());
+        assertNull(cache.get("5.6.7.8", () -> null));
+    }
+
+    @Test
+    void verifyFailuresNotCached() {
+        val properties = new IPAddressEnrichmentCacheProperties().setTimeToLive("PT1M");
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        assertThrows(IllegalStateException.class, () -> cache.get("1.2.3.4", () -> {
+            throw new IllegalStateException("Service is unavailable");
+        }));
+        assertEquals(1, cache.getStatistics().getFailures().sum());
+        assertEquals(0, cache.getResults().estimatedSize());
+    }
+
+    @Test
+    void verifyConcurrentLookupsCoalesced() throws Throwable {
+        val properties = new IPAddressEnrichmentCacheProperties().setTimeToLive("PT1M");
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        val lookups = new AtomicInteger();
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val first = executor.submit(() -> cache.get("1.2.3.4", () -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return countedLookup(lookups);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            val second = executor.submit(() -> cache.get("1.2.3.4", () -> countedLookup(lookups)));
+            while (cache.getStatistics().getCoalesced().sum() == 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            assertTrue(first.get().isAllowed());
+            assertTrue(second.get().isAllowed());
+        }
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void verifySnapshotRestored() throws Throwable {
+        val properties = new IPAddressEnrichmentCacheProperties()
+            .setTimeToLive("PT1M")
+            .setSnapshotLocation(new File(directory, "snapshot.bin").getAbsolutePath());
+        val cache = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        cache.get("1.2.3.4", IPAddressIntelligenceResponse::allowed);
+        cache.destroy();
+
+        val restored = new IPAddressEnrichmentCache<IPAddressIntelligenceResponse>("test", properties, IPAddressIntelligenceResponse::isAllowed);
+        val lookups = new AtomicInteger();
+        assertTrue(restored.get("1.2.3.4", () -> countedLookup(lookups)).isAllowed());
+        assertEquals(0, lookups.get());
+    }
+
+    private static IPAddressIntelligenceResponse countedLookup(final AtomicInteger lookups) {
+        lookups.incrementAndGet();
+        return IPAddressIntelligenceResponse.allowed();
+    }
+}
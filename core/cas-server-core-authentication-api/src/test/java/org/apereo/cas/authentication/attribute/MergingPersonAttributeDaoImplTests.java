@@ -9,12 +9,14 @@ import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -228,4 +230,62 @@ class MergingPersonAttributeDaoImplTests {
 
         assertEquals(expectedHomeUsers, homeUsers);
     }
+
+    @Test
+    void testParallelMergeMatchesSequentialOrder() {
+        val attributeSources = new ArrayList<PersonAttributeDao>();
+        attributeSources.add(sourceOne);
+        attributeSources.add(sourceTwo);
+        attributeSources.add(collidesWithOne);
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+
+        val sequential = new MergingPersonAttributeDaoImpl();
+        sequential.setPersonAttributeDaos(attributeSources);
+
+        val parallel = new MergingPersonAttributeDaoImpl();
+        parallel.setPersonAttributeDaos(attributeSources);
+        parallel.setParallel(true);
+
+        val expected = sequential.getPeopleWithMultivaluedAttributes(queryMap);
+        val result = parallel.getPeopleWithMultivaluedAttributes(queryMap);
+        assertEquals(expected.iterator().next().getAttributes(), result.iterator().next().getAttributes());
+    }
+
+    @Test
+    void testParallelTimeout() {
+        val slowSource = new StubPersonAttributeDao(Map.of("slow", List.of("value"))) {
+            @Override
+            public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                            final PersonAttributeDaoFilter filter,
+                                                                            final Set<PersonAttributes> resultPeople) {
+                try {
+                    Thread.sleep(Duration.ofSeconds(5));
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getPeopleWithMultivaluedAttributes(query, filter, resultPeople);
+            }
+        };
+
+        val impl = new MergingPersonAttributeDaoImpl();
+        impl.setPersonAttributeDaos(List.of(sourceOne, slowSource, sourceTwo));
+        impl.setParallel(true);
+        impl.setParallelTimeout(Duration.ofMillis(250));
+
+        val queryMap = new HashMap<String, List<Object>>();
+        queryMap.put(QUERY_ATTR, List.of("awp9"));
+        val result = impl.getPeopleWithMultivaluedAttributes(queryMap);
+        val attributes = new HashMap<>(oneAndTwo);
+        attributes.putAll(queryMap);
+        assertEquals(attributes, result.iterator().next().getAttributes());
+
+        impl.setRequireAll(true);
+        assertNull(impl.getPeopleWithMultivaluedAttributes(queryMap));
+
+        impl.setRequireAll(false);
+        impl.setRecoverExceptions(false);
+        assertThrows(RuntimeException.class, () -> impl.getPeopleWithMultivaluedAttributes(queryMap));
+    }
 }
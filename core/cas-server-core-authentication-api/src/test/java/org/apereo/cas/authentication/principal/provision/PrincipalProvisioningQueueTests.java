@@ -0,0 +1,176 @@
+package org.apereo.cas.authentication.principal.provision;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalProvisioningQueueProperties;
+import org.apereo.cas.services.RegisteredServiceProperty;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link PrincipalProvisioningQueueTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Authentication")
+class PrincipalProvisioningQueueTests {
+
+    private static PrincipalProvisioningRequest getRequest(final String id) {
+        return PrincipalProvisioningRequest.of(CoreAuthenticationTestUtils.getPrincipal(id),
+            CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(id));
+    }
+
+    @Test
+    void verifyCoalescedAndBatched() throws Throwable {
+        val properties = new PrincipalProvisioningQueueProperties().setEnabled(true).setFlushInterval("PT0.2S");
+        val queue = new PrincipalProvisioningQueue(properties);
+        try {
+            val batches = new CopyOnWriteArrayList<List<PrincipalProvisioningRequest>>();
+            val provisioner = new PrincipalProvisioner() {
+                @Override
+                public boolean provision(final Principal principal, final Credential credential) {
+                    return true;
+                }
+
+                @Override
+                public Map<String, Boolean> provision(final List<PrincipalProvisioningRequest> requests) {
+                    batches.add(requests);
+                    return PrincipalProvisioner.super.provision(requests);
+                }
+            };
+            assertTrue(queue.submit("test:casuser", provisioner, getRequest("casuser")));
+            assertTrue(queue.submit("test:casuser", provisioner, getRequest("casuser")));
+            assertTrue(queue.submit("test:casadmin", provisioner, getRequest("casadmin")));
+            await().untilAsserted(() -> assertEquals(2, queue.getStatistics().getProvisioned().sum()));
+            assertEquals(1, batches.size());
+            assertEquals(2, batches.getFirst().size());
+            assertEquals(1, queue.getStatistics().getCoalesced().sum());
+            assertEquals(0, queue.getReport().pending());
+        } finally {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    void verifyRetriedAndDeadLettered() throws Throwable {
+        val properties = new PrincipalProvisioningQueueProperties()
+            .setEnabled(true)
+            .setFlushInterval("PT0.01S")
+            .setMaxAttempts(3)
+            .setInitialBackoff("PT0.01S")
+            .setMaxBackoff("PT0.05S");
+        val queue = new PrincipalProvisioningQueue(properties);
+        try {
+            val attempts = new AtomicInteger();
+            PrincipalProvisioner provisioner = (principal, credential) -> attempts.incrementAndGet() > 3;
+            assertTrue(queue.submit("test:casuser", provisioner, getRequest("casuser")));
+            await().untilAsserted(() -> assertEquals(1, queue.getReport().deadLetters().size()));
+            assertEquals(3, attempts.get());
+            assertEquals(2, queue.getStatistics().getRetried().sum());
+            assertEquals("casuser", queue.getReport().deadLetters().getFirst().principal());
+
+            assertEquals(1, queue.retryDeadLetters());
+            await().untilAsserted(() -> assertEquals(1, queue.getStatistics().getProvisioned().sum()));
+            assertTrue(queue.getReport().deadLetters().isEmpty());
+        } finally {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    void verifyCapacity() throws Throwable {
+        val properties = new PrincipalProvisioningQueueProperties().setEnabled(true).setCapacity(0);
+        val queue = new PrincipalProvisioningQueue(properties);
+        try {
+            assertFalse(queue.submit("test:casuser", (principal, credential) -> true, getRequest("casuser")));
+            assertEquals(1, queue.getStatistics().getRejected().sum());
+        } finally {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    void verifyDeadLettersKeepNoPassword() throws Throwable {
+        val properties = new PrincipalProvisioningQueueProperties()
+            .setEnabled(true)
+            .setFlushInterval("PT0.01S")
+            .setMaxAttempts(1);
+        val queue = new PrincipalProvisioningQueue(properties);
+        try {
+            val credentials = new CopyOnWriteArrayList<Credential>();
+            PrincipalProvisioner provisioner = (principal, credential) -> {
+                credentials.add(credential);
+                return credentials.size() > 1;
+            };
+            val request = getRequest("casuser");
+            assertTrue(queue.submit("test:casuser", provisioner, request));
+            await().untilAsserted(() -> assertEquals(1, queue.getReport().deadLetters().size()));
+            val queued = assertInstanceOf(UsernamePasswordCredential.class, credentials.getFirst());
+            assertNotSame(request.credential(), queued);
+            assertEquals("casuser", queued.toPassword());
+
+            assertEquals(1, queue.retryDeadLetters());
+            await().untilAsserted(() -> assertEquals(1, queue.getStatistics().getProvisioned().sum()));
+            assertFalse(credentials.getLast() instanceof UsernamePasswordCredential);
+            assertEquals("casuser", credentials.getLast().getId());
+        } finally {
+            queue.destroy();
+        }
+    }
+
+    @Test
+    void verifyPendingRequestsFlushedOnShutdown() throws Throwable {
+        val properties = new PrincipalProvisioningQueueProperties()
+            .setEnabled(true)
+            .setFlushInterval("PT1H")
+            .setShutdownTimeout("PT5S");
+        val queue = new PrincipalProvisioningQueue(properties);
+        assertTrue(queue.submit("test:casuser", (principal, credential) -> true, getRequest("casuser")));
+        assertEquals(1, queue.getReport().pending());
+        queue.destroy();
+        assertEquals(1, queue.getStatistics().getProvisioned().sum());
+        assertEquals(0, queue.getReport().pending());
+    }
+
+    @Test
+    void verifySynchronousProvisioning() throws Throwable {
+        val queue = new PrincipalProvisioningQueue(new PrincipalProvisioningQueueProperties().setEnabled(true));
+        try {
+            val provisioned = new AtomicInteger();
+            val provisioner = new QueuedPrincipalProvisioner((principal, credential) -> provisioned.incrementAndGet() > 0, queue, "test");
+
+            val registeredService = CoreAuthenticationTestUtils.getRegisteredService();
+            val property = mock(RegisteredServiceProperty.class);
+            when(property.value()).thenReturn("true");
+            when(registeredService.getProperties()).thenReturn(Map.of(
+                RegisteredServiceProperty.RegisteredServiceProperties.PRINCIPAL_PROVISIONING_SYNCHRONOUS.getPropertyName(), property));
+            assertTrue(provisioner.provision(CoreAuthenticationTestUtils.getAuthentication("casuser"),
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser"), registeredService));
+            assertEquals(1, provisioned.get());
+            assertEquals(0, queue.getStatistics().getQueued().sum());
+
+            assertTrue(provisioner.provision(CoreAuthenticationTestUtils.getAuthentication("casadmin"),
+                CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casadmin"),
+                CoreAuthenticationTestUtils.getRegisteredService()));
+            assertEquals(1, queue.getStatistics().getQueued().sum());
+        } finally {
+            queue.destroy();
+        }
+    }
+}
@@ -64,7 +64,11 @@ public class RestMultifactorAuthenticationProviderBypassEvaluator extends BaseMu
                 .build();
 
             val response = HttpUtils.execute(exec);
-            return response != null && HttpStatus.valueOf(response.getCode()).is2xxSuccessful();
+            try {
+                return response != null && HttpStatus.valueOf(response.getCode()).is2xxSuccessful();
+            } finally {
+                HttpUtils.close(response);
+            }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
             return true;
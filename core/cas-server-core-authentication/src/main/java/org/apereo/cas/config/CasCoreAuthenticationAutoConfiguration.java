@@ -21,6 +21,7 @@ import org.springframework.context.annotation.Import;
     CasCoreAuthenticationConfiguration.class,
     CasCoreAuthenticationHandlersConfiguration.class,
     CasCoreAuthenticationMetadataConfiguration.class,
+    CasCoreAuthenticationMetricsConfiguration.class,
     CasCoreAuthenticationMonitoringConfiguration.class,
     CasCoreAuthenticationPolicyConfiguration.class,
     CasCoreAuthenticationPrincipalConfiguration.class,
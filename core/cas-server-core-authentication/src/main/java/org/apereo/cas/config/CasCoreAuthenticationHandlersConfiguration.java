@@ -71,13 +71,18 @@ class CasCoreAuthenticationHandlersConfiguration {
             final ConfigurableApplicationContext applicationContext,
             @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
             @Qualifier("proxyPrincipalFactory") final PrincipalFactory proxyPrincipalFactory,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_PROXY_CALLBACK)
+            final ObjectProvider<HttpClient> proxyCallbackHttpClient,
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_TRUST_STORE)
             final HttpClient supportsTrustStoreSslSocketFactoryHttpClient) throws Exception {
             return BeanSupplier.of(AuthenticationHandler.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> new ProxyAuthenticationHandler(null,
                     servicesManager, proxyPrincipalFactory, Integer.MIN_VALUE,
-                    supportsTrustStoreSslSocketFactoryHttpClient))
+                    casProperties.getHttpClient().getProxyCallback().isEnabled()
+                        ? proxyCallbackHttpClient.getObject()
+                        : supportsTrustStoreSslSocketFactoryHttpClient))
                 .otherwiseProxy()
                 .get();
         }
@@ -0,0 +1,74 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This is {@link CasCoreAuthenticationMetricsConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnFeatureEnabled(feature = {
+    CasFeatureModule.FeatureCatalog.Metrics,
+    CasFeatureModule.FeatureCatalog.Authentication
+})
+@Configuration(value = "CasCoreAuthenticationMetricsConfiguration", proxyBeanMethods = false)
+class CasCoreAuthenticationMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "ipAddressEnrichmentCacheMeterBinder")
+    public MeterBinder ipAddressEnrichmentCacheMeterBinder(
+        final ObjectProvider<List<IPAddressEnrichmentCache<?>>> enrichmentCaches) {
+        return registry -> {
+            FunctionCounter.builder("cas.ip.enrichment.cache.hits", enrichmentCaches,
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getHits))
+                .description("Geolocation and IP intelligence lookups answered from the cache")
+                .register(registry);
+            FunctionCounter.builder("cas.ip.enrichment.cache.misses", enrichmentCaches,
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getMisses))
+                .description("Geolocation and IP intelligence lookups that were not found in the cache")
+                .register(registry);
+            FunctionCounter.builder("cas.ip.enrichment.cache.coalesced", enrichmentCaches,
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getCoalesced))
+                .description("Lookups that waited on a concurrent lookup for the same address or network")
+                .register(registry);
+            FunctionCounter.builder("cas.ip.enrichment.cache.failures", enrichmentCaches,
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getFailures))
+                .description("Geolocation and IP intelligence lookups that failed upstream")
+                .register(registry);
+            FunctionTimer.builder("cas.ip.enrichment.cache.fetches", enrichmentCaches,
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getFetches),
+                    provider -> sum(provider, IPAddressEnrichmentCache.EnrichmentStatistics::getFetchTime),
+                    TimeUnit.NANOSECONDS)
+                .description("Geolocation and IP intelligence lookups sent upstream")
+                .register(registry);
+        };
+    }
+
+    private static long sum(final ObjectProvider<List<IPAddressEnrichmentCache<?>>> enrichmentCaches,
+                            final Function<IPAddressEnrichmentCache.EnrichmentStatistics, LongAdder> metric) {
+        return enrichmentCaches.getIfAvailable(List::of)
+            .stream()
+            .map(cache -> metric.apply(cache.getStatistics()))
+            .mapToLong(LongAdder::sum)
+            .sum();
+    }
+}
@@ -4,10 +4,15 @@ import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
 import org.apereo.cas.authentication.CoreAuthenticationUtils;
 import org.apereo.cas.authentication.adaptive.AdaptiveAuthenticationPolicy;
 import org.apereo.cas.authentication.adaptive.DefaultAdaptiveAuthenticationPolicy;
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.authentication.adaptive.intel.BaseIPAddressIntelligenceService;
+import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceResponse;
 import org.apereo.cas.authentication.adaptive.intel.IPAddressIntelligenceService;
+import org.apereo.cas.authentication.policy.RestfulAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +25,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.http.HttpStatus;
 
 /**
  * This is {@link CasCoreAuthenticationPolicyConfiguration}.
@@ -36,9 +42,26 @@ class CasCoreAuthenticationPolicyConfiguration {
     @ConditionalOnMissingBean(name = "ipAddressIntelligenceService")
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-    public IPAddressIntelligenceService ipAddressIntelligenceService(final CasConfigurationProperties casProperties) {
+    public IPAddressIntelligenceService ipAddressIntelligenceService(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(IPAddressEnrichmentCache.BEAN_NAME_IP_ADDRESS_INTELLIGENCE)
+        final IPAddressEnrichmentCache<IPAddressIntelligenceResponse> ipAddressIntelligenceEnrichmentCache) {
         val adaptive = casProperties.getAuthn().getAdaptive();
-        return CoreAuthenticationUtils.newIpAddressIntelligenceService(adaptive);
+        return CoreAuthenticationUtils.newIpAddressIntelligenceService(adaptive, ipAddressIntelligenceEnrichmentCache);
+    }
+
+    @ConditionalOnMissingBean(name = IPAddressEnrichmentCache.BEAN_NAME_IP_ADDRESS_INTELLIGENCE)
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public IPAddressEnrichmentCache<IPAddressIntelligenceResponse> ipAddressIntelligenceEnrichmentCache(
+        final CasConfigurationProperties casProperties) {
+        return BaseIPAddressIntelligenceService.newEnrichmentCache(casProperties.getAuthn().getAdaptive());
+    }
+
+    @ConditionalOnMissingBean(name = RestfulAuthenticationPolicy.DECISION_CACHE_BEAN_NAME)
+    @Bean
+    public AuthorizationDecisionCache<HttpStatus> restfulAuthenticationPolicyDecisionCache() {
+        return RestfulAuthenticationPolicy.newDecisionCache();
     }
 
     @Configuration(value = "CasCoreAuthenticationPolicyPlanConfiguration", proxyBeanMethods = false)
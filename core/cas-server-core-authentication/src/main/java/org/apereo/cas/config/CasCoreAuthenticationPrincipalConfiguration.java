@@ -18,6 +18,7 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.authentication.principal.cache.CachingPrincipalAttributesRepository;
 import org.apereo.cas.authentication.principal.merger.AttributeMerger;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
 import org.apereo.cas.authentication.principal.resolvers.ChainingPrincipalResolver;
 import org.apereo.cas.authentication.principal.resolvers.EchoingPrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -182,4 +183,14 @@ class CasCoreAuthenticationPrincipalConfiguration {
         }
     }
 
+    @Configuration(value = "CasCoreAuthenticationPrincipalProvisioningConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class CasCoreAuthenticationPrincipalProvisioningConfiguration {
+        @ConditionalOnMissingBean(name = PrincipalProvisioningQueue.BEAN_NAME)
+        @Bean
+        public PrincipalProvisioningQueue principalProvisioningQueue(final CasConfigurationProperties casProperties) {
+            return new PrincipalProvisioningQueue(casProperties.getAuthn().getCore().getProvisioning());
+        }
+    }
+
 }
@@ -5,6 +5,7 @@ import org.apereo.cas.authentication.exceptions.AccountDisabledException;
 import org.apereo.cas.authentication.exceptions.AccountPasswordMustChangeException;
 import org.apereo.cas.configuration.model.core.authentication.RestAuthenticationPolicyProperties;
 import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -21,6 +22,7 @@ import javax.security.auth.login.FailedLoginException;
 
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.UUID;
 
 import static org.apereo.cas.util.junit.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +66,52 @@ class RestfulAuthenticationPolicyTests {
         }
     }
 
+    @Test
+    void verifyCachedDecision() throws Throwable {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
+            RestfulAuthenticationPolicy.newDecisionCache(), RestfulAuthenticationPolicy.DECISION_CACHE_BEAN_NAME);
+
+        val props = new RestAuthenticationPolicyProperties();
+        props.setUrl("http://localhost:9210");
+        props.getDecisionCache().setTimeToLive("PT1M");
+        val policy = new RestfulAuthenticationPolicy(props);
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+        try (val webServer = new MockWebServer(9210,
+            new ByteArrayResource(StringUtils.EMPTY.getBytes(StandardCharsets.UTF_8), "Output"), HttpStatus.OK)) {
+            webServer.start();
+            assertTrue(policy.isSatisfiedBy(authentication, applicationContext).isSuccess());
+        }
+        assertTrue(policy.isSatisfiedBy(authentication, applicationContext).isSuccess());
+        assertThrows(IllegalStateException.class,
+            () -> policy.isSatisfiedBy(CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), applicationContext));
+    }
+
+    @Test
+    void verifyServerErrorIsNotCached() throws Throwable {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
+            RestfulAuthenticationPolicy.newDecisionCache(), RestfulAuthenticationPolicy.DECISION_CACHE_BEAN_NAME);
+
+        val props = new RestAuthenticationPolicyProperties();
+        props.setUrl("http://localhost:9211");
+        props.getDecisionCache().setTimeToLive("PT1M");
+        val policy = new RestfulAuthenticationPolicy(props);
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+        try (val webServer = new MockWebServer(9211,
+            new ByteArrayResource(StringUtils.EMPTY.getBytes(StandardCharsets.UTF_8), "Output"), HttpStatus.SERVICE_UNAVAILABLE)) {
+            webServer.start();
+            assertThrows(GeneralSecurityException.class, () -> policy.isSatisfiedBy(authentication, applicationContext));
+        }
+        try (val webServer = new MockWebServer(9211,
+            new ByteArrayResource(StringUtils.EMPTY.getBytes(StandardCharsets.UTF_8), "Output"), HttpStatus.OK)) {
+            webServer.start();
+            assertTrue(policy.isSatisfiedBy(authentication, applicationContext).isSuccess());
+        }
+    }
+
     @Test
     void verifyStatusCodeUnAuthz() throws Throwable {
         assertPolicyFails(9201, HttpStatus.UNAUTHORIZED, FailedLoginException.class);
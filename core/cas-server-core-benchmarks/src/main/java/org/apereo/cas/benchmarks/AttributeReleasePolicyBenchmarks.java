@@ -0,0 +1,121 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicy;
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicyContext;
+import org.apereo.cas.services.ReturnAllAttributeReleasePolicy;
+import org.apereo.cas.services.ReturnAllowedAttributeReleasePolicy;
+import org.apereo.cas.services.ReturnMappedAttributeReleasePolicy;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link AttributeReleasePolicyBenchmarks} that measures how quickly
+ * attribute release policies decide the principal attributes released to an application.
+ * Restrictive policies release and rename every other attribute of the principal.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AttributeReleasePolicyBenchmarks {
+    @Param({"ReturnAll", "ReturnAllowed", "ReturnMapped"})
+    private String policy;
+
+    @Param({"10", "100"})
+    private int attributeCount;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private RegisteredServiceAttributeReleasePolicy attributeReleasePolicy;
+
+    private RegisteredServiceAttributeReleasePolicyContext releasePolicyContext;
+
+    /**
+     * Build the principal and the attribute release policy.
+     *
+     * @throws Throwable the throwable
+     */
+    @Setup
+    public void setup() throws Throwable {
+        applicationContext = CasBenchmarkConfiguration.createApplicationContext();
+
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        val allowedAttributes = new ArrayList<String>();
+        val mappedAttributes = new TreeMap<String, Object>();
+        for (var i = 0; i < attributeCount; i++) {
+            val name = "attribute%d".formatted(i);
+            attributes.put(name, List.of("value%d".formatted(i), "%s@example.org".formatted(name)));
+            if (i % 2 == 0) {
+                allowedAttributes.add(name);
+                mappedAttributes.put(name, "released%d".formatted(i));
+            }
+        }
+        attributeReleasePolicy = switch (policy) {
+            case "ReturnAllowed" -> new ReturnAllowedAttributeReleasePolicy(allowedAttributes);
+            case "ReturnMapped" -> new ReturnMappedAttributeReleasePolicy().setAllowedAttributes(mappedAttributes);
+            default -> new ReturnAllAttributeReleasePolicy();
+        };
+
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(1);
+        registeredService.setName("Application");
+        registeredService.setServiceId("^https://app\\.example\\.org/.*");
+        registeredService.setAttributeReleasePolicy(attributeReleasePolicy);
+
+        val serviceFactory = (ServiceFactory<WebApplicationService>)
+            applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+        val principal = PrincipalFactoryUtils.newPrincipalFactory().createPrincipal(CasBenchmarkConfiguration.USERNAME, attributes);
+        releasePolicyContext = RegisteredServiceAttributeReleasePolicyContext.builder()
+            .registeredService(registeredService)
+            .service(serviceFactory.createService("https://app.example.org/login"))
+            .principal(principal)
+            .applicationContext(applicationContext)
+            .build();
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Determine the attributes released to the application.
+     *
+     * @return the released attributes
+     * @throws Throwable the throwable
+     */
+    @Benchmark
+    public Map<String, List<Object>> releaseAttributes() throws Throwable {
+        return attributeReleasePolicy.getAttributes(releasePolicyContext);
+    }
+}
@@ -0,0 +1,81 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.AuthenticationManager;
+import org.apereo.cas.authentication.AuthenticationTransactionFactory;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link AuthenticationManagerBenchmarks} that measures a complete pass
+ * through the authentication manager, including principal resolution,
+ * authentication policies and metadata population, for a username/password credential.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AuthenticationManagerBenchmarks {
+    private ConfigurableApplicationContext applicationContext;
+
+    private AuthenticationManager authenticationManager;
+
+    private AuthenticationTransactionFactory transactionFactory;
+
+    private WebApplicationService service;
+
+    private UsernamePasswordCredential credential;
+
+    /**
+     * Locate the authentication manager.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = CasBenchmarkConfiguration.createApplicationContext();
+        authenticationManager = applicationContext.getBean(AuthenticationManager.BEAN_NAME, AuthenticationManager.class);
+        transactionFactory = applicationContext.getBean(AuthenticationTransactionFactory.BEAN_NAME, AuthenticationTransactionFactory.class);
+        val serviceFactory = (ServiceFactory<WebApplicationService>)
+            applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+        service = serviceFactory.createService("https://app.example.org/login");
+        credential = new UsernamePasswordCredential(CasBenchmarkConfiguration.USERNAME, CasBenchmarkConfiguration.PASSWORD);
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Authenticate the credential.
+     *
+     * @return the authentication
+     * @throws Throwable the throwable
+     */
+    @Benchmark
+    public Authentication authenticate() throws Throwable {
+        return authenticationManager.authenticate(transactionFactory.newTransaction(service, credential));
+    }
+}
@@ -0,0 +1,153 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link BenchmarkBaselineComparator} that compares JMH results, recorded in JSON,
+ * against a stored baseline. A benchmark is reported as a regression when its score worsens
+ * by more than the given relative threshold and the difference also exceeds the combined
+ * measurement error of both runs, so that noisy measurements do not fail the build.
+ * Throughput scores are better when higher; scores of every other mode are better when lower.
+ * Benchmarks whose mode or score unit differ from the baseline are not comparable and are skipped.
+ * Benchmarks that have a baseline but no current result are reported.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BenchmarkBaselineComparator {
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(false).build().toObjectMapper();
+
+    private static final String MODE_THROUGHPUT = "thrpt";
+
+    private static final double DEFAULT_THRESHOLD = 0.1D;
+
+    private final double threshold;
+
+    /**
+     * Compare benchmark results against the baseline,
+     * and fail when regressions are found.
+     *
+     * @param args the baseline file, the results file and the regression threshold
+     * @throws Exception the exception
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: BenchmarkBaselineComparator <baseline.json> <results.json> [threshold]");
+        }
+        val regressionThreshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        val comparator = new BenchmarkBaselineComparator(regressionThreshold);
+        val comparisons = comparator.compare(new File(args[0]), new File(args[1]));
+        comparisons.forEach(comparison -> LOGGER.info("[{}] baseline [{}] current [{}] {} change [{}%]",
+            comparison.benchmark(), comparison.baselineScore(), comparison.score(), comparison.unit(),
+            "%.2f".formatted(comparison.change() * 100)));
+        val missing = comparator.findMissingBenchmarks(new File(args[0]), new File(args[1]));
+        missing.forEach(benchmark -> LOGGER.warn("[{}] has a baseline but no current result", benchmark));
+        val regressions = comparisons.stream().filter(BenchmarkComparison::regression).toList();
+        if (!regressions.isEmpty()) {
+            val details = regressions.stream().map(BenchmarkComparison::benchmark).collect(Collectors.joining(", "));
+            throw new IllegalStateException("Benchmarks have regressed beyond [%s%%] of the baseline: %s"
+                .formatted(regressionThreshold * 100, details));
+        }
+        LOGGER.info("No benchmark has regressed beyond [{}%] of the baseline", regressionThreshold * 100);
+    }
+
+    /**
+     * Compare the results with the baseline. Benchmarks that are missing
+     * from either side, or that were measured in a different mode or unit, are skipped.
+     *
+     * @param baselineFile the baseline file
+     * @param resultsFile  the results file
+     * @return the comparisons
+     * @throws IOException the io exception
+     */
+    public List<BenchmarkComparison> compare(final File baselineFile, final File resultsFile) throws IOException {
+        val baseline = readResults(baselineFile);
+        val results = readResults(resultsFile);
+        val comparisons = new ArrayList<BenchmarkComparison>();
+        results.forEach((benchmark, result) -> {
+            val previous = baseline.get(benchmark);
+            if (previous == null || !previous.mode().equals(result.mode()) || !previous.unit().equals(result.unit())) {
+                LOGGER.warn("Benchmark [{}] has no comparable baseline and is skipped", benchmark);
+                return;
+            }
+            val higherIsBetter = MODE_THROUGHPUT.equals(result.mode());
+            val change = previous.score() == 0 ? 0 : (result.score() - previous.score()) / previous.score();
+            val worsening = higherIsBetter ? previous.score() - result.score() : result.score() - previous.score();
+            val relativeWorsening = higherIsBetter ? -change : change;
+            val regression = relativeWorsening > threshold && worsening > previous.error() + result.error();
+            comparisons.add(new BenchmarkComparison(benchmark, result.unit(),
+                previous.score(), result.score(), change, regression));
+        });
+        return comparisons;
+    }
+
+    /**
+     * Find benchmarks that are recorded in the baseline but missing from the results,
+     * typically because they were removed, renamed, excluded or failed to run.
+     *
+     * @param baselineFile the baseline file
+     * @param resultsFile  the results file
+     * @return the missing benchmarks
+     * @throws IOException the io exception
+     */
+    public List<String> findMissingBenchmarks(final File baselineFile, final File resultsFile) throws IOException {
+        val results = readResults(resultsFile);
+        return readResults(baselineFile).keySet()
+            .stream()
+            .filter(benchmark -> !results.containsKey(benchmark))
+            .toList();
+    }
+
+    private static Map<String, BenchmarkResult> readResults(final File file) throws IOException {
+        val results = new LinkedHashMap<String, BenchmarkResult>();
+        for (val node : MAPPER.readTree(file)) {
+            val metric = node.path("primaryMetric");
+            val error = metric.path("scoreError").asDouble(0);
+            val result = new BenchmarkResult(node.path("mode").asText(),
+                metric.path("score").asDouble(), Double.isNaN(error) ? 0 : error,
+                metric.path("scoreUnit").asText());
+            results.put(getBenchmarkKey(node), result);
+        }
+        return results;
+    }
+
+    private static String getBenchmarkKey(final JsonNode node) {
+        val params = new TreeMap<String, String>();
+        node.path("params").properties().forEach(entry -> params.put(entry.getKey(), entry.getValue().asText()));
+        val benchmark = node.path("benchmark").asText();
+        return params.isEmpty() ? benchmark : benchmark + params;
+    }
+
+    private record BenchmarkResult(String mode, double score, double error, String unit) {
+    }
+
+    /**
+     * The outcome of comparing a benchmark with its baseline.
+     *
+     * @param benchmark     the benchmark name and parameters
+     * @param unit          the score unit
+     * @param baselineScore the baseline score
+     * @param score         the current score
+     * @param change        the relative change of the score
+     * @param regression    whether the change is a regression
+     */
+    public record BenchmarkComparison(String benchmark, String unit, double baselineScore,
+                                      double score, double change, boolean regression) {
+    }
+}
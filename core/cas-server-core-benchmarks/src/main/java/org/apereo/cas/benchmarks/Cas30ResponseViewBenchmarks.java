@@ -0,0 +1,123 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.CasViewConstants;
+import org.apereo.cas.authentication.DefaultAuthenticationBuilder;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.ReturnAllAttributeReleasePolicy;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.validation.DefaultAssertionBuilder;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.support.RequestContext;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link Cas30ResponseViewBenchmarks} that measures how quickly a successful
+ * CAS protocol 3.0 service validation response is rendered, including attribute release,
+ * attribute encoding and template rendering, for principals with varying numbers of attributes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class Cas30ResponseViewBenchmarks {
+    @Param({"10", "100"})
+    private int attributeCount;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private View serviceSuccessView;
+
+    private Map<String, Object> model;
+
+    /**
+     * Register the service and build the assertion to render.
+     *
+     * @throws Throwable the throwable
+     */
+    @Setup
+    public void setup() throws Throwable {
+        applicationContext = CasBenchmarkConfiguration.createApplicationContext();
+        serviceSuccessView = applicationContext.getBean("cas3ServiceSuccessView", View.class);
+
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(1);
+        registeredService.setName("Application");
+        registeredService.setServiceId("^https://app\\.example\\.org/.*");
+        registeredService.setAttributeReleasePolicy(new ReturnAllAttributeReleasePolicy());
+        val servicesManager = applicationContext.getBean(ServicesManager.BEAN_NAME, ServicesManager.class);
+        servicesManager.save(registeredService, false);
+
+        val serviceFactory = (ServiceFactory<WebApplicationService>)
+            applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+        val service = serviceFactory.createService("https://app.example.org/login");
+
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        for (var i = 0; i < attributeCount; i++) {
+            attributes.put("attribute%d".formatted(i), List.of("value%d".formatted(i)));
+        }
+        val principal = PrincipalFactoryUtils.newPrincipalFactory().createPrincipal(CasBenchmarkConfiguration.USERNAME, attributes);
+        val authentication = DefaultAuthenticationBuilder.newInstance().setPrincipal(principal).build();
+        val assertion = DefaultAssertionBuilder.builder()
+            .primaryAuthentication(authentication)
+            .service(service)
+            .authentications(CollectionUtils.wrap(authentication))
+            .registeredService(registeredService)
+            .build()
+            .assemble();
+        model = new LinkedHashMap<>();
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_ASSERTION, assertion);
+        model.put(CasViewConstants.MODEL_ATTRIBUTE_NAME_SERVICE, service);
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Render the validation response.
+     *
+     * @return the response body
+     * @throws Exception the exception
+     */
+    @Benchmark
+    public String renderServiceSuccessView() throws Exception {
+        val request = new MockHttpServletRequest(new MockServletContext());
+        request.setAttribute(RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+        val response = new MockHttpServletResponse();
+        serviceSuccessView.render(new LinkedHashMap<>(model), request, response);
+        return response.getContentAsString();
+    }
+}
@@ -0,0 +1,106 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.AcceptUsersAuthenticationHandler;
+import org.apereo.cas.authentication.AuthenticationEventExecutionPlanConfigurer;
+import org.apereo.cas.config.CasCoreAuditAutoConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreAutoConfiguration;
+import org.apereo.cas.config.CasCoreCookieAutoConfiguration;
+import org.apereo.cas.config.CasCoreLogoutAutoConfiguration;
+import org.apereo.cas.config.CasCoreMultifactorAuthenticationAutoConfiguration;
+import org.apereo.cas.config.CasCoreMultifactorAuthenticationWebflowAutoConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsAutoConfiguration;
+import org.apereo.cas.config.CasCoreScriptingAutoConfiguration;
+import org.apereo.cas.config.CasCoreServicesAutoConfiguration;
+import org.apereo.cas.config.CasCoreTicketsAutoConfiguration;
+import org.apereo.cas.config.CasCoreUtilAutoConfiguration;
+import org.apereo.cas.config.CasCoreValidationAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebAutoConfiguration;
+import org.apereo.cas.config.CasCoreWebflowAutoConfiguration;
+import org.apereo.cas.config.CasPersonDirectoryAutoConfiguration;
+import org.apereo.cas.config.CasThymeleafAutoConfiguration;
+import org.apereo.cas.config.CasValidationAutoConfiguration;
+import org.apereo.cas.util.CollectionUtils;
+import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+/**
+ * This is {@link CasBenchmarkConfiguration} that assembles the CAS core components
+ * exercised by benchmarks into a mock web application context, without starting
+ * an embedded servlet container. Authentication is handled by an in-memory
+ * handler that accepts {@link #USERNAME} and {@link #PASSWORD}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@SpringBootTestAutoConfigurations
+@ImportAutoConfiguration({
+    CasCoreCookieAutoConfiguration.class,
+    CasCoreServicesAutoConfiguration.class,
+    CasCoreTicketsAutoConfiguration.class,
+    CasCoreUtilAutoConfiguration.class,
+    CasCoreScriptingAutoConfiguration.class,
+    CasCoreAuthenticationAutoConfiguration.class,
+    CasCoreWebAutoConfiguration.class,
+    CasCoreWebflowAutoConfiguration.class,
+    CasCoreLogoutAutoConfiguration.class,
+    CasCoreAuditAutoConfiguration.class,
+    CasCoreNotificationsAutoConfiguration.class,
+    CasCoreMultifactorAuthenticationAutoConfiguration.class,
+    CasCoreMultifactorAuthenticationWebflowAutoConfiguration.class,
+    CasCoreValidationAutoConfiguration.class,
+    CasCoreAutoConfiguration.class,
+    CasPersonDirectoryAutoConfiguration.class,
+    CasThymeleafAutoConfiguration.class,
+    CasValidationAutoConfiguration.class
+})
+@SpringBootConfiguration(proxyBeanMethods = false)
+public class CasBenchmarkConfiguration {
+    /**
+     * Username accepted by the in-memory authentication handler.
+     */
+    public static final String USERNAME = "casuser";
+
+    /**
+     * Password accepted by the in-memory authentication handler.
+     */
+    public static final String PASSWORD = "Mellon";
+
+    /**
+     * Create the application context.
+     *
+     * @param properties additional settings, as {@code name=value} pairs
+     * @return the application context
+     */
+    public static ConfigurableApplicationContext createApplicationContext(final String... properties) {
+        return new SpringApplicationBuilder(CasBenchmarkConfiguration.class)
+            .web(WebApplicationType.SERVLET)
+            .contextFactory(webApplicationType -> new GenericWebApplicationContext(new MockServletContext()))
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(
+                "spring.main.allow-bean-definition-overriding=true",
+                "spring.mvc.pathmatch.matching-strategy=ant-path-matcher")
+            .properties(properties)
+            .run();
+    }
+
+    /**
+     * Register the in-memory authentication handler.
+     *
+     * @return the configurer
+     */
+    @Bean
+    public AuthenticationEventExecutionPlanConfigurer benchmarkAuthenticationEventExecutionPlanConfigurer() {
+        return plan -> plan.registerAuthenticationHandler(
+            new AcceptUsersAuthenticationHandler(CollectionUtils.wrap(USERNAME, PASSWORD)));
+    }
+}
@@ -0,0 +1,83 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.cipher.BaseBinaryCipherExecutor;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link CipherExecutorBenchmarks} that measures encryption and signing
+ * of binary payloads by {@link BaseBinaryCipherExecutor}, as used for tickets and webflow state.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CipherExecutorBenchmarks {
+    private static final int SIGNING_KEY_SIZE = 512;
+
+    private static final int ENCRYPTION_KEY_SIZE = 16;
+
+    @Param({"256", "4096"})
+    private int payloadSize;
+
+    @Param({"true", "false"})
+    private boolean signingEnabled;
+
+    private CipherExecutor<byte[], byte[]> cipherExecutor;
+
+    private byte[] payload;
+
+    private byte[] encodedPayload;
+
+    /**
+     * Generate keys and the payload to encode.
+     */
+    @Setup
+    public void setup() {
+        val cipher = new DefaultTicketCipherExecutor(null, null, "AES",
+            SIGNING_KEY_SIZE, ENCRYPTION_KEY_SIZE, "benchmarks");
+        cipherExecutor = signingEnabled ? cipher : cipher.withSigningDisabled();
+        payload = new byte[payloadSize];
+        RandomUtils.getNativeInstance().nextBytes(payload);
+        encodedPayload = cipherExecutor.encode(payload);
+    }
+
+    /**
+     * Encrypt and optionally sign the payload.
+     *
+     * @return the encoded payload
+     */
+    @Benchmark
+    public byte[] encode() {
+        return cipherExecutor.encode(payload);
+    }
+
+    /**
+     * Verify and decrypt the payload.
+     *
+     * @return the decoded payload
+     */
+    @Benchmark
+    public byte[] decode() {
+        return cipherExecutor.decode(encodedPayload);
+    }
+}
@@ -0,0 +1,126 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link ServicesManagerBenchmarks} that measures how quickly
+ * registered services are located by the services manager, for registries of varying sizes.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServicesManagerBenchmarks {
+    @Param({"100", "1000"})
+    private int registeredServiceCount;
+
+    private ConfigurableApplicationContext applicationContext;
+
+    private ServicesManager servicesManager;
+
+    private WebApplicationService firstService;
+
+    private WebApplicationService lastService;
+
+    private WebApplicationService unknownService;
+
+    private long lastRegisteredServiceId;
+
+    /**
+     * Register services, ordered so that matching the last service
+     * requires every other service to be evaluated first.
+     */
+    @Setup
+    public void setup() {
+        applicationContext = CasBenchmarkConfiguration.createApplicationContext();
+        servicesManager = applicationContext.getBean(ServicesManager.BEAN_NAME, ServicesManager.class);
+        val serviceFactory = (ServiceFactory<WebApplicationService>)
+            applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+
+        servicesManager.deleteAll();
+        for (var i = 1; i <= registeredServiceCount; i++) {
+            val registeredService = new CasRegisteredService();
+            registeredService.setId(i);
+            registeredService.setName("Application%d".formatted(i));
+            registeredService.setServiceId("^https://app%d\\.example\\.org/.*".formatted(i));
+            registeredService.setEvaluationOrder(i);
+            servicesManager.save(registeredService, false);
+        }
+        lastRegisteredServiceId = registeredServiceCount;
+        firstService = serviceFactory.createService("https://app1.example.org/login");
+        lastService = serviceFactory.createService("https://app%d.example.org/login".formatted(registeredServiceCount));
+        unknownService = serviceFactory.createService("https://unknown.example.net/login");
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Locate the registered service evaluated first.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findFirstServiceByUrl() {
+        return servicesManager.findServiceBy(firstService);
+    }
+
+    /**
+     * Locate the registered service evaluated last.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findLastServiceByUrl() {
+        return servicesManager.findServiceBy(lastService);
+    }
+
+    /**
+     * Look up a service that matches no registered service.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findUnknownServiceByUrl() {
+        return servicesManager.findServiceBy(unknownService);
+    }
+
+    /**
+     * Locate a registered service by its identifier.
+     *
+     * @return the registered service
+     */
+    @Benchmark
+    public RegisteredService findServiceById() {
+        return servicesManager.findServiceBy(lastRegisteredServiceId);
+    }
+}
@@ -0,0 +1,154 @@
+package org.apereo.cas.benchmarks;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.authentication.AuthenticationManager;
+import org.apereo.cas.authentication.AuthenticationTransactionFactory;
+import org.apereo.cas.authentication.credential.UsernamePasswordCredential;
+import org.apereo.cas.authentication.principal.ServiceFactory;
+import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketFactory;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketBenchmarks} that measures the creation of ticket-granting and service tickets
+ * by the default ticket factories, and how quickly tickets are serialized and deserialized
+ * by the ticket serialization manager, as ticket registries do when tickets are stored.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TicketBenchmarks {
+    private ConfigurableApplicationContext applicationContext;
+
+    private TicketGrantingTicketFactory ticketGrantingTicketFactory;
+
+    private ServiceTicketFactory serviceTicketFactory;
+
+    private TicketSerializationManager ticketSerializationManager;
+
+    private Authentication authentication;
+
+    private WebApplicationService service;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private String serializedTicketGrantingTicket;
+
+    private String serializedServiceTicket;
+
+    /**
+     * Authenticate once and prepare the tickets to serialize.
+     *
+     * @throws Throwable the throwable
+     */
+    @Setup
+    public void setup() throws Throwable {
+        applicationContext = CasBenchmarkConfiguration.createApplicationContext();
+        val ticketFactory = applicationContext.getBean(TicketFactory.BEAN_NAME, TicketFactory.class);
+        ticketGrantingTicketFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        serviceTicketFactory = (ServiceTicketFactory) ticketFactory.get(ServiceTicket.class);
+        ticketSerializationManager = applicationContext.getBean(TicketSerializationManager.BEAN_NAME, TicketSerializationManager.class);
+
+        val serviceFactory = (ServiceFactory<WebApplicationService>)
+            applicationContext.getBean(WebApplicationService.BEAN_NAME_FACTORY, ServiceFactory.class);
+        service = serviceFactory.createService("https://app.example.org/login");
+
+        val transactionFactory = applicationContext.getBean(AuthenticationTransactionFactory.BEAN_NAME, AuthenticationTransactionFactory.class);
+        val authenticationManager = applicationContext.getBean(AuthenticationManager.BEAN_NAME, AuthenticationManager.class);
+        val credential = new UsernamePasswordCredential(CasBenchmarkConfiguration.USERNAME, CasBenchmarkConfiguration.PASSWORD);
+        authentication = authenticationManager.authenticate(transactionFactory.newTransaction(service, credential));
+
+        ticketGrantingTicket = ticketGrantingTicketFactory.create(authentication, service, TicketGrantingTicket.class);
+        serializedTicketGrantingTicket = ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+        val serviceTicket = serviceTicketFactory.create(ticketGrantingTicket, service, false, ServiceTicket.class);
+        serializedServiceTicket = ticketSerializationManager.serializeTicket(serviceTicket);
+    }
+
+    /**
+     * Close the application context.
+     */
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Create a ticket-granting ticket.
+     *
+     * @return the ticket
+     * @throws Throwable the throwable
+     */
+    @Benchmark
+    public Ticket createTicketGrantingTicket() throws Throwable {
+        return ticketGrantingTicketFactory.create(authentication, service, TicketGrantingTicket.class);
+    }
+
+    /**
+     * Create a ticket-granting ticket, and a service ticket granted by it.
+     * A new ticket-granting ticket is created every time, since every service ticket
+     * is tracked by the ticket-granting ticket that granted it.
+     *
+     * @return the ticket
+     * @throws Throwable the throwable
+     */
+    @Benchmark
+    public Ticket createServiceTicket() throws Throwable {
+        val ticket = ticketGrantingTicketFactory.create(authentication, service, TicketGrantingTicket.class);
+        return serviceTicketFactory.create(ticket, service, false, ServiceTicket.class);
+    }
+
+    /**
+     * Serialize a ticket-granting ticket.
+     *
+     * @return the serialized ticket
+     */
+    @Benchmark
+    public String serializeTicketGrantingTicket() {
+        return ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    /**
+     * Deserialize a ticket-granting ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeTicketGrantingTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedTicketGrantingTicket, TicketGrantingTicket.class);
+    }
+
+    /**
+     * Deserialize a service ticket.
+     *
+     * @return the ticket
+     */
+    @Benchmark
+    public Ticket deserializeServiceTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedServiceTicket, ServiceTicket.class);
+    }
+}
@@ -0,0 +1,116 @@
+package org.apereo.cas.benchmarks;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BenchmarkBaselineComparatorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Utility")
+class BenchmarkBaselineComparatorTests {
+    private static final String BENCHMARK = "org.apereo.cas.benchmarks.ServicesManagerBenchmarks.findLastServiceByUrl";
+
+    @TempDir
+    private File directory;
+
+    @Test
+    void verifyNoRegression() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 2);
+        val results = writeResults("results.json", "avgt", 105, 2);
+        val comparisons = new BenchmarkBaselineComparator(0.1).compare(baseline, results);
+        assertEquals(1, comparisons.size());
+        assertFalse(comparisons.getFirst().regression());
+        assertEquals(0.05, comparisons.getFirst().change(), 0.0001);
+        assertDoesNotThrow(() -> BenchmarkBaselineComparator.main(
+            new String[]{baseline.getAbsolutePath(), results.getAbsolutePath(), "0.1"}));
+    }
+
+    @Test
+    void verifyRegressionForAverageTime() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 2);
+        val results = writeResults("results.json", "avgt", 150, 2);
+        val comparisons = new BenchmarkBaselineComparator(0.1).compare(baseline, results);
+        assertTrue(comparisons.getFirst().regression());
+        assertTrue(comparisons.getFirst().benchmark().contains("registeredServiceCount=1000"));
+        assertThrows(IllegalStateException.class, () -> BenchmarkBaselineComparator.main(
+            new String[]{baseline.getAbsolutePath(), results.getAbsolutePath(), "0.1"}));
+    }
+
+    @Test
+    void verifyRegressionForThroughput() throws Throwable {
+        val baseline = writeResults("baseline.json", "thrpt", 100, 2);
+        val improved = writeResults("improved.json", "thrpt", 150, 2);
+        assertFalse(new BenchmarkBaselineComparator(0.1).compare(baseline, improved).getFirst().regression());
+        val regressed = writeResults("regressed.json", "thrpt", 50, 2);
+        assertTrue(new BenchmarkBaselineComparator(0.1).compare(baseline, regressed).getFirst().regression());
+    }
+
+    @Test
+    void verifyNoisyChangeIsNotRegression() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 30);
+        val results = writeResults("results.json", "avgt", 150, 30);
+        assertFalse(new BenchmarkBaselineComparator(0.1).compare(baseline, results).getFirst().regression());
+    }
+
+    @Test
+    void verifyUnknownBenchmarkIsSkipped() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 2);
+        val results = writeResults("results.json", "thrpt", 100, 2);
+        assertTrue(new BenchmarkBaselineComparator(0.1).compare(baseline, results).isEmpty());
+    }
+
+    @Test
+    void verifyDifferentUnitIsSkipped() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 2);
+        val results = writeResults("results.json", "avgt", 100, 2, "ms/op");
+        assertTrue(new BenchmarkBaselineComparator(0.1).compare(baseline, results).isEmpty());
+    }
+
+    @Test
+    void verifyMissingBenchmarksReported() throws Throwable {
+        val baseline = writeResults("baseline.json", "avgt", 100, 2);
+        val results = new File(directory, "results.json");
+        Files.writeString(results.toPath(), "[]", StandardCharsets.UTF_8);
+        val comparator = new BenchmarkBaselineComparator(0.1);
+        assertTrue(comparator.compare(baseline, results).isEmpty());
+        assertEquals(List.of(BENCHMARK + "{registeredServiceCount=1000}"), comparator.findMissingBenchmarks(baseline, results));
+        assertTrue(comparator.findMissingBenchmarks(baseline, baseline).isEmpty());
+    }
+
+    private File writeResults(final String name, final String mode, final double score, final double error) throws Exception {
+        return writeResults(name, mode, score, error, "us/op");
+    }
+
+    private File writeResults(final String name, final String mode, final double score,
+                              final double error, final String unit) throws Exception {
+        val file = new File(directory, name);
+        val json = """
+            [
+              {
+                "benchmark": "%s",
+                "mode": "%s",
+                "params": {
+                  "registeredServiceCount": "1000"
+                },
+                "primaryMetric": {
+                  "score": %s,
+                  "scoreError": %s,
+                  "scoreUnit": "%s"
+                }
+              }
+            ]
+            """.formatted(BENCHMARK, mode, score, error, unit);
+        Files.writeString(file.toPath(), json, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,424 @@
+package org.apereo.cas.configuration;
+
+import org.apereo.cas.configuration.model.core.events.ConfigurationRefreshEventsProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Executable;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link CasConfigurationRefreshManager} that refreshes the environment
+ * and rebuilds refreshable components when CAS configuration is modified.
+ * <p>
+ * By default, every refreshable component is destroyed and lazily rebuilt.
+ * When targeted refreshes are turned on, modified settings are mapped to the
+ * components that depend on them, and only those components are rebuilt, along with the refreshable
+ * components that depend on them either directly or through an {@link ObjectProvider}.
+ * Components are rebuilt in dependency order: each replacement is built aside from the refresh scope
+ * and only then takes the place of the component it replaces, so that the refresh scope never
+ * hands out a missing component. Components whose replacement cannot be built are left in place.
+ * <p>
+ * A previous component is destroyed after a delay, so that requests in flight can finish using it.
+ * Previous components that are still held by components that are not rebuilt, such as singletons
+ * that received them through injection, are never destroyed. If any modified setting is not mapped,
+ * all refreshable components are rebuilt as before. Every refresh is recorded, along with the
+ * components that were rebuilt and the previous components that were kept.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CasConfigurationRefreshManager implements DisposableBean {
+    /**
+     * Bean name.
+     */
+    public static final String BEAN_NAME = "casConfigurationRefreshManager";
+
+    private static final String REFRESH_SCOPE = "refresh";
+
+    private static final String REPLACEMENT_SUFFIX = "#replacement";
+
+    private final ContextRefresher contextRefresher;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final Supplier<ConfigurationRefreshEventsProperties> properties;
+
+    private final Deque<ConfigurationRefreshReport> history = new ConcurrentLinkedDeque<>();
+
+    private final ScheduledExecutorService destroyScheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("CasConfigurationRefresh-", 0).factory());
+
+    /**
+     * Refresh the environment and rebuild refreshable components
+     * that are affected by the modified settings.
+     *
+     * @return the report
+     */
+    public synchronized ConfigurationRefreshReport refresh() {
+        val refreshProperties = properties.get();
+        val startTime = System.nanoTime();
+        if (!refreshProperties.isTargeted()) {
+            val keys = contextRefresher.refresh();
+            return record(new ConfigurationRefreshReport(Instant.now(), new TreeSet<>(keys), false,
+                Set.of(), Set.of(), Map.of(), Map.of(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        }
+
+        val keys = contextRefresher.refreshEnvironment();
+        LOGGER.debug("Modified settings are [{}]", keys);
+        val unmappedKeys = new TreeSet<String>();
+        val beanNames = resolveBeanNames(keys, refreshProperties, unmappedKeys);
+        if (!unmappedKeys.isEmpty()) {
+            LOGGER.info("Settings [{}] are not mapped to refreshable components; all refreshable components will be rebuilt", unmappedKeys);
+            applicationContext.getBean(RefreshScope.class).refreshAll();
+            return record(new ConfigurationRefreshReport(Instant.now(), new TreeSet<>(keys), false,
+                Set.of(), unmappedKeys, Map.of(), Map.of(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        }
+
+        val graph = new DependencyGraph(applicationContext.getBeanFactory());
+        val refreshedBeans = graph.collectRefreshableBeans(beanNames);
+        LOGGER.info("Rebuilding refreshable components [{}] for modified settings [{}]", refreshedBeans, keys);
+        val failures = new TreeMap<String, String>();
+        val retainedBeans = new TreeMap<String, Set<String>>();
+        rebuild(graph, refreshedBeans, refreshProperties, failures, retainedBeans);
+        return record(new ConfigurationRefreshReport(Instant.now(), new TreeSet<>(keys), true,
+            new TreeSet<>(refreshedBeans), Set.of(), failures, retainedBeans,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+    }
+
+    /**
+     * Gets recorded refresh reports, most recent first.
+     *
+     * @return the history
+     */
+    public List<ConfigurationRefreshReport> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    @Override
+    public void destroy() {
+        destroyScheduler.shutdownNow().forEach(Runnable::run);
+    }
+
+    private ConfigurationRefreshReport record(final ConfigurationRefreshReport report) {
+        LOGGER.info("Configuration refresh completed in [{}]ms", report.durationMillis());
+        history.addFirst(report);
+        while (history.size() > Math.max(properties.get().getHistorySize(), 0)) {
+            history.pollLast();
+        }
+        return report;
+    }
+
+    private Set<String> resolveBeanNames(final Collection<String> keys,
+                                         final ConfigurationRefreshEventsProperties refreshProperties,
+                                         final Set<String> unmappedKeys) {
+        val beanNames = new LinkedHashSet<String>();
+        for (val key : keys) {
+            val ignored = refreshProperties.getIgnoredPrefixes().stream().anyMatch(prefix -> matches(prefix, key));
+            if (!ignored) {
+                val mapped = refreshProperties.getDependencies().entrySet()
+                    .stream()
+                    .filter(entry -> matches(entry.getKey(), key))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .toList();
+                if (mapped.isEmpty()) {
+                    unmappedKeys.add(key);
+                }
+                beanNames.addAll(mapped);
+            }
+        }
+        return beanNames;
+    }
+
+    private void rebuild(final DependencyGraph graph, final Set<String> beanNames,
+                         final ConfigurationRefreshEventsProperties refreshProperties,
+                         final Map<String, String> failures, final Map<String, Set<String>> retainedBeans) {
+        val beanFactory = applicationContext.getBeanFactory();
+        val scope = Objects.requireNonNull(beanFactory.getRegisteredScope(REFRESH_SCOPE));
+        val deadline = System.nanoTime() + Beans.newDuration(refreshProperties.getWarmUpTimeout()).toNanos();
+        val destroyDelay = Beans.newDuration(refreshProperties.getDestroyDelay());
+        val rebuilt = new HashSet<String>();
+
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (val level : graph.sortByDependencies(beanNames)) {
+                val builds = new LinkedHashMap<String, Future<Object>>();
+                level.forEach(beanName -> {
+                    val failedDependency = graph.getDependencies(beanName).stream()
+                        .filter(beanNames::contains)
+                        .filter(dependency -> !rebuilt.contains(dependency))
+                        .findFirst();
+                    if (failedDependency.isPresent()) {
+                        failures.put(beanName, "Dependency " + failedDependency.get() + " could not be rebuilt");
+                    } else {
+                        builds.put(beanName, executor.submit(() -> createReplacement(beanName)));
+                    }
+                });
+                builds.forEach((beanName, build) -> {
+                    try {
+                        val replacement = build.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                        val previous = swap(scope, beanName, replacement);
+                        rebuilt.add(beanName);
+                        applicationContext.publishEvent(new RefreshScopeRefreshedEvent(beanName));
+                        if (previous != null) {
+                            val holders = graph.getHolders(beanName, beanNames);
+                            if (holders.isEmpty()) {
+                                scheduleDestroy(beanName, previous, destroyDelay.toMillis());
+                            } else {
+                                LOGGER.warn("Previous instance of component [{}] is still held by [{}] and will not be destroyed", beanName, holders);
+                                retainedBeans.put(beanName, holders);
+                            }
+                        }
+                    } catch (final Exception e) {
+                        build.cancel(true);
+                        LoggingUtils.warn(LOGGER, "Unable to rebuild component " + beanName, e);
+                        failures.put(beanName, Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+                    }
+                });
+            }
+        }
+    }
+
+    private Object createReplacement(final String beanName) {
+        val beanFactory = applicationContext.getBeanFactory();
+        val registry = (BeanDefinitionRegistry) beanFactory;
+        val definition = ((AbstractBeanDefinition) beanFactory.getMergedBeanDefinition(beanName)).cloneBeanDefinition();
+        definition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        val replacementName = beanName + REPLACEMENT_SUFFIX;
+        registry.registerBeanDefinition(replacementName, definition);
+        try {
+            val replacement = beanFactory.getBean(replacementName);
+            Arrays.stream(beanFactory.getDependenciesForBean(replacementName))
+                .forEach(dependency -> beanFactory.registerDependentBean(dependency, beanName));
+            return replacement;
+        } finally {
+            registry.removeBeanDefinition(replacementName);
+        }
+    }
+
+    private Object swap(final Scope scope, final String beanName, final Object replacement) {
+        val beanFactory = applicationContext.getBeanFactory();
+        val previous = scope.remove(beanName);
+        val current = scope.get(beanName, () -> replacement);
+        if (current == replacement) {
+            scope.registerDestructionCallback(beanName, () -> beanFactory.destroyBean(beanName, replacement));
+        } else {
+            LOGGER.debug("Component [{}] was built by a concurrent request while being replaced", beanName);
+            beanFactory.destroyBean(beanName, replacement);
+        }
+        return previous;
+    }
+
+    private void scheduleDestroy(final String beanName, final Object previous, final long delayMillis) {
+        Runnable destroy = () -> {
+            try {
+                LOGGER.debug("Destroying previous instance of component [{}]", beanName);
+                applicationContext.getBeanFactory().destroyBean(beanName, previous);
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to destroy previous instance of component " + beanName, e);
+            }
+        };
+        if (delayMillis <= 0) {
+            destroy.run();
+        } else {
+            destroyScheduler.schedule(destroy, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static boolean isRefreshable(final ConfigurableListableBeanFactory beanFactory, final String beanName) {
+        return beanFactory.containsBeanDefinition(beanName) && REFRESH_SCOPE.equals(beanFactory.getBeanDefinition(beanName).getScope());
+    }
+
+    private static boolean matches(final String prefix, final String key) {
+        val normalizedPrefix = normalize(prefix);
+        val normalizedKey = normalize(key);
+        return normalizedKey.equals(normalizedPrefix)
+            || normalizedKey.startsWith(normalizedPrefix + '.')
+            || normalizedKey.startsWith(normalizedPrefix + '[');
+    }
+
+    private static String normalize(final String name) {
+        return name.toLowerCase(Locale.ENGLISH).replace("-", "").replace("_", "");
+    }
+
+    /**
+     * Dependencies between components, as recorded by the bean factory for injected components
+     * and as declared by the object provider parameters of factory methods and constructors,
+     * since the bean factory does not record components obtained through object providers.
+     */
+    @RequiredArgsConstructor
+    private static final class DependencyGraph {
+        private final ConfigurableListableBeanFactory beanFactory;
+
+        private Map<String, List<MethodParameter>> providerParameters;
+
+        Set<String> collectRefreshableBeans(final Set<String> beanNames) {
+            val results = new LinkedHashSet<String>();
+            val pending = new ArrayDeque<>(beanNames);
+            while (!pending.isEmpty()) {
+                val beanName = pending.pop();
+                if (!beanFactory.containsBeanDefinition(beanName)) {
+                    LOGGER.warn("Component [{}] is mapped to modified settings but is not defined", beanName);
+                } else if (isRefreshable(beanFactory, beanName) && results.add(beanName)) {
+                    getDependents(beanName).stream().filter(dependent -> isRefreshable(beanFactory, dependent)).forEach(pending::add);
+                }
+            }
+            return results;
+        }
+
+        List<Set<String>> sortByDependencies(final Set<String> beanNames) {
+            val levels = new ArrayList<Set<String>>();
+            val remaining = new LinkedHashSet<>(beanNames);
+            while (!remaining.isEmpty()) {
+                val level = remaining.stream()
+                    .filter(beanName -> getDependencies(beanName).stream()
+                        .noneMatch(dependency -> !dependency.equals(beanName) && remaining.contains(dependency)))
+                    .collect(LinkedHashSet<String>::new, Set::add, Set::addAll);
+                if (level.isEmpty()) {
+                    LOGGER.debug("Components [{}] depend on each other and are rebuilt together", remaining);
+                    level.addAll(remaining);
+                }
+                remaining.removeAll(level);
+                levels.add(level);
+            }
+            return levels;
+        }
+
+        Set<String> getDependencies(final String beanName) {
+            val dependencies = new LinkedHashSet<>(List.of(beanFactory.getDependenciesForBean(beanName)));
+            getProviderParameters().getOrDefault(beanName, List.of())
+                .stream()
+                .flatMap(this::resolveProvidedBeans)
+                .forEach(dependencies::add);
+            return dependencies;
+        }
+
+        Set<String> getHolders(final String beanName, final Set<String> rebuiltBeans) {
+            return getDependents(beanName)
+                .stream()
+                .filter(dependent -> !rebuiltBeans.contains(dependent))
+                .filter(dependent -> !dependent.endsWith(REPLACEMENT_SUFFIX))
+                .collect(TreeSet<String>::new, Set::add, Set::addAll);
+        }
+
+        private Set<String> getDependents(final String beanName) {
+            val dependents = new LinkedHashSet<>(List.of(beanFactory.getDependentBeans(beanName)));
+            getProviderParameters().forEach((consumer, parameters) -> {
+                if (!consumer.equals(beanName) && parameters.stream().anyMatch(parameter -> provides(parameter, beanName))) {
+                    dependents.add(consumer);
+                }
+            });
+            return dependents;
+        }
+
+        private Stream<String> resolveProvidedBeans(final MethodParameter parameter) {
+            val qualifier = parameter.getParameterAnnotation(Qualifier.class);
+            if (qualifier != null) {
+                return Stream.of(qualifier.value()).filter(beanFactory::containsBeanDefinition);
+            }
+            return Arrays.stream(beanFactory.getBeanNamesForType(getProvidedType(parameter), true, false));
+        }
+
+        private boolean provides(final MethodParameter parameter, final String beanName) {
+            val qualifier = parameter.getParameterAnnotation(Qualifier.class);
+            if (qualifier != null) {
+                return qualifier.value().equals(beanName);
+            }
+            return beanFactory.isTypeMatch(beanName, getProvidedType(parameter));
+        }
+
+        private static ResolvableType getProvidedType(final MethodParameter parameter) {
+            return ResolvableType.forMethodParameter(parameter).getGeneric(0);
+        }
+
+        private Map<String, List<MethodParameter>> getProviderParameters() {
+            if (providerParameters == null) {
+                providerParameters = new LinkedHashMap<>();
+                for (val beanName : beanFactory.getBeanDefinitionNames()) {
+                    if (beanFactory.getMergedBeanDefinition(beanName) instanceof final RootBeanDefinition definition) {
+                        val parameters = getCreationExecutables(definition)
+                            .flatMap(executable -> Stream.iterate(0, i -> i < executable.getParameterCount(), i -> i + 1)
+                                .map(index -> MethodParameter.forExecutable(executable, index)))
+                            .filter(parameter -> ObjectProvider.class.isAssignableFrom(parameter.getParameterType()))
+                            .toList();
+                        if (!parameters.isEmpty()) {
+                            providerParameters.put(beanName, parameters);
+                        }
+                    }
+                }
+            }
+            return providerParameters;
+        }
+
+        private static Stream<Executable> getCreationExecutables(final RootBeanDefinition definition) {
+            val factoryMethod = definition.getResolvedFactoryMethod();
+            if (factoryMethod != null) {
+                return Stream.of(factoryMethod);
+            }
+            if (definition.getFactoryMethodName() == null && definition.hasBeanClass()) {
+                return Arrays.stream(definition.getBeanClass().getDeclaredConstructors());
+            }
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Outcome of a configuration refresh.
+     *
+     * @param timestamp      the time the refresh completed
+     * @param keys           the modified settings
+     * @param targeted       whether only affected components were rebuilt
+     * @param refreshedBeans the components that were rebuilt, if the refresh was targeted
+     * @param unmappedKeys   the modified settings that caused all refreshable components to be rebuilt
+     * @param failures       the components that could not be rebuilt and were left in place, and the reason
+     * @param retainedBeans  the components whose previous instances were not destroyed, and the components still holding them
+     * @param durationMillis the duration of the refresh
+     */
+    public record ConfigurationRefreshReport(Instant timestamp, Set<String> keys, boolean targeted,
+                                             Set<String> refreshedBeans, Set<String> unmappedKeys,
+                                             Map<String, String> failures, Map<String, Set<String>> retainedBeans,
+                                             long durationMillis) {
+    }
+}
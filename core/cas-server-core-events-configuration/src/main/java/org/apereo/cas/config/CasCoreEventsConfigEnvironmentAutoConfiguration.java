@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.CasConfigurationPropertiesEnvironmentManager;
+import org.apereo.cas.configuration.CasConfigurationRefreshManager;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.support.events.listener.CasConfigurationEventListener;
 import org.apereo.cas.support.events.listener.DefaultCasConfigurationEventListener;
@@ -30,6 +31,16 @@ import org.springframework.context.annotation.ScopedProxyMode;
 @AutoConfiguration
 public class CasCoreEventsConfigEnvironmentAutoConfiguration {
 
+    @ConditionalOnMissingBean(name = CasConfigurationRefreshManager.BEAN_NAME)
+    @Bean
+    public CasConfigurationRefreshManager casConfigurationRefreshManager(
+        final CasConfigurationProperties casProperties,
+        final ContextRefresher contextRefresher,
+        final ConfigurableApplicationContext applicationContext) {
+        return new CasConfigurationRefreshManager(contextRefresher, applicationContext,
+            () -> casProperties.getEvents().getCore().getConfigurationRefresh());
+    }
+
     @ConditionalOnMissingBean(name = "casConfigurationEventListener")
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -37,8 +48,8 @@ public class CasCoreEventsConfigEnvironmentAutoConfiguration {
     public CasConfigurationEventListener casConfigurationEventListener(
         @Qualifier(CasConfigurationPropertiesEnvironmentManager.BEAN_NAME) final CasConfigurationPropertiesEnvironmentManager manager,
         final ConfigurationPropertiesBindingPostProcessor binder,
-        final ContextRefresher contextRefresher,
+        @Qualifier(CasConfigurationRefreshManager.BEAN_NAME) final CasConfigurationRefreshManager casConfigurationRefreshManager,
         final ConfigurableApplicationContext applicationContext) {
-        return new DefaultCasConfigurationEventListener(manager, binder, contextRefresher, applicationContext);
+        return new DefaultCasConfigurationEventListener(manager, binder, casConfigurationRefreshManager, applicationContext);
     }
 }
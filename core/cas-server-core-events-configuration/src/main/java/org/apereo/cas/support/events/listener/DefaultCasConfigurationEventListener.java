@@ -2,6 +2,7 @@ package org.apereo.cas.support.events.listener;
 
 import org.apereo.cas.config.CasConfigurationModifiedEvent;
 import org.apereo.cas.configuration.CasConfigurationPropertiesEnvironmentManager;
+import org.apereo.cas.configuration.CasConfigurationRefreshManager;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -10,7 +11,6 @@ import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.boot.context.properties.ConfigurationPropertiesBindingPostProcessor;
 import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
-import org.springframework.cloud.context.refresh.ContextRefresher;
 import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
@@ -32,14 +32,18 @@ public class DefaultCasConfigurationEventListener implements CasConfigurationEve
 
     private final ConfigurationPropertiesBindingPostProcessor binder;
 
-    private final ContextRefresher contextRefresher;
+    private final CasConfigurationRefreshManager configurationRefreshManager;
 
     private final ApplicationContext applicationContext;
 
     @Override
     public void onRefreshScopeRefreshed(final RefreshScopeRefreshedEvent event) {
-        LOGGER.info("Refreshing application context beans eagerly...");
-        initializeBeansEagerly();
+        if (RefreshScopeRefreshedEvent.DEFAULT_NAME.equals(event.getName())) {
+            LOGGER.info("Refreshing application context beans eagerly...");
+            initializeBeansEagerly();
+        } else {
+            LOGGER.debug("Refreshed application context bean [{}]", event.getName());
+        }
     }
 
     @Override
@@ -52,7 +56,8 @@ public class DefaultCasConfigurationEventListener implements CasConfigurationEve
     public void handleConfigurationModifiedEvent(final CasConfigurationModifiedEvent event) {
         if (event.isEligibleForContextRefresh()) {
             LOGGER.info("Received event [{}]. Refreshing CAS configuration...", event);
-            val keys = contextRefresher.refresh();
+            val report = configurationRefreshManager.refresh();
+            val keys = report.keys();
             LOGGER.info("Refreshed the following settings: [{}].", keys);
             rebind();
             LOGGER.info("CAS finished rebinding configuration with new settings [{}]",
@@ -0,0 +1,215 @@
+package org.apereo.cas.configuration;
+
+import org.apereo.cas.configuration.model.core.events.ConfigurationRefreshEventsProperties;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ScopedProxyMode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CasConfigurationRefreshManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("CasConfiguration")
+class CasConfigurationRefreshManagerTests {
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private ContextRefresher contextRefresher;
+
+    private ConfigurationRefreshEventsProperties properties;
+
+    private CasConfigurationRefreshManager refreshManager;
+
+    @BeforeEach
+    void setup() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.registerBean("refreshScope", org.springframework.cloud.context.scope.refresh.RefreshScope.class);
+        applicationContext.register(RefreshableComponentsTestConfiguration.class);
+        applicationContext.refresh();
+
+        contextRefresher = mock(ContextRefresher.class);
+        properties = new ConfigurationRefreshEventsProperties()
+            .setTargeted(true)
+            .setDestroyDelay("PT0S")
+            .setDependencies(Map.of(
+                "cas.custom.properties.alpha", List.of("refreshableAlpha"),
+                "cas.custom.properties.gamma", List.of("refreshableGamma"),
+                "cas.custom.properties.failing", List.of("refreshableFailing")))
+            .setIgnoredPrefixes(List.of("cas.custom.properties.ignored"));
+        refreshManager = new CasConfigurationRefreshManager(contextRefresher, applicationContext, () -> properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RefreshableComponentsTestConfiguration.FAIL.set(false);
+        refreshManager.destroy();
+        applicationContext.close();
+    }
+
+    @Test
+    void verifyOnlyMappedComponentsRebuilt() {
+        val alpha = getComponent("refreshableAlpha");
+        val beta = getComponent("refreshableBeta");
+        val gamma = getComponent("refreshableGamma");
+        val delta = getComponent("refreshableDelta");
+
+        when(contextRefresher.refreshEnvironment()).thenReturn(Set.of("cas.custom.properties.alpha.name", "cas.custom.properties.ignored"));
+        val report = refreshManager.refresh();
+        assertTrue(report.targeted());
+        assertEquals(Set.of("refreshableAlpha", "refreshableBeta", "refreshableDelta"), report.refreshedBeans());
+        assertTrue(report.failures().isEmpty());
+        assertTrue(report.retainedBeans().isEmpty());
+
+        assertNotSame(alpha, getComponent("refreshableAlpha"));
+        assertNotSame(beta, getComponent("refreshableBeta"));
+        assertSame(gamma, getComponent("refreshableGamma"));
+        assertNotSame(delta, getComponent("refreshableDelta"));
+        assertSame(getComponent("refreshableAlpha"), getComponent("refreshableBeta").getDependency());
+        assertSame(getComponent("refreshableAlpha"), getComponent("refreshableDelta").getDependency());
+        assertTrue(alpha.isDestroyed());
+        assertTrue(beta.isDestroyed());
+        assertTrue(delta.isDestroyed());
+        assertFalse(gamma.isDestroyed());
+        assertEquals(List.of(report), refreshManager.getHistory());
+    }
+
+    @Test
+    void verifyHeldComponentsNotDestroyed() {
+        val gamma = getComponent("refreshableGamma");
+        assertSame(gamma, getComponent("gammaHolder").getDependency());
+
+        when(contextRefresher.refreshEnvironment()).thenReturn(Set.of("cas.custom.properties.gamma"));
+        val report = refreshManager.refresh();
+        assertEquals(Set.of("refreshableGamma"), report.refreshedBeans());
+        assertEquals(Map.of("refreshableGamma", Set.of("gammaHolder")), report.retainedBeans());
+        assertNotSame(gamma, getComponent("refreshableGamma"));
+        assertFalse(gamma.isDestroyed());
+    }
+
+    @Test
+    void verifyFailedComponentsLeftInPlace() {
+        val failing = getComponent("refreshableFailing");
+        RefreshableComponentsTestConfiguration.FAIL.set(true);
+
+        when(contextRefresher.refreshEnvironment()).thenReturn(Set.of("cas.custom.properties.failing"));
+        val report = refreshManager.refresh();
+        assertTrue(report.failures().containsKey("refreshableFailing"));
+        assertSame(failing, getComponent("refreshableFailing"));
+        assertFalse(failing.isDestroyed());
+    }
+
+    @Test
+    void verifyUnmappedSettingsRebuildAllComponents() {
+        val alpha = getComponent("refreshableAlpha");
+        val gamma = getComponent("refreshableGamma");
+
+        when(contextRefresher.refreshEnvironment()).thenReturn(Set.of("cas.custom.properties.alpha", "cas.server.name"));
+        val report = refreshManager.refresh();
+        assertFalse(report.targeted());
+        assertEquals(Set.of("cas.server.name"), report.unmappedKeys());
+        assertNotSame(alpha, getComponent("refreshableAlpha"));
+        assertNotSame(gamma, getComponent("refreshableGamma"));
+    }
+
+    @Test
+    void verifyFullRefreshByDefault() {
+        properties.setTargeted(false).setHistorySize(1);
+        when(contextRefresher.refresh()).thenReturn(Set.of("cas.server.name"));
+        refreshManager.refresh();
+        val report = refreshManager.refresh();
+        verify(contextRefresher, times(2)).refresh();
+        verify(contextRefresher, never()).refreshEnvironment();
+        assertFalse(report.targeted());
+        assertEquals(List.of(report), refreshManager.getHistory());
+    }
+
+    private RefreshableComponent getComponent(final String name) {
+        return applicationContext.getBean(name, RefreshableComponent.class);
+    }
+
+    @Getter
+    static class RefreshableComponent implements DisposableBean {
+        private final RefreshableComponent dependency;
+
+        private boolean destroyed;
+
+        RefreshableComponent(final RefreshableComponent dependency) {
+            this.dependency = dependency;
+        }
+
+        @Override
+        public void destroy() {
+            destroyed = true;
+        }
+    }
+
+    @Configuration(value = "RefreshableComponentsTestConfiguration", proxyBeanMethods = false)
+    static class RefreshableComponentsTestConfiguration {
+        static final AtomicBoolean FAIL = new AtomicBoolean();
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableAlpha() {
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableBeta(
+            @Qualifier("refreshableAlpha")
+            final RefreshableComponent refreshableAlpha) {
+            return new RefreshableComponent(refreshableAlpha);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableGamma() {
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableDelta(
+            @Qualifier("refreshableAlpha")
+            final ObjectProvider<RefreshableComponent> refreshableAlpha) {
+            return new RefreshableComponent(refreshableAlpha.getObject());
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableFailing() {
+            if (FAIL.get()) {
+                throw new IllegalStateException("Component cannot be rebuilt");
+            }
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        public RefreshableComponent gammaHolder(
+            @Qualifier("refreshableGamma")
+            final RefreshableComponent refreshableGamma) {
+            return new RefreshableComponent(refreshableGamma);
+        }
+    }
+}
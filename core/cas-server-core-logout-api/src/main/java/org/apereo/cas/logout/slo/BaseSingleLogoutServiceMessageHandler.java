@@ -16,6 +16,7 @@ import org.apereo.cas.util.http.HttpClient;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -47,6 +48,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    @Setter
+    private SingleLogoutMessageDispatcher messageDispatcher = SingleLogoutMessageDispatcher.direct();
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -168,7 +172,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
         LOGGER.trace("Logout request [{}] created for [{}] and ticket id [{}]", logoutRequest, selectedService, ticketId);
         if (logoutRequest.getLogoutType() == RegisteredServiceLogoutType.BACK_CHANNEL) {
             if (performBackChannelLogout(logoutRequest)) {
-                logoutRequest.setStatus(LogoutRequestStatus.SUCCESS);
+                if (logoutRequest.getStatus() == LogoutRequestStatus.NOT_ATTEMPTED) {
+                    logoutRequest.setStatus(LogoutRequestStatus.SUCCESS);
+                }
             } else {
                 logoutRequest.setStatus(LogoutRequestStatus.FAILURE);
                 LOGGER.warn("Logout message is not sent to [{}]; Continuing processing...", selectedService);
@@ -186,16 +192,18 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
      *
      * @param request       the request
      * @param logoutMessage the logout request
-     * @return true if the message was successfully sent.
+     * @return true if the message was successfully sent, or accepted for delivery later.
      */
     protected boolean sendSingleLogoutMessage(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
         val logoutService = request.getService();
         LOGGER.trace("Preparing logout request for [{}] to [{}]", logoutService.getId(), request.getLogoutUrl());
         val msg = getLogoutHttpMessageToSend(request, logoutMessage);
         LOGGER.debug("Prepared logout message to send is [{}]. Sending...", msg);
-        val result = sendMessageToEndpoint(msg, request, logoutMessage);
-        logoutService.setLoggedOutAlready(result);
-        return result;
+        val status = messageDispatcher.dispatch(request, () -> sendMessageToEndpoint(msg, request, logoutMessage));
+        if (status != LogoutRequestStatus.PENDING) {
+            logoutService.setLoggedOutAlready(status == LogoutRequestStatus.SUCCESS);
+        }
+        return status != LogoutRequestStatus.FAILURE;
     }
 
     /**
@@ -0,0 +1,265 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutOutboxProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.logout.LogoutRequestStatus;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link OutboxSingleLogoutMessageDispatcher} that queues back-channel logout messages
+ * and delivers them concurrently on virtual threads. Delivery to the same host is capped by
+ * a configurable concurrency limit, failed deliveries are retried with exponential backoff,
+ * and messages that exhaust all attempts are dead-lettered. Delivery statistics are tracked per service.
+ * Queued messages are reported as {@link LogoutRequestStatus#PENDING}, and the status of the logout request
+ * is updated once the message is delivered or dead-lettered.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class OutboxSingleLogoutMessageDispatcher implements SingleLogoutMessageDispatcher, DisposableBean {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private final Map<String, DispatchStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedDeque<DeadLetter> deadLetters = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Getter
+    private final SingleLogoutOutboxProperties properties;
+
+    private final ExecutableObserver executableObserver;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    public OutboxSingleLogoutMessageDispatcher(final SingleLogoutOutboxProperties properties,
+                                               final ExecutableObserver executableObserver) {
+        this.properties = properties;
+        this.executableObserver = executableObserver;
+        this.initialBackoff = Beans.newDuration(properties.getInitialBackoff());
+        this.maxBackoff = Beans.newDuration(properties.getMaxBackoff());
+    }
+
+    @Override
+    public LogoutRequestStatus dispatch(final SingleLogoutRequestContext request, final Supplier<Boolean> sender) {
+        val stats = getStatisticsFor(request);
+        if (pending.incrementAndGet() > properties.getCapacity()) {
+            pending.decrementAndGet();
+            stats.getRejected().increment();
+            LOGGER.warn("Single logout outbox is full with [{}] pending messages; Unable to queue logout message for [{}]",
+                properties.getCapacity(), request.getLogoutUrl());
+            return LogoutRequestStatus.FAILURE;
+        }
+        stats.getQueued().increment();
+        request.setStatus(LogoutRequestStatus.PENDING);
+        LOGGER.debug("Queued logout message for [{}] to [{}]", request.getService().getId(), request.getLogoutUrl());
+        executor.execute(() -> attempt(new OutboxEntry(request, sender), 1));
+        return LogoutRequestStatus.PENDING;
+    }
+
+    /**
+     * Gets number of messages that are waiting for delivery or retries.
+     *
+     * @return the pending count
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Gets delivery statistics, keyed by service.
+     *
+     * @return the statistics
+     */
+    public Map<String, DispatchStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Gets delivery statistics summed across all services.
+     *
+     * @return the total statistics
+     */
+    public DispatchStatistics getTotalStatistics() {
+        val total = new DispatchStatistics();
+        statistics.values().forEach(stats -> {
+            total.getQueued().add(stats.getQueued().sum());
+            total.getDelivered().add(stats.getDelivered().sum());
+            total.getRetried().add(stats.getRetried().sum());
+            total.getDeadLettered().add(stats.getDeadLettered().sum());
+            total.getRejected().add(stats.getRejected().sum());
+        });
+        return total;
+    }
+
+    /**
+     * Gets dead-lettered messages.
+     *
+     * @return the dead letters
+     */
+    public List<DeadLetter> getDeadLetters() {
+        return new ArrayList<>(deadLetters);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOGGER.warn("Single logout outbox is shutting down with [{}] pending messages", pending.get());
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Attempt to deliver the queued message, and schedule a retry
+     * or dead-letter the message if delivery fails.
+     *
+     * @param entry   the entry
+     * @param attempt the attempt number, starting at 1
+     */
+    protected void attempt(final OutboxEntry entry, final int attempt) {
+        val request = entry.request();
+        val stats = getStatisticsFor(request);
+        val permits = hostPermits.computeIfAbsent(getHostKey(request), key -> new Semaphore(properties.getMaxConcurrencyPerHost()));
+        var delivered = false;
+        try {
+            permits.acquire();
+            try {
+                delivered = observe(request, entry.sender());
+            } finally {
+                permits.release();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, e);
+        }
+
+        if (delivered) {
+            stats.getDelivered().increment();
+            pending.decrementAndGet();
+            request.getService().setLoggedOutAlready(true);
+            request.setStatus(LogoutRequestStatus.SUCCESS);
+            LOGGER.debug("Delivered logout message to [{}] after [{}] attempt(s)", request.getLogoutUrl(), attempt);
+        } else if (attempt < properties.getMaxAttempts() && !scheduler.isShutdown()) {
+            stats.getRetried().increment();
+            val delay = getBackoffDelay(attempt);
+            LOGGER.debug("Failed to deliver logout message to [{}]; Retrying in [{}]", request.getLogoutUrl(), delay);
+            scheduler.schedule(() -> executor.execute(() -> attempt(entry, attempt + 1)), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            stats.getDeadLettered().increment();
+            pending.decrementAndGet();
+            request.setStatus(LogoutRequestStatus.FAILURE);
+            LOGGER.warn("Logout message to [{}] could not be delivered after [{}] attempt(s) and is dead-lettered", request.getLogoutUrl(), attempt);
+            deadLetters.addLast(new DeadLetter(request.getService().getId(), request.getLogoutUrl().toExternalForm(), attempt, Instant.now()));
+            while (deadLetters.size() > properties.getDeadLetterCapacity()) {
+                deadLetters.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Gets the delay before the next attempt, doubling the initial backoff
+     * with every failed attempt up to the configured maximum.
+     *
+     * @param attempt the failed attempt number
+     * @return the delay
+     */
+    protected Duration getBackoffDelay(final int attempt) {
+        val factor = 1L << Math.min(attempt - 1, 20);
+        val delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean observe(final SingleLogoutRequestContext request, final Supplier<Boolean> sender) throws Throwable {
+        if (executableObserver == null) {
+            return Boolean.TRUE.equals(sender.get());
+        }
+        val task = new MonitorableTask(SingleLogoutMessageDispatcher.class.getSimpleName())
+            .withBoundedValue("service", getServiceKey(request));
+        return Boolean.TRUE.equals(executableObserver.supply(task, sender::get));
+    }
+
+    private DispatchStatistics getStatisticsFor(final SingleLogoutRequestContext request) {
+        return statistics.computeIfAbsent(getServiceKey(request), key -> new DispatchStatistics());
+    }
+
+    private static String getServiceKey(final SingleLogoutRequestContext request) {
+        return Optional.ofNullable(request.getRegisteredService())
+            .map(service -> service.getName() + '-' + service.getId())
+            .orElseGet(() -> request.getService().getId());
+    }
+
+    private static String getHostKey(final SingleLogoutRequestContext request) {
+        val url = request.getLogoutUrl();
+        return url.getHost() + ':' + (url.getPort() == -1 ? url.getDefaultPort() : url.getPort());
+    }
+
+    protected record OutboxEntry(SingleLogoutRequestContext request, Supplier<Boolean> sender) {
+    }
+
+    /**
+     * Logout message that could not be delivered.
+     *
+     * @param service   the service
+     * @param logoutUrl the logout url
+     * @param attempts  the attempts
+     * @param timestamp the timestamp
+     */
+    public record DeadLetter(String service, String logoutUrl, int attempts, Instant timestamp) {
+    }
+
+    /**
+     * Delivery statistics collected per service.
+     */
+    @Getter
+    public static class DispatchStatistics {
+        private final LongAdder queued = new LongAdder();
+
+        private final LongAdder delivered = new LongAdder();
+
+        private final LongAdder retried = new LongAdder();
+
+        private final LongAdder deadLettered = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+    }
+}
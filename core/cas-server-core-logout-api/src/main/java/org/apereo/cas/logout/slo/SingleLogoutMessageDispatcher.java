@@ -0,0 +1,41 @@
+package org.apereo.cas.logout.slo;
+
+import org.apereo.cas.logout.LogoutRequestStatus;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link SingleLogoutMessageDispatcher} which decides how and when
+ * back-channel logout messages are delivered to applications.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@FunctionalInterface
+public interface SingleLogoutMessageDispatcher {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "singleLogoutMessageDispatcher";
+
+    /**
+     * Dispatch the logout message using the given sender.
+     *
+     * @param request the logout request
+     * @param sender  the sender that delivers the message and reports whether delivery was successful
+     * @return {@link LogoutRequestStatus#SUCCESS} if the message was delivered,
+     * {@link LogoutRequestStatus#PENDING} if the message is accepted for delivery later,
+     * or {@link LogoutRequestStatus#FAILURE} otherwise.
+     */
+    LogoutRequestStatus dispatch(SingleLogoutRequestContext request, Supplier<Boolean> sender);
+
+    /**
+     * Dispatcher that delivers messages on the calling thread.
+     *
+     * @return the dispatcher
+     */
+    static SingleLogoutMessageDispatcher direct() {
+        return (request, sender) -> Boolean.TRUE.equals(sender.get())
+            ? LogoutRequestStatus.SUCCESS
+            : LogoutRequestStatus.FAILURE;
+    }
+}
@@ -21,11 +21,14 @@ import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.OutboxSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
@@ -37,11 +40,16 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -141,13 +149,30 @@ public class CasCoreLogoutAutoConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final SingleLogoutMessageDispatcher singleLogoutMessageDispatcher) {
+            val slo = casProperties.getSlo();
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
-                casProperties.getSlo().isAsynchronous(),
+                slo.isAsynchronous() && !slo.getOutbox().isEnabled(),
                 authenticationServiceSelectionPlan);
+            handler.setMessageDispatcher(singleLogoutMessageDispatcher);
+            return handler;
+        }
+
+        @ConditionalOnMissingBean(name = SingleLogoutMessageDispatcher.BEAN_NAME)
+        @Bean
+        public SingleLogoutMessageDispatcher singleLogoutMessageDispatcher(
+            final CasConfigurationProperties casProperties,
+            final ObjectProvider<ExecutableObserver> executableObserver) {
+            val outbox = casProperties.getSlo().getOutbox();
+            if (outbox.isEnabled()) {
+                return new OutboxSingleLogoutMessageDispatcher(outbox, executableObserver.getIfAvailable());
+            }
+            return SingleLogoutMessageDispatcher.direct();
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -269,4 +294,42 @@ public class CasCoreLogoutAutoConfiguration {
             return new DefaultSingleLogoutRequestExecutor(ticketRegistry, logoutManager, applicationContext);
         }
     }
+
+    @Configuration(value = "CasCoreLogoutOutboxMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
+    static class CasCoreLogoutOutboxMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "singleLogoutMessageDispatcherMeterBinder")
+        public MeterBinder singleLogoutMessageDispatcherMeterBinder(
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher) {
+            return registry -> {
+                if (singleLogoutMessageDispatcher.getIfAvailable() instanceof final OutboxSingleLogoutMessageDispatcher outbox) {
+                    Gauge.builder("cas.slo.outbox.pending", outbox, OutboxSingleLogoutMessageDispatcher::getPendingCount)
+                        .description("Logout messages waiting for delivery or retries")
+                        .register(registry);
+                    Gauge.builder("cas.slo.outbox.dead.letters", outbox, o -> o.getDeadLetters().size())
+                        .description("Logout messages that could not be delivered and are kept for inspection")
+                        .register(registry);
+                    FunctionCounter.builder("cas.slo.outbox.queued", outbox, o -> o.getTotalStatistics().getQueued().sum())
+                        .description("Logout messages accepted by the outbox")
+                        .register(registry);
+                    FunctionCounter.builder("cas.slo.outbox.delivered", outbox, o -> o.getTotalStatistics().getDelivered().sum())
+                        .description("Logout messages delivered to applications")
+                        .register(registry);
+                    FunctionCounter.builder("cas.slo.outbox.retried", outbox, o -> o.getTotalStatistics().getRetried().sum())
+                        .description("Failed logout message deliveries that were scheduled for another attempt")
+                        .register(registry);
+                    FunctionCounter.builder("cas.slo.outbox.dead.lettered", outbox, o -> o.getTotalStatistics().getDeadLettered().sum())
+                        .description("Logout messages that exhausted all delivery attempts")
+                        .register(registry);
+                    FunctionCounter.builder("cas.slo.outbox.rejected", outbox, o -> o.getTotalStatistics().getRejected().sum())
+                        .description("Logout messages rejected because the outbox was full")
+                        .register(registry);
+                }
+            };
+        }
+    }
 }
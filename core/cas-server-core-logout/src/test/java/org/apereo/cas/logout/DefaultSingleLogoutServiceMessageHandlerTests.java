@@ -8,6 +8,7 @@ import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
 import org.apereo.cas.web.UrlValidator;
@@ -16,6 +17,7 @@ import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -45,4 +47,25 @@ class DefaultSingleLogoutServiceMessageHandlerTests {
             UUID.randomUUID().toString(), SingleLogoutExecutionRequest.builder().build()).isEmpty());
     }
 
+    @Test
+    void verifyPendingDeliveryKeepsLoggedOutState() throws Throwable {
+        val servicesManager = mock(ServicesManager.class);
+        val handler = new DefaultSingleLogoutServiceMessageHandler(new SimpleHttpClientFactoryBean().getObject(),
+            new DefaultSingleLogoutMessageCreator(), servicesManager,
+            new DefaultSingleLogoutServiceLogoutUrlBuilder(servicesManager, mock(UrlValidator.class)), false,
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()));
+        handler.setMessageDispatcher((request, sender) -> {
+            request.getService().setLoggedOutAlready(true);
+            return LogoutRequestStatus.PENDING;
+        });
+        val request = DefaultSingleLogoutRequestContext.builder()
+            .ticketId("ST-1")
+            .service(CoreAuthenticationTestUtils.getWebApplicationService())
+            .registeredService(RegisteredServiceTestUtils.getRegisteredService())
+            .logoutUrl(new URI("https://localhost:8443/logout").toURL())
+            .build();
+        assertTrue(handler.performBackChannelLogout(request));
+        assertTrue(request.getService().isLoggedOutAlready());
+    }
+
 }
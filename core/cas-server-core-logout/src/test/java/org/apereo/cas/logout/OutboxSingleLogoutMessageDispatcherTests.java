@@ -0,0 +1,93 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.model.core.slo.SingleLogoutOutboxProperties;
+import org.apereo.cas.logout.slo.OutboxSingleLogoutMessageDispatcher;
+import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OutboxSingleLogoutMessageDispatcherTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Logout")
+class OutboxSingleLogoutMessageDispatcherTests {
+
+    private static SingleLogoutRequestContext getLogoutRequest() throws Exception {
+        return DefaultSingleLogoutRequestContext.builder()
+            .ticketId("ST-1")
+            .service(CoreAuthenticationTestUtils.getWebApplicationService())
+            .registeredService(RegisteredServiceTestUtils.getRegisteredService())
+            .logoutUrl(new URI("https://localhost:8443/logout").toURL())
+            .build();
+    }
+
+    @Test
+    void verifyDelivered() throws Throwable {
+        val properties = new SingleLogoutOutboxProperties().setEnabled(true);
+        val dispatcher = new OutboxSingleLogoutMessageDispatcher(properties, null);
+        try {
+            val request = getLogoutRequest();
+            assertEquals(LogoutRequestStatus.PENDING, dispatcher.dispatch(request, () -> true));
+            await().untilAsserted(() -> assertEquals(0, dispatcher.getPendingCount()));
+            assertTrue(request.getService().isLoggedOutAlready());
+            assertEquals(LogoutRequestStatus.SUCCESS, request.getStatus());
+            val stats = dispatcher.getStatistics().values().iterator().next();
+            assertEquals(1, stats.getDelivered().sum());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyRetriedAndDeadLettered() throws Throwable {
+        val properties = new SingleLogoutOutboxProperties()
+            .setEnabled(true)
+            .setMaxAttempts(3)
+            .setInitialBackoff("PT0.01S")
+            .setMaxBackoff("PT0.05S");
+        val dispatcher = new OutboxSingleLogoutMessageDispatcher(properties, null);
+        try {
+            val attempts = new AtomicInteger();
+            val request = getLogoutRequest();
+            assertEquals(LogoutRequestStatus.PENDING, dispatcher.dispatch(request, () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("Unreachable");
+            }));
+            await().untilAsserted(() -> assertEquals(1, dispatcher.getDeadLetters().size()));
+            assertEquals(LogoutRequestStatus.FAILURE, request.getStatus());
+            assertFalse(request.getService().isLoggedOutAlready());
+            assertEquals(3, attempts.get());
+            assertEquals(0, dispatcher.getPendingCount());
+            val stats = dispatcher.getStatistics().values().iterator().next();
+            assertEquals(2, stats.getRetried().sum());
+            assertEquals(1, stats.getDeadLettered().sum());
+            assertEquals(1, dispatcher.getTotalStatistics().getDeadLettered().sum());
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+
+    @Test
+    void verifyCapacity() throws Throwable {
+        val properties = new SingleLogoutOutboxProperties().setEnabled(true).setCapacity(0);
+        val dispatcher = new OutboxSingleLogoutMessageDispatcher(properties, null);
+        try {
+            assertEquals(LogoutRequestStatus.FAILURE, dispatcher.dispatch(getLogoutRequest(), () -> true));
+        } finally {
+            dispatcher.destroy();
+        }
+    }
+}
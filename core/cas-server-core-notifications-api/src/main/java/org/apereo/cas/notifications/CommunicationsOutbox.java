@@ -0,0 +1,281 @@
+package org.apereo.cas.notifications;
+
+import org.apereo.cas.configuration.model.core.util.CommunicationsOutboxProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedFunction;
+import org.springframework.beans.factory.DisposableBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link CommunicationsOutbox}.
+ * Queues outgoing messages for a single provider and delivers them in the background
+ * on a bounded number of workers. Workers drain queued messages in batches so that
+ * providers can reuse the same connection, deliveries are paced to honor the provider's
+ * rate limit, and failed deliveries are retried with exponential backoff.
+ * Once the outbox is full, messages are delivered on the calling thread instead,
+ * unless that would exceed the rate limit in which case they are queued again shortly after.
+ * Only workers ever wait for the rate limit; callers and the retry scheduler never block.
+ * On shutdown, the outbox stops accepting messages and drains what is queued within a grace period.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ * @param <R> the message type
+ * @param <T> the delivery result type
+ */
+@Slf4j
+@Getter
+public class CommunicationsOutbox<R, T> implements DisposableBean {
+    private final String name;
+
+    private final CommunicationsOutboxProperties properties;
+
+    private final CheckedFunction<List<R>, List<T>> sender;
+
+    private final Predicate<T> delivered;
+
+    private final BlockingQueue<Envelope<R, T>> queue;
+
+    private final ExecutorService workers;
+
+    private final ScheduledExecutorService retryScheduler;
+
+    private final AtomicLong nextPermit = new AtomicLong(System.nanoTime());
+
+    private final OutboxStatistics statistics = new OutboxStatistics();
+
+    private volatile boolean running = true;
+
+    public CommunicationsOutbox(final String name,
+                                final CommunicationsOutboxProperties properties,
+                                final CheckedFunction<List<R>, List<T>> sender,
+                                final Predicate<T> delivered) {
+        this.name = name;
+        this.properties = properties;
+        this.sender = sender;
+        this.delivered = delivered;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        val poolSize = Math.max(1, properties.getPoolSize());
+        this.workers = Executors.newFixedThreadPool(poolSize, Thread.ofVirtual().name(name + "-outbox-", 0).factory());
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name(name + "-outbox-retry").factory());
+        for (var i = 0; i < poolSize; i++) {
+            workers.execute(this::deliverQueuedMessages);
+        }
+    }
+
+    /**
+     * Queue the message for delivery.
+     *
+     * @param message the message
+     * @return the future delivery result
+     */
+    public CompletableFuture<T> submit(final R message) {
+        val envelope = new Envelope<R, T>(message, new CompletableFuture<>());
+        statistics.getSubmitted().increment();
+        if (!running || !queue.offer(envelope)) {
+            statistics.getOverflows().increment();
+            if (!running || tryAcquirePermits(1)) {
+                LOGGER.debug("Outbox [{}] cannot accept more messages; delivering message on the calling thread", name);
+                deliver(List.of(envelope));
+            } else {
+                LOGGER.debug("Outbox [{}] cannot accept more messages and is rate limited; queueing message again shortly", name);
+                scheduleEnqueue(envelope, Duration.ofNanos(getPermitInterval()));
+            }
+        }
+        return envelope.result();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        val pendingRetries = retryScheduler.shutdownNow();
+        LOGGER.info("Draining [{}] queued and [{}] pending message(s) from outbox [{}] before shutdown",
+            queue.size(), pendingRetries.size(), name);
+        pendingRetries.forEach(Runnable::run);
+        workers.shutdown();
+        val gracePeriod = Beans.newDuration(properties.getShutdownGracePeriod());
+        if (!awaitTermination(gracePeriod)) {
+            workers.shutdownNow();
+            val remaining = new ArrayList<Envelope<R, T>>();
+            queue.drainTo(remaining);
+            LOGGER.warn("Outbox [{}] could not deliver [{}] message(s) within [{}]", name, remaining.size(), gracePeriod);
+            remaining.forEach(envelope -> {
+                statistics.getFailed().increment();
+                envelope.result().completeExceptionally(new IllegalStateException("Outbox " + name + " is shut down"));
+            });
+        }
+    }
+
+    private boolean awaitTermination(final Duration gracePeriod) {
+        try {
+            return workers.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deliverQueuedMessages() {
+        while (running || !queue.isEmpty()) {
+            try {
+                val first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    val batch = new ArrayList<Envelope<R, T>>();
+                    batch.add(first);
+                    queue.drainTo(batch, Math.max(0, properties.getBatchSize() - 1));
+                    deliverQueuedMessages(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+    }
+
+    private void deliverQueuedMessages(final List<Envelope<R, T>> batch) {
+        acquirePermits(batch.size());
+        deliver(batch);
+    }
+
+    private void deliver(final List<Envelope<R, T>> batch) {
+        val messages = batch.stream().map(Envelope::message).toList();
+        try {
+            val results = sender.apply(messages);
+            for (var i = 0; i < batch.size(); i++) {
+                val envelope = batch.get(i);
+                val result = i < results.size() ? results.get(i) : null;
+                if (result != null && delivered.test(result)) {
+                    statistics.getDelivered().increment();
+                    envelope.result().complete(result);
+                } else {
+                    retryOrFail(envelope, result, null);
+                }
+            }
+        } catch (final Throwable e) {
+            LoggingUtils.warn(LOGGER, "Unable to deliver messages via outbox " + name, e);
+            batch.forEach(envelope -> retryOrFail(envelope, null, e));
+        }
+    }
+
+    private void retryOrFail(final Envelope<R, T> envelope, final T result, final Throwable error) {
+        val attempt = envelope.attempts().incrementAndGet();
+        if (running && attempt < properties.getMaximumAttempts()) {
+            val backoff = Beans.newDuration(properties.getRetryBackoff()).multipliedBy(1L << Math.min(attempt - 1, 16));
+            LOGGER.debug("Retrying delivery via outbox [{}] in [{}], attempt [{}]", name, backoff, attempt + 1);
+            statistics.getRetried().increment();
+            scheduleEnqueue(envelope, backoff);
+            return;
+        }
+        statistics.getFailed().increment();
+        if (result != null) {
+            envelope.result().complete(result);
+        } else {
+            envelope.result().completeExceptionally(error);
+        }
+    }
+
+    private void scheduleEnqueue(final Envelope<R, T> envelope, final Duration delay) {
+        if (!running) {
+            enqueue(envelope);
+            return;
+        }
+        try {
+            retryScheduler.schedule(() -> enqueue(envelope), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            enqueue(envelope);
+        }
+    }
+
+    private void enqueue(final Envelope<R, T> envelope) {
+        if (queue.offer(envelope)) {
+            return;
+        }
+        if (running) {
+            LOGGER.trace("Outbox [{}] is full; queueing message again later", name);
+            scheduleEnqueue(envelope, Beans.newDuration(properties.getRetryBackoff()));
+        } else {
+            deliver(List.of(envelope));
+        }
+    }
+
+    private long getPermitInterval() {
+        return TimeUnit.SECONDS.toNanos(1) / properties.getRateLimitPerSecond();
+    }
+
+    private boolean tryAcquirePermits(final int permits) {
+        if (properties.getRateLimitPerSecond() <= 0) {
+            return true;
+        }
+        val cost = getPermitInterval() * permits;
+        while (true) {
+            val now = System.nanoTime();
+            val next = nextPermit.get();
+            if (next - now > 0) {
+                return false;
+            }
+            if (nextPermit.compareAndSet(next, now + cost)) {
+                return true;
+            }
+        }
+    }
+
+    private void acquirePermits(final int permits) {
+        if (properties.getRateLimitPerSecond() <= 0) {
+            return;
+        }
+        val reservation = nextPermit.getAndAccumulate(getPermitInterval() * permits,
+            (next, cost) -> Math.max(next, System.nanoTime()) + cost);
+        val waitTime = reservation - System.nanoTime();
+        if (waitTime > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitTime);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private record Envelope<R, T>(R message, CompletableFuture<T> result, AtomicLong attempts) {
+        Envelope(final R message, final CompletableFuture<T> result) {
+            this(message, result, new AtomicLong());
+        }
+    }
+
+    /**
+     * Outbox statistics.
+     */
+    @Getter
+    public static class OutboxStatistics {
+        private final LongAdder submitted = new LongAdder();
+
+        private final LongAdder delivered = new LongAdder();
+
+        private final LongAdder retried = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder overflows = new LongAdder();
+    }
+}
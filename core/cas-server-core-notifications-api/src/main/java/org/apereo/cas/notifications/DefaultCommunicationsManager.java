@@ -1,6 +1,8 @@
 package org.apereo.cas.notifications;
 
 import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.configuration.model.core.util.CommunicationsOutboxProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.notifications.call.PhoneCallOperator;
 import org.apereo.cas.notifications.call.PhoneCallRequest;
 import org.apereo.cas.notifications.mail.EmailCommunicationResult;
@@ -9,13 +11,19 @@ import org.apereo.cas.notifications.mail.EmailSender;
 import org.apereo.cas.notifications.push.NotificationSender;
 import org.apereo.cas.notifications.sms.SmsRequest;
 import org.apereo.cas.notifications.sms.SmsSender;
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * This is {@link DefaultCommunicationsManager}.
@@ -24,7 +32,6 @@ import java.util.Objects;
  * @since 5.1.0
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DefaultCommunicationsManager implements CommunicationsManager {
     private final SmsSender smsSender;
 
@@ -34,6 +41,59 @@ public class DefaultCommunicationsManager implements CommunicationsManager {
 
     private final PhoneCallOperator phoneCallOperator;
 
+    @Getter
+    private final CommunicationsOutbox<EmailMessageRequest, EmailCommunicationResult> emailOutbox;
+
+    @Getter
+    private final CommunicationsOutbox<SmsRequest, Boolean> smsOutbox;
+
+    public DefaultCommunicationsManager(final SmsSender smsSender, final EmailSender emailSender,
+                                        final NotificationSender notificationSender,
+                                        final PhoneCallOperator phoneCallOperator) {
+        this(smsSender, emailSender, notificationSender, phoneCallOperator, null, null);
+    }
+
+    public DefaultCommunicationsManager(final SmsSender smsSender, final EmailSender emailSender,
+                                        final NotificationSender notificationSender,
+                                        final PhoneCallOperator phoneCallOperator,
+                                        final CommunicationsOutbox<EmailMessageRequest, EmailCommunicationResult> emailOutbox,
+                                        final CommunicationsOutbox<SmsRequest, Boolean> smsOutbox) {
+        this.smsSender = smsSender;
+        this.emailSender = emailSender;
+        this.notificationSender = notificationSender;
+        this.phoneCallOperator = phoneCallOperator;
+        this.emailOutbox = emailOutbox;
+        this.smsOutbox = smsOutbox;
+    }
+
+    /**
+     * Build an outbox that delivers email messages via the given sender.
+     * The sender is resolved for every batch, so the outbox may outlive refreshed senders.
+     *
+     * @param properties  the properties
+     * @param emailSender the email sender
+     * @return the outbox
+     */
+    public static CommunicationsOutbox<EmailMessageRequest, EmailCommunicationResult> newEmailOutbox(
+        final CommunicationsOutboxProperties properties, final Supplier<EmailSender> emailSender) {
+        return new CommunicationsOutbox<>("email", properties,
+            emailRequests -> emailSender.get().send(emailRequests), EmailCommunicationResult::isSuccess);
+    }
+
+    /**
+     * Build an outbox that delivers sms messages via the given sender.
+     * The sender is resolved for every batch, so the outbox may outlive refreshed senders.
+     *
+     * @param properties the properties
+     * @param smsSender  the sms sender
+     * @return the outbox
+     */
+    public static CommunicationsOutbox<SmsRequest, Boolean> newSmsOutbox(
+        final CommunicationsOutboxProperties properties, final Supplier<SmsSender> smsSender) {
+        return new CommunicationsOutbox<>("sms", properties,
+            smsRequests -> sendSmsMessages(smsSender.get(), smsRequests), Boolean.TRUE::equals);
+    }
+
     @Override
     public boolean isPhoneOperatorDefined() {
         return phoneCallOperator != null && phoneCallOperator.canCall();
@@ -64,10 +124,19 @@ public class DefaultCommunicationsManager implements CommunicationsManager {
     public EmailCommunicationResult email(final EmailMessageRequest emailRequest) {
         val recipients = Objects.requireNonNull(emailRequest.getRecipients(), "Email recipients cannot be undefined");
         LOGGER.trace("Attempting to send email [{}] to [{}]", emailRequest.getBody(), recipients);
-        return FunctionUtils.doIf(isMailSenderDefined() && emailRequest.getEmailProperties().isDefined() && !recipients.isEmpty(),
-            Unchecked.supplier(() -> emailSender.send(emailRequest)),
-            () -> EmailCommunicationResult.builder().success(false)
-                .to(recipients).body(emailRequest.getBody()).build()).get();
+        val failure = EmailCommunicationResult.builder().success(false).to(recipients).body(emailRequest.getBody()).build();
+        if (!isMailSenderDefined() || !emailRequest.getEmailProperties().isDefined() || recipients.isEmpty()) {
+            return failure;
+        }
+        if (emailOutbox != null) {
+            val result = emailOutbox.submit(emailRequest);
+            if (emailOutbox.getProperties().isDeliveryConfirmationRequired()) {
+                return awaitDelivery(result, emailOutbox.getProperties(), failure);
+            }
+            return EmailCommunicationResult.builder().success(true).to(recipients).body(emailRequest.getBody())
+                .details(new HashMap<>(Map.of("status", "QUEUED"))).build();
+        }
+        return FunctionUtils.doUnchecked(() -> emailSender.send(emailRequest));
     }
 
     @Override
@@ -77,7 +146,12 @@ public class DefaultCommunicationsManager implements CommunicationsManager {
             LOGGER.warn("Could not send SMS to [{}]; No from/text is found or SMS settings are undefined.", recipients);
             return false;
         }
-        return recipients.stream().anyMatch(Unchecked.predicate(to -> smsSender.send(smsRequest.getFrom(), to, smsRequest.getText())));
+        if (smsOutbox != null) {
+            val result = smsOutbox.submit(smsRequest);
+            val properties = smsOutbox.getProperties();
+            return !properties.isDeliveryConfirmationRequired() || awaitDelivery(result, properties, Boolean.FALSE);
+        }
+        return sendSmsMessage(smsSender, smsRequest);
     }
 
     @Override
@@ -90,6 +164,34 @@ public class DefaultCommunicationsManager implements CommunicationsManager {
         return phoneCallOperator.call(request.getFrom(), recipient, request.getText());
     }
 
+    private static boolean sendSmsMessage(final SmsSender smsSender, final SmsRequest smsRequest) {
+        return smsRequest.getRecipients().stream().anyMatch(Unchecked.predicate(to -> smsSender.send(smsRequest.getFrom(), to, smsRequest.getText())));
+    }
+
+    private static List<Boolean> sendSmsMessages(final SmsSender smsSender, final List<SmsRequest> smsRequests) {
+        return smsRequests
+            .stream()
+            .map(smsRequest -> FunctionUtils.doAndHandle(() -> sendSmsMessage(smsSender, smsRequest), e -> {
+                LoggingUtils.warn(LOGGER, e);
+                return Boolean.FALSE;
+            }).get())
+            .toList();
+    }
+
+    private static <T> T awaitDelivery(final CompletableFuture<T> result,
+                                       final CommunicationsOutboxProperties properties,
+                                       final T failure) {
+        try {
+            val timeout = Beans.newDuration(properties.getDeliveryConfirmationTimeout());
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, "Unable to confirm message delivery", e);
+        }
+        return failure;
+    }
+
     @Override
     public boolean validate() {
         if (!isMailSenderDefined()) {
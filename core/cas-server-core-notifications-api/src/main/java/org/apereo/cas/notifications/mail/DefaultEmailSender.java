@@ -1,14 +1,28 @@
 package org.apereo.cas.notifications.mail;
 
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.context.MessageSource;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
+import jakarta.mail.internet.MimeMessage;
+import javax.net.ssl.SSLSocketFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 /**
  * This is {@link DefaultEmailSender}.
  *
@@ -21,6 +35,28 @@ public class DefaultEmailSender implements EmailSender {
 
     private final MessageSource messageSource;
 
+    /**
+     * Route TLS connections of the mail sender through the given socket factory,
+     * so that they share the client session cache of its TLS context.
+     * Mail sessions that already define their own socket factory or trusted hosts are left alone.
+     *
+     * @param mailSender    the mail sender
+     * @param socketFactory the socket factory
+     * @return the mail sender
+     */
+    public static JavaMailSender withSslSocketFactory(final JavaMailSender mailSender, final SSLSocketFactory socketFactory) {
+        if (mailSender instanceof final JavaMailSenderImpl sender) {
+            val prefix = "mail.%s.".formatted(StringUtils.defaultIfBlank(sender.getProtocol(), "smtp"));
+            val properties = sender.getJavaMailProperties();
+            val customized = Stream.of("ssl.socketFactory", "ssl.socketFactory.class", "ssl.trust", "socketFactory", "socketFactory.class")
+                .anyMatch(key -> properties.containsKey(prefix + key));
+            if (!customized) {
+                properties.put(prefix + "ssl.socketFactory", socketFactory);
+            }
+        }
+        return mailSender;
+    }
+
     @Override
     public boolean canSend() {
         return mailSender != null;
@@ -28,6 +64,54 @@ public class DefaultEmailSender implements EmailSender {
 
     @Override
     public EmailCommunicationResult send(final EmailMessageRequest emailRequest) throws Exception {
+        val message = createMimeMessage(emailRequest);
+        mailSender.send(message);
+        return EmailCommunicationResult.builder().success(true)
+            .to(emailRequest.getRecipients()).body(emailRequest.getBody()).build();
+    }
+
+    @Override
+    public List<EmailCommunicationResult> send(final List<EmailMessageRequest> emailRequests) throws Exception {
+        val messages = new MimeMessage[emailRequests.size()];
+        val failures = new HashMap<Integer, Exception>();
+        for (var i = 0; i < messages.length; i++) {
+            try {
+                messages[i] = createMimeMessage(emailRequests.get(i));
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to prepare email to " + emailRequests.get(i).getRecipients(), e);
+                failures.put(i, e);
+            }
+        }
+        val messagesToSend = Arrays.stream(messages).filter(Objects::nonNull).toArray(MimeMessage[]::new);
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            if (messagesToSend.length > 0) {
+                mailSender.send(messagesToSend);
+            }
+        } catch (final MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                throw e;
+            }
+            failedMessages = e.getFailedMessages();
+        }
+        val results = new ArrayList<EmailCommunicationResult>(messages.length);
+        for (var i = 0; i < messages.length; i++) {
+            val emailRequest = emailRequests.get(i);
+            val error = messages[i] == null ? failures.get(i) : failedMessages.get(messages[i]);
+            if (messages[i] == null || error != null) {
+                results.add(EmailCommunicationResult.failed(emailRequest, error));
+            } else {
+                results.add(EmailCommunicationResult.builder()
+                    .success(true)
+                    .to(emailRequest.getRecipients())
+                    .body(emailRequest.getBody())
+                    .build());
+            }
+        }
+        return results;
+    }
+
+    protected MimeMessage createMimeMessage(final EmailMessageRequest emailRequest) throws Exception {
         val recipients = emailRequest.getRecipients();
         val message = mailSender.createMimeMessage();
         val helper = new MimeMessageHelper(message);
@@ -45,9 +129,6 @@ public class DefaultEmailSender implements EmailSender {
         helper.setPriority(emailProperties.getPriority());
         helper.setCc(emailProperties.getCc().toArray(ArrayUtils.EMPTY_STRING_ARRAY));
         helper.setBcc(emailProperties.getBcc().toArray(ArrayUtils.EMPTY_STRING_ARRAY));
-        mailSender.send(message);
-        return EmailCommunicationResult.builder().success(true)
-            .to(recipients).body(emailRequest.getBody()).build();
+        return message;
     }
-    
 }
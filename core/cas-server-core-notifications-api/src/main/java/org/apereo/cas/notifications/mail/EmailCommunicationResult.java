@@ -4,7 +4,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.With;
+import lombok.val;
 import lombok.experimental.SuperBuilder;
+import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -34,4 +36,24 @@ public class EmailCommunicationResult implements Serializable {
 
     @Builder.Default
     private final Map<String, String> details = new HashMap<>();
+
+    /**
+     * Build a failed result for the given request.
+     *
+     * @param emailRequest the email request
+     * @param error        the error, if any
+     * @return the email communication result
+     */
+    public static EmailCommunicationResult failed(final EmailMessageRequest emailRequest, final Throwable error) {
+        val details = new HashMap<String, String>();
+        if (error != null) {
+            details.put("error", StringUtils.defaultString(error.getMessage(), error.getClass().getSimpleName()));
+        }
+        return EmailCommunicationResult.builder()
+            .success(false)
+            .to(emailRequest.getRecipients())
+            .body(emailRequest.getBody())
+            .details(details)
+            .build();
+    }
 }
@@ -5,6 +5,8 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +22,7 @@ import org.jooq.lambda.Unchecked;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Locale;
@@ -29,6 +32,8 @@ import java.util.function.Supplier;
 
 /**
  * This is {@link EmailMessageBodyBuilder}.
+ * Resolved template files, including their localized variants, and template contents
+ * are cached; contents are read again once the template file is modified.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -36,6 +41,15 @@ import java.util.function.Supplier;
 @Slf4j
 @SuperBuilder
 public class EmailMessageBodyBuilder implements Supplier<String> {
+    private static final Cache<String, File> TEMPLATE_FILES = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .build();
+
+    private static final Cache<String, TemplateContents> TEMPLATE_CONTENTS = Caffeine.newBuilder()
+        .maximumSize(1_000)
+        .build();
+
     @NonNull
     private final EmailProperties properties;
 
@@ -85,7 +99,7 @@ public class EmailMessageBodyBuilder implements Supplier<String> {
 
             val templateFile = determineEmailTemplateFile();
             LOGGER.debug("Using email template file at [{}]", templateFile);
-            val contents = FileUtils.readFileToString(templateFile, StandardCharsets.UTF_8);
+            val contents = readEmailTemplate(templateFile);
             if (templateFile.getName().endsWith(".gtemplate") && scriptFactoryInstance.isPresent()) {
                 val templateParams = new LinkedHashMap<>(this.parameters);
                 locale.ifPresent(loc -> templateParams.put("locale", loc));
@@ -105,6 +119,11 @@ public class EmailMessageBodyBuilder implements Supplier<String> {
     }
     
     protected File determineEmailTemplateFile() {
+        val key = properties.getText() + '|' + locale.map(Locale::getLanguage).orElse(StringUtils.EMPTY);
+        return TEMPLATE_FILES.get(key, __ -> locateEmailTemplateFile());
+    }
+
+    protected File locateEmailTemplateFile() {
         return locale.map(Unchecked.function(loc -> {
             val originalFile = new File(properties.getText());
             val localizedName = String.format("%s_%s.%s", FilenameUtils.getBaseName(originalFile.getName()),
@@ -119,8 +138,22 @@ public class EmailMessageBodyBuilder implements Supplier<String> {
         })).orElseGet(Unchecked.supplier(this::getDefaultEmailTemplateFile));
     }
 
+    protected String readEmailTemplate(final File templateFile) throws IOException {
+        val lastModified = templateFile.lastModified();
+        val cached = TEMPLATE_CONTENTS.getIfPresent(templateFile.getAbsolutePath());
+        if (cached != null && cached.lastModified() == lastModified) {
+            return cached.contents();
+        }
+        val contents = FileUtils.readFileToString(templateFile, StandardCharsets.UTF_8);
+        TEMPLATE_CONTENTS.put(templateFile.getAbsolutePath(), new TemplateContents(lastModified, contents));
+        return contents;
+    }
+
     private File getDefaultEmailTemplateFile() throws IOException {
         val templateResource = ResourceUtils.getResourceFrom(properties.getText());
         return templateResource.getFile();
     }
+
+    private record TemplateContents(long lastModified, String contents) {
+    }
 }
@@ -1,12 +1,16 @@
 package org.apereo.cas.notifications.mail;
 
+import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.text.StringSubstitutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -23,6 +27,11 @@ public interface EmailSender {
      */
     String BEAN_NAME = "emailSender";
 
+    /**
+     * Logger instance.
+     */
+    Logger LOGGER = LoggerFactory.getLogger(EmailSender.class);
+
     /**
      * Whether email messages can be sent.
      *
@@ -41,6 +50,29 @@ public interface EmailSender {
      */
     EmailCommunicationResult send(EmailMessageRequest emailRequest) throws Exception;
 
+    /**
+     * Send a batch of email messages and report back the result of each,
+     * in the same order as requests. Implementations may deliver all messages
+     * over the same connection. A message that cannot be sent is reported
+     * as a failed result and does not prevent the rest of the batch from being sent.
+     *
+     * @param emailRequests the email requests
+     * @return the email communication results
+     * @throws Exception the exception
+     */
+    default List<EmailCommunicationResult> send(final List<EmailMessageRequest> emailRequests) throws Exception {
+        val results = new ArrayList<EmailCommunicationResult>(emailRequests.size());
+        for (val emailRequest : emailRequests) {
+            try {
+                results.add(send(emailRequest));
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to send email to " + emailRequest.getRecipients(), e);
+                results.add(EmailCommunicationResult.failed(emailRequest, e));
+            }
+        }
+        return results;
+    }
+
     /**
      * Determine email subject using a given message source.
      *
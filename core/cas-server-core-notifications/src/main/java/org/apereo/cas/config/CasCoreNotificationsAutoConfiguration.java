@@ -1,21 +1,29 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.notifications.CommunicationsManager;
+import org.apereo.cas.notifications.CommunicationsOutbox;
 import org.apereo.cas.notifications.DefaultCommunicationsManager;
 import org.apereo.cas.notifications.call.PhoneCallOperator;
 import org.apereo.cas.notifications.mail.DefaultEmailSender;
+import org.apereo.cas.notifications.mail.EmailCommunicationResult;
+import org.apereo.cas.notifications.mail.EmailMessageRequest;
 import org.apereo.cas.notifications.mail.EmailSender;
 import org.apereo.cas.notifications.push.DefaultNotificationSender;
 import org.apereo.cas.notifications.push.NotificationSender;
 import org.apereo.cas.notifications.push.NotificationSenderExecutionPlanConfigurer;
 import org.apereo.cas.notifications.sms.GroovySmsSender;
 import org.apereo.cas.notifications.sms.RestfulSmsSender;
+import org.apereo.cas.notifications.sms.SmsRequest;
 import org.apereo.cas.notifications.sms.SmsSender;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.util.ssl.SSLContextRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -26,6 +34,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
@@ -57,8 +66,39 @@ public class CasCoreNotificationsAutoConfiguration {
         @Qualifier(SmsSender.BEAN_NAME) final SmsSender smsSender,
         @Qualifier(EmailSender.BEAN_NAME) final EmailSender emailSender,
         @Qualifier(PhoneCallOperator.BEAN_NAME) final PhoneCallOperator phoneCallOperator,
-        @Qualifier("notificationSender") final NotificationSender notificationSender) {
-        return new DefaultCommunicationsManager(smsSender, emailSender, notificationSender, phoneCallOperator);
+        @Qualifier("notificationSender") final NotificationSender notificationSender,
+        @Qualifier("emailCommunicationsOutbox")
+        final ObjectProvider<CommunicationsOutbox<EmailMessageRequest, EmailCommunicationResult>> emailCommunicationsOutbox,
+        @Qualifier("smsCommunicationsOutbox")
+        final ObjectProvider<CommunicationsOutbox<SmsRequest, Boolean>> smsCommunicationsOutbox) {
+        return new DefaultCommunicationsManager(smsSender, emailSender, notificationSender, phoneCallOperator,
+            emailCommunicationsOutbox.getIfAvailable(), smsCommunicationsOutbox.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "emailCommunicationsOutbox")
+    public CommunicationsOutbox<EmailMessageRequest, EmailCommunicationResult> emailCommunicationsOutbox(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        @Qualifier(EmailSender.BEAN_NAME) final ObjectProvider<EmailSender> emailSender) {
+        return BeanSupplier.of(CommunicationsOutbox.class)
+            .when(BeanCondition.on("cas.email-provider.outbox.enabled").isTrue().given(applicationContext.getEnvironment()))
+            .supply(() -> DefaultCommunicationsManager.newEmailOutbox(casProperties.getEmailProvider().getOutbox(), emailSender::getObject))
+            .otherwiseNull()
+            .get();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "smsCommunicationsOutbox")
+    public CommunicationsOutbox<SmsRequest, Boolean> smsCommunicationsOutbox(
+        final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
+        @Qualifier(SmsSender.BEAN_NAME) final ObjectProvider<SmsSender> smsSender) {
+        return BeanSupplier.of(CommunicationsOutbox.class)
+            .when(BeanCondition.on("cas.sms-provider.outbox.enabled").isTrue().given(applicationContext.getEnvironment()))
+            .supply(() -> DefaultCommunicationsManager.newSmsOutbox(casProperties.getSmsProvider().getOutbox(), smsSender::getObject))
+            .otherwiseNull()
+            .get();
     }
 
     @Bean
@@ -66,8 +106,16 @@ public class CasCoreNotificationsAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public EmailSender emailSender(
         @Qualifier("messageSource") final MessageSource messageSource,
-        @Qualifier("mailSender") final ObjectProvider<JavaMailSender> mailSender) {
-        return new DefaultEmailSender(mailSender.getIfAvailable(), messageSource);
+        @Qualifier("mailSender") final ObjectProvider<JavaMailSender> mailSender,
+        @Qualifier(CasSSLContext.BEAN_NAME) final ObjectProvider<CasSSLContext> casSslContext,
+        @Qualifier(SSLContextRegistry.BEAN_NAME) final ObjectProvider<SSLContextRegistry> sslContextRegistry) {
+        val sender = mailSender.getIfAvailable();
+        val sslContext = casSslContext.getIfAvailable();
+        val registry = sslContextRegistry.getIfAvailable();
+        if (sender != null && sslContext != null && registry != null) {
+            DefaultEmailSender.withSslSocketFactory(sender, registry.getSslSocketFactory(sslContext.getSslContext()));
+        }
+        return new DefaultEmailSender(sender, messageSource);
     }
 
     @Bean
@@ -0,0 +1,204 @@
+package org.apereo.cas.notifications;
+
+import org.apereo.cas.configuration.model.core.util.CommunicationsOutboxProperties;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CommunicationsOutboxTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Simple")
+class CommunicationsOutboxTests {
+
+    @Test
+    void verifyMessagesDeliveredInBatches() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1).setBatchSize(5);
+        val batches = Collections.synchronizedList(new ArrayList<List<String>>());
+        val outbox = new CommunicationsOutbox<String, String>("test", properties, messages -> {
+            batches.add(messages);
+            return messages.stream().map(String::toUpperCase).toList();
+        }, result -> true);
+        try {
+            val results = List.of(outbox.submit("a"), outbox.submit("b"), outbox.submit("c"));
+            assertEquals("A", results.getFirst().get(5, TimeUnit.SECONDS));
+            assertEquals("C", results.getLast().get(5, TimeUnit.SECONDS));
+            assertEquals(3, outbox.getStatistics().getDelivered().sum());
+            assertEquals(3, batches.stream().mapToInt(List::size).sum());
+        } finally {
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyFailedDeliveriesRetried() throws Throwable {
+        val properties = new CommunicationsOutboxProperties()
+            .setEnabled(true).setMaximumAttempts(3).setRetryBackoff("PT0.01S");
+        val attempts = new AtomicInteger();
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties,
+            messages -> messages.stream().map(message -> attempts.incrementAndGet() >= 3).toList(), Boolean::booleanValue);
+        try {
+            assertTrue(outbox.submit("message").get(5, TimeUnit.SECONDS));
+            assertEquals(3, attempts.get());
+            assertEquals(2, outbox.getStatistics().getRetried().sum());
+            assertEquals(0, outbox.getStatistics().getFailed().sum());
+        } finally {
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyDeliveryFailsAfterAttempts() {
+        val properties = new CommunicationsOutboxProperties()
+            .setEnabled(true).setMaximumAttempts(2).setRetryBackoff("PT0.01S");
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties, messages -> {
+            throw new IllegalStateException("Provider is unavailable");
+        }, Boolean::booleanValue);
+        try {
+            val result = outbox.submit("message");
+            val error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, error.getCause());
+            assertEquals(1, outbox.getStatistics().getFailed().sum());
+        } finally {
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyOverflowDeliveredOnCallerThread() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1).setQueueCapacity(1).setBatchSize(1);
+        val blocked = new CountDownLatch(1);
+        val callers = Collections.synchronizedList(new ArrayList<Thread>());
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties, messages -> {
+            callers.add(Thread.currentThread());
+            if (messages.contains("slow")) {
+                blocked.await(5, TimeUnit.SECONDS);
+            }
+            return messages.stream().map(message -> Boolean.TRUE).toList();
+        }, Boolean::booleanValue);
+        try {
+            val slow = outbox.submit("slow");
+            while (outbox.size() > 0) {
+                Thread.onSpinWait();
+            }
+            outbox.submit("queued");
+            val overflow = outbox.submit("overflow");
+            assertTrue(overflow.isDone());
+            assertTrue(callers.contains(Thread.currentThread()));
+            assertEquals(1, outbox.getStatistics().getOverflows().sum());
+            blocked.countDown();
+            assertTrue(slow.get(5, TimeUnit.SECONDS));
+        } finally {
+            blocked.countDown();
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyRateLimit() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1).setBatchSize(1).setRateLimitPerSecond(20);
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties,
+            messages -> messages.stream().map(message -> Boolean.TRUE).toList(), Boolean::booleanValue);
+        try {
+            val startTime = System.nanoTime();
+            val results = new ArrayList<CompletableFuture<Boolean>>();
+            for (var i = 0; i < 5; i++) {
+                results.add(outbox.submit("message-" + i));
+            }
+            for (val result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 150);
+        } finally {
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyRateLimitedOverflowDoesNotBlockCaller() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1)
+            .setQueueCapacity(1).setBatchSize(1).setRateLimitPerSecond(1).setRetryBackoff("PT0.1S");
+        val blocked = new CountDownLatch(1);
+        val callers = Collections.synchronizedList(new ArrayList<Thread>());
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties, messages -> {
+            callers.add(Thread.currentThread());
+            if (messages.contains("slow")) {
+                blocked.await(5, TimeUnit.SECONDS);
+            }
+            return messages.stream().map(message -> Boolean.TRUE).toList();
+        }, Boolean::booleanValue);
+        try {
+            val slow = outbox.submit("slow");
+            while (outbox.size() > 0) {
+                Thread.onSpinWait();
+            }
+            outbox.submit("queued");
+            val startTime = System.nanoTime();
+            val overflow = outbox.submit("overflow");
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 500);
+            assertFalse(overflow.isDone());
+            assertFalse(callers.contains(Thread.currentThread()));
+            blocked.countDown();
+            assertTrue(slow.get(5, TimeUnit.SECONDS));
+            assertTrue(overflow.get(10, TimeUnit.SECONDS));
+        } finally {
+            blocked.countDown();
+            outbox.destroy();
+        }
+    }
+
+    @Test
+    void verifyQueuedMessagesDrainedOnShutdown() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1).setBatchSize(1);
+        val delivered = new AtomicInteger();
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties, messages -> {
+            Thread.sleep(50);
+            delivered.addAndGet(messages.size());
+            return messages.stream().map(message -> Boolean.TRUE).toList();
+        }, Boolean::booleanValue);
+        val results = new ArrayList<CompletableFuture<Boolean>>();
+        for (var i = 0; i < 5; i++) {
+            results.add(outbox.submit("message-" + i));
+        }
+        outbox.destroy();
+        assertEquals(5, delivered.get());
+        for (val result : results) {
+            assertTrue(result.isDone());
+            assertTrue(result.get());
+        }
+    }
+
+    @Test
+    void verifyOnlyFailedMessagesRetried() throws Throwable {
+        val properties = new CommunicationsOutboxProperties().setEnabled(true).setPoolSize(1)
+            .setBatchSize(2).setMaximumAttempts(2).setRetryBackoff("PT0.01S");
+        val attempts = Collections.synchronizedList(new ArrayList<String>());
+        val failedOnce = new AtomicInteger();
+        val outbox = new CommunicationsOutbox<String, Boolean>("test", properties, messages -> {
+            attempts.addAll(messages);
+            return messages.stream().map(message -> !"flaky".equals(message) || failedOnce.getAndIncrement() > 0).toList();
+        }, Boolean::booleanValue);
+        try {
+            val healthy = outbox.submit("healthy");
+            val flaky = outbox.submit("flaky");
+            assertTrue(healthy.get(5, TimeUnit.SECONDS));
+            assertTrue(flaky.get(5, TimeUnit.SECONDS));
+            assertEquals(1, Collections.frequency(attempts, "healthy"));
+            assertEquals(2, Collections.frequency(attempts, "flaky"));
+        } finally {
+            outbox.destroy();
+        }
+    }
+}
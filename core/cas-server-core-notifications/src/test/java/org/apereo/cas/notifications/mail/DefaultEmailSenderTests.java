@@ -14,6 +14,16 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.HierarchicalMessageSource;
+import org.springframework.context.MessageSource;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import javax.net.ssl.SSLSocketFactory;
+import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -41,4 +51,59 @@ class DefaultEmailSenderTests {
         val subject = emailSender.determineEmailSubject(emailRequest, mock(HierarchicalMessageSource.class));
         assertEquals("Hello casuser", subject);
     }
+
+    @Test
+    void verifyBatchReportsFailedMessagesOnly() throws Throwable {
+        val mailSender = mock(JavaMailSender.class);
+        when(mailSender.createMimeMessage()).thenAnswer(__ -> new MimeMessage((Session) null));
+        doAnswer(invocation -> {
+            val messages = (MimeMessage[]) invocation.getRawArguments()[0];
+            throw new MailSendException(Map.of(messages[1], new MessagingException("Recipient rejected")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        val sender = new DefaultEmailSender(mailSender, mock(MessageSource.class));
+        val results = sender.send(List.of(
+            buildEmailRequest("first@example.org"),
+            buildEmailRequest("second@example.org"),
+            buildEmailRequest("third@example.org")));
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Recipient rejected", results.get(1).getDetails().get("error"));
+        assertTrue(results.get(2).isSuccess());
+    }
+
+    @Test
+    void verifyDefaultBatchReportsFailedMessagesOnly() throws Throwable {
+        val sender = (EmailSender) emailRequest -> {
+            if (emailRequest.getRecipients().contains("second@example.org")) {
+                throw new IllegalArgumentException("Recipient rejected");
+            }
+            return EmailCommunicationResult.builder().success(true).to(emailRequest.getRecipients()).build();
+        };
+        val results = sender.send(List.of(buildEmailRequest("first@example.org"), buildEmailRequest("second@example.org")));
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+    }
+
+    private static EmailMessageRequest buildEmailRequest(final String to) {
+        return EmailMessageRequest.builder()
+            .emailProperties(new EmailProperties().setFrom("cas@example.org").setSubject("Notification"))
+            .body("Hello")
+            .to(List.of(to))
+            .build();
+    }
+
+    @Test
+    void verifySslSocketFactoryApplied() {
+        val socketFactory = mock(SSLSocketFactory.class);
+        val sender = new JavaMailSenderImpl();
+        DefaultEmailSender.withSslSocketFactory(sender, socketFactory);
+        assertSame(socketFactory, sender.getJavaMailProperties().get("mail.smtp.ssl.socketFactory"));
+
+        val customized = new JavaMailSenderImpl();
+        customized.getJavaMailProperties().put("mail.smtp.ssl.trust", "*");
+        DefaultEmailSender.withSslSocketFactory(customized, socketFactory);
+        assertFalse(customized.getJavaMailProperties().containsKey("mail.smtp.ssl.socketFactory"));
+    }
 }
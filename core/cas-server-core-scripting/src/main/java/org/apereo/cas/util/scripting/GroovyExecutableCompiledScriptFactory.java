@@ -1,8 +1,13 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.DigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import groovy.lang.GroovyClassLoader;
 import groovy.text.GStringTemplateEngine;
+import groovy.text.Template;
 import lombok.val;
+import org.jooq.lambda.Unchecked;
 import org.springframework.core.io.Resource;
 import java.io.File;
 import java.net.URLClassLoader;
@@ -11,11 +16,15 @@ import java.util.Optional;
 
 /**
  * This is {@link GroovyExecutableCompiledScriptFactory}.
+ * Templates are compiled once and reused for subsequent
+ * renderings of the same template contents or file.
  *
  * @author Misagh Moayyed
  * @since 7.1.0
  */
 public class GroovyExecutableCompiledScriptFactory implements ExecutableCompiledScriptFactory {
+    private static final Cache<String, Template> TEMPLATES = Caffeine.newBuilder().maximumSize(500).build();
+
     @Override
     public ExecutableCompiledScript fromResource(final Resource resource, final boolean watchResource) {
         return new WatchableGroovyScriptResource(resource);
@@ -23,16 +32,16 @@ public class GroovyExecutableCompiledScriptFactory implements ExecutableCompiled
 
     @Override
     public String createTemplate(final String contents, final Map<String, ?> templateParams) throws Exception {
-        val engine = new GStringTemplateEngine();
-        val template = engine.createTemplate(contents).make(templateParams);
-        return template.toString();
+        val template = TEMPLATES.get(DigestUtils.sha256(contents),
+            Unchecked.function(__ -> new GStringTemplateEngine().createTemplate(contents)));
+        return template.make(templateParams).toString();
     }
 
     @Override
     public String createTemplate(final File templateFile, final Map<String, ?> templateParams) throws Exception {
-        val engine = new GStringTemplateEngine();
-        val template = engine.createTemplate(templateFile).make(templateParams);
-        return template.toString();
+        val key = templateFile.getAbsolutePath() + '@' + templateFile.lastModified();
+        val template = TEMPLATES.get(key, Unchecked.function(__ -> new GStringTemplateEngine().createTemplate(templateFile)));
+        return template.make(templateParams).toString();
     }
 
     @Override
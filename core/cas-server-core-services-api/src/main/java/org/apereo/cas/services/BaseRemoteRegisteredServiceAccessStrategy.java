@@ -0,0 +1,78 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.io.Serial;
+
+/**
+ * This is {@link BaseRemoteRegisteredServiceAccessStrategy} that
+ * reaches out to an external policy decision point to authorize requests.
+ * Decisions may be remembered per registered service via {@link #decisionCache},
+ * in the decision cache that is registered as a bean under {@link #DECISION_CACHE_BEAN_NAME}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@ToString(callSuper = true)
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@Accessors(chain = true)
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@Slf4j
+public abstract class BaseRemoteRegisteredServiceAccessStrategy extends BaseRegisteredServiceAccessStrategy {
+    /**
+     * Bean name of the decision cache shared by remote access strategies.
+     */
+    public static final String DECISION_CACHE_BEAN_NAME = "registeredServiceAccessStrategyDecisionCache";
+
+    @Serial
+    private static final long serialVersionUID = 6250383947412785519L;
+
+    private RegisteredServiceAccessStrategyDecisionCachePolicy decisionCache;
+
+    /**
+     * Build the decision cache shared by remote access strategies.
+     *
+     * @return the decision cache
+     */
+    public static AuthorizationDecisionCache<Boolean> newDecisionCache() {
+        return new AuthorizationDecisionCache<>("RegisteredServiceAccessStrategy", Boolean.TRUE::equals);
+    }
+
+    @Override
+    public boolean authorizeRequest(final RegisteredServiceAccessStrategyRequest request) {
+        try {
+            val sharedDecisionCache = ApplicationContextProvider.getBean(ApplicationContextProvider.getApplicationContext(),
+                DECISION_CACHE_BEAN_NAME, AuthorizationDecisionCache.class);
+            if (decisionCache == null || sharedDecisionCache.isEmpty()) {
+                return authorizeRemoteRequest(request);
+            }
+            val key = decisionCache.toCacheKey(this, request);
+            return (Boolean) sharedDecisionCache.get().decide(key, decisionCache.toSettings(), () -> authorizeRemoteRequest(request));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return false;
+    }
+
+    /**
+     * Ask the external policy decision point to authorize the request.
+     * Failures to reach the decision point should be signaled via exceptions
+     * rather than denials, so expired decisions may be served in the meantime.
+     *
+     * @param request the request
+     * @return true/false
+     * @throws Exception the exception
+     */
+    protected abstract boolean authorizeRemoteRequest(RegisteredServiceAccessStrategyRequest request) throws Exception;
+}
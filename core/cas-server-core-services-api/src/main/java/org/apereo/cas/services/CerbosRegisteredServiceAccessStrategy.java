@@ -1,7 +1,6 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.configuration.support.ExpressionLanguageCapable;
-import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
@@ -50,7 +49,7 @@ import java.util.Map;
 @Accessors(chain = true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @Slf4j
-public class CerbosRegisteredServiceAccessStrategy extends BaseRegisteredServiceAccessStrategy {
+public class CerbosRegisteredServiceAccessStrategy extends BaseRemoteRegisteredServiceAccessStrategy {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -80,7 +79,7 @@ public class CerbosRegisteredServiceAccessStrategy extends BaseRegisteredService
     private Map<String, Object> auxData;
 
     @Override
-    public boolean authorizeRequest(final RegisteredServiceAccessStrategyRequest request) {
+    protected boolean authorizeRemoteRequest(final RegisteredServiceAccessStrategyRequest request) throws Exception {
         HttpResponse response = null;
         try {
             val attributes = new HashMap<>(request.getAttributes());
@@ -128,7 +127,9 @@ public class CerbosRegisteredServiceAccessStrategy extends BaseRegisteredService
                 .build();
             LOGGER.debug("Submitting authorization request to [{}] for [{}]", url, cerbosRequest);
             response = HttpUtils.execute(exec);
-
+            if (response == null || HttpStatus.valueOf(response.getCode()).is5xxServerError()) {
+                throw new IllegalStateException("Unable to obtain authorization decision from " + url);
+            }
             try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
                 val results = IOUtils.toString(content, StandardCharsets.UTF_8);
                 LOGGER.trace("Received response from endpoint [{}] as [{}]", url, results);
@@ -141,12 +142,10 @@ public class CerbosRegisteredServiceAccessStrategy extends BaseRegisteredService
                     }));
                 }
             }
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
+            return false;
         } finally {
             HttpUtils.close(response);
         }
-        return false;
     }
 
     @SuperBuilder
@@ -6,8 +6,11 @@ import org.apereo.cas.notifications.mail.EmailMessageBodyBuilder;
 import org.apereo.cas.notifications.mail.EmailMessageRequest;
 import org.apereo.cas.notifications.sms.SmsBodyBuilder;
 import org.apereo.cas.notifications.sms.SmsRequest;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceExpiredEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesRefreshEvent;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +38,8 @@ public class DefaultRegisteredServicesEventListener implements RegisteredService
 
     private final CommunicationsManager communicationsManager;
 
+    private final List<AuthorizationDecisionCache<?>> authorizationDecisionCaches;
+
     @Override
     public void handleRefreshEvent(final CasRegisteredServicesRefreshEvent event) {
         servicesManager.load();
@@ -45,6 +50,16 @@ public class DefaultRegisteredServicesEventListener implements RegisteredService
         servicesManager.load();
     }
 
+    @Override
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        authorizationDecisionCaches.forEach(AuthorizationDecisionCache::invalidate);
+    }
+
+    @Override
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        authorizationDecisionCaches.forEach(AuthorizationDecisionCache::invalidate);
+    }
+
     @Override
     public void handleRegisteredServiceExpiredEvent(final CasRegisteredServiceExpiredEvent event) {
         val registeredService = event.getRegisteredService();
@@ -1,7 +1,6 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.configuration.support.ExpressionLanguageCapable;
-import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
@@ -46,7 +45,7 @@ import java.util.Map;
 @Accessors(chain = true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
 @Slf4j
-public class OpenFGARegisteredServiceAccessStrategy extends BaseRegisteredServiceAccessStrategy {
+public class OpenFGARegisteredServiceAccessStrategy extends BaseRemoteRegisteredServiceAccessStrategy {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -67,7 +66,7 @@ public class OpenFGARegisteredServiceAccessStrategy extends BaseRegisteredServic
     private String token;
 
     @Override
-    public boolean authorizeRequest(final RegisteredServiceAccessStrategyRequest request) {
+    protected boolean authorizeRemoteRequest(final RegisteredServiceAccessStrategyRequest request) throws Exception {
         HttpResponse response = null;
         try {
             val headers = new HashMap<String, String>();
@@ -93,7 +92,10 @@ public class OpenFGARegisteredServiceAccessStrategy extends BaseRegisteredServic
                 .build();
             LOGGER.debug("Submitting authorization request to [{}] for [{}]", fgaApiUrl, checkEntity);
             response = HttpUtils.execute(exec);
-            if (HttpStatus.resolve(response.getCode()).is2xxSuccessful()) {
+            if (response == null || HttpStatus.valueOf(response.getCode()).is5xxServerError()) {
+                throw new IllegalStateException("Unable to obtain authorization decision from " + fgaApiUrl);
+            }
+            if (HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
                 try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
                     val results = IOUtils.toString(content, StandardCharsets.UTF_8);
                     LOGGER.trace("Received response from endpoint [{}] as [{}]", url, results);
@@ -101,12 +103,10 @@ public class OpenFGARegisteredServiceAccessStrategy extends BaseRegisteredServic
                     return (Boolean) payload.getOrDefault("allowed", Boolean.FALSE);
                 }
             }
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
+            return false;
         } finally {
             HttpUtils.close(response);
         }
-        return false;
     }
 
     @SuperBuilder
@@ -0,0 +1,99 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import lombok.val;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * This is {@link RegisteredServiceAccessStrategyDecisionCachePolicy}.
+ * Controls how long decisions obtained from an external policy engine
+ * are remembered for a registered service. Decisions are keyed by the principal,
+ * a digest of the relevant principal attributes, and the requested service.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@ToString
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Accessors(chain = true)
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public class RegisteredServiceAccessStrategyDecisionCachePolicy implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3360419751228720637L;
+
+    /**
+     * How long positive decisions are remembered.
+     */
+    private String timeToLive;
+
+    /**
+     * How long negative decisions are remembered.
+     * If undefined, falls back to {@link #timeToLive}.
+     */
+    private String negativeTimeToLive;
+
+    /**
+     * How long expired decisions may still be served
+     * while a new decision is obtained in the background, or
+     * while the policy engine is unavailable.
+     */
+    private String staleWhileRevalidate;
+
+    /**
+     * Principal attributes that contribute to the decision.
+     * If undefined, all attributes are considered.
+     */
+    private List<String> attributes = new ArrayList<>();
+
+    /**
+     * Build the settings for the decision cache.
+     *
+     * @return the settings
+     */
+    @JsonIgnore
+    public AuthorizationDecisionCache.DecisionCacheSettings toSettings() {
+        return AuthorizationDecisionCache.DecisionCacheSettings.of(timeToLive, negativeTimeToLive, staleWhileRevalidate);
+    }
+
+    /**
+     * Build the cache key for the request.
+     *
+     * @param strategy the strategy
+     * @param request  the request
+     * @return the key
+     */
+    @JsonIgnore
+    public String toCacheKey(final RegisteredServiceAccessStrategy strategy,
+                             final RegisteredServiceAccessStrategyRequest request) {
+        val relevantAttributes = new TreeMap<String, Object>();
+        request.getAttributes().forEach((name, values) -> {
+            if (attributes.isEmpty() || attributes.contains(name)) {
+                relevantAttributes.put(name, values);
+            }
+        });
+        val registeredServiceId = Optional.ofNullable(request.getRegisteredService())
+            .map(RegisteredService::getId).orElse(RegisteredService.INITIAL_IDENTIFIER_VALUE);
+        val serviceId = Optional.ofNullable(request.getService()).map(Service::getId).orElse(null);
+        return String.join("|", strategy.getClass().getSimpleName(), String.valueOf(strategy.hashCode()),
+            String.valueOf(registeredServiceId), String.valueOf(serviceId), request.getPrincipalId(),
+            DigestUtils.sha256(relevantAttributes.toString()));
+    }
+}
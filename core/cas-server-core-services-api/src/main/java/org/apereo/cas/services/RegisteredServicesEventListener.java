@@ -1,6 +1,8 @@
 package org.apereo.cas.services;
 
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServiceExpiredEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesRefreshEvent;
 import org.apereo.cas.util.spring.CasEventListener;
 
@@ -43,4 +45,19 @@ public interface RegisteredServicesEventListener extends CasEventListener {
     @Async
     void handleRegisteredServiceExpiredEvent(CasRegisteredServiceExpiredEvent event);
 
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleRegisteredServiceSavedEvent(CasRegisteredServiceSavedEvent event);
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleRegisteredServiceDeletedEvent(CasRegisteredServiceDeletedEvent event);
 }
@@ -14,7 +14,6 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.val;
-import org.jooq.lambda.Unchecked;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.StringUtils;
 import java.io.Serial;
@@ -37,7 +36,7 @@ import java.util.TreeMap;
 @NoArgsConstructor
 @Accessors(chain = true)
 @JsonInclude(JsonInclude.Include.NON_DEFAULT)
-public class RemoteEndpointServiceAccessStrategy extends BaseRegisteredServiceAccessStrategy {
+public class RemoteEndpointServiceAccessStrategy extends BaseRemoteRegisteredServiceAccessStrategy {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(true).build().toObjectMapper();
 
@@ -53,19 +52,25 @@ public class RemoteEndpointServiceAccessStrategy extends BaseRegisteredServiceAc
     private Map<String, String> headers = new TreeMap<>();
 
     @Override
-    public boolean authorizeRequest(final RegisteredServiceAccessStrategyRequest request) {
-        return Unchecked.supplier(() -> {
-            val exec = HttpExecutionRequest.builder()
-                .method(HttpMethod.valueOf(this.method))
-                .url(SpringExpressionLanguageValueResolver.getInstance().resolve(endpointUrl))
-                .headers(headers)
-                .parameters(CollectionUtils.wrap("username", request.getPrincipalId()))
-                .entity(MAPPER.writeValueAsString(request))
-                .build();
-            val response = HttpUtils.execute(exec);
+    protected boolean authorizeRemoteRequest(final RegisteredServiceAccessStrategyRequest request) throws Exception {
+        val url = SpringExpressionLanguageValueResolver.getInstance().resolve(endpointUrl);
+        val exec = HttpExecutionRequest.builder()
+            .method(HttpMethod.valueOf(this.method))
+            .url(url)
+            .headers(headers)
+            .parameters(CollectionUtils.wrap("username", request.getPrincipalId()))
+            .entity(MAPPER.writeValueAsString(request))
+            .build();
+        val response = HttpUtils.execute(exec);
+        try {
+            if (response == null) {
+                throw new IllegalStateException("Unable to obtain authorization decision from " + url);
+            }
             val currentCodes = StringUtils.commaDelimitedListToSet(this.acceptableResponseCodes);
-            return response != null && currentCodes.contains(String.valueOf(response.getCode()));
-        }).get();
+            return currentCodes.contains(String.valueOf(response.getCode()));
+        } finally {
+            HttpUtils.close(response);
+        }
     }
 
 }
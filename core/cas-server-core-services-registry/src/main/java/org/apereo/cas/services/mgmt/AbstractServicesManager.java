@@ -1,6 +1,7 @@
 package org.apereo.cas.services.mgmt;
 
 import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.services.IndexableServicesManager;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
@@ -55,12 +56,21 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final ServiceRegistryNegativeLookupCache negativeLookupCache;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
         this.indexedRegisteredServices = new ConcurrentIndexedCollection<>();
-        if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
+        val core = configurationContext.getCasProperties().getServiceRegistry().getCore();
+        if (core.isIndexServices()) {
             createRegisteredServiceIndexes();
         }
+        this.negativeLookupCache = core.getNegativeCache().isEnabled()
+            ? new ServiceRegistryNegativeLookupCache(
+                configurationContext.getServiceRegistry().getName() + '@' + getClass().getSimpleName(),
+                core.getNegativeCache(),
+                () -> configurationContext.getApplicationContext().getBeanProvider(ExecutableObserver.class).getIfAvailable())
+            : null;
     }
 
     private void createRegisteredServiceIndexes() {
@@ -109,6 +119,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
             val savedService = configurationContext.getServiceRegistry().save(registeredService);
+            invalidateNegativeLookups();
             cacheRegisteredService(savedService);
             saveInternal(registeredService);
 
@@ -128,6 +139,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             val clientInfo = ClientInfoHolder.getClientInfo();
             if (registeredService != null) {
                 publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
+                invalidateNegativeLookups();
                 cacheRegisteredService(registeredService);
                 saveInternal(registeredService);
                 publishEvent(new CasRegisteredServiceSavedEvent(this, registeredService, clientInfo));
@@ -142,6 +154,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            invalidateNegativeLookups();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -163,6 +176,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                invalidateNegativeLookups();
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -184,29 +198,32 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
             .findFirst();
 
         if (foundService.isEmpty()) {
-            val serviceRegistry = configurationContext.getServiceRegistry();
-            LOGGER.trace("Service [{}] is not cached; Searching [{}]", service.getId(), serviceRegistry.getName());
-            foundService = Optional.ofNullable(serviceRegistry.findServiceBy(service.getId()));
-            if (foundService.isPresent()) {
-                val registeredService = foundService.get();
-                foundService = configurationContext.getRegisteredServiceLocators()
-                    .stream()
-                    .filter(locator -> locator.supports(registeredService, service))
-                    .findFirst()
-                    .map(locator -> {
-                        LOGGER.debug("Service [{}] is found in service registry and can be supported by [{}]", registeredService, locator.getName());
-                        cacheRegisteredService(registeredService);
-                        LOGGER.trace("Service [{}] is now cached from [{}]", service, serviceRegistry.getName());
-                        return Optional.of(registeredService);
-                    })
-                    .orElseGet(Optional::empty);
-            }
+            foundService = Optional.ofNullable(negativeLookupCache != null
+                ? negativeLookupCache.lookup(service.getId(), __ -> findServiceInRegistry(service))
+                : findServiceInRegistry(service));
         }
 
         foundService.ifPresent(RegisteredService::initialize);
         return validateRegisteredService(foundService.orElse(null));
     }
 
+    private RegisteredService findServiceInRegistry(final Service service) {
+        val serviceRegistry = configurationContext.getServiceRegistry();
+        LOGGER.trace("Service [{}] is not cached; Searching [{}]", service.getId(), serviceRegistry.getName());
+        return Optional.ofNullable(serviceRegistry.findServiceBy(service.getId()))
+            .flatMap(registeredService -> configurationContext.getRegisteredServiceLocators()
+                .stream()
+                .filter(locator -> locator.supports(registeredService, service))
+                .findFirst()
+                .map(locator -> {
+                    LOGGER.debug("Service [{}] is found in service registry and can be supported by [{}]", registeredService, locator.getName());
+                    cacheRegisteredService(registeredService);
+                    LOGGER.trace("Service [{}] is now cached from [{}]", service, serviceRegistry.getName());
+                    return registeredService;
+                }))
+            .orElse(null);
+    }
+
     @Override
     public Collection<RegisteredService> findServiceBy(final Predicate<RegisteredService> predicate) {
         if (predicate == null) {
@@ -369,6 +386,7 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
     }
 
     private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
+        invalidateNegativeLookups();
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
@@ -434,6 +452,12 @@ public abstract class AbstractServicesManager implements IndexableServicesManage
         return () -> configurationContext.getServicesCache().asMap().values().stream();
     }
 
+    private void invalidateNegativeLookups() {
+        if (negativeLookupCache != null) {
+            negativeLookupCache.invalidate();
+        }
+    }
+
     private void cacheRegisteredService(final RegisteredService service) {
         configurationContext.getServicesCache().put(service.getId(), service);
         if (configurationContext.getCasProperties().getServiceRegistry().getCore().isIndexServices()) {
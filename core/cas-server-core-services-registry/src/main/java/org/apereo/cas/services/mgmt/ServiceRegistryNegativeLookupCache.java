@@ -0,0 +1,149 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.configuration.model.core.services.ServiceRegistryNegativeCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.monitor.ExecutableObserver;
+import org.apereo.cas.monitor.MonitorableTask;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link ServiceRegistryNegativeLookupCache}.
+ * Remembers service URLs that could not be matched against the service registry,
+ * so that repeated lookups for unknown services do not reach the registry again.
+ * Concurrent lookups for the same service URL are collapsed into a single fetch.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@Getter
+public class ServiceRegistryNegativeLookupCache {
+    private final String name;
+
+    private final ServiceRegistryNegativeCacheProperties properties;
+
+    private final Supplier<ExecutableObserver> executableObserver;
+
+    private final Cache<String, Boolean> unmatchedServices;
+
+    private final Map<String, CompletableFuture<Optional<RegisteredService>>> inflightLookups = new ConcurrentHashMap<>();
+
+    private final LookupStatistics statistics = new LookupStatistics();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public ServiceRegistryNegativeLookupCache(final String name,
+                                              final ServiceRegistryNegativeCacheProperties properties,
+                                              final Supplier<ExecutableObserver> executableObserver) {
+        this.name = name;
+        this.properties = properties;
+        this.executableObserver = executableObserver;
+        this.unmatchedServices = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(Beans.newDuration(properties.getExpiration()))
+            .build();
+    }
+
+    /**
+     * Look up the service, either by consulting the remembered misses
+     * or by invoking the given fetch function for the service.
+     * A fetch that produces no result is remembered as a miss.
+     *
+     * @param serviceId the service id
+     * @param fetcher   the fetcher
+     * @return the registered service, or null
+     */
+    public RegisteredService lookup(final String serviceId, final Function<String, RegisteredService> fetcher) {
+        if (unmatchedServices.getIfPresent(serviceId) != null) {
+            LOGGER.trace("Service [{}] is known to not match any registered service in [{}]", serviceId, name);
+            statistics.getNegativeHits().increment();
+            return null;
+        }
+        statistics.getMisses().increment();
+
+        val future = new CompletableFuture<Optional<RegisteredService>>();
+        val inflight = inflightLookups.putIfAbsent(serviceId, future);
+        if (inflight != null) {
+            statistics.getCoalesced().increment();
+            return inflight.join().orElse(null);
+        }
+        try {
+            val currentGeneration = generation.get();
+            val result = Optional.ofNullable(fetch(serviceId, fetcher));
+            if (result.isEmpty() && currentGeneration == generation.get()) {
+                unmatchedServices.put(serviceId, Boolean.TRUE);
+            }
+            future.complete(result);
+            return result.orElse(null);
+        } catch (final Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflightLookups.remove(serviceId, future);
+        }
+    }
+
+    /**
+     * Forget all remembered misses.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        unmatchedServices.invalidateAll();
+        LOGGER.trace("Invalidated unmatched service lookups for [{}]", name);
+    }
+
+    private RegisteredService fetch(final String serviceId, final Function<String, RegisteredService> fetcher) {
+        val startTime = System.nanoTime();
+        try {
+            val observer = executableObserver.get();
+            if (observer != null) {
+                val task = new MonitorableTask("ServiceRegistryLookup").withBoundedValue("serviceRegistry", name);
+                return FunctionUtils.doUnchecked(() -> observer.supply(task, () -> fetcher.apply(serviceId)));
+            }
+            return fetcher.apply(serviceId);
+        } finally {
+            statistics.getFetches().increment();
+            statistics.getFetchTime().add(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Lookup statistics.
+     */
+    @Getter
+    public static class LookupStatistics {
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder negativeHits = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder fetches = new LongAdder();
+
+        private final LongAdder fetchTime = new LongAdder();
+
+        /**
+         * Average fetch latency in milliseconds.
+         *
+         * @return the latency
+         */
+        public double getAverageFetchLatency() {
+            val count = fetches.sum();
+            return count == 0 ? 0 : fetchTime.sum() / (double) count / 1_000_000D;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.configuration.model.core.services.ServiceRegistryNegativeCacheProperties;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ServiceRegistryNegativeLookupCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("RegisteredService")
+class ServiceRegistryNegativeLookupCacheTests {
+
+    private static ServiceRegistryNegativeLookupCache newCache() {
+        return new ServiceRegistryNegativeLookupCache("test",
+            new ServiceRegistryNegativeCacheProperties().setEnabled(true), () -> null);
+    }
+
+    @Test
+    void verifyUnmatchedServiceIsRemembered() {
+        val cache = newCache();
+        val fetches = new AtomicInteger();
+        Function<String, RegisteredService> fetcher = id -> {
+            fetches.incrementAndGet();
+            return null;
+        };
+        assertNull(cache.lookup("https://unknown.example.org/app", fetcher));
+        assertNull(cache.lookup("https://unknown.example.org/app", fetcher));
+        assertEquals(1, fetches.get());
+        assertEquals(1, cache.getStatistics().getNegativeHits().sum());
+        assertEquals(1, cache.getStatistics().getMisses().sum());
+
+        cache.invalidate();
+        assertNull(cache.lookup("https://unknown.example.org/app", fetcher));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void verifyMatchedServiceIsNotRemembered() {
+        val cache = newCache();
+        val fetches = new AtomicInteger();
+        val service = new CasRegisteredService();
+        Function<String, RegisteredService> fetcher = id -> {
+            fetches.incrementAndGet();
+            return service;
+        };
+        assertSame(service, cache.lookup("https://app.example.org", fetcher));
+        assertSame(service, cache.lookup("https://app.example.org", fetcher));
+        assertEquals(2, fetches.get());
+        assertEquals(0, cache.getStatistics().getNegativeHits().sum());
+        assertTrue(cache.getStatistics().getAverageFetchLatency() >= 0);
+    }
+
+    @Test
+    void verifyConcurrentMissesAreCoalesced() throws Throwable {
+        val cache = newCache();
+        val fetches = new AtomicInteger();
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        Function<String, RegisteredService> fetcher = id -> {
+            fetches.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        };
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val first = executor.submit(() -> cache.lookup("https://scanner.example.org/probe", fetcher));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            val others = IntStream.range(0, 5)
+                .mapToObj(i -> executor.submit(() -> cache.lookup("https://scanner.example.org/probe", fetcher)))
+                .toList();
+            await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> cache.getStatistics().getCoalesced().sum() + cache.getStatistics().getNegativeHits().sum() == 5);
+            release.countDown();
+            assertNull(first.get());
+            for (val future : others) {
+                assertNull(future.get());
+            }
+        }
+        assertEquals(1, fetches.get());
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @Import({
     CasCoreServicesAuthenticationConfiguration.class,
     CasCoreServicesMonitoringConfiguration.class,
+    CasCoreServicesMetricsConfiguration.class,
     CasWebApplicationServiceFactoryConfiguration.class,
     CasCoreServicesComponentSerializationConfiguration.class,
     CasCoreServicesConfiguration.class,
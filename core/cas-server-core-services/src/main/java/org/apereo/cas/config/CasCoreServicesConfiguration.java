@@ -12,6 +12,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.notifications.CommunicationsManager;
+import org.apereo.cas.services.BaseRemoteRegisteredServiceAccessStrategy;
 import org.apereo.cas.services.ChainingServiceRegistry;
 import org.apereo.cas.services.ChainingServicesManager;
 import org.apereo.cas.services.DefaultChainingServiceRegistry;
@@ -45,6 +46,7 @@ import org.apereo.cas.services.replication.RegisteredServiceReplicationStrategy;
 import org.apereo.cas.services.resource.DefaultRegisteredServiceResourceNamingStrategy;
 import org.apereo.cas.services.resource.RegisteredServiceResourceNamingStrategy;
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -120,8 +122,16 @@ class CasCoreServicesConfiguration {
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager,
             @Qualifier(CommunicationsManager.BEAN_NAME)
-            final CommunicationsManager communicationsManager) {
-            return new DefaultRegisteredServicesEventListener(servicesManager, casProperties, communicationsManager);
+            final CommunicationsManager communicationsManager,
+            final ObjectProvider<List<AuthorizationDecisionCache<?>>> authorizationDecisionCaches) {
+            return new DefaultRegisteredServicesEventListener(servicesManager, casProperties,
+                communicationsManager, authorizationDecisionCaches.getIfAvailable(List::of));
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = BaseRemoteRegisteredServiceAccessStrategy.DECISION_CACHE_BEAN_NAME)
+        public AuthorizationDecisionCache<Boolean> registeredServiceAccessStrategyDecisionCache() {
+            return BaseRemoteRegisteredServiceAccessStrategy.newDecisionCache();
         }
     }
 
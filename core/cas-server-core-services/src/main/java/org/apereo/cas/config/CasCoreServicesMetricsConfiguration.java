@@ -0,0 +1,134 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.services.ChainingServicesManager;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.services.mgmt.AbstractServicesManager;
+import org.apereo.cas.services.mgmt.ServiceRegistryNegativeLookupCache;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
+import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link CasCoreServicesMetricsConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnFeatureEnabled(feature = {
+    CasFeatureModule.FeatureCatalog.Metrics,
+    CasFeatureModule.FeatureCatalog.ServiceRegistry
+})
+@Configuration(value = "CasCoreServicesMetricsConfiguration", proxyBeanMethods = false)
+class CasCoreServicesMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = "servicesManagerNegativeLookupCacheMeterBinder")
+    public MeterBinder servicesManagerNegativeLookupCacheMeterBinder(
+        @Qualifier(ServicesManager.BEAN_NAME)
+        final ObjectProvider<ServicesManager> servicesManager) {
+        return registry -> {
+            FunctionCounter.builder("cas.service.registry.negative.cache.hits", servicesManager,
+                    provider -> sum(provider, ServiceRegistryNegativeLookupCache.LookupStatistics::getNegativeHits))
+                .description("Service lookups answered from remembered unmatched services")
+                .register(registry);
+            FunctionCounter.builder("cas.service.registry.negative.cache.misses", servicesManager,
+                    provider -> sum(provider, ServiceRegistryNegativeLookupCache.LookupStatistics::getMisses))
+                .description("Service lookups that were not answered from remembered unmatched services")
+                .register(registry);
+            FunctionCounter.builder("cas.service.registry.negative.cache.coalesced", servicesManager,
+                    provider -> sum(provider, ServiceRegistryNegativeLookupCache.LookupStatistics::getCoalesced))
+                .description("Service lookups that waited on a concurrent lookup for the same service")
+                .register(registry);
+            FunctionTimer.builder("cas.service.registry.negative.cache.fetches", servicesManager,
+                    provider -> sum(provider, ServiceRegistryNegativeLookupCache.LookupStatistics::getFetches),
+                    provider -> sum(provider, ServiceRegistryNegativeLookupCache.LookupStatistics::getFetchTime),
+                    TimeUnit.NANOSECONDS)
+                .description("Service lookups that reached the service registry")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "authorizationDecisionCacheMeterBinder")
+    public MeterBinder authorizationDecisionCacheMeterBinder(
+        final ObjectProvider<List<AuthorizationDecisionCache<?>>> authorizationDecisionCaches) {
+        return registry -> {
+            FunctionCounter.builder("cas.authz.decision.cache.hits", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getHits))
+                .description("Authorization decisions answered from the cache")
+                .register(registry);
+            FunctionCounter.builder("cas.authz.decision.cache.stale.hits", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getStaleHits))
+                .description("Expired authorization decisions served while they were revalidated")
+                .register(registry);
+            FunctionCounter.builder("cas.authz.decision.cache.misses", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getMisses))
+                .description("Authorization decisions that were not found in the cache")
+                .register(registry);
+            FunctionCounter.builder("cas.authz.decision.cache.coalesced", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getCoalesced))
+                .description("Authorization decisions that waited on a concurrent request for the same decision")
+                .register(registry);
+            FunctionCounter.builder("cas.authz.decision.cache.failures", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getFailures))
+                .description("Requests to policy decision points that failed")
+                .register(registry);
+            FunctionTimer.builder("cas.authz.decision.cache.fetches", authorizationDecisionCaches,
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getFetches),
+                    provider -> sumDecisions(provider, AuthorizationDecisionCache.DecisionStatistics::getFetchTime),
+                    TimeUnit.NANOSECONDS)
+                .description("Requests sent to policy decision points")
+                .register(registry);
+        };
+    }
+
+    private static long sumDecisions(final ObjectProvider<List<AuthorizationDecisionCache<?>>> authorizationDecisionCaches,
+                                     final Function<AuthorizationDecisionCache.DecisionStatistics, LongAdder> metric) {
+        return authorizationDecisionCaches.getIfAvailable(List::of)
+            .stream()
+            .map(cache -> metric.apply(cache.getStatistics()))
+            .mapToLong(LongAdder::sum)
+            .sum();
+    }
+
+    private static long sum(final ObjectProvider<ServicesManager> servicesManager,
+                            final Function<ServiceRegistryNegativeLookupCache.LookupStatistics, LongAdder> metric) {
+        return getNegativeLookupCaches(servicesManager)
+            .map(cache -> metric.apply(cache.getStatistics()))
+            .mapToLong(LongAdder::sum)
+            .sum();
+    }
+
+    private static Stream<ServiceRegistryNegativeLookupCache> getNegativeLookupCaches(
+        final ObjectProvider<ServicesManager> servicesManager) {
+        val manager = servicesManager.getIfAvailable();
+        val managers = manager instanceof final ChainingServicesManager chain
+            ? chain.getServiceManagers().stream()
+            : Stream.ofNullable(manager);
+        return managers
+            .filter(AbstractServicesManager.class::isInstance)
+            .map(AbstractServicesManager.class::cast)
+            .map(AbstractServicesManager::getNegativeLookupCache)
+            .filter(Objects::nonNull);
+    }
+}
@@ -37,6 +37,22 @@ class DefaultServicesManagerTests {
     class NoIndexingTests extends AbstractServicesManagerTests {
     }
 
+    @Nested
+    @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class,
+        properties = "cas.service-registry.core.negative-cache.enabled=true")
+    class NegativeCacheTests extends AbstractServicesManagerTests {
+        @Test
+        void verifyUnknownServiceThenSaved() throws Throwable {
+            val serviceId = "https://%s.example.net/app".formatted(UUID.randomUUID().toString());
+            assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(serviceId)));
+            assertNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(serviceId)));
+            val registeredService = RegisteredServiceTestUtils.getRegisteredService(serviceId);
+            registeredService.setId(RandomUtils.nextLong());
+            servicesManager.save(registeredService);
+            assertNotNull(servicesManager.findServiceBy(RegisteredServiceTestUtils.getService(serviceId)));
+        }
+    }
+
     @Nested
     @SpringBootTest(classes = BaseAutoConfigurationTests.SharedTestConfiguration.class)
     class DefaultTests extends AbstractServicesManagerTests {
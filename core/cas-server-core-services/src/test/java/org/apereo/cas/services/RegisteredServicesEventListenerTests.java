@@ -14,8 +14,10 @@ import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.notifications.sms.MockSmsSender;
 import org.apereo.cas.notifications.sms.SmsSender;
 import org.apereo.cas.support.events.service.CasRegisteredServiceExpiredEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
 import org.apereo.cas.support.events.service.CasRegisteredServicesRefreshEvent;
 import org.apereo.cas.test.CasTestExtension;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import org.apereo.cas.util.spring.boot.SpringBootTestAutoConfigurations;
 import lombok.val;
@@ -34,7 +36,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
 import org.springframework.context.annotation.Bean;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -80,6 +84,14 @@ class RegisteredServicesEventListenerTests {
     @Autowired
     private CasConfigurationProperties casProperties;
 
+    @Autowired
+    @Qualifier(BaseRemoteRegisteredServiceAccessStrategy.DECISION_CACHE_BEAN_NAME)
+    private AuthorizationDecisionCache<Boolean> registeredServiceAccessStrategyDecisionCache;
+
+    @Autowired
+    @Qualifier("registeredServicesEventListener")
+    private RegisteredServicesEventListener registeredServicesEventListener;
+
     private ClientInfo clientInfo;
 
     @BeforeEach
@@ -93,7 +105,7 @@ class RegisteredServicesEventListenerTests {
         assertDoesNotThrow(new Executable() {
             @Override
             public void execute() {
-                val listener = new DefaultRegisteredServicesEventListener(servicesManager, casProperties, communicationsManager);
+                val listener = new DefaultRegisteredServicesEventListener(servicesManager, casProperties, communicationsManager, List.of());
                 val event = new CasRegisteredServiceExpiredEvent(this, registeredService, false, clientInfo);
                 listener.handleRegisteredServiceExpiredEvent(event);
             }
@@ -108,7 +120,7 @@ class RegisteredServicesEventListenerTests {
         contact.setEmail("casuser@example.org");
         contact.setPhone("13477465421");
         registeredService.getContacts().add(contact);
-        val listener = new DefaultRegisteredServicesEventListener(this.servicesManager, casProperties, communicationsManager);
+        val listener = new DefaultRegisteredServicesEventListener(this.servicesManager, casProperties, communicationsManager, List.of());
         val event = new CasRegisteredServiceExpiredEvent(this, registeredService, false, clientInfo);
         assertDoesNotThrow(() -> listener.handleRegisteredServiceExpiredEvent(event));
     }
@@ -121,13 +133,27 @@ class RegisteredServicesEventListenerTests {
         contact.setEmail("casuser@example.org");
         contact.setPhone("13477465421");
         registeredService.getContacts().add(contact);
-        val listener = new DefaultRegisteredServicesEventListener(this.servicesManager, casProperties, communicationsManager);
+        val listener = new DefaultRegisteredServicesEventListener(this.servicesManager, casProperties, communicationsManager, List.of());
         listener.handleRefreshEvent(new CasRegisteredServicesRefreshEvent(this, clientInfo));
         listener.handleEnvironmentChangeEvent(new EnvironmentChangeEvent(Set.of()));
         val event = new CasRegisteredServiceExpiredEvent(this, registeredService, true, clientInfo);
         listener.handleRegisteredServiceExpiredEvent(event);
     }
 
+    @Test
+    void verifySavedServiceInvalidatesDecisions() throws Throwable {
+        val calls = new AtomicInteger();
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of("PT1M", null, null);
+        assertTrue(registeredServiceAccessStrategyDecisionCache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertTrue(registeredServiceAccessStrategyDecisionCache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(1, calls.get());
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        registeredServicesEventListener.handleRegisteredServiceSavedEvent(
+            new CasRegisteredServiceSavedEvent(this, registeredService, clientInfo));
+        assertTrue(registeredServiceAccessStrategyDecisionCache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(2, calls.get());
+    }
+
     @TestConfiguration(value = "RegisteredServicesEventListenerTestConfiguration", proxyBeanMethods = false)
     static class RegisteredServicesEventListenerTestConfiguration {
 
@@ -3,15 +3,20 @@ package org.apereo.cas.services;
 import org.apereo.cas.util.MockWebServer;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.http.MediaType;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -55,4 +60,32 @@ class RemoteEndpointServiceAccessStrategyTests {
             assertFalse(strategy.authorizeRequest(RegisteredServiceAccessStrategyRequest.builder().principalId("casuser").build()));
         }
     }
+
+    @Test
+    void verifyDecisionCache() throws Throwable {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext,
+            BaseRemoteRegisteredServiceAccessStrategy.newDecisionCache(),
+            BaseRemoteRegisteredServiceAccessStrategy.DECISION_CACHE_BEAN_NAME);
+        ApplicationContextProvider.holdApplicationContext(applicationContext);
+
+        val strategy = new RemoteEndpointServiceAccessStrategy();
+        strategy.setAcceptableResponseCodes("200");
+        strategy.setDecisionCache(new RegisteredServiceAccessStrategyDecisionCachePolicy()
+            .setTimeToLive("PT1M").setAttributes(List.of("email")));
+        val request = RegisteredServiceAccessStrategyRequest.builder()
+            .principalId(UUID.randomUUID().toString())
+            .attributes(Map.of("email", List.of("casuser@example.org")))
+            .build();
+        try (val webServer = new MockWebServer(MediaType.APPLICATION_JSON_VALUE)) {
+            webServer.start();
+            strategy.setEndpointUrl("http://localhost:%s".formatted(webServer.getPort()));
+            assertTrue(strategy.authorizeRequest(request));
+        }
+        assertTrue(strategy.authorizeRequest(request));
+        assertTrue(strategy.authorizeRequest(request.withAttributes(Map.of("email", List.of("casuser@example.org"),
+            "phone", List.of("123456789")))));
+        assertFalse(strategy.authorizeRequest(request.withAttributes(Map.of("email", List.of("user@example.org")))));
+    }
 }
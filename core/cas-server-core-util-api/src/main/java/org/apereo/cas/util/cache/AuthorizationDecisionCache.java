@@ -0,0 +1,263 @@
+package org.apereo.cas.util.cache;
+
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link AuthorizationDecisionCache}.
+ * Remembers decisions produced by external policy decision points,
+ * such that repeated authorization requests for the same subject and resource
+ * do not reach the decision point every time. Positive and negative decisions
+ * are kept for separate durations, and concurrent requests for the same decision
+ * are collapsed into a single call. Once a decision expires, it may still be served
+ * for a limited window while a fresh decision is obtained in the background, which also
+ * allows the cache to ride out decision points that are slow or unavailable.
+ * Decisions that do not pass the cacheable predicate, such as server errors, are never remembered.
+ * Caches are registered as beans, so they can be invalidated and measured together.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ * @param <V> the decision type
+ */
+@Slf4j
+@Getter
+public class AuthorizationDecisionCache<V> {
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 50_000;
+
+    private final String name;
+
+    private final Predicate<V> positiveDecision;
+
+    private final Predicate<V> cacheableDecision;
+
+    private final Cache<String, CachedDecision<V>> decisions;
+
+    private final Map<String, CompletableFuture<CachedDecision<V>>> inflightDecisions = new ConcurrentHashMap<>();
+
+    private final DecisionStatistics statistics = new DecisionStatistics();
+
+    public AuthorizationDecisionCache(final String name, final Predicate<V> positiveDecision) {
+        this(name, positiveDecision, value -> true);
+    }
+
+    public AuthorizationDecisionCache(final String name, final Predicate<V> positiveDecision,
+                                      final Predicate<V> cacheableDecision) {
+        this(name, positiveDecision, cacheableDecision, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public AuthorizationDecisionCache(final String name, final Predicate<V> positiveDecision,
+                                      final Predicate<V> cacheableDecision, final long maximumSize) {
+        this.name = name;
+        this.positiveDecision = positiveDecision;
+        this.cacheableDecision = cacheableDecision;
+        this.decisions = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new DecisionExpiry<V>())
+            .build();
+    }
+
+    /**
+     * Produce a decision for the given key, either from the cache
+     * or by asking the decision maker. Failures of the decision maker are passed
+     * back to the caller, unless an expired decision may still be served.
+     *
+     * @param key           the key
+     * @param settings      the settings
+     * @param decisionMaker the decision maker
+     * @return the decision
+     * @throws Exception the exception
+     */
+    public V decide(final String key, final DecisionCacheSettings settings,
+                    final Callable<V> decisionMaker) throws Exception {
+        if (settings == null || !settings.isEnabled()) {
+            return decisionMaker.call();
+        }
+        val now = System.nanoTime();
+        val cached = decisions.getIfPresent(key);
+        if (cached != null && cached.isFresh(now)) {
+            statistics.getHits().increment();
+            return cached.value();
+        }
+        if (cached != null && cached.isRetained(now)) {
+            LOGGER.trace("Serving expired decision for [{}] from [{}] while it is revalidated", key, name);
+            statistics.getStaleHits().increment();
+            if (!inflightDecisions.containsKey(key)) {
+                REFRESH_EXECUTOR.execute(() -> fetch(key, settings, decisionMaker));
+            }
+            return cached.value();
+        }
+        statistics.getMisses().increment();
+        try {
+            return fetch(key, settings, decisionMaker).join().value();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forget all decisions.
+     */
+    public void invalidate() {
+        LOGGER.trace("Invalidating decisions remembered by [{}]", name);
+        decisions.invalidateAll();
+    }
+
+    private CompletableFuture<CachedDecision<V>> fetch(final String key, final DecisionCacheSettings settings,
+                                                       final Callable<V> decisionMaker) {
+        val future = new CompletableFuture<CachedDecision<V>>();
+        val inflight = inflightDecisions.putIfAbsent(key, future);
+        if (inflight != null) {
+            statistics.getCoalesced().increment();
+            return inflight;
+        }
+        val startTime = System.nanoTime();
+        try {
+            val value = decisionMaker.call();
+            val timeToLive = positiveDecision.test(value) ? settings.timeToLive() : settings.negativeTimeToLive();
+            val decision = new CachedDecision<>(value, System.nanoTime(), timeToLive.toNanos(),
+                timeToLive.plus(settings.staleWhileRevalidate()).toNanos());
+            if (decision.retention() > 0 && cacheableDecision.test(value)) {
+                decisions.put(key, decision);
+            }
+            future.complete(decision);
+        } catch (final Throwable e) {
+            statistics.getFailures().increment();
+            LoggingUtils.warn(LOGGER, "Unable to obtain decision for [%s] from [%s]".formatted(key, name), e);
+            future.completeExceptionally(e);
+        } finally {
+            statistics.getFetches().increment();
+            statistics.getFetchTime().add(System.nanoTime() - startTime);
+            inflightDecisions.remove(key, future);
+        }
+        return future;
+    }
+
+    /**
+     * Durations that control how long decisions are kept.
+     *
+     * @param timeToLive           how long positive decisions are considered fresh
+     * @param negativeTimeToLive   how long negative decisions are considered fresh
+     * @param staleWhileRevalidate how long expired decisions may still be served while revalidated
+     */
+    public record DecisionCacheSettings(Duration timeToLive, Duration negativeTimeToLive, Duration staleWhileRevalidate) {
+        public DecisionCacheSettings {
+            timeToLive = timeToLive == null ? Duration.ZERO : timeToLive;
+            negativeTimeToLive = negativeTimeToLive == null ? timeToLive : negativeTimeToLive;
+            staleWhileRevalidate = staleWhileRevalidate == null ? Duration.ZERO : staleWhileRevalidate;
+        }
+
+        /**
+         * Build settings from duration definitions.
+         * A blank negative duration falls back to the positive duration.
+         *
+         * @param timeToLive           the time to live
+         * @param negativeTimeToLive   the negative time to live
+         * @param staleWhileRevalidate the stale while revalidate window
+         * @return the settings
+         */
+        public static DecisionCacheSettings of(final String timeToLive, final String negativeTimeToLive,
+                                               final String staleWhileRevalidate) {
+            return new DecisionCacheSettings(toDuration(timeToLive), toDuration(negativeTimeToLive), toDuration(staleWhileRevalidate));
+        }
+
+        public boolean isEnabled() {
+            return timeToLive.isPositive() || negativeTimeToLive.isPositive();
+        }
+
+        private static Duration toDuration(final String value) {
+            return StringUtils.isBlank(value) ? null : Beans.newDuration(value);
+        }
+    }
+
+    private record CachedDecision<V>(V value, long createdAt, long timeToLive, long retention) {
+        boolean isFresh(final long now) {
+            return now - createdAt < timeToLive;
+        }
+
+        boolean isRetained(final long now) {
+            return now - createdAt < retention;
+        }
+    }
+
+    private static final class DecisionExpiry<V> implements Expiry<String, CachedDecision<V>> {
+        @Override
+        public long expireAfterCreate(final String key, final CachedDecision<V> value, final long currentTime) {
+            return value.retention();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedDecision<V> value,
+                                      final long currentTime, final long currentDuration) {
+            return value.retention();
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedDecision<V> value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Decision statistics.
+     */
+    @Getter
+    public static class DecisionStatistics {
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder staleHits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder coalesced = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder fetches = new LongAdder();
+
+        private final LongAdder fetchTime = new LongAdder();
+
+        /**
+         * Ratio of requests answered from the cache.
+         *
+         * @return the ratio
+         */
+        public double getHitRatio() {
+            val served = hits.sum() + staleHits.sum();
+            val total = served + misses.sum();
+            return total == 0 ? 0 : served / (double) total;
+        }
+
+        /**
+         * Average fetch latency in milliseconds.
+         *
+         * @return the latency
+         */
+        public double getAverageFetchLatency() {
+            val count = fetches.sum();
+            return count == 0 ? 0 : fetchTime.sum() / (double) count / 1_000_000D;
+        }
+    }
+}
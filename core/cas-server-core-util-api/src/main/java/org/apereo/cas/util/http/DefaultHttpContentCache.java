@@ -0,0 +1,329 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.hc.core5.http.HttpEntityContainer;
+import org.apache.hc.core5.http.HttpResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * This is {@link DefaultHttpContentCache} that honors {@code Cache-Control}
+ * and {@code ETag} response headers.
+ * <p>
+ * Content is served as-is while it is fresh. Once stale, it continues to be served within the
+ * {@code stale-while-revalidate} window while it is refreshed in the background, using a conditional
+ * request if the response carried an entity tag or a last-modified date. Beyond that window, requests wait
+ * for the content to be fetched again, and concurrent requests for the same key share a single fetch.
+ * If the remote endpoint fails, stale content is served within the {@code stale-if-error} window;
+ * if nothing usable is remembered, the failure itself is remembered for a short while,
+ * so that a failing endpoint is not contacted for every request.
+ * Responses marked with {@code no-store} or {@code private}, or that vary on every request, are never remembered.
+ * Responses that vary on request headers are only served to requests that carry the same header values.
+ * Statistics are recorded into a {@link HttpContentCacheStatistics} that may outlive the cache.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class DefaultHttpContentCache implements HttpContentCache, AutoCloseable {
+    private static final String VARY_ALL = "*";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Map<String, CompletableFuture<Optional<CachedContent>>> fetches = new ConcurrentHashMap<>();
+
+    private final HttpContentCacheStatistics statistics;
+
+    private final Duration timeToLive;
+
+    private final Duration staleWhileRevalidate;
+
+    private final Duration staleIfError;
+
+    private final Cache<String, CachedContent> contents;
+
+    private final Cache<String, Boolean> failures;
+
+    public DefaultHttpContentCache(final Duration timeToLive, final Duration staleWhileRevalidate,
+                                   final Duration staleIfError, final Duration failureTimeToLive,
+                                   final long maximumSize) {
+        this(timeToLive, staleWhileRevalidate, staleIfError, failureTimeToLive, maximumSize, new HttpContentCacheStatistics());
+    }
+
+    public DefaultHttpContentCache(final Duration timeToLive, final Duration staleWhileRevalidate,
+                                   final Duration staleIfError, final Duration failureTimeToLive,
+                                   final long maximumSize, final HttpContentCacheStatistics statistics) {
+        this.statistics = statistics;
+        this.timeToLive = timeToLive;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.staleIfError = staleIfError;
+        this.contents = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new CachedContentExpiry())
+            .build();
+        this.failures = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(failureTimeToLive)
+            .build();
+    }
+
+    @Override
+    public Optional<String> get(final String key, final String url,
+                                final Function<Map<String, String>, HttpExecutionRequest> requestBuilder) {
+        val counters = statistics.getOriginCounters(getOrigin(url));
+        val cached = Optional.ofNullable(contents.getIfPresent(key))
+            .filter(content -> content.varyHeaders().isEmpty() || content.matches(requestBuilder.apply(Map.of()).getHeaders()))
+            .orElse(null);
+        val now = System.nanoTime();
+        if (cached != null && now < cached.freshUntil()) {
+            counters.hits.increment();
+            return Optional.of(cached.body());
+        }
+        if (cached != null && now < cached.staleUntil()) {
+            LOGGER.trace("Serving stale content for [{}] while it is refreshed", key);
+            counters.staleHits.increment();
+            fetch(key, cached, counters, requestBuilder);
+            return Optional.of(cached.body());
+        }
+        if (failures.getIfPresent(key) != null) {
+            LOGGER.trace("Content for [{}] could not be fetched recently", key);
+            counters.failureHits.increment();
+            return Optional.empty();
+        }
+        counters.misses.increment();
+        return fetch(key, cached, counters, requestBuilder).join().map(CachedContent::body);
+    }
+
+    @Override
+    public void invalidate() {
+        contents.invalidateAll();
+        failures.invalidateAll();
+    }
+
+    @Override
+    public Map<String, OriginStatistics> getStatistics() {
+        return statistics.getStatistics();
+    }
+
+    @Override
+    public void registerOriginListener(final Consumer<String> listener) {
+        statistics.registerOriginListener(listener);
+    }
+
+    @Override
+    public void close() {
+        invalidate();
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<Optional<CachedContent>> fetch(final String key, final CachedContent previous,
+                                                             final HttpContentCacheStatistics.OriginCounters counters,
+                                                             final Function<Map<String, String>, HttpExecutionRequest> requestBuilder) {
+        val fetch = new CompletableFuture<Optional<CachedContent>>();
+        val existing = fetches.putIfAbsent(key, fetch);
+        if (existing != null) {
+            LOGGER.trace("Content for [{}] is already being fetched", key);
+            return existing;
+        }
+        final Runnable task = () -> {
+            try {
+                val result = execute(key, previous, counters, requestBuilder);
+                fetches.remove(key, fetch);
+                fetch.complete(result);
+            } catch (final Throwable e) {
+                fetches.remove(key, fetch);
+                fetch.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            LOGGER.debug("Content cache is closed; fetching content for [{}] directly", key);
+            task.run();
+        }
+        return fetch;
+    }
+
+    private Optional<CachedContent> execute(final String key, final CachedContent previous,
+                                            final HttpContentCacheStatistics.OriginCounters counters,
+                                            final Function<Map<String, String>, HttpExecutionRequest> requestBuilder) {
+        val conditionalHeaders = new LinkedHashMap<String, String>();
+        if (previous != null) {
+            if (StringUtils.isNotBlank(previous.etag())) {
+                conditionalHeaders.put(HttpHeaders.IF_NONE_MATCH, previous.etag());
+            }
+            if (StringUtils.isNotBlank(previous.lastModified())) {
+                conditionalHeaders.put(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+            }
+        }
+        HttpResponse response = null;
+        val startTime = System.nanoTime();
+        try {
+            counters.fetches.increment();
+            val request = requestBuilder.apply(conditionalHeaders);
+            response = HttpUtils.execute(request);
+            if (response != null && response.getCode() == HttpStatus.NOT_MODIFIED.value() && previous != null) {
+                LOGGER.trace("Content for [{}] is not modified", key);
+                counters.notModified.increment();
+                return Optional.of(remember(key, previous.body(), previous.etag(), previous.lastModified(), request, response));
+            }
+            if (response != null && HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
+                try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
+                    val body = IOUtils.toString(content, StandardCharsets.UTF_8);
+                    return Optional.of(remember(key, body, getHeader(response, HttpHeaders.ETAG),
+                        getHeader(response, HttpHeaders.LAST_MODIFIED), request, response));
+                }
+            }
+            LOGGER.debug("Unable to fetch content for [{}]; response status is [{}]", key,
+                response == null ? null : response.getCode());
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+        } finally {
+            counters.fetchLatency.add(System.nanoTime() - startTime);
+            HttpUtils.close(response);
+        }
+        counters.failures.increment();
+        val usable = Optional.ofNullable(previous).filter(content -> System.nanoTime() < content.usableOnErrorUntil());
+        if (usable.isEmpty()) {
+            failures.put(key, Boolean.TRUE);
+        }
+        return usable;
+    }
+
+    private CachedContent remember(final String key, final String body, final String etag,
+                                   final String lastModified, final HttpExecutionRequest request,
+                                   final HttpResponse response) {
+        failures.invalidate(key);
+        val directives = CacheControlDirectives.parse(getHeader(response, HttpHeaders.CACHE_CONTROL));
+        val varyHeaders = getVaryHeaders(response, request);
+        val now = System.nanoTime();
+        val freshness = directives.noCache() ? Duration.ZERO : directives.maxAge().orElse(timeToLive);
+        val freshUntil = now + freshness.toNanos();
+        val staleUntil = freshUntil + directives.staleWhileRevalidate().orElse(staleWhileRevalidate).toNanos();
+        val usableOnErrorUntil = freshUntil + directives.staleIfError().orElse(staleIfError).toNanos();
+        val content = new CachedContent(body, etag, lastModified, varyHeaders.orElse(Map.of()),
+            freshUntil, staleUntil, usableOnErrorUntil);
+        if (directives.noStore() || directives.privateResponse() || varyHeaders.isEmpty()) {
+            contents.invalidate(key);
+        } else {
+            contents.put(key, content);
+        }
+        return content;
+    }
+
+    private static Optional<Map<String, String>> getVaryHeaders(final HttpResponse response,
+                                                                final HttpExecutionRequest request) {
+        val results = new TreeMap<String, String>();
+        for (val header : response.getHeaders(HttpHeaders.VARY)) {
+            for (val name : StringUtils.split(StringUtils.defaultString(header.getValue()), ',')) {
+                val headerName = name.trim().toLowerCase(Locale.ENGLISH);
+                if (VARY_ALL.equals(headerName)) {
+                    return Optional.empty();
+                }
+                if (StringUtils.isNotBlank(headerName)) {
+                    results.put(headerName, StringUtils.defaultString(getHeader(request.getHeaders(), headerName)));
+                }
+            }
+        }
+        return Optional.of(results);
+    }
+
+    private static String getHeader(final Map<String, String> headers, final String name) {
+        return headers.entrySet()
+            .stream()
+            .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static String getOrigin(final String url) {
+        try {
+            val uri = UriComponentsBuilder.fromUriString(url).build();
+            val port = uri.getPort() > 0 ? ":" + uri.getPort() : StringUtils.EMPTY;
+            return StringUtils.defaultString(uri.getScheme()) + "://" + StringUtils.defaultString(uri.getHost()) + port;
+        } catch (final Exception e) {
+            LOGGER.trace(e.getMessage(), e);
+            return StringUtils.defaultString(url);
+        }
+    }
+
+    private static String getHeader(final HttpResponse response, final String name) {
+        val header = response.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
+    private record CachedContent(String body, String etag, String lastModified, Map<String, String> varyHeaders,
+                                 long freshUntil, long staleUntil, long usableOnErrorUntil) {
+        boolean matches(final Map<String, String> requestHeaders) {
+            return varyHeaders.entrySet()
+                .stream()
+                .allMatch(entry -> entry.getValue().equals(StringUtils.defaultString(getHeader(requestHeaders, entry.getKey()))));
+        }
+    }
+
+    private record CacheControlDirectives(boolean noStore, boolean noCache, boolean privateResponse, Optional<Duration> maxAge,
+                                          Optional<Duration> staleWhileRevalidate, Optional<Duration> staleIfError) {
+        static CacheControlDirectives parse(final String header) {
+            val directives = new LinkedHashMap<String, String>();
+            for (val directive : StringUtils.split(StringUtils.defaultString(header), ',')) {
+                val name = StringUtils.substringBefore(directive, "=").trim().toLowerCase(Locale.ENGLISH);
+                val value = StringUtils.strip(StringUtils.substringAfter(directive, "=").trim(), "\"");
+                directives.put(name, value);
+            }
+            return new CacheControlDirectives(directives.containsKey("no-store"), directives.containsKey("no-cache"),
+                directives.containsKey("private"), getSeconds(directives, "max-age"), getSeconds(directives, "stale-while-revalidate"),
+                getSeconds(directives, "stale-if-error"));
+        }
+
+        private static Optional<Duration> getSeconds(final Map<String, String> directives, final String name) {
+            return Optional.ofNullable(directives.get(name))
+                .filter(NumberUtils::isDigits)
+                .map(value -> Duration.ofSeconds(NumberUtils.toLong(value)));
+        }
+    }
+
+    private static final class CachedContentExpiry implements Expiry<String, CachedContent> {
+        @Override
+        public long expireAfterCreate(final String key, final CachedContent value, final long currentTime) {
+            return Math.max(Math.max(value.staleUntil(), value.usableOnErrorUntil()) - System.nanoTime(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedContent value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedContent value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -26,6 +26,11 @@ public interface HttpClient {
      */
     String BEAN_NAME_HTTPCLIENT = "httpClient";
 
+    /**
+     * Bean name for the client implementation that verifies proxy callback urls.
+     */
+    String BEAN_NAME_HTTPCLIENT_PROXY_CALLBACK = "proxyCallbackHttpClient";
+
     /**
      * Sends a message to a particular endpoint.  Option of sending it without
      * waiting to ensure a response was returned.
@@ -61,6 +66,18 @@ public interface HttpClient {
      */
     boolean isValidEndPoint(URL url);
 
+    /**
+     * Verify that the url endpoint is reachable and trusted.
+     * Unlike {@link #isValidEndPoint(URL)}, implementations may skip contacting
+     * the endpoint if its origin was recently verified.
+     *
+     * @param url the url to verify
+     * @return whether the url is verified
+     */
+    default boolean verifyEndPoint(final URL url) {
+        return isValidEndPoint(url);
+    }
+
     /**
      * Gets wrapped http client.
      *
@@ -0,0 +1,407 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientPoolProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.function.FunctionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link HttpClientRegistry}.
+ * Keeps pooled HTTP clients keyed by their effective connection settings,
+ * so that requests sharing the same proxy, TLS context and timeouts
+ * reuse connections and TLS sessions instead of building a new client each time.
+ * Connections that stay idle are evicted by each client in the background,
+ * and clients that are no longer requested, typically because their TLS context
+ * was replaced on refresh, are evicted and closed once in-flight requests had time to complete.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class HttpClientRegistry implements AutoCloseable {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "httpClientRegistry";
+
+    @Getter
+    private final HttpClientPoolProperties properties;
+
+    private final Cache<HttpClientKey, PooledHttpClient> clients;
+
+    private final Cache<HttpClientKey, PooledHttpAsyncClient> asyncClients;
+
+    private final LongAdder createdClients = new LongAdder();
+
+    private final LongAdder evictedClients = new LongAdder();
+
+    private final Set<String> destinations = ConcurrentHashMap.newKeySet();
+
+    private final List<Consumer<String>> destinationListeners = new CopyOnWriteArrayList<>();
+
+    public HttpClientRegistry(final HttpClientPoolProperties properties) {
+        this.properties = properties;
+        this.clients = newClientCache();
+        this.asyncClients = newClientCache();
+    }
+
+    /**
+     * Gets or create a pooled classic http client.
+     *
+     * @param key           the key
+     * @param socketFactory the socket factory, created only when a new client is needed
+     * @return the http client
+     */
+    public CloseableHttpClient getHttpClient(final HttpClientKey key,
+                                             final Supplier<LayeredConnectionSocketFactory> socketFactory) {
+        if (!properties.isEnabled()) {
+            return buildHttpClient(key, socketFactory.get()).client();
+        }
+        return clients.get(key, k -> {
+            LOGGER.debug("Creating pooled HTTP client for [{}]", k);
+            createdClients.increment();
+            return buildHttpClient(k, socketFactory.get());
+        }).client();
+    }
+
+    /**
+     * Gets or create a pooled asynchronous http client.
+     *
+     * @param key              the key
+     * @param sslContext       the ssl context
+     * @param hostnameVerifier the hostname verifier
+     * @return the http async client
+     */
+    public CloseableHttpAsyncClient getHttpAsyncClient(final HttpClientKey key,
+                                                       final SSLContext sslContext,
+                                                       final HostnameVerifier hostnameVerifier) {
+        return asyncClients.get(key, k -> {
+            LOGGER.debug("Creating pooled asynchronous HTTP client for [{}]", k);
+            createdClients.increment();
+            return buildHttpAsyncClient(k, sslContext, hostnameVerifier);
+        }).client();
+    }
+
+    /**
+     * Register a listener that is notified of every destination pooled clients connect to,
+     * including destinations that are already known.
+     *
+     * @param listener the listener
+     */
+    public void registerDestinationListener(final Consumer<String> listener) {
+        destinationListeners.add(listener);
+        destinations.forEach(listener);
+    }
+
+    /**
+     * Evict all pooled clients. Evicted clients are closed
+     * once requests that are still in flight had time to complete.
+     */
+    public void evictAll() {
+        LOGGER.debug("Evicting [{}] pooled HTTP client(s)", clients.estimatedSize());
+        clients.invalidateAll();
+        clients.cleanUp();
+        asyncClients.invalidateAll();
+        asyncClients.cleanUp();
+    }
+
+    /**
+     * Collect pool statistics for each destination
+     * across all pooled clients.
+     *
+     * @return the pool statistics keyed by destination
+     */
+    public Map<String, PoolStats> getPoolStatistics() {
+        val statistics = new TreeMap<String, PoolStats>();
+        clients.asMap().values().forEach(client -> collectPoolStatistics(client.connectionManager(), statistics));
+        asyncClients.asMap().values().forEach(client -> collectPoolStatistics(client.connectionManager(), statistics));
+        return statistics;
+    }
+
+    /**
+     * Collect pool statistics for the given destination across all pooled clients.
+     *
+     * @param destination the destination, as reported to destination listeners
+     * @return the pool statistics
+     */
+    public PoolStats getPoolStatistics(final String destination) {
+        return getPoolStatistics().getOrDefault(destination, new PoolStats(0, 0, 0, 0));
+    }
+
+    /**
+     * Collect pool statistics across all pooled clients and destinations.
+     *
+     * @return the pool statistics
+     */
+    public PoolStats getTotalPoolStatistics() {
+        val classic = clients.asMap().values().stream().map(client -> client.connectionManager().getTotalStats());
+        val async = asyncClients.asMap().values().stream().map(client -> client.connectionManager().getTotalStats());
+        return Stream.concat(classic, async)
+            .reduce(new PoolStats(0, 0, 0, 0), HttpClientRegistry::merge);
+    }
+
+    /**
+     * Gets the number of pooled clients.
+     *
+     * @return the client count
+     */
+    public long getClientCount() {
+        return clients.estimatedSize() + asyncClients.estimatedSize();
+    }
+
+    /**
+     * Gets the number of pooled clients created so far.
+     *
+     * @return the created client count
+     */
+    public long getCreatedClientCount() {
+        return createdClients.sum();
+    }
+
+    /**
+     * Gets the number of pooled clients evicted so far.
+     *
+     * @return the evicted client count
+     */
+    public long getEvictedClientCount() {
+        return evictedClients.sum();
+    }
+
+    @Override
+    public void close() {
+        clients.asMap().values().forEach(client -> client.client().close(CloseMode.GRACEFUL));
+        clients.asMap().clear();
+        asyncClients.asMap().values().forEach(client -> client.client().close(CloseMode.GRACEFUL));
+        asyncClients.asMap().clear();
+    }
+
+    private <T extends PooledClient> Cache<HttpClientKey, T> newClientCache() {
+        return Caffeine.newBuilder()
+            .expireAfterAccess(Beans.newDuration(properties.getUnusedClientEviction()))
+            .executor(Runnable::run)
+            .removalListener((HttpClientKey key, T client, RemovalCause cause) -> {
+                if (client != null) {
+                    evictedClients.increment();
+                    retire(key, client.client());
+                }
+            })
+            .build();
+    }
+
+    private void recordDestination(final HttpRequest request, final EntityDetails entity, final HttpContext context) {
+        val route = HttpClientContext.castOrCreate(context).getHttpRoute();
+        if (route != null) {
+            val destination = route.getTargetHost().toURI();
+            if (!destinations.contains(destination) && destinations.add(destination)) {
+                destinationListeners.forEach(listener -> listener.accept(destination));
+            }
+        }
+    }
+
+    private static void retire(final HttpClientKey key, final ModalCloseable client) {
+        val gracePeriod = key.connectTimeout().toMilliseconds()
+            + key.socketTimeout().toMilliseconds()
+            + key.connectionRequestTimeout().toMilliseconds();
+        LOGGER.debug("Closing evicted HTTP client for [{}] in [{}] ms", key, gracePeriod);
+        CompletableFuture.runAsync(() -> client.close(CloseMode.GRACEFUL),
+            CompletableFuture.delayedExecutor(gracePeriod, TimeUnit.MILLISECONDS));
+    }
+
+    private static PoolStats merge(final PoolStats first, final PoolStats second) {
+        return new PoolStats(
+            first.getLeased() + second.getLeased(),
+            first.getPending() + second.getPending(),
+            first.getAvailable() + second.getAvailable(),
+            first.getMax() + second.getMax());
+    }
+
+    private static void collectPoolStatistics(final ConnPoolControl<HttpRoute> connectionManager,
+                                              final Map<String, PoolStats> statistics) {
+        connectionManager.getRoutes().forEach(route -> {
+            val stats = connectionManager.getStats(route);
+            statistics.merge(route.getTargetHost().toURI(), stats, HttpClientRegistry::merge);
+        });
+    }
+
+    private PooledHttpClient buildHttpClient(final HttpClientKey key,
+                                             final LayeredConnectionSocketFactory socketFactory) {
+        val connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setSSLSocketFactory(socketFactory)
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(key.socketTimeout())
+                .build())
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setConnPoolPolicy(PoolReusePolicy.LIFO)
+            .setMaxConnTotal(properties.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(buildConnectionConfig(key))
+            .build();
+        val builder = HttpClientBuilder
+            .create()
+            .useSystemProperties()
+            .setDefaultRequestConfig(buildRequestConfig(key))
+            .setConnectionManager(connectionManager)
+            .addRequestInterceptorLast(this::recordDestination);
+        if (properties.isEnabled()) {
+            builder.evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(Beans.newDuration(properties.getIdleConnectionEviction())));
+        }
+        FunctionUtils.doIfNotBlank(key.proxyUrl(), __ -> builder.setProxy(toHttpHost(key.proxyUrl())));
+        return new PooledHttpClient(builder.build(), connectionManager);
+    }
+
+    private PooledHttpAsyncClient buildHttpAsyncClient(final HttpClientKey key,
+                                                       final SSLContext sslContext,
+                                                       final HostnameVerifier hostnameVerifier) {
+        val tlsStrategy = ClientTlsStrategyBuilder.create()
+            .setSslContext(sslContext)
+            .setHostnameVerifier(hostnameVerifier)
+            .build();
+        val versionPolicy = properties.isHttp2Enabled() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1;
+        val connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setTlsStrategy(tlsStrategy)
+            .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(versionPolicy).build())
+            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+            .setConnPoolPolicy(PoolReusePolicy.LIFO)
+            .setMaxConnTotal(properties.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(buildConnectionConfig(key))
+            .build();
+        val builder = HttpAsyncClientBuilder.create()
+            .useSystemProperties()
+            .setDefaultRequestConfig(buildRequestConfig(key))
+            .setConnectionManager(connectionManager)
+            .addRequestInterceptorLast(this::recordDestination)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(Beans.newDuration(properties.getIdleConnectionEviction())));
+        FunctionUtils.doIfNotBlank(key.proxyUrl(), __ -> builder.setProxy(toHttpHost(key.proxyUrl())));
+        val client = builder.build();
+        client.start();
+        return new PooledHttpAsyncClient(client, connectionManager);
+    }
+
+    private ConnectionConfig buildConnectionConfig(final HttpClientKey key) {
+        val timeToLive = properties.isEnabled()
+            ? Timeout.of(Beans.newDuration(properties.getConnectionTimeToLive()))
+            : key.connectTimeout();
+        return ConnectionConfig.custom()
+            .setTimeToLive(timeToLive)
+            .setSocketTimeout(key.socketTimeout())
+            .setConnectTimeout(key.connectTimeout())
+            .build();
+    }
+
+    private static RequestConfig buildRequestConfig(final HttpClientKey key) {
+        return RequestConfig.custom()
+            .setConnectionRequestTimeout(key.connectionRequestTimeout())
+            .setConnectTimeout(key.connectTimeout())
+            .build();
+    }
+
+    private static HttpHost toHttpHost(final String proxyUrl) {
+        return FunctionUtils.doUnchecked(() -> {
+            val proxyEndpoint = new URI(proxyUrl).toURL();
+            return new HttpHost(proxyEndpoint.getHost(), proxyEndpoint.getPort());
+        });
+    }
+
+    /**
+     * Effective connection settings that identify a pooled client.
+     * TLS settings are compared by identity, since they are typically shared singletons.
+     *
+     * @param proxyUrl                 the proxy url
+     * @param tlsContext               the socket factory or ssl context
+     * @param hostnameVerifier         the hostname verifier
+     * @param connectTimeout           the connect timeout
+     * @param socketTimeout            the socket timeout
+     * @param connectionRequestTimeout the connection request timeout
+     */
+    public record HttpClientKey(String proxyUrl, Object tlsContext, Object hostnameVerifier,
+                                Timeout connectTimeout, Timeout socketTimeout, Timeout connectionRequestTimeout) {
+        public HttpClientKey {
+            proxyUrl = StringUtils.defaultString(proxyUrl).trim();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof final HttpClientKey key
+                && proxyUrl.equals(key.proxyUrl)
+                && tlsContext == key.tlsContext
+                && hostnameVerifier == key.hostnameVerifier
+                && Objects.equals(connectTimeout, key.connectTimeout)
+                && Objects.equals(socketTimeout, key.socketTimeout)
+                && Objects.equals(connectionRequestTimeout, key.connectionRequestTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(proxyUrl, System.identityHashCode(tlsContext), System.identityHashCode(hostnameVerifier),
+                connectTimeout, socketTimeout, connectionRequestTimeout);
+        }
+
+        @Override
+        public String toString() {
+            return "HttpClientKey[proxyUrl=%s, tlsContext=%s, connectTimeout=%s, socketTimeout=%s]"
+                .formatted(proxyUrl, tlsContext == null ? null : tlsContext.getClass().getSimpleName(), connectTimeout, socketTimeout);
+        }
+    }
+
+    private interface PooledClient {
+        ModalCloseable client();
+    }
+
+    private record PooledHttpClient(CloseableHttpClient client, ConnPoolControl<HttpRoute> connectionManager) implements PooledClient {
+    }
+
+    private record PooledHttpAsyncClient(CloseableHttpAsyncClient client, ConnPoolControl<HttpRoute> connectionManager) implements PooledClient {
+    }
+}
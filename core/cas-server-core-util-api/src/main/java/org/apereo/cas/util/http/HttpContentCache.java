@@ -0,0 +1,80 @@
+package org.apereo.cas.util.http;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link HttpContentCache} that remembers content fetched from remote endpoints.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface HttpContentCache {
+    /**
+     * Bean name of the cache for remote themes and views.
+     */
+    String BEAN_NAME_REMOTE_VIEWS = "remoteViewContentCache";
+
+    /**
+     * Gets content for the given key, fetching it from the remote endpoint if needed.
+     *
+     * @param key            the key under which content is remembered
+     * @param url            the url of the remote endpoint
+     * @param requestBuilder builds the request to execute, given conditional request headers to include
+     * @return the content, or empty if the content could not be fetched and nothing usable is remembered
+     */
+    Optional<String> get(String key, String url, Function<Map<String, String>, HttpExecutionRequest> requestBuilder);
+
+    /**
+     * Forget all remembered content.
+     */
+    void invalidate();
+
+    /**
+     * Gets statistics per origin.
+     *
+     * @return the statistics, keyed by origin
+     */
+    Map<String, OriginStatistics> getStatistics();
+
+    /**
+     * Register a listener that is notified of every origin content is fetched from,
+     * including origins that are already known.
+     *
+     * @param listener the listener
+     */
+    void registerOriginListener(Consumer<String> listener);
+
+    /**
+     * Build a cache key from the given parts.
+     *
+     * @param parts the parts
+     * @return the key
+     */
+    static String key(final String... parts) {
+        return Arrays.stream(parts).map(StringUtils::defaultString).collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Statistics for an origin.
+     *
+     * @param origin                    the origin
+     * @param hits                      the number of requests answered by fresh content
+     * @param staleHits                 the number of requests answered by stale content that was refreshed in the background
+     * @param failureHits               the number of requests answered by a remembered failure
+     * @param misses                    the number of requests that had to wait for content to be fetched
+     * @param fetches                   the number of requests sent to the remote endpoint
+     * @param notModified               the number of fetches answered with a {@code 304} response
+     * @param failures                  the number of fetches that failed
+     * @param fetchTime                 the total time spent fetching content, in nanoseconds
+     */
+    record OriginStatistics(String origin, long hits, long staleHits, long failureHits, long misses, long fetches,
+                            long notModified, long failures, long fetchTime) {
+    }
+}
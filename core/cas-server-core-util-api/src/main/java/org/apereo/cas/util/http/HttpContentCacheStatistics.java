@@ -0,0 +1,89 @@
+package org.apereo.cas.util.http;
+
+import lombok.val;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link HttpContentCacheStatistics} that counts requests answered by an {@link HttpContentCache}
+ * per origin. Statistics are kept apart from the cache, so that they carry over
+ * when the cache is rebuilt, for example after a configuration refresh.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class HttpContentCacheStatistics {
+    /**
+     * Default bean name of the statistics of the cache for remote themes and views.
+     */
+    public static final String BEAN_NAME_REMOTE_VIEWS = "remoteViewContentCacheStatistics";
+
+    private final Map<String, OriginCounters> origins = new ConcurrentHashMap<>();
+
+    private final List<Consumer<String>> originListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Gets statistics per origin.
+     *
+     * @return the statistics, keyed by origin
+     */
+    public Map<String, HttpContentCache.OriginStatistics> getStatistics() {
+        val results = new TreeMap<String, HttpContentCache.OriginStatistics>();
+        origins.forEach((origin, counters) -> results.put(origin, counters.toStatistics(origin)));
+        return results;
+    }
+
+    /**
+     * Register a listener that is notified of every origin content is fetched from,
+     * including origins that are already known.
+     *
+     * @param listener the listener
+     */
+    public void registerOriginListener(final Consumer<String> listener) {
+        originListeners.add(listener);
+        origins.keySet().forEach(listener);
+    }
+
+    OriginCounters getOriginCounters(final String origin) {
+        val existing = origins.get(origin);
+        if (existing != null) {
+            return existing;
+        }
+        val counters = new OriginCounters();
+        val previous = origins.putIfAbsent(origin, counters);
+        if (previous != null) {
+            return previous;
+        }
+        originListeners.forEach(listener -> listener.accept(origin));
+        return counters;
+    }
+
+    static final class OriginCounters {
+        final LongAdder hits = new LongAdder();
+
+        final LongAdder staleHits = new LongAdder();
+
+        final LongAdder failureHits = new LongAdder();
+
+        final LongAdder misses = new LongAdder();
+
+        final LongAdder fetches = new LongAdder();
+
+        final LongAdder notModified = new LongAdder();
+
+        final LongAdder failures = new LongAdder();
+
+        final LongAdder fetchLatency = new LongAdder();
+
+        HttpContentCache.OriginStatistics toStatistics(final String origin) {
+            return new HttpContentCache.OriginStatistics(origin, hits.sum(), staleHits.sum(), failureHits.sum(),
+                misses.sum(), fetches.sum(), notModified.sum(), failures.sum(), fetchLatency.sum());
+        }
+    }
+}
@@ -1,48 +1,49 @@
 package org.apereo.cas.util.http;
 
+import org.apereo.cas.configuration.model.core.authentication.HttpClientPoolProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.ssl.SSLUtils;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
-import org.apache.hc.client5.http.config.ConnectionConfig;
-import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
-import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpHeaders;
-import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
-import org.apache.hc.core5.http.io.SocketConfig;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHttpResponse;
 import org.apache.hc.core5.net.URIBuilder;
-import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
-import org.apache.hc.core5.pool.PoolReusePolicy;
 import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.hc.core5.util.Timeout;
 import org.springframework.http.MediaType;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLHandshakeException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This is {@link HttpUtils}.
@@ -55,9 +56,24 @@ import java.util.Optional;
 public class HttpUtils {
     private static final Timeout CONNECT_TIMEOUT_IN_MILLISECONDS = Timeout.ofMilliseconds(5000);
     private static final Timeout SOCKET_TIMEOUT_IN_MILLISECONDS = Timeout.ofMilliseconds(5000);
-    private static final Timeout CONNECT_TTL_TIMEOUT_IN_MILLISECONDS = Timeout.ofMilliseconds(5000);
     private static final Timeout CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS = Timeout.ofMilliseconds(5000);
 
+    private static final SSLContext DEFAULT_SSL_CONTEXT = SSLContexts.createDefault();
+
+    private static final HostnameVerifier DEFAULT_HOSTNAME_VERIFIER = new DefaultHostnameVerifier();
+
+    private static final HttpClientRegistry DEFAULT_HTTP_CLIENT_REGISTRY = new HttpClientRegistry(new HttpClientPoolProperties());
+
+    /**
+     * Gets the registry of pooled http clients defined in the application context,
+     * or a default registry if none is available.
+     *
+     * @return the http client registry
+     */
+    public HttpClientRegistry getHttpClientRegistry() {
+        return ApplicationContextProvider.getHttpClientRegistry().orElse(DEFAULT_HTTP_CLIENT_REGISTRY);
+    }
+
     /**
      * Execute http request and produce a response.
      *
@@ -82,6 +98,7 @@ public class HttpUtils {
                 if (res == null || org.springframework.http.HttpStatus.valueOf(res.getCode()).isError()) {
                     val maxAttempts = (int) retryContext.getAttribute("retry.maxAttempts");
                     if (retryContext.getRetryCount() != maxAttempts - 1) {
+                        close(res);
                         throw new IllegalStateException();
                     }
                 }
@@ -98,14 +115,75 @@ public class HttpUtils {
         return null;
     }
 
-    private static CloseableHttpClient getHttpClient(final HttpExecutionRequest execution) throws Exception {
-        val builder = getHttpClientBuilder(execution);
-        if (StringUtils.isNotBlank(execution.getProxyUrl())) {
-            val proxyEndpoint = new URI(execution.getProxyUrl()).toURL();
-            val proxy = new HttpHost(proxyEndpoint.getHost(), proxyEndpoint.getPort());
-            builder.setProxy(proxy);
+    /**
+     * Execute http request asynchronously and produce a response.
+     * Asynchronous requests are always sent via pooled clients and may negotiate HTTP/2
+     * if enabled for the client registry.
+     *
+     * @param execution the request
+     * @return the future response
+     */
+    public CompletableFuture<SimpleHttpResponse> executeAsync(final HttpExecutionRequest execution) {
+        val result = new CompletableFuture<SimpleHttpResponse>();
+        try {
+            val uri = buildHttpUri(execution.getUrl().trim(), execution.getParameters());
+            val request = getSimpleHttpRequestByMethod(execution, uri);
+            val sslContext = getSslContext(execution);
+            val hostnameVerifier = getHostnameVerifier(execution);
+            val key = buildHttpClientKey(execution, sslContext);
+            val client = getHttpClientRegistry().getHttpAsyncClient(key, sslContext, hostnameVerifier);
+            LOGGER.trace("Sending asynchronous HTTP request to [{}]", uri);
+            client.execute(request, new FutureCallback<>() {
+                @Override
+                public void completed(final SimpleHttpResponse response) {
+                    result.complete(response);
+                }
+
+                @Override
+                public void failed(final Exception e) {
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void cancelled() {
+                    result.cancel(false);
+                }
+            });
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            result.completeExceptionally(e);
         }
-        return builder.build();
+        return result;
+    }
+
+    private static CloseableHttpClient getHttpClient(final HttpExecutionRequest execution) {
+        val clientSocketFactory = Optional.ofNullable(execution.getHttpClient())
+            .map(HttpClient::httpClientFactory)
+            .map(HttpClientFactory::getSslSocketFactory);
+        val tlsContext = clientSocketFactory.isPresent() ? clientSocketFactory.get() : getSslContext(execution);
+        val key = buildHttpClientKey(execution, tlsContext);
+        return getHttpClientRegistry().getHttpClient(key,
+            () -> clientSocketFactory.orElseGet(() -> getSslConnectionSocketFactory(execution)));
+    }
+
+    private static HttpClientRegistry.HttpClientKey buildHttpClientKey(final HttpExecutionRequest execution, final Object tlsContext) {
+        return new HttpClientRegistry.HttpClientKey(execution.getProxyUrl(), tlsContext,
+            getHostnameVerifier(execution), CONNECT_TIMEOUT_IN_MILLISECONDS,
+            SOCKET_TIMEOUT_IN_MILLISECONDS, CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS);
+    }
+
+    private static HostnameVerifier getHostnameVerifier(final HttpExecutionRequest execution) {
+        return Optional.ofNullable(execution.getHttpClient())
+            .map(HttpClient::httpClientFactory)
+            .map(HttpClientFactory::getHostnameVerifier)
+            .orElse(null);
+    }
+
+    private static SSLContext getSslContext(final HttpExecutionRequest execution) {
+        return Optional.ofNullable(execution.getHttpClient())
+            .map(HttpClient::httpClientFactory)
+            .map(HttpClientFactory::getSslContext)
+            .orElse(DEFAULT_SSL_CONTEXT);
     }
 
     /**
@@ -195,48 +273,31 @@ public class HttpUtils {
         });
     }
 
-    private HttpClientBuilder getHttpClientBuilder(final HttpExecutionRequest execution) {
-        val requestConfig = RequestConfig.custom();
-        requestConfig.setConnectTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS);
-        requestConfig.setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT_IN_MILLISECONDS);
-
-        val builder = HttpClientBuilder
-            .create()
-            .useSystemProperties()
-            .setDefaultRequestConfig(requestConfig.build());
-
-        val socketFactory = Optional.ofNullable(execution.getHttpClient())
-            .map(HttpClient::httpClientFactory)
-            .filter(factory -> Objects.nonNull(factory.getSslSocketFactory()))
-            .map(HttpClientFactory::getSslSocketFactory)
-            .orElseGet(() -> getSslConnectionSocketFactory(execution));
-
-        val connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-            .setSSLSocketFactory(socketFactory)
-            .setDefaultSocketConfig(SocketConfig.custom()
-                .setSoTimeout(SOCKET_TIMEOUT_IN_MILLISECONDS)
-                .build())
-            .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
-            .setConnPoolPolicy(PoolReusePolicy.LIFO)
-            .setDefaultConnectionConfig(ConnectionConfig.custom()
-                .setTimeToLive(CONNECT_TTL_TIMEOUT_IN_MILLISECONDS)
-                .setSocketTimeout(SOCKET_TIMEOUT_IN_MILLISECONDS)
-                .setConnectTimeout(CONNECT_TIMEOUT_IN_MILLISECONDS)
-                .build())
-            .build();
-        builder.setConnectionManager(connectionManager);
-        return builder;
+    private SimpleHttpRequest getSimpleHttpRequestByMethod(final HttpExecutionRequest execution, final URI uri) {
+        val method = execution.getMethod().name().toUpperCase(Locale.ENGLISH).trim();
+        val builder = SimpleRequestBuilder.create(method).setUri(uri);
+        if (StringUtils.isNotBlank(execution.getEntity()) && !"GET".equals(method)) {
+            builder.setBody(execution.getEntity(), ContentType.APPLICATION_JSON);
+        }
+        val expressionResolver = SpringExpressionLanguageValueResolver.getInstance();
+        execution.getHeaders().forEach((key, value) ->
+            builder.addHeader(expressionResolver.resolve(key), expressionResolver.resolve(value)));
+        if (execution.isBasicAuthentication()) {
+            val auth = EncodingUtils.encodeBase64(execution.getBasicAuthUsername() + ':' + execution.getBasicAuthPassword());
+            builder.setHeader(HttpHeaders.AUTHORIZATION, "Basic " + auth);
+        }
+        if (execution.isBearerAuthentication()) {
+            builder.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + execution.getBearerToken());
+        }
+        return builder.build();
     }
 
     private static SSLConnectionSocketFactory getSslConnectionSocketFactory(final HttpExecutionRequest execution) {
-        val builder = SSLConnectionSocketFactoryBuilder.create().useSystemProperties();
-        Optional.ofNullable(execution.getHttpClient())
+        val registry = SSLUtils.getSslContextRegistry();
+        return Optional.ofNullable(execution.getHttpClient())
             .map(HttpClient::httpClientFactory)
-            .ifPresentOrElse(factory -> {
-                builder.setHostnameVerifier(factory.getHostnameVerifier());
-                builder.setSslContext(factory.getSslContext());
-            }, () -> builder.setSslContext(SSLContexts.createDefault()).setHostnameVerifier(new DefaultHostnameVerifier()));
-        return builder.build();
+            .map(factory -> registry.getSocketFactory(factory.getSslContext(), factory.getHostnameVerifier()))
+            .orElseGet(() -> registry.getSocketFactory(DEFAULT_SSL_CONTEXT, DEFAULT_HOSTNAME_VERIFIER));
     }
 
 }
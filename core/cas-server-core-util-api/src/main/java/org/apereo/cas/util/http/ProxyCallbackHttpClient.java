@@ -0,0 +1,228 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientProxyCallbackProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link ProxyCallbackHttpClient} that verifies proxy callback urls
+ * and delivers proxy granting tickets using a dedicated pooled client.
+ * Successful verifications are remembered per callback origin, so that
+ * a callback url on a recently verified origin is not probed again before
+ * the proxy granting ticket is delivered to it. The number of callbacks in flight
+ * for the same host is capped, and callback latency and failures are recorded per host.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class ProxyCallbackHttpClient implements HttpClient, DisposableBean {
+    private final HttpClient delegate;
+
+    @Getter
+    private final HttpClientProxyCallbackProperties properties;
+
+    private final Cache<String, Boolean> verifiedOrigins;
+
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    private final Map<String, CallbackStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final LongAdder verificationCacheHits = new LongAdder();
+
+    private final long acquireTimeoutMillis;
+
+    public ProxyCallbackHttpClient(final HttpClient delegate, final HttpClientProxyCallbackProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.acquireTimeoutMillis = Beans.newDuration(properties.getAcquireTimeout()).toMillis();
+        this.verifiedOrigins = Caffeine.newBuilder()
+            .maximumSize(properties.getVerificationCacheSize())
+            .expireAfterWrite(Beans.newDuration(properties.getVerificationCacheTtl()))
+            .build();
+    }
+
+    @Override
+    public boolean sendMessageToEndPoint(final HttpMessage message) {
+        return execute(message.getUrl(), () -> delegate.sendMessageToEndPoint(message), Boolean.TRUE::equals, false);
+    }
+
+    @Override
+    public HttpMessage sendMessageToEndPoint(final URL url) {
+        return execute(url, () -> delegate.sendMessageToEndPoint(url), Objects::nonNull, null);
+    }
+
+    @Override
+    public boolean isValidEndPoint(final String url) {
+        try {
+            return isValidEndPoint(new URI(url).toURL());
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isValidEndPoint(final URL url) {
+        return execute(url, () -> delegate.isValidEndPoint(url), Boolean.TRUE::equals, false);
+    }
+
+    @Override
+    public boolean verifyEndPoint(final URL url) {
+        val origin = getOrigin(url);
+        if (verifiedOrigins.getIfPresent(origin) != null) {
+            LOGGER.debug("Callback origin [{}] was recently verified", origin);
+            verificationCacheHits.increment();
+            return true;
+        }
+        return isValidEndPoint(url);
+    }
+
+    @Override
+    public org.apache.hc.client5.http.classic.HttpClient wrappedHttpClient() {
+        return delegate.wrappedHttpClient();
+    }
+
+    @Override
+    public HttpClientFactory httpClientFactory() {
+        return delegate.httpClientFactory();
+    }
+
+    /**
+     * Forget all verified callback origins.
+     */
+    public void invalidate() {
+        verifiedOrigins.invalidateAll();
+    }
+
+    /**
+     * Gets callback statistics per host.
+     *
+     * @return the statistics
+     */
+    public Map<String, CallbackStatisticsSnapshot> getStatistics() {
+        val results = new TreeMap<String, CallbackStatisticsSnapshot>();
+        statistics.forEach((host, stats) -> results.put(host, stats.snapshot()));
+        return results;
+    }
+
+    /**
+     * Gets aggregated callback statistics across all hosts.
+     *
+     * @return the statistics
+     */
+    public CallbackStatisticsSnapshot getTotalStatistics() {
+        val total = new CallbackStatistics();
+        statistics.values().forEach(total::add);
+        return total.snapshot();
+    }
+
+    /**
+     * Gets the number of verifications answered by remembered callback origins.
+     *
+     * @return the count
+     */
+    public long getVerificationCacheHits() {
+        return verificationCacheHits.sum();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof final DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private <T> T execute(final URL url, final Supplier<T> callback,
+                          final Predicate<T> successful, final T rejectedResult) {
+        val host = url.getHost().toLowerCase(Locale.ENGLISH);
+        val stats = statistics.computeIfAbsent(host, __ -> new CallbackStatistics());
+        val permits = hostPermits.computeIfAbsent(host, __ -> new Semaphore(properties.getMaxConcurrentCallbacksPerHost()));
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Too many callbacks are in flight for host [{}]; callback to [{}] is rejected", host, url);
+                stats.rejected.increment();
+                return rejectedResult;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.rejected.increment();
+            return rejectedResult;
+        }
+        val startTime = System.nanoTime();
+        try {
+            val result = callback.get();
+            if (successful.test(result)) {
+                verifiedOrigins.put(getOrigin(url), Boolean.TRUE);
+            } else {
+                stats.failures.increment();
+            }
+            return result;
+        } finally {
+            permits.release();
+            stats.record(System.nanoTime() - startTime);
+        }
+    }
+
+    private static String getOrigin(final URL url) {
+        val port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+        return url.getProtocol().toLowerCase(Locale.ENGLISH) + "://" + url.getHost().toLowerCase(Locale.ENGLISH) + ':' + port;
+    }
+
+    private static final class CallbackStatistics {
+        private final LongAdder callbacks = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(final long nanos) {
+            callbacks.increment();
+            totalNanos.add(nanos);
+        }
+
+        void add(final CallbackStatistics other) {
+            callbacks.add(other.callbacks.sum());
+            failures.add(other.failures.sum());
+            rejected.add(other.rejected.sum());
+            totalNanos.add(other.totalNanos.sum());
+        }
+
+        CallbackStatisticsSnapshot snapshot() {
+            return new CallbackStatisticsSnapshot(callbacks.sum(), failures.sum(), rejected.sum(), totalNanos.sum());
+        }
+    }
+
+    /**
+     * Callback statistics for a host.
+     *
+     * @param callbacks  the number of callbacks sent
+     * @param failures   the number of callbacks that failed or returned an unacceptable status
+     * @param rejected   the number of callbacks rejected because the host was busy
+     * @param totalNanos the total time spent on callbacks, in nanoseconds
+     */
+    public record CallbackStatisticsSnapshot(long callbacks, long failures, long rejected, long totalNanos) {
+    }
+}
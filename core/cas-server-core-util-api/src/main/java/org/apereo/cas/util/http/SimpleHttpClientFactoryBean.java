@@ -1,5 +1,7 @@
 package org.apereo.cas.util.http;
 
+import org.apereo.cas.util.ssl.SSLUtils;
+
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +73,8 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
 
     private static final int TERMINATION_TIMEOUT_SECONDS = 5;
 
+    private static final HostnameVerifier DEFAULT_HOSTNAME_VERIFIER = new DefaultHostnameVerifier();
+
     /**
      * The default status codes we accept.
      */
@@ -113,7 +117,7 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
     /**
      * The hostname verifier to be used when verifying the validity of the endpoint.
      */
-    private HostnameVerifier hostnameVerifier = new DefaultHostnameVerifier();
+    private HostnameVerifier hostnameVerifier = DEFAULT_HOSTNAME_VERIFIER;
 
     /**
      * The CAS SSL context used to create ssl socket factories, etc.
@@ -229,9 +233,10 @@ public class SimpleHttpClientFactoryBean implements HttpClientFactory {
     @SuppressWarnings("java:S2095")
     private CloseableHttpClient buildHttpClient() {
         val sslFactory = Optional.ofNullable(this.sslSocketFactory)
-            .orElseGet(() -> new SSLConnectionSocketFactory(
-                ObjectUtils.defaultIfNull(this.sslContext, SSLContexts.createDefault()),
-                ObjectUtils.defaultIfNull(this.hostnameVerifier, new DefaultHostnameVerifier())));
+            .or(() -> Optional.ofNullable(this.sslContext).map(context -> SSLUtils.getSslContextRegistry()
+                .getSocketFactory(context, ObjectUtils.defaultIfNull(this.hostnameVerifier, DEFAULT_HOSTNAME_VERIFIER))))
+            .orElseGet(() -> new SSLConnectionSocketFactory(SSLContexts.createDefault(),
+                ObjectUtils.defaultIfNull(this.hostnameVerifier, DEFAULT_HOSTNAME_VERIFIER)));
         
         val plainSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
         val registry = RegistryBuilder.<ConnectionSocketFactory>create()
@@ -2,6 +2,8 @@ package org.apereo.cas.util.spring;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpClientRegistry;
+import org.apereo.cas.util.ssl.SSLContextRegistry;
 import org.apereo.cas.util.scripting.ExecutableCompiledScript;
 import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 import org.apereo.cas.util.text.MessageSanitizer;
@@ -134,6 +136,24 @@ public class ApplicationContextProvider implements ApplicationContextAware {
         return getBean(MessageSanitizer.BEAN_NAME, MessageSanitizer.class);
     }
 
+    /**
+     * Gets http client registry.
+     *
+     * @return the http client registry
+     */
+    public static Optional<HttpClientRegistry> getHttpClientRegistry() {
+        return getBean(HttpClientRegistry.BEAN_NAME, HttpClientRegistry.class);
+    }
+
+    /**
+     * Gets ssl context registry.
+     *
+     * @return the ssl context registry
+     */
+    public static Optional<SSLContextRegistry> getSslContextRegistry() {
+        return getBean(SSLContextRegistry.BEAN_NAME, SSLContextRegistry.class);
+    }
+
     /**
      * Gets bean.
      *
@@ -0,0 +1,253 @@
+package org.apereo.cas.util.ssl;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientTlsProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.EncodingUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link SSLContextRegistry}.
+ * Hands out shared socket factories for each combination of TLS context
+ * and hostname verifier, so that outbound connections reuse the same factory
+ * and the client session cache of the TLS context instead of building a new factory
+ * and performing a full handshake for every request.
+ * TLS contexts have no notion of equality and are tracked by identity, weakly, so that
+ * factories of contexts that are no longer used are discarded; hostname verifiers are
+ * compared by equality. Handshakes performed through the factories handed out here are counted,
+ * along with the handshakes that resumed a session established by an earlier handshake.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class SSLContextRegistry {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "sslContextRegistry";
+
+    private static final HostnameVerifier DEFAULT_HOSTNAME_VERIFIER = new DefaultHostnameVerifier();
+
+    @Getter
+    private final HttpClientTlsProperties properties;
+
+    private final Cache<SSLContext, Map<HostnameVerifier, SSLConnectionSocketFactory>> socketFactories;
+
+    private final Cache<String, Boolean> establishedSessions;
+
+    private final Set<SSLContext> configuredContexts = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final LongAdder handshakes = new LongAdder();
+
+    private final LongAdder resumedSessions = new LongAdder();
+
+    public SSLContextRegistry(final HttpClientTlsProperties properties) {
+        this.properties = properties;
+        this.socketFactories = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(properties.getMaxSocketFactories())
+            .build();
+        val sessionCache = Caffeine.newBuilder()
+            .expireAfterWrite(getSessionTimeout());
+        if (properties.getSessionCacheSize() > 0) {
+            sessionCache.maximumSize(properties.getSessionCacheSize());
+        }
+        this.establishedSessions = sessionCache.build();
+    }
+
+    private static String[] split(final String value) {
+        return StringUtils.isBlank(value) ? null : value.split(" *, *");
+    }
+
+    /**
+     * Register the TLS context, applying the configured client session cache settings
+     * the first time the context is seen.
+     *
+     * @param sslContext the ssl context
+     * @return the ssl context
+     */
+    public SSLContext register(final SSLContext sslContext) {
+        if (configuredContexts.add(sslContext)) {
+            val sessionContext = sslContext.getClientSessionContext();
+            if (sessionContext != null) {
+                sessionContext.setSessionCacheSize(properties.getSessionCacheSize());
+                sessionContext.setSessionTimeout((int) getSessionTimeout().toSeconds());
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * Gets or create the shared socket factory for the TLS context and hostname verifier.
+     *
+     * @param sslContext       the ssl context
+     * @param hostnameVerifier the hostname verifier
+     * @return the socket factory
+     */
+    public SSLConnectionSocketFactory getSocketFactory(final SSLContext sslContext,
+                                                      final HostnameVerifier hostnameVerifier) {
+        val verifier = hostnameVerifier == null ? DEFAULT_HOSTNAME_VERIFIER : hostnameVerifier;
+        return socketFactories.get(register(sslContext), __ -> new ConcurrentHashMap<>())
+            .computeIfAbsent(verifier, __ -> {
+                LOGGER.debug("Creating shared TLS socket factory for protocol [{}] and hostname verifier [{}]",
+                    sslContext.getProtocol(), verifier.getClass().getSimpleName());
+                return new InstrumentedSSLConnectionSocketFactory(sslContext, verifier);
+            });
+    }
+
+    /**
+     * Gets the plain socket factory of the TLS context for clients
+     * that do not go through the HTTP client, so that they share the client session cache
+     * of the registered context and their handshakes are counted.
+     *
+     * @param sslContext the ssl context
+     * @return the socket factory
+     */
+    public SSLSocketFactory getSslSocketFactory(final SSLContext sslContext) {
+        return new InstrumentedSSLSocketFactory(register(sslContext).getSocketFactory());
+    }
+
+    /**
+     * Discard the socket factories and cached client sessions of the TLS context,
+     * typically once its trust or key material has changed.
+     *
+     * @param sslContext the ssl context
+     */
+    public void invalidate(final SSLContext sslContext) {
+        socketFactories.invalidate(sslContext);
+        SSLUtils.invalidateSessions(sslContext);
+    }
+
+    /**
+     * Collect handshake statistics across all shared socket factories.
+     *
+     * @return the statistics
+     */
+    public SSLSessionStatistics getStatistics() {
+        val factories = socketFactories.asMap().values().stream().mapToLong(Map::size).sum();
+        return new SSLSessionStatistics(handshakes.sum(), resumedSessions.sum(), factories);
+    }
+
+    private Duration getSessionTimeout() {
+        return Beans.newDuration(properties.getSessionTimeout());
+    }
+
+    private void track(final SSLSocket socket) {
+        socket.addHandshakeCompletedListener(event -> {
+            handshakes.increment();
+            val sessionId = event.getSession().getId();
+            if (sessionId != null && sessionId.length > 0) {
+                val resumed = establishedSessions.asMap().putIfAbsent(EncodingUtils.hexEncode(sessionId), Boolean.TRUE) != null;
+                if (resumed) {
+                    resumedSessions.increment();
+                }
+            }
+        });
+    }
+
+    /**
+     * Handshake statistics of the shared socket factories.
+     *
+     * @param handshakes      the number of completed handshakes
+     * @param resumedSessions the number of handshakes that resumed a cached session
+     * @param socketFactories the number of shared socket factories
+     */
+    public record SSLSessionStatistics(long handshakes, long resumedSessions, long socketFactories) {
+        /**
+         * Ratio of handshakes that resumed a cached session.
+         *
+         * @return the resumption rate
+         */
+        public double resumptionRate() {
+            return handshakes == 0 ? 0 : (double) resumedSessions / handshakes;
+        }
+    }
+
+    private final class InstrumentedSSLConnectionSocketFactory extends SSLConnectionSocketFactory {
+        InstrumentedSSLConnectionSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+            super(sslContext, split(System.getProperty("https.protocols")),
+                split(System.getProperty("https.cipherSuites")), hostnameVerifier);
+        }
+
+        @Override
+        protected void prepareSocket(final SSLSocket socket, final HttpContext context) {
+            track(socket);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class InstrumentedSSLSocketFactory extends SSLSocketFactory {
+        private final SSLSocketFactory delegate;
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return delegate.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return delegate.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            return tracked(delegate.createSocket());
+        }
+
+        @Override
+        public Socket createSocket(final Socket socket, final String host, final int port, final boolean autoClose) throws IOException {
+            return tracked(delegate.createSocket(socket, host, port, autoClose));
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port) throws IOException {
+            return tracked(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(final String host, final int port, final InetAddress localHost, final int localPort) throws IOException {
+            return tracked(delegate.createSocket(host, port, localHost, localPort));
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress host, final int port) throws IOException {
+            return tracked(delegate.createSocket(host, port));
+        }
+
+        @Override
+        public Socket createSocket(final InetAddress address, final int port, final InetAddress localAddress, final int localPort) throws IOException {
+            return tracked(delegate.createSocket(address, port, localAddress, localPort));
+        }
+
+        private Socket tracked(final Socket socket) {
+            if (socket instanceof final SSLSocket sslSocket) {
+                track(sslSocket);
+            }
+            return socket;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package org.apereo.cas.util.ssl;
 
+import org.apereo.cas.configuration.model.core.authentication.HttpClientTlsProperties;
 import org.apereo.cas.configuration.model.core.util.ClientCertificateProperties;
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import lombok.experimental.UtilityClass;
 import lombok.val;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 
 import java.security.KeyStore;
+import java.util.Collections;
+import java.util.Objects;
 
 /**
  * An SSL utility class.
@@ -20,6 +25,33 @@ import java.security.KeyStore;
  */
 @UtilityClass
 public class SSLUtils {
+    private static final SSLContextRegistry DEFAULT_SSL_CONTEXT_REGISTRY = new SSLContextRegistry(new HttpClientTlsProperties());
+
+    /**
+     * Gets the registry of shared TLS contexts and socket factories defined in the application context,
+     * or a default registry if none is available.
+     *
+     * @return the ssl context registry
+     */
+    public static SSLContextRegistry getSslContextRegistry() {
+        return ApplicationContextProvider.getSslContextRegistry().orElse(DEFAULT_SSL_CONTEXT_REGISTRY);
+    }
+
+    /**
+     * Invalidate the client sessions cached by the TLS context,
+     * so that subsequent connections perform a full handshake.
+     *
+     * @param sslContext the ssl context
+     */
+    public static void invalidateSessions(final SSLContext sslContext) {
+        val sessionContext = sslContext.getClientSessionContext();
+        if (sessionContext != null) {
+            Collections.list(sessionContext.getIds()).stream()
+                .map(sessionContext::getSession)
+                .filter(Objects::nonNull)
+                .forEach(SSLSession::invalidate);
+        }
+    }
 
     /**
      * Build keystore key manager factory.
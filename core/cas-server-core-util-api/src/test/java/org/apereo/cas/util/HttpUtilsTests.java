@@ -1,15 +1,21 @@
 package org.apereo.cas.util;
 
+import org.apereo.cas.configuration.model.core.authentication.HttpClientPoolProperties;
+import org.apereo.cas.util.http.HttpClientRegistry;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 import lombok.val;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -79,6 +85,48 @@ class HttpUtilsTests {
         assertNull(HttpUtils.execute(exec));
     }
 
+    @Test
+    void verifyPooledClientIsReused() throws Throwable {
+        val registry = new HttpClientRegistry(new HttpClientPoolProperties());
+        val previousContext = ApplicationContextProvider.getApplicationContext();
+        try (val applicationContext = new StaticApplicationContext();
+             val webServer = new MockWebServer(HttpStatus.OK)) {
+            applicationContext.getBeanFactory().registerSingleton(HttpClientRegistry.BEAN_NAME, registry);
+            applicationContext.refresh();
+            ApplicationContextProvider.holdApplicationContext(applicationContext);
+            assertSame(registry, HttpUtils.getHttpClientRegistry());
+            val destinations = new CopyOnWriteArrayList<String>();
+            registry.registerDestinationListener(destinations::add);
+
+            webServer.start();
+            val exec = HttpExecutionRequest.builder()
+                .method(HttpMethod.GET)
+                .url("http://localhost:%s".formatted(webServer.getPort()))
+                .build();
+            for (var i = 0; i < 3; i++) {
+                val response = HttpUtils.execute(exec);
+                assertNotNull(response);
+                HttpUtils.close(response);
+            }
+            assertEquals(1, registry.getClientCount());
+            val statistics = registry.getPoolStatistics();
+            assertEquals(1, statistics.size());
+            assertEquals(0, statistics.values().iterator().next().getLeased());
+            assertEquals(1, destinations.size());
+            assertEquals(statistics.keySet().iterator().next(), destinations.getFirst());
+            assertEquals(0, registry.getPoolStatistics(destinations.getFirst()).getLeased());
+
+            registry.evictAll();
+            assertEquals(0, registry.getClientCount());
+            assertEquals(1, registry.getEvictedClientCount());
+            assertNotNull(HttpUtils.execute(exec));
+            assertEquals(2, registry.getCreatedClientCount());
+        } finally {
+            ApplicationContextProvider.holdApplicationContext(previousContext);
+            registry.close();
+        }
+    }
+
     @Test
     void verifyClose() throws Throwable {
         assertDoesNotThrow(() -> {
@@ -101,4 +149,19 @@ class HttpUtilsTests {
         assertTrue(HttpStatus.valueOf(response.getCode()).is5xxServerError());
         assertTrue(response.getReasonPhrase().contains("https://untrusted-root.badssl.com/endpoint"));
     }
+
+    @Test
+    void verifyExecuteAsync() throws Throwable {
+        try (val webServer = new MockWebServer(HttpStatus.OK)) {
+            webServer.start();
+            val exec = HttpExecutionRequest.builder()
+                .method(HttpMethod.POST)
+                .entity("{}")
+                .bearerToken(UUID.randomUUID().toString())
+                .url("http://localhost:%s".formatted(webServer.getPort()))
+                .build();
+            val response = HttpUtils.executeAsync(exec).get(10, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK.value(), response.getCode());
+        }
+    }
 }
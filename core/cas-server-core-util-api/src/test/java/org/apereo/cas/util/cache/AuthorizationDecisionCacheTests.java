@@ -0,0 +1,120 @@
+package org.apereo.cas.util.cache;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthorizationDecisionCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Simple")
+class AuthorizationDecisionCacheTests {
+    private final AuthorizationDecisionCache<Boolean> cache =
+        new AuthorizationDecisionCache<>(UUID.randomUUID().toString(), Boolean.TRUE::equals);
+
+    @Test
+    void verifyDisabled() throws Throwable {
+        val calls = new AtomicInteger();
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of(null, null, null);
+        assertFalse(settings.isEnabled());
+        assertTrue(cache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertTrue(cache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void verifyPositiveAndNegativeDecisions() throws Throwable {
+        val calls = new AtomicInteger();
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of("PT1M", "PT0S", null);
+        assertTrue(cache.decide("allowed", settings, () -> calls.incrementAndGet() > 0));
+        assertTrue(cache.decide("allowed", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(1, calls.get());
+
+        assertFalse(cache.decide("denied", settings, () -> calls.incrementAndGet() < 0));
+        assertFalse(cache.decide("denied", settings, () -> calls.incrementAndGet() < 0));
+        assertEquals(3, calls.get());
+        assertEquals(1, cache.getStatistics().getHits().sum());
+        assertTrue(cache.getStatistics().getHitRatio() > 0);
+    }
+
+    @Test
+    void verifyUncacheableDecision() throws Throwable {
+        val calls = new AtomicInteger();
+        val statusCache = new AuthorizationDecisionCache<Integer>(UUID.randomUUID().toString(),
+            status -> status == 200, status -> status < 500);
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of("PT1M", null, null);
+        assertEquals(503, statusCache.decide("key", settings, () -> calls.incrementAndGet() > 0 ? 503 : 0));
+        assertEquals(403, statusCache.decide("key", settings, () -> calls.incrementAndGet() > 0 ? 403 : 0));
+        assertEquals(403, statusCache.decide("key", settings, () -> calls.incrementAndGet() > 0 ? 200 : 0));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void verifyInvalidate() throws Throwable {
+        val calls = new AtomicInteger();
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of("PT1M", null, null);
+        assertTrue(cache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertTrue(cache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(1, calls.get());
+        cache.invalidate();
+        assertTrue(cache.decide("key", settings, () -> calls.incrementAndGet() > 0));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void verifyStaleDecisionWhenUnavailable() throws Throwable {
+        val settings = new AuthorizationDecisionCache.DecisionCacheSettings(Duration.ofMillis(100), null, Duration.ofMinutes(1));
+        assertTrue(cache.decide("stale", settings, () -> Boolean.TRUE));
+        await().atMost(Duration.ofSeconds(2)).until(() -> {
+            val result = cache.decide("stale", settings, () -> {
+                throw new IllegalStateException("Unavailable");
+            });
+            return result && cache.getStatistics().getStaleHits().sum() > 0;
+        });
+        await().untilAsserted(() -> assertTrue(cache.getStatistics().getFailures().sum() > 0));
+        assertThrows(IllegalStateException.class, () -> cache.decide("unknown", settings, () -> {
+            throw new IllegalStateException("Unavailable");
+        }));
+    }
+
+    @Test
+    void verifyConcurrentDecisionsCoalesce() throws Throwable {
+        val calls = new AtomicInteger();
+        val latch = new CountDownLatch(1);
+        val settings = AuthorizationDecisionCache.DecisionCacheSettings.of("PT1M", null, null);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = new ArrayList<CompletableFuture<Boolean>>();
+            for (var i = 0; i < 10; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return cache.decide("concurrent", settings, () -> {
+                            calls.incrementAndGet();
+                            latch.await(5, TimeUnit.SECONDS);
+                            return Boolean.TRUE;
+                        });
+                    } catch (final Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }, executor));
+            }
+            await().untilAsserted(() -> assertEquals(1, cache.getInflightDecisions().size()));
+            latch.countDown();
+            futures.forEach(future -> assertTrue(future.join()));
+        }
+        assertTrue(calls.get() < 10);
+    }
+}
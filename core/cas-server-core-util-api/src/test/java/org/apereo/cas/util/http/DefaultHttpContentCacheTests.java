@@ -0,0 +1,241 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.util.MockWebServer;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.Unchecked;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultHttpContentCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Utility")
+class DefaultHttpContentCacheTests {
+    private MockWebServer webServer;
+
+    @BeforeEach
+    void setup() {
+        webServer = new MockWebServer("example", HttpStatus.OK);
+        webServer.headers(Map.of(HttpHeaders.CACHE_CONTROL, "max-age=60", HttpHeaders.ETAG, "\"v1\""));
+        webServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        webServer.close();
+    }
+
+    @Test
+    void verifyFreshContentRemembered() {
+        try (val cache = newCache()) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            val statistics = getStatistics(cache);
+            assertEquals(1, statistics.hits());
+            assertEquals(1, statistics.misses());
+            assertEquals(1, statistics.fetches());
+        }
+    }
+
+    @Test
+    void verifyStaleContentRevalidatedInBackground() {
+        webServer.headers(Map.of(HttpHeaders.CACHE_CONTROL, "max-age=0, stale-while-revalidate=60"));
+        try (val cache = newCache()) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            webServer.responseBody(StringUtils.EMPTY);
+            webServer.responseStatus(HttpStatus.NOT_MODIFIED);
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            await().untilAsserted(() -> assertEquals(1, getStatistics(cache).notModified()));
+            assertEquals(1, getStatistics(cache).staleHits());
+            assertEquals(2, getStatistics(cache).fetches());
+        }
+    }
+
+    @Test
+    void verifyConcurrentFetchesCoalesced() throws Exception {
+        val requests = new AtomicInteger();
+        val release = new CountDownLatch(1);
+        webServer.responseBodySupplier(Unchecked.supplier(() -> {
+            requests.incrementAndGet();
+            release.await(10, TimeUnit.SECONDS);
+            return new ByteArrayResource("example".getBytes(StandardCharsets.UTF_8));
+        }));
+        try (val cache = newCache(); val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = new ArrayList<Future<Optional<String>>>();
+            for (var i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> cache.get("key", getUrl(), requestBuilder())));
+            }
+            await().untilAsserted(() -> assertEquals(1, requests.get()));
+            await().untilAsserted(() -> assertEquals(10, getStatistics(cache).misses()));
+            release.countDown();
+            for (val result : results) {
+                assertEquals(Optional.of("example"), result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, getStatistics(cache).fetches());
+        }
+    }
+
+    @Test
+    void verifyStaleContentServedOnFailure() {
+        webServer.headers(Map.of(HttpHeaders.CACHE_CONTROL, "max-age=0, stale-while-revalidate=0, stale-if-error=60"));
+        try (val cache = newCache()) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            webServer.responseStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(1, getStatistics(cache).failures());
+            assertTrue(cache.get("unknown", getUrl(), requestBuilder()).isEmpty());
+        }
+    }
+
+    @Test
+    void verifyNoStoreContentNotRemembered() {
+        webServer.headers(Map.of(HttpHeaders.CACHE_CONTROL, "no-store"));
+        try (val cache = newCache()) {
+            val origins = new ArrayList<String>();
+            cache.registerOriginListener(origins::add);
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(2, getStatistics(cache).fetches());
+            assertEquals(List.of(getOrigin()), origins);
+        }
+    }
+
+    @Test
+    void verifyPrivateContentNotRemembered() {
+        webServer.headers(Map.of(HttpHeaders.CACHE_CONTROL, "private, max-age=60"));
+        try (val cache = newCache()) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(2, getStatistics(cache).fetches());
+        }
+    }
+
+    @Test
+    void verifyVaryingContentMatchedByRequestHeaders() {
+        webServer.headers(Map.of(HttpHeaders.VARY, "Accept-Language"));
+        try (val cache = newCache()) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder(Map.of("Accept-Language", "en"))));
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder(Map.of("Accept-Language", "en"))));
+            assertEquals(1, getStatistics(cache).fetches());
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder(Map.of("Accept-Language", "fr"))));
+            assertEquals(2, getStatistics(cache).fetches());
+            webServer.headers(Map.of(HttpHeaders.VARY, "*"));
+            assertEquals(Optional.of("example"), cache.get("other", getUrl(), requestBuilder()));
+            assertEquals(Optional.of("example"), cache.get("other", getUrl(), requestBuilder()));
+            assertEquals(4, getStatistics(cache).fetches());
+        }
+    }
+
+    @Test
+    void verifyFailuresRemembered() {
+        webServer.responseStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        try (val cache = newCache()) {
+            assertTrue(cache.get("key", getUrl(), requestBuilder()).isEmpty());
+            assertTrue(cache.get("key", getUrl(), requestBuilder()).isEmpty());
+            val statistics = getStatistics(cache);
+            assertEquals(1, statistics.fetches());
+            assertEquals(1, statistics.failureHits());
+            assertEquals(0, statistics.hits());
+            cache.invalidate();
+            webServer.responseStatus(HttpStatus.OK);
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(2, getStatistics(cache).fetches());
+        }
+    }
+
+    @Test
+    void verifyFailuresForgottenAfterFailureTimeToLive() {
+        webServer.responseStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        try (val cache = new DefaultHttpContentCache(Duration.ofMinutes(5), Duration.ofMinutes(1),
+            Duration.ofHours(1), Duration.ofMillis(500), 100)) {
+            assertTrue(cache.get("key", getUrl(), requestBuilder()).isEmpty());
+            webServer.responseStatus(HttpStatus.OK);
+            await().untilAsserted(() -> assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder())));
+        }
+    }
+
+    @Test
+    void verifyContentFetchedAfterClose() {
+        val cache = newCache();
+        cache.close();
+        assertTimeoutPreemptively(Duration.ofSeconds(10),
+            () -> assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder())));
+    }
+
+    @Test
+    void verifyStatisticsSharedAcrossCaches() {
+        val statistics = new HttpContentCacheStatistics();
+        try (val cache = new DefaultHttpContentCache(Duration.ofMinutes(5), Duration.ofMinutes(1),
+            Duration.ofHours(1), Duration.ofSeconds(30), 100, statistics)) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+        }
+        try (val cache = new DefaultHttpContentCache(Duration.ofMinutes(5), Duration.ofMinutes(1),
+            Duration.ofHours(1), Duration.ofSeconds(30), 100, statistics)) {
+            assertEquals(Optional.of("example"), cache.get("key", getUrl(), requestBuilder()));
+            assertEquals(2, getStatistics(cache).fetches());
+        }
+        assertEquals(2, statistics.getStatistics().get(getOrigin()).misses());
+    }
+
+    private static DefaultHttpContentCache newCache() {
+        return new DefaultHttpContentCache(Duration.ofMinutes(5), Duration.ofMinutes(1),
+            Duration.ofHours(1), Duration.ofSeconds(30), 100);
+    }
+
+    private HttpContentCache.OriginStatistics getStatistics(final HttpContentCache cache) {
+        return cache.getStatistics().get(getOrigin());
+    }
+
+    private String getOrigin() {
+        return "http://localhost:" + webServer.getPort();
+    }
+
+    private String getUrl() {
+        return getOrigin() + "/theme";
+    }
+
+    private Function<Map<String, String>, HttpExecutionRequest> requestBuilder() {
+        return requestBuilder(Map.of());
+    }
+
+    private Function<Map<String, String>, HttpExecutionRequest> requestBuilder(final Map<String, String> requestHeaders) {
+        val url = getUrl();
+        return headers -> {
+            val allHeaders = new LinkedHashMap<>(requestHeaders);
+            allHeaders.putAll(headers);
+            return HttpExecutionRequest.builder()
+                .method(HttpMethod.GET)
+                .url(url)
+                .headers(allHeaders)
+                .maximumRetryAttempts(1)
+                .build();
+        };
+    }
+}
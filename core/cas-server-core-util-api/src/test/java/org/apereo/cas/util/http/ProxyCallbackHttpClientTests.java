@@ -0,0 +1,81 @@
+package org.apereo.cas.util.http;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientProxyCallbackProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ProxyCallbackHttpClientTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Utility")
+class ProxyCallbackHttpClientTests {
+    @Test
+    void verifyOriginVerificationRemembered() throws Throwable {
+        val delegate = mock(HttpClient.class);
+        when(delegate.isValidEndPoint(any(URL.class))).thenReturn(true);
+        val client = new ProxyCallbackHttpClient(delegate, new HttpClientProxyCallbackProperties());
+
+        val callbackUrl = new URI("https://app.example.org/callback").toURL();
+        assertTrue(client.verifyEndPoint(callbackUrl));
+        assertTrue(client.verifyEndPoint(new URI("https://app.example.org:443/other").toURL()));
+        assertTrue(client.isValidEndPoint("https://app.example.org/callback?pgtIou=PGTIOU-1&pgtId=PGT-1"));
+        verify(delegate, times(2)).isValidEndPoint(any(URL.class));
+        assertEquals(1, client.getVerificationCacheHits());
+        assertEquals(2, client.getStatistics().get("app.example.org").callbacks());
+
+        client.invalidate();
+        assertTrue(client.verifyEndPoint(callbackUrl));
+        verify(delegate, times(3)).isValidEndPoint(any(URL.class));
+    }
+
+    @Test
+    void verifyFailuresNotRemembered() throws Throwable {
+        val delegate = mock(HttpClient.class);
+        when(delegate.isValidEndPoint(any(URL.class))).thenReturn(false);
+        val client = new ProxyCallbackHttpClient(delegate, new HttpClientProxyCallbackProperties());
+        val callbackUrl = new URI("https://app.example.org/callback").toURL();
+        assertFalse(client.verifyEndPoint(callbackUrl));
+        assertFalse(client.verifyEndPoint(callbackUrl));
+        assertEquals(0, client.getVerificationCacheHits());
+        assertEquals(2, client.getTotalStatistics().failures());
+    }
+
+    @Test
+    void verifyConcurrentCallbacksPerHostCapped() throws Throwable {
+        val started = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val delegate = mock(HttpClient.class);
+        when(delegate.isValidEndPoint(any(URL.class))).thenAnswer(__ -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        val properties = new HttpClientProxyCallbackProperties()
+            .setMaxConcurrentCallbacksPerHost(1)
+            .setAcquireTimeout("PT0.1S");
+        val client = new ProxyCallbackHttpClient(delegate, properties);
+        val callbackUrl = new URI("https://app.example.org/callback").toURL();
+        try (val executor = Executors.newSingleThreadExecutor()) {
+            val first = executor.submit(() -> client.isValidEndPoint(callbackUrl));
+            started.await();
+            assertFalse(client.isValidEndPoint(callbackUrl));
+            release.countDown();
+            assertTrue(first.get());
+        }
+        assertEquals(1, client.getStatistics().get("app.example.org").rejected());
+        assertTrue(client.isValidEndPoint(new URI("https://other.example.org/callback").toURL()));
+    }
+}
@@ -0,0 +1,70 @@
+package org.apereo.cas.util.ssl;
+
+import org.apereo.cas.configuration.model.core.authentication.HttpClientTlsProperties;
+
+import lombok.EqualsAndHashCode;
+import lombok.val;
+import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSession;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SSLContextRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("X509")
+class SSLContextRegistryTests {
+    @Test
+    void verifySocketFactoriesShared() throws Throwable {
+        val registry = new SSLContextRegistry(new HttpClientTlsProperties());
+        val sslContext = SSLContexts.createDefault();
+        val hostnameVerifier = new DefaultHostnameVerifier();
+        val factory = registry.getSocketFactory(sslContext, hostnameVerifier);
+        assertSame(factory, registry.getSocketFactory(sslContext, hostnameVerifier));
+        assertNotSame(factory, registry.getSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE));
+        val otherContext = SSLContexts.createDefault();
+        assertNotSame(factory, registry.getSocketFactory(otherContext, hostnameVerifier));
+        assertEquals(3, registry.getStatistics().socketFactories());
+
+        registry.invalidate(sslContext);
+        assertNotSame(factory, registry.getSocketFactory(sslContext, hostnameVerifier));
+    }
+
+    @Test
+    void verifyEqualHostnameVerifiersShareFactories() throws Throwable {
+        val registry = new SSLContextRegistry(new HttpClientTlsProperties());
+        val sslContext = SSLContexts.createDefault();
+        val factory = registry.getSocketFactory(sslContext, null);
+        assertSame(factory, registry.getSocketFactory(sslContext, null));
+        val verifier = new EqualHostnameVerifier();
+        assertSame(registry.getSocketFactory(sslContext, verifier), registry.getSocketFactory(sslContext, new EqualHostnameVerifier()));
+        assertEquals(2, registry.getStatistics().socketFactories());
+    }
+
+    @Test
+    void verifySessionCacheConfigured() throws Throwable {
+        val properties = new HttpClientTlsProperties().setSessionCacheSize(50).setSessionTimeout("PT10M");
+        val registry = new SSLContextRegistry(properties);
+        val sslContext = SSLContexts.createDefault();
+        assertNotNull(registry.getSslSocketFactory(sslContext));
+        assertEquals(50, sslContext.getClientSessionContext().getSessionCacheSize());
+        assertEquals(600, sslContext.getClientSessionContext().getSessionTimeout());
+        assertEquals(0, registry.getStatistics().resumptionRate());
+    }
+
+    @EqualsAndHashCode
+    private static final class EqualHostnameVerifier implements HostnameVerifier {
+        @Override
+        public boolean verify(final String hostname, final SSLSession session) {
+            return true;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.apereo.cas.validation.ServiceTicketValidationAuthorizersExecutionPlan
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -70,10 +71,13 @@ public class CasCoreValidationAutoConfiguration {
         public ProxyHandler proxy20Handler(
             @Qualifier("proxy20TicketUniqueIdGenerator") final UniqueTicketIdGenerator proxy20TicketUniqueIdGenerator,
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_TRUST_STORE) final HttpClient httpClient,
+            @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_PROXY_CALLBACK) final ObjectProvider<HttpClient> proxyCallbackHttpClient,
+            final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext) throws Exception {
             return BeanSupplier.of(ProxyHandler.class)
                 .when(CONDITION_PROXY_AUTHN.given(applicationContext.getEnvironment()))
-                .supply(() -> new Cas20ProxyHandler(httpClient, proxy20TicketUniqueIdGenerator))
+                .supply(() -> new Cas20ProxyHandler(casProperties.getHttpClient().getProxyCallback().isEnabled()
+                    ? proxyCallbackHttpClient.getObject() : httpClient, proxy20TicketUniqueIdGenerator))
                 .otherwiseProxy()
                 .get();
         }
@@ -6,27 +6,37 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpClientRegistry;
+import org.apereo.cas.util.http.ProxyCallbackHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClient;
 import org.apereo.cas.util.http.SimpleHttpClientFactoryBean;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.util.ssl.SSLContextRegistry;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.socket.LayeredConnectionSocketFactory;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
-import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 
@@ -53,9 +63,16 @@ class CasCoreHttpConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public LayeredConnectionSocketFactory trustStoreSslSocketFactory(
+            @Qualifier(SSLContextRegistry.BEAN_NAME) final SSLContextRegistry sslContextRegistry,
             @Qualifier(CasSSLContext.BEAN_NAME) final CasSSLContext casSslContext,
             @Qualifier("hostnameVerifier") final HostnameVerifier hostnameVerifier) {
-            return new SSLConnectionSocketFactory(casSslContext.getSslContext(), hostnameVerifier);
+            return sslContextRegistry.getSocketFactory(casSslContext.getSslContext(), hostnameVerifier);
+        }
+
+        @ConditionalOnMissingBean(name = SSLContextRegistry.BEAN_NAME)
+        @Bean
+        public SSLContextRegistry sslContextRegistry(final CasConfigurationProperties casProperties) {
+            return new SSLContextRegistry(casProperties.getHttpClient().getTls());
         }
     }
 
@@ -84,8 +101,12 @@ class CasCoreHttpConfiguration {
             final CasConfigurationProperties casProperties) throws Exception {
             val client = casProperties.getHttpClient().getTruststore();
             if (client.getFile() != null && client.getFile().exists() && StringUtils.isNotBlank(client.getPsw())) {
-                return new DefaultCasSSLContext(client.getFile(), client.getPsw(),
+                val context = new DefaultCasSSLContext(client.getFile(), client.getPsw(),
                     client.getType(), casProperties.getHttpClient(), hostnameVerifier);
+                if (client.isWatchResource()) {
+                    context.watchTrustStore();
+                }
+                return context;
             }
             if ("none".equalsIgnoreCase(casProperties.getHttpClient().getHostNameVerifier())) {
                 return CasSSLContext.disabled();
@@ -94,6 +115,82 @@ class CasCoreHttpConfiguration {
         }
     }
 
+    @Configuration(value = "CasCoreHttpClientRegistryConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    static class CasCoreHttpClientRegistryConfiguration {
+        @ConditionalOnMissingBean(name = HttpClientRegistry.BEAN_NAME)
+        @Bean
+        public HttpClientRegistry httpClientRegistry(final CasConfigurationProperties casProperties) {
+            return new HttpClientRegistry(casProperties.getHttpClient().getPool());
+        }
+
+        @EventListener
+        public void evictHttpClientsOnRefresh(final RefreshScopeRefreshedEvent event) {
+            ApplicationContextProvider.getHttpClientRegistry().ifPresent(HttpClientRegistry::evictAll);
+        }
+    }
+
+    @Configuration(value = "CasCoreHttpClientRegistryMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
+    static class CasCoreHttpClientRegistryMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "httpClientRegistryMeterBinder")
+        public MeterBinder httpClientRegistryMeterBinder(
+            @Qualifier(HttpClientRegistry.BEAN_NAME)
+            final HttpClientRegistry httpClientRegistry) {
+            return registry -> {
+                httpClientRegistry.registerDestinationListener(destination -> {
+                    val tags = Tags.of("destination", destination);
+                    Gauge.builder("cas.http.client.pool.leased", httpClientRegistry,
+                            r -> r.getPoolStatistics(destination).getLeased())
+                        .description("Pooled HTTP connections currently in use")
+                        .tags(tags).register(registry);
+                    Gauge.builder("cas.http.client.pool.pending", httpClientRegistry,
+                            r -> r.getPoolStatistics(destination).getPending())
+                        .description("Requests waiting for a pooled HTTP connection")
+                        .tags(tags).register(registry);
+                    Gauge.builder("cas.http.client.pool.available", httpClientRegistry,
+                            r -> r.getPoolStatistics(destination).getAvailable())
+                        .description("Idle pooled HTTP connections available for reuse")
+                        .tags(tags).register(registry);
+                    Gauge.builder("cas.http.client.pool.max", httpClientRegistry,
+                            r -> r.getPoolStatistics(destination).getMax())
+                        .description("Maximum pooled HTTP connections allowed")
+                        .tags(tags).register(registry);
+                });
+                Gauge.builder("cas.http.client.count", httpClientRegistry, HttpClientRegistry::getClientCount)
+                    .description("Pooled HTTP clients kept by the registry")
+                    .register(registry);
+                FunctionCounter.builder("cas.http.client.created", httpClientRegistry, HttpClientRegistry::getCreatedClientCount)
+                    .description("Pooled HTTP clients created by the registry")
+                    .register(registry);
+                FunctionCounter.builder("cas.http.client.evicted", httpClientRegistry, HttpClientRegistry::getEvictedClientCount)
+                    .description("Pooled HTTP clients evicted because they were unused or replaced on refresh")
+                    .register(registry);
+            };
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "sslContextRegistryMeterBinder")
+        public MeterBinder sslContextRegistryMeterBinder(
+            @Qualifier(SSLContextRegistry.BEAN_NAME)
+            final SSLContextRegistry sslContextRegistry) {
+            return registry -> {
+                FunctionCounter.builder("cas.tls.handshakes", sslContextRegistry, r -> r.getStatistics().handshakes())
+                    .description("TLS handshakes completed by shared socket factories")
+                    .register(registry);
+                FunctionCounter.builder("cas.tls.sessions.resumed", sslContextRegistry, r -> r.getStatistics().resumedSessions())
+                    .description("TLS handshakes that resumed a cached session")
+                    .register(registry);
+                Gauge.builder("cas.tls.sessions.resumption.rate", sslContextRegistry, r -> r.getStatistics().resumptionRate())
+                    .description("Ratio of TLS handshakes that resumed a cached session")
+                    .register(registry);
+            };
+        }
+    }
+
     @Configuration(value = "CasCoreHttpClientConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class CasCoreHttpClientConfiguration {
@@ -161,5 +258,19 @@ class CasCoreHttpConfiguration {
             final CasConfigurationProperties casProperties) throws Exception {
             return getHttpClient(true, casSslContext, trustStoreSslSocketFactory, casProperties);
         }
+
+        @ConditionalOnMissingBean(name = HttpClient.BEAN_NAME_HTTPCLIENT_PROXY_CALLBACK)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public HttpClient proxyCallbackHttpClient(
+            @Qualifier(CasSSLContext.BEAN_NAME) final CasSSLContext casSslContext,
+            @Qualifier("trustStoreSslSocketFactory") final LayeredConnectionSocketFactory trustStoreSslSocketFactory,
+            final CasConfigurationProperties casProperties) throws Exception {
+            val properties = casProperties.getHttpClient().getProxyCallback();
+            val factoryBean = buildHttpClientFactoryBean(casSslContext, trustStoreSslSocketFactory, casProperties);
+            factoryBean.setMaxPooledConnections(properties.getMaxConnectionsTotal());
+            factoryBean.setMaxConnectionsPerRoute(properties.getMaxConnectionsPerRoute());
+            return new ProxyCallbackHttpClient(factoryBean.getObject(), properties);
+        }
     }
 }
@@ -0,0 +1,44 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import org.apereo.cas.util.NamedObject;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.core.Ordered;
+import org.springframework.webflow.execution.RequestContext;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * This is {@link PostAuthenticationInquiry}. Describes an inquiry that
+ * the webflow carries out once authentication has completed, such as
+ * interrupt notifications, acceptable usage policy or attribute consent,
+ * whose result may be prepared in the background ahead of time.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface PostAuthenticationInquiry extends Ordered, NamedObject {
+
+    /**
+     * Settings that control whether and how the inquiry is prefetched.
+     *
+     * @return the prefetch properties
+     */
+    PostAuthenticationPrefetchProperties getPrefetchProperties();
+
+    /**
+     * Prepare the tasks that produce the inquiry results, keyed by name.
+     * Everything that the tasks need from the request context must be collected
+     * here, since tasks run on a separate thread after the request may have moved on.
+     *
+     * @param requestContext the request context
+     * @return the tasks
+     * @throws Throwable the throwable
+     */
+    Map<String, CheckedSupplier<? extends Serializable>> prepare(RequestContext requestContext) throws Throwable;
+
+    @Override
+    default int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,135 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.web.support.WebUtils;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.webflow.execution.RequestContext;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This is {@link PostAuthenticationPrefetchResults}, kept in flow scope
+ * to carry results of post-authentication inquiries that are being produced
+ * in the background. Pending results are never serialized with the flow;
+ * if the flow is paused and restored, consumers simply carry out the inquiry again.
+ * Results are only handed out for the authentication they were produced for,
+ * so an authentication that changes in the meantime, i.e. once multifactor
+ * authentication completes, leads to the inquiry being carried out again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class PostAuthenticationPrefetchResults implements Serializable {
+    /**
+     * Flow scope attribute that holds the results.
+     */
+    public static final String FLOW_SCOPE_ATTRIBUTE = "postAuthenticationPrefetchResults";
+
+    @Serial
+    private static final long serialVersionUID = -3318129806527149627L;
+
+    private transient Map<String, PrefetchedResult> results;
+
+    /**
+     * Keep track of the result that is being produced in the background.
+     *
+     * @param requestContext the request context
+     * @param name           the name
+     * @param result         the result
+     */
+    public static void put(final RequestContext requestContext, final String name,
+                           final CompletableFuture<? extends Serializable> result) {
+        var prefetchResults = requestContext.getFlowScope().get(FLOW_SCOPE_ATTRIBUTE, PostAuthenticationPrefetchResults.class);
+        if (prefetchResults == null) {
+            prefetchResults = new PostAuthenticationPrefetchResults();
+            requestContext.getFlowScope().put(FLOW_SCOPE_ATTRIBUTE, prefetchResults);
+        }
+        val previous = prefetchResults.getResults().put(name, new PrefetchedResult(WebUtils.getAuthentication(requestContext), result));
+        if (previous != null) {
+            previous.result().cancel(true);
+        }
+    }
+
+    /**
+     * Collect the result that was produced in the background, if any.
+     * The result can only be collected once. An empty result indicates that the
+     * caller should carry out the inquiry itself, either because nothing was
+     * prefetched for the current authentication, or because the prefetched inquiry
+     * did not complete in time or failed.
+     *
+     * @param <T>            the type parameter
+     * @param requestContext the request context
+     * @param name           the name
+     * @param clazz          the clazz
+     * @param properties     the properties
+     * @return the result
+     */
+    public static <T extends Serializable> Optional<T> consume(final RequestContext requestContext, final String name,
+                                                               final Class<T> clazz,
+                                                               final PostAuthenticationPrefetchProperties properties) {
+        val prefetchResults = requestContext.getFlowScope().get(FLOW_SCOPE_ATTRIBUTE, PostAuthenticationPrefetchResults.class);
+        if (prefetchResults == null) {
+            return Optional.empty();
+        }
+        val prefetched = prefetchResults.getResults().remove(name);
+        if (prefetched == null) {
+            return Optional.empty();
+        }
+        val result = prefetched.result();
+        if (!Objects.equals(prefetched.authentication(), WebUtils.getAuthentication(requestContext))) {
+            LOGGER.debug("Authentication has changed since inquiry [{}] was prefetched", name);
+            result.cancel(true);
+            return Optional.empty();
+        }
+        try {
+            val value = result.get(Beans.newDuration(properties.getTimeout()).toMillis(), TimeUnit.MILLISECONDS);
+            LOGGER.debug("Using prefetched result [{}] for inquiry [{}]", value, name);
+            return Optional.ofNullable(value).map(clazz::cast);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final TimeoutException e) {
+            LOGGER.debug("Prefetched inquiry [{}] did not complete within [{}]", name, properties.getTimeout());
+            result.cancel(true);
+            return Optional.empty();
+        } catch (final ExecutionException e) {
+            LoggingUtils.warn(LOGGER, "Prefetched inquiry " + name + " has failed", e.getCause());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Results that are not collected yet.
+     *
+     * @return the results
+     */
+    public synchronized Map<String, PrefetchedResult> getResults() {
+        if (results == null) {
+            results = new ConcurrentHashMap<>();
+        }
+        return results;
+    }
+
+    /**
+     * Result that is being produced in the background,
+     * along with the authentication it is produced for.
+     *
+     * @param authentication the authentication
+     * @param result         the result
+     */
+    public record PrefetchedResult(Authentication authentication, CompletableFuture<? extends Serializable> result) {
+    }
+}
@@ -151,6 +151,7 @@ public class DefaultLoginWebflowConfigurer extends AbstractCasWebflowConfigurer
         createTransitionForState(state, CasWebflowConstants.TRANSITION_ID_ERROR, CasWebflowConstants.STATE_ID_INIT_LOGIN_FORM);
         createTransitionForState(state, CasWebflowConstants.TRANSITION_ID_TICKET_GRANTING_TICKET_VALID, CasWebflowConstants.STATE_ID_SERVICE_CHECK);
         createTransitionForState(state, CasWebflowConstants.TRANSITION_ID_GENERATE_SERVICE_TICKET, CasWebflowConstants.STATE_ID_GENERATE_SERVICE_TICKET);
+        state.getExitActionList().add(createEvaluateAction(CasWebflowConstants.ACTION_ID_POST_AUTHENTICATION_PREFETCH));
     }
 
     protected void createTicketGrantingTicketCheckAction(final Flow flow) {
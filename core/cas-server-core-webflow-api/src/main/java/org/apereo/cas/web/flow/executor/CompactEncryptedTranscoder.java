@@ -0,0 +1,142 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.cryptacular.bean.CipherBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A variant of {@link EncryptedTranscoder} that produces a more compact encoding of the webflow state.
+ * The serialized byte stream is compressed using raw deflate with a preset dictionary of class names
+ * and attribute names that commonly appear in CAS webflow executions, which avoids re-encoding
+ * the same class descriptors in every payload and keeps the encrypted {@code execution} parameter small.
+ * <p>
+ * The encoded payload starts with a short header that carries the format version. Payloads without
+ * the header are treated as produced by {@link EncryptedTranscoder} and decoded as such, allowing
+ * existing flow executions to resume during migration.
+ * The dictionary is part of the format; any change to it must be accompanied by a new format version.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class CompactEncryptedTranscoder extends EncryptedTranscoder {
+    /**
+     * Marks the start of a compact payload. Legacy payloads start with either
+     * the gzip magic number or the java serialization stream magic number.
+     */
+    static final byte FORMAT_MARKER = (byte) 0xCA;
+
+    /**
+     * The current format version.
+     */
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte[] DICTIONARY = buildDictionary();
+
+    public CompactEncryptedTranscoder(final CipherBean cipherBean) {
+        super(cipherBean, true);
+    }
+
+    @Override
+    protected ByteArrayOutputStream serialize(final Object o) throws IOException {
+        val outBuffer = new ByteArrayOutputStream();
+        outBuffer.write(FORMAT_MARKER);
+        outBuffer.write(FORMAT_VERSION);
+        val deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            try (val out = new ObjectOutputStream(new DeflaterOutputStream(outBuffer, deflater))) {
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+        } finally {
+            deflater.end();
+        }
+        return outBuffer;
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    protected Object deserialize(final byte[] data) throws Exception {
+        if (!isCompactFormat(data)) {
+            return super.deserialize(data);
+        }
+        val inflater = new Inflater(true);
+        inflater.setDictionary(DICTIONARY);
+        try (val inBuffer = new ByteArrayInputStream(data, 2, data.length - 2);
+             val in = new ObjectInputStream(new InflaterInputStream(inBuffer, inflater))) {
+            return in.readObject();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static boolean isCompactFormat(final byte[] data) {
+        return data != null && data.length > 2 && data[0] == FORMAT_MARKER && data[1] == FORMAT_VERSION;
+    }
+
+    private static byte[] buildDictionary() {
+        val entries = List.of(
+            "java.lang.String",
+            "java.lang.Boolean",
+            "java.lang.Integer",
+            "java.lang.Long",
+            "java.lang.Enum",
+            "java.lang.Number",
+            "java.util.ArrayList",
+            "java.util.HashMap",
+            "java.util.LinkedHashMap",
+            "java.util.HashSet",
+            "java.util.LinkedHashSet",
+            "java.util.Collections$UnmodifiableMap",
+            "java.util.Collections$UnmodifiableRandomAccessList",
+            "java.time.ZonedDateTime",
+            "java.time.Ser",
+            "java.net.URL",
+            "org.springframework.webflow.core.collection.LocalAttributeMap",
+            "org.springframework.webflow.core.collection.LocalSharedAttributeMap",
+            "org.springframework.binding.collection.SharedMapDecorator",
+            "org.springframework.webflow.engine.impl.FlowSessionImpl",
+            "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+            "org.springframework.webflow.execution.FlowExecutionKey",
+            "org.springframework.webflow.execution.repository.support.CompositeFlowExecutionKey",
+            "org.springframework.webflow.execution.repository.snapshot.SerializedFlowExecutionSnapshot",
+            "org.apereo.cas.web.flow.executor.ClientFlowExecutionKey",
+            "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+            "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+            "org.apereo.cas.authentication.principal.AbstractWebApplicationService",
+            "org.apereo.cas.authentication.principal.SimplePrincipal",
+            "org.apereo.cas.authentication.DefaultAuthentication",
+            "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+            "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+            "org.apereo.cas.authentication.credential.AbstractCredential",
+            "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+            "org.apereo.cas.services.CasRegisteredService",
+            "org.apereo.cas.services.BaseWebBasedRegisteredService",
+            "org.apereo.cas.services.BaseRegisteredService",
+            "org.apereo.cas.ticket.TicketGrantingTicketImpl",
+            "authentication", "authenticationResultBuilder", "authenticationResult",
+            "credential", "service", "registeredService", "ticketGrantingTicketId",
+            "flowExecutionUrl", "flowId", "conversationScope", "execution",
+            "login", "logout", "viewLoginForm", "initialFlowSetup", "realSubmit",
+            "username", "password", "principal", "attributes", "successes", "failures",
+            "serialVersionUID", "originalUrl", "source", "format", "loggedOutAlready");
+        return String.join("\0", entries).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -52,6 +52,28 @@ public class EncryptedTranscoder implements Transcoder {
         if (o == null) {
             return ArrayUtils.EMPTY_BYTE_ARRAY;
         }
+        return encrypt(serialize(o));
+    }
+
+    @Override
+    public Object decode(final byte[] encoded) throws IOException {
+        val data = decrypt(encoded);
+        try {
+            return deserialize(data);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    /**
+     * Serialize the object into a byte stream, optionally compressed.
+     *
+     * @param o the object
+     * @return the byte array output stream
+     * @throws IOException the io exception
+     */
+    protected ByteArrayOutputStream serialize(final Object o) throws IOException {
         val outBuffer = new ByteArrayOutputStream();
         try (val out = this.compression
             ? new ObjectOutputStream(new GZIPOutputStream(outBuffer))
@@ -61,21 +83,23 @@ public class EncryptedTranscoder implements Transcoder {
         } catch (final NotSerializableException e) {
             LoggingUtils.warn(LOGGER, e);
         }
-        return encrypt(outBuffer);
+        return outBuffer;
     }
 
-    @Override
+    /**
+     * Deserialize the decrypted byte stream produced by {@link #serialize(Object)}.
+     *
+     * @param data the data
+     * @return the object
+     * @throws Exception the exception
+     */
     @SuppressWarnings("BanSerializableRead")
-    public Object decode(final byte[] encoded) throws IOException {
-        val data = decrypt(encoded);
+    protected Object deserialize(final byte[] data) throws Exception {
         try (val inBuffer = new ByteArrayInputStream(data);
              val in = this.compression
                  ? new ObjectInputStream(new GZIPInputStream(inBuffer))
                  : new ObjectInputStream(inBuffer)) {
             return in.readObject();
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-            throw new IOException("Deserialization error", e);
         }
     }
 
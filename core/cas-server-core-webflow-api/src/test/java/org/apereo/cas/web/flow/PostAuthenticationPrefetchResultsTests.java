@@ -0,0 +1,74 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.authentication.Authentication;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import org.apereo.cas.util.MockRequestContext;
+import org.apereo.cas.util.serialization.SerializationUtils;
+import org.apereo.cas.web.support.WebUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link PostAuthenticationPrefetchResultsTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Webflow")
+class PostAuthenticationPrefetchResultsTests {
+    @Test
+    void verifyResultConsumedOnce() throws Throwable {
+        val context = MockRequestContext.create();
+        val properties = new PostAuthenticationPrefetchProperties().setEnabled(true);
+        PostAuthenticationPrefetchResults.put(context, "inquiry", CompletableFuture.completedFuture("result"));
+        assertEquals("result", PostAuthenticationPrefetchResults.consume(context, "inquiry",
+            String.class, properties).orElseThrow());
+        assertTrue(PostAuthenticationPrefetchResults.consume(context, "inquiry",
+            String.class, properties).isEmpty());
+    }
+
+    @Test
+    void verifyIncompleteResultsInquiredAgain() throws Throwable {
+        val context = MockRequestContext.create();
+        val properties = new PostAuthenticationPrefetchProperties().setEnabled(true).setTimeout("PT0.05S");
+        val pending = new CompletableFuture<String>();
+        PostAuthenticationPrefetchResults.put(context, "slow", pending);
+        assertTrue(PostAuthenticationPrefetchResults.consume(context, "slow",
+            String.class, properties).isEmpty());
+        assertTrue(pending.isCancelled());
+
+        PostAuthenticationPrefetchResults.put(context, "failed",
+            CompletableFuture.failedFuture(new IllegalStateException("Unavailable")));
+        assertTrue(PostAuthenticationPrefetchResults.consume(context, "failed",
+            String.class, properties).isEmpty());
+    }
+
+    @Test
+    void verifyResultDiscardedOnceAuthenticationChanges() throws Throwable {
+        val context = MockRequestContext.create();
+        val properties = new PostAuthenticationPrefetchProperties().setEnabled(true);
+        WebUtils.putAuthentication(mock(Authentication.class), context);
+        PostAuthenticationPrefetchResults.put(context, "inquiry", CompletableFuture.completedFuture("result"));
+        WebUtils.putAuthentication(mock(Authentication.class), context);
+        assertTrue(PostAuthenticationPrefetchResults.consume(context, "inquiry",
+            String.class, properties).isEmpty());
+    }
+
+    @Test
+    void verifyPendingResultsNotSerialized() throws Throwable {
+        val context = MockRequestContext.create();
+        val properties = new PostAuthenticationPrefetchProperties().setEnabled(true);
+        PostAuthenticationPrefetchResults.put(context, "inquiry", CompletableFuture.completedFuture("result"));
+        val results = context.getFlowScope().get(PostAuthenticationPrefetchResults.FLOW_SCOPE_ATTRIBUTE,
+            PostAuthenticationPrefetchResults.class);
+        val restored = SerializationUtils.deserialize(SerializationUtils.serialize(results), PostAuthenticationPrefetchResults.class);
+        assertTrue(restored.getResults().isEmpty());
+        context.getFlowScope().put(PostAuthenticationPrefetchResults.FLOW_SCOPE_ATTRIBUTE, restored);
+        assertTrue(PostAuthenticationPrefetchResults.consume(context, "inquiry",
+            String.class, properties).isEmpty());
+    }
+}
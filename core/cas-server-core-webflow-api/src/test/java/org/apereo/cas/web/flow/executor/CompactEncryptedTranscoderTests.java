@@ -0,0 +1,93 @@
+package org.apereo.cas.web.flow.executor;
+
+import lombok.val;
+import org.cryptacular.bean.AEADBlockCipherBean;
+import org.cryptacular.bean.CipherBean;
+import org.cryptacular.bean.KeyStoreFactoryBean;
+import org.cryptacular.io.FileResource;
+import org.cryptacular.spec.AEADBlockCipherSpec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test cases for {@link CompactEncryptedTranscoder}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Webflow")
+class CompactEncryptedTranscoderTests {
+    private CipherBean cipherBean;
+
+    private static LocalAttributeMap<Object> getFlowState() {
+        val state = new LocalAttributeMap<Object>();
+        state.put("service", "https://apps.example.org/app?param=" + UUID.randomUUID());
+        state.put("ticketGrantingTicketId", "TGT-1-" + UUID.randomUUID());
+        val attributes = new LinkedHashMap<String, List<Object>>();
+        for (var i = 0; i < 25; i++) {
+            attributes.put("attribute" + i, new ArrayList<>(List.of("value-" + i, UUID.randomUUID().toString())));
+        }
+        state.put("attributes", attributes);
+        return state;
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        val ksFactory = new KeyStoreFactoryBean();
+        ksFactory.setResource(new FileResource(new File("src/test/resources/test-keystore.jceks")));
+        ksFactory.setType("JCEKS");
+        ksFactory.setPassword("changeit");
+
+        val bean = new AEADBlockCipherBean();
+        bean.setBlockCipherSpec(new AEADBlockCipherSpec("AES", "GCM"));
+        bean.setKeyStore(ksFactory.newInstance());
+        bean.setKeyAlias("aes128");
+        bean.setKeyPassword("changeit");
+        bean.setNonce(new org.cryptacular.generator.sp80038d.RBGNonce());
+        this.cipherBean = bean;
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Throwable {
+        val transcoder = new CompactEncryptedTranscoder(cipherBean);
+        val state = getFlowState();
+        assertEquals(state, transcoder.decode(transcoder.encode(state)));
+    }
+
+    @Test
+    void verifyLegacyFormatReadable() throws Throwable {
+        val state = getFlowState();
+        val legacy = new EncryptedTranscoder(cipherBean).encode(state);
+        assertEquals(state, new CompactEncryptedTranscoder(cipherBean).decode(legacy));
+    }
+
+    @Test
+    void verifyCorruptedPayload() {
+        val transcoder = new CompactEncryptedTranscoder(cipherBean);
+        val payload = new byte[]{CompactEncryptedTranscoder.FORMAT_MARKER, CompactEncryptedTranscoder.FORMAT_VERSION, 1, 2, 3};
+        assertThrows(IOException.class, () -> transcoder.decode(cipherBean.encrypt(payload)));
+    }
+
+    @Test
+    void verifySizeAgainstDefault() throws Throwable {
+        val legacy = new EncryptedTranscoder(cipherBean);
+        val compact = new CompactEncryptedTranscoder(cipherBean);
+        val state = getFlowState();
+
+        val legacyEncoded = legacy.encode(state);
+        val compactEncoded = compact.encode(state);
+        assertTrue(compactEncoded.length <= legacyEncoded.length);
+        assertEquals(legacy.decode(legacyEncoded), compact.decode(compactEncoded));
+    }
+}
@@ -52,6 +52,7 @@ import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -141,6 +142,10 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
+                    if (!serviceTicket.isStateless()) {
+                        ReleasedAttributesSnapshot.of(registeredService, principal, service, policyAttributes)
+                            .sealInto(serviceTicket, configurationContext.getCipherExecutor());
+                    }
                     if (!ticketGrantingTicket.isStateless()) {
                         configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
                     }
@@ -250,13 +255,10 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             val attributePolicy = Objects.requireNonNull(registeredService.getAttributeReleasePolicy());
             LOGGER.debug("Attribute policy [{}] is associated with service [{}]", attributePolicy, registeredService);
 
-            val context = RegisteredServiceAttributeReleasePolicyContext.builder()
-                .registeredService(registeredService)
-                .service(selectedService)
-                .principal(principal)
-                .applicationContext(configurationContext.getApplicationContext())
-                .build();
-            val attributesToRelease = attributePolicy.getAttributes(context);
+            val releasedAttributes = serviceTicket.isStateless()
+                ? Optional.<ReleasedAttributesSnapshot>empty()
+                : ReleasedAttributesSnapshot.from(serviceTicket, configurationContext.getCipherExecutor());
+            val attributesToRelease = getReleasedAttributes(releasedAttributes, registeredService, selectedService, principal);
             LOGGER.debug("Calculated attributes for release per the release policy are [{}]", attributesToRelease.keySet());
 
             val builder = DefaultAuthenticationBuilder.of(
@@ -276,13 +278,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                 CollectionUtils.wrap(CoreAuthenticationUtils.isRememberMeAuthentication(authentication)));
 
             val finalAuthentication = builder.build();
-            val releasePolicyContext = RegisteredServiceAttributeReleasePolicyContext.builder()
-                .registeredService(registeredService)
-                .service(service)
-                .applicationContext(configurationContext.getApplicationContext())
-                .principal(principal)
-                .build();
-            val policyAttributes = registeredService.getAttributeReleasePolicy().getAttributes(releasePolicyContext);
+            val policyAttributes = getReleasedAttributes(releasedAttributes, registeredService, service, principal);
             val merger = CoreAuthenticationUtils.getAttributeMerger(PrincipalAttributesCoreProperties.MergingStrategyTypes.MULTIVALUED);
             var accessAttributes = CoreAuthenticationUtils.mergeAttributes(principal.getAttributes(), authentication.getAttributes(), merger);
             accessAttributes = CoreAuthenticationUtils.mergeAttributes(accessAttributes, finalAuthentication.getPrincipal().getAttributes(), merger);
@@ -370,6 +366,22 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
             .orElseThrow(UnauthorizedProxyingException::new);
     }
 
+    private Map<String, List<Object>> getReleasedAttributes(final Optional<ReleasedAttributesSnapshot> snapshot,
+                                                            final RegisteredService registeredService,
+                                                            final Service service, final Principal principal) throws Throwable {
+        if (snapshot.isPresent() && snapshot.get().isReusableFor(registeredService, principal, service)) {
+            LOGGER.debug("Reusing attributes released to [{}] when the service ticket was granted", service.getId());
+            return snapshot.get().copyOfAttributes();
+        }
+        val context = RegisteredServiceAttributeReleasePolicyContext.builder()
+            .registeredService(registeredService)
+            .service(service)
+            .principal(principal)
+            .applicationContext(configurationContext.getApplicationContext())
+            .build();
+        return registeredService.getAttributeReleasePolicy().getAttributes(context);
+    }
+
     private void enforceRegisteredServiceAccess(final Authentication authentication, final Service service,
                                                 final RegisteredService registeredService) throws Throwable {
 
@@ -0,0 +1,151 @@
+package org.apereo.cas;
+
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.ticket.PropertiesAwareTicket;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.JacksonObjectMapperFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * This is {@link ReleasedAttributesSnapshot}. It captures the attributes
+ * released to a service when a service ticket is granted, along with the version of the
+ * registered service definition and the principal that produced them. The snapshot is sealed
+ * into the service ticket, and signed and encrypted when the protocol ticket cipher is enabled,
+ * so that validating the ticket does not evaluate the attribute release policy again,
+ * unless the registered service definition has changed in the meantime.
+ *
+ * @param policyVersion    the version of the registered service definition
+ * @param principalVersion the version of the principal and its attributes
+ * @param service          the service identifier
+ * @param attributes       the released attributes
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public record ReleasedAttributesSnapshot(String policyVersion, String principalVersion,
+                                         String service, Map<String, List<Object>> attributes) {
+    /**
+     * Ticket property that carries the sealed snapshot.
+     */
+    public static final String TICKET_PROPERTY_NAME = "releasedAttributesSnapshot";
+
+    private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).build().toObjectMapper();
+
+    private static final ObjectMapper VERSION_MAPPER = JacksonObjectMapperFactory.builder()
+        .defaultTypingEnabled(true).build().toObjectMapper()
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    /**
+     * Capture the released attributes.
+     *
+     * @param registeredService the registered service
+     * @param principal         the principal
+     * @param service           the service
+     * @param attributes        the attributes
+     * @return the snapshot
+     */
+    public static ReleasedAttributesSnapshot of(final RegisteredService registeredService, final Principal principal,
+                                                final Service service, final Map<String, List<Object>> attributes) {
+        return new ReleasedAttributesSnapshot(getPolicyVersion(registeredService), getPrincipalVersion(principal),
+            service.getId(), new LinkedHashMap<>(attributes));
+    }
+
+    /**
+     * Calculate the version of the registered service definition,
+     * which changes whenever any part of the definition is modified.
+     * The version is a digest of the JSON form of the definition, which,
+     * unlike its string form, covers every field of every policy it carries.
+     *
+     * @param registeredService the registered service
+     * @return the version
+     */
+    public static String getPolicyVersion(final RegisteredService registeredService) {
+        val definition = FunctionUtils.doUnchecked(() -> VERSION_MAPPER.writeValueAsString(registeredService));
+        return DigestUtils.sha256(registeredService.getClass().getName() + '|' + registeredService.getId() + '|' + definition);
+    }
+
+    /**
+     * Read the snapshot sealed into the service ticket, if any.
+     *
+     * @param serviceTicket  the service ticket
+     * @param cipherExecutor the cipher executor
+     * @return the snapshot
+     */
+    public static Optional<ReleasedAttributesSnapshot> from(final ServiceTicket serviceTicket, final CipherExecutor cipherExecutor) {
+        if (serviceTicket instanceof final PropertiesAwareTicket ticket && ticket.containsProperty(TICKET_PROPERTY_NAME)) {
+            try {
+                val sealed = ticket.getProperty(TICKET_PROPERTY_NAME, String.class);
+                val json = cipherExecutor != null ? cipherExecutor.decode(sealed) : sealed;
+                return Optional.ofNullable(json).map(value -> FunctionUtils.doUnchecked(
+                    () -> MAPPER.readValue(value.toString(), ReleasedAttributesSnapshot.class)));
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to read released attributes from service ticket " + serviceTicket.getId(), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String getPrincipalVersion(final Principal principal) {
+        return DigestUtils.sha256(principal.getId() + '|' + new TreeMap<>(principal.getAttributes()));
+    }
+
+    /**
+     * Seal the snapshot into the service ticket.
+     *
+     * @param serviceTicket  the service ticket
+     * @param cipherExecutor the cipher executor
+     */
+    public void sealInto(final ServiceTicket serviceTicket, final CipherExecutor cipherExecutor) {
+        if (serviceTicket instanceof final PropertiesAwareTicket ticket) {
+            try {
+                val json = MAPPER.writeValueAsString(this);
+                val sealed = cipherExecutor != null ? cipherExecutor.encode(json) : json;
+                ticket.putProperty(TICKET_PROPERTY_NAME, sealed.toString());
+            } catch (final Exception e) {
+                LoggingUtils.warn(LOGGER, "Unable to seal released attributes into service ticket " + serviceTicket.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Whether the snapshot may be used in place of evaluating the release policy.
+     *
+     * @param registeredService the registered service
+     * @param principal         the principal
+     * @param service           the service
+     * @return true/false
+     */
+    public boolean isReusableFor(final RegisteredService registeredService, final Principal principal, final Service service) {
+        return StringUtils.equals(this.service, service.getId())
+            && StringUtils.equals(policyVersion, getPolicyVersion(registeredService))
+            && StringUtils.equals(principalVersion, getPrincipalVersion(principal));
+    }
+
+    /**
+     * Copy of the released attributes that may be modified by the caller.
+     *
+     * @return the attributes
+     */
+    public Map<String, List<Object>> copyOfAttributes() {
+        val copy = new LinkedHashMap<String, List<Object>>(attributes.size());
+        attributes.forEach((key, value) -> copy.put(key, new ArrayList<>(value)));
+        return copy;
+    }
+}
@@ -9,25 +9,36 @@ import org.apereo.cas.authentication.exceptions.MixedPrincipalException;
 import org.apereo.cas.authentication.principal.AbstractWebApplicationService;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.authentication.principal.WebApplicationServiceFactory;
+import org.apereo.cas.services.RegisteredServiceAttributeReleasePolicyContext;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.services.ReturnAllAttributeReleasePolicy;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.UnauthorizedProxyingException;
 import org.apereo.cas.services.UnauthorizedServiceException;
 import org.apereo.cas.services.UnauthorizedSsoServiceException;
 import org.apereo.cas.ticket.AbstractTicketException;
 import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.PropertiesAwareTicket;
 import org.apereo.cas.ticket.ServiceAwareTicket;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.ServiceTicketImpl;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.UnrecognizableServiceForServiceTicketValidationException;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
+import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.validation.DefaultCasProtocolValidationSpecification;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.TestPropertySource;
+import java.io.Serial;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +49,9 @@ import static org.mockito.Mockito.*;
 @Tag("CAS")
 @TestPropertySource(properties = "cas.ticket.crypto.enabled=true")
 class DefaultCentralAuthenticationServiceTests extends AbstractCentralAuthenticationServiceTests {
+    @Autowired
+    @Qualifier("protocolTicketCipherExecutor")
+    private CipherExecutor protocolTicketCipherExecutor;
 
     private static Service getService(final String name) {
         val request = new MockHttpServletRequest();
@@ -239,6 +253,47 @@ class DefaultCentralAuthenticationServiceTests extends AbstractCentralAuthentica
         assertNotNull(getCentralAuthenticationService().validateServiceTicket(serviceTicket.getId(), getService()));
     }
 
+    @Test
+    void verifyValidateServiceTicketWithReleasedAttributesSnapshot() throws Throwable {
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val grantedTicket = getCentralAuthenticationService().grantServiceTicket(ticketGrantingTicket.getId(), getService(), ctx);
+        val serviceTicket = getTicketRegistry().getTicket(grantedTicket.getId(), ServiceTicket.class);
+        val sealed = ((PropertiesAwareTicket) serviceTicket).getProperty(ReleasedAttributesSnapshot.TICKET_PROPERTY_NAME, String.class);
+        assertNotNull(sealed);
+        assertFalse(sealed.contains(CoreAuthenticationTestUtils.CONST_TEST_URL));
+
+        val snapshot = ReleasedAttributesSnapshot.from(serviceTicket, protocolTicketCipherExecutor).orElseThrow();
+        val registeredService = getServicesManager().findServiceBy(getService());
+        val principal = ctx.getAuthentication().getPrincipal();
+        assertTrue(snapshot.isReusableFor(registeredService, principal, getService()));
+        assertFalse(snapshot.isReusableFor(registeredService, principal, getService("https://example.org/other")));
+        assertNotNull(getCentralAuthenticationService().validateServiceTicket(serviceTicket.getId(), getService()));
+    }
+
+    @Test
+    void verifyReleasedAttributesReusedUntilDefinitionChanges() throws Throwable {
+        val service = getService("https://released.example.org");
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService(service.getId(), Map.of());
+        registeredService.setAttributeReleasePolicy(new CountingAttributeReleasePolicy());
+        getServicesManager().save(registeredService);
+
+        val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport(), service);
+        val ticketGrantingTicket = getCentralAuthenticationService().createTicketGrantingTicket(ctx);
+        val firstTicket = getCentralAuthenticationService().grantServiceTicket(ticketGrantingTicket.getId(), service, ctx);
+        val evaluations = CountingAttributeReleasePolicy.EVALUATIONS.get();
+        assertNotNull(getCentralAuthenticationService().validateServiceTicket(firstTicket.getId(), service));
+        assertEquals(evaluations, CountingAttributeReleasePolicy.EVALUATIONS.get());
+
+        val secondTicket = getCentralAuthenticationService().grantServiceTicket(ticketGrantingTicket.getId(), service, ctx);
+        val policy = (CountingAttributeReleasePolicy) registeredService.getAttributeReleasePolicy();
+        policy.setExcludeDefaultAttributes(!policy.isExcludeDefaultAttributes());
+        getServicesManager().save(registeredService);
+        val evaluationsBeforeChange = CountingAttributeReleasePolicy.EVALUATIONS.get();
+        assertNotNull(getCentralAuthenticationService().validateServiceTicket(secondTicket.getId(), service));
+        assertTrue(CountingAttributeReleasePolicy.EVALUATIONS.get() > evaluationsBeforeChange);
+    }
+
     @Test
     void verifyValidateServiceTicketWithMappedAttrPolicy() throws Throwable {
         val ctx = CoreAuthenticationTestUtils.getAuthenticationResult(getAuthenticationSystemSupport());
@@ -498,4 +553,18 @@ class DefaultCentralAuthenticationServiceTests extends AbstractCentralAuthentica
         val validationSpecification = new DefaultCasProtocolValidationSpecification(mock(ServicesManager.class), input -> true);
         assertTrue(validationSpecification.isSatisfiedBy(assertion, new MockHttpServletRequest()));
     }
+
+    static class CountingAttributeReleasePolicy extends ReturnAllAttributeReleasePolicy {
+        private static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+        @Serial
+        private static final long serialVersionUID = 2416712562409126711L;
+
+        @Override
+        public Map<String, List<Object>> getAttributesInternal(final RegisteredServiceAttributeReleasePolicyContext context,
+                                                               final Map<String, List<Object>> attributes) throws Throwable {
+            EVALUATIONS.incrementAndGet();
+            return super.getAttributesInternal(context, attributes);
+        }
+    }
 }
@@ -0,0 +1,89 @@
+package org.apereo.cas.web.flow.login;
+
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
+import org.apereo.cas.web.flow.PostAuthenticationPrefetchResults;
+import org.apereo.cas.web.flow.actions.BaseCasWebflowAction;
+import org.apereo.cas.web.support.WebUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.RequestContext;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * This is {@link PostAuthenticationPrefetchAction}. Once authentication has completed
+ * and the principal is resolved, starts the post-authentication inquiries that are
+ * independent of one another, such as interrupt notifications, acceptable usage policy
+ * and attribute consent, concurrently on virtual threads. The pending results are kept
+ * in flow scope, and the actions that later carry out those inquiries collect them instead.
+ * The number of inquiries of each kind running in the background is bounded; once the bound
+ * is reached, the inquiry is left to the webflow to carry out as it would without prefetching.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostAuthenticationPrefetchAction extends BaseCasWebflowAction implements DisposableBean {
+    private final List<PostAuthenticationInquiry> inquiries;
+
+    private final ExecutorService executor;
+
+    private final Map<String, Semaphore> concurrencyLimits = new ConcurrentHashMap<>();
+
+    public PostAuthenticationPrefetchAction(final List<PostAuthenticationInquiry> inquiries) {
+        this(inquiries, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cas-prefetch-", 0).factory()));
+    }
+
+    @Override
+    protected Event doExecuteInternal(final RequestContext requestContext) {
+        val authentication = WebUtils.getAuthentication(requestContext);
+        if (authentication == null) {
+            LOGGER.trace("No authentication is found in the webflow; skipping post-authentication prefetch");
+            return null;
+        }
+        inquiries
+            .stream()
+            .filter(inquiry -> inquiry.getPrefetchProperties().isEnabled())
+            .forEach(inquiry -> {
+                try {
+                    val permits = concurrencyLimits.computeIfAbsent(inquiry.getName(),
+                        name -> new Semaphore(inquiry.getPrefetchProperties().getMaximumConcurrency()));
+                    inquiry.prepare(requestContext).forEach((name, task) -> {
+                        if (!permits.tryAcquire()) {
+                            LOGGER.debug("Too many inquiries of [{}] are running; [{}] is left to the webflow", inquiry.getName(), name);
+                            return;
+                        }
+                        try {
+                            LOGGER.debug("Prefetching inquiry [{}] for [{}]", name, authentication.getPrincipal().getId());
+                            val result = CompletableFuture.supplyAsync(Unchecked.supplier(task), executor)
+                                .whenComplete((value, error) -> permits.release());
+                            PostAuthenticationPrefetchResults.put(requestContext, name, result);
+                        } catch (final RejectedExecutionException e) {
+                            permits.release();
+                            LOGGER.debug("Unable to prefetch inquiry [{}]: [{}]", name, e.getMessage());
+                        }
+                    });
+                } catch (final Throwable e) {
+                    LoggingUtils.warn(LOGGER, "Unable to prefetch inquiry " + inquiry.getName(), e);
+                }
+            });
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -28,6 +28,7 @@ import org.apereo.cas.web.flow.CasWebflowCredentialProvider;
 import org.apereo.cas.web.flow.GatewayServicesManagementCheckAction;
 import org.apereo.cas.web.flow.GenerateServiceTicketAction;
 import org.apereo.cas.web.flow.PopulateSpringSecurityContextAction;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
 import org.apereo.cas.web.flow.ServiceAuthorizationCheckAction;
 import org.apereo.cas.web.flow.SingleSignOnParticipationStrategy;
 import org.apereo.cas.web.flow.account.AccountProfileRemoveSingleSignOnSessionAction;
@@ -41,6 +42,7 @@ import org.apereo.cas.web.flow.login.GenericSuccessViewAction;
 import org.apereo.cas.web.flow.login.InitialAuthenticationRequestValidationAction;
 import org.apereo.cas.web.flow.login.InitialFlowSetupAction;
 import org.apereo.cas.web.flow.login.InitializeLoginAction;
+import org.apereo.cas.web.flow.login.PostAuthenticationPrefetchAction;
 import org.apereo.cas.web.flow.login.RedirectUnauthorizedServiceUrlAction;
 import org.apereo.cas.web.flow.login.SendTicketGrantingTicketAction;
 import org.apereo.cas.web.flow.login.ServiceWarningAction;
@@ -141,6 +143,22 @@ public class CasSupportActionsAutoConfiguration {
                 .get();
         }
 
+        @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_POST_AUTHENTICATION_PREFETCH)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public Action postAuthenticationPrefetchAction(
+            final CasConfigurationProperties casProperties,
+            final ConfigurableApplicationContext applicationContext,
+            final ObjectProvider<PostAuthenticationInquiry> postAuthenticationInquiries) {
+            return WebflowActionBeanSupplier.builder()
+                .withApplicationContext(applicationContext)
+                .withProperties(casProperties)
+                .withAction(() -> new PostAuthenticationPrefetchAction(postAuthenticationInquiries.orderedStream().toList()))
+                .withId(CasWebflowConstants.ACTION_ID_POST_AUTHENTICATION_PREFETCH)
+                .build()
+                .get();
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_SERVICE_AUTHZ_CHECK)
         @Bean
@@ -3,6 +3,7 @@ package org.apereo.cas.aup;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.web.support.WebUtils;
 import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.webflow.execution.RequestContext;
 import java.io.Serial;
 import java.io.Serializable;
@@ -62,6 +63,19 @@ public interface AcceptableUsagePolicyRepository extends Serializable {
      */
     AcceptableUsagePolicyStatus verify(RequestContext requestContext) throws Throwable;
 
+    /**
+     * Prepare the policy verification so that it may run in the background, away from the request.
+     * Repositories that cannot verify the policy without the request context produce no result,
+     * and the policy is then verified as usual.
+     *
+     * @param requestContext the request context
+     * @return the verification
+     * @throws Throwable the throwable
+     */
+    default Optional<CheckedSupplier<AcceptableUsagePolicyStatus>> prefetch(final RequestContext requestContext) throws Throwable {
+        return Optional.empty();
+    }
+
     /**
      * Record the fact that the policy is accepted..
      *
@@ -12,11 +12,13 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.webflow.execution.RequestContext;
 import javax.sql.DataSource;
 import java.io.Serial;
+import java.util.Optional;
 
 /**
  * This is {@link JdbcAcceptableUsagePolicyRepository}.
@@ -48,21 +50,27 @@ public class JdbcAcceptableUsagePolicyRepository extends BaseAcceptableUsagePoli
 
     @Override
     public AcceptableUsagePolicyStatus verify(final RequestContext requestContext) throws Throwable {
-        var status = super.verify(requestContext);
-        if (status.isDenied()) {
-            val jdbc = aupProperties.getJdbc();
-            val aupColumnName = getAcceptableUsagePolicyColumnName(jdbc);
-            val sql = String.format(jdbc.getSqlSelect(), aupColumnName, jdbc.getTableName(), jdbc.getPrincipalIdColumn());
-            val principal = WebUtils.getAuthentication(requestContext).getPrincipal();
-            val principalId = determinePrincipalId(principal);
-            LOGGER.debug("Executing search query [{}] for principal [{}]", sql, principalId);
-            return transactionTemplate.execute(action -> {
-                val acceptedFlag = jdbcTemplate.queryForObject(sql, String.class, principalId);
-                return new AcceptableUsagePolicyStatus(
-                    TriStateBoolean.fromBoolean(BooleanUtils.toBoolean(acceptedFlag)), status.getPrincipal());
-            });
-        }
-        return status;
+        val status = super.verify(requestContext);
+        return status.isDenied() ? verifyWithDatabase(status) : status;
+    }
+
+    @Override
+    public Optional<CheckedSupplier<AcceptableUsagePolicyStatus>> prefetch(final RequestContext requestContext) throws Throwable {
+        val status = super.verify(requestContext);
+        return Optional.of(status.isDenied() ? () -> verifyWithDatabase(status) : () -> status);
+    }
+
+    private AcceptableUsagePolicyStatus verifyWithDatabase(final AcceptableUsagePolicyStatus status) {
+        val jdbc = aupProperties.getJdbc();
+        val aupColumnName = getAcceptableUsagePolicyColumnName(jdbc);
+        val sql = String.format(jdbc.getSqlSelect(), aupColumnName, jdbc.getTableName(), jdbc.getPrincipalIdColumn());
+        val principalId = determinePrincipalId(status.getPrincipal());
+        LOGGER.debug("Executing search query [{}] for principal [{}]", sql, principalId);
+        return transactionTemplate.execute(action -> {
+            val acceptedFlag = jdbcTemplate.queryForObject(sql, String.class, principalId);
+            return new AcceptableUsagePolicyStatus(
+                TriStateBoolean.fromBoolean(BooleanUtils.toBoolean(acceptedFlag)), status.getPrincipal());
+        });
     }
 
     @Override
@@ -12,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jooq.lambda.Unchecked;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.ldaptive.ConnectionFactory;
 import org.ldaptive.SearchResponse;
 import org.springframework.beans.factory.DisposableBean;
@@ -48,27 +49,34 @@ public class LdapAcceptableUsagePolicyRepository extends BaseAcceptableUsagePoli
 
     @Override
     public AcceptableUsagePolicyStatus verify(final RequestContext requestContext) throws Throwable {
-        var status = super.verify(requestContext);
-        if (status.isDenied()) {
-            val principal = WebUtils.getAuthentication(requestContext).getPrincipal();
-            return aupProperties.getLdap()
-                .stream()
-                .sorted(Comparator.comparing(LdapAcceptableUsagePolicyProperties::getName))
-                .map(Unchecked.function(ldap -> searchLdapForId(ldap, principal.getId())))
-                .filter(Optional::isPresent)
-                .findFirst()
-                .filter(Optional::isPresent)
-                .map(result -> result.get().getMiddle().getEntry())
-                .map(entry -> {
-                    val attribute = entry.getAttribute(aupProperties.getCore().getAupAttributeName());
-                    return attribute != null && attribute.getStringValues()
-                        .stream()
-                        .anyMatch(value -> value.equalsIgnoreCase(getAcceptedAttributeValue()));
-                })
-                .map(result -> new AcceptableUsagePolicyStatus(TriStateBoolean.fromBoolean(result), status.getPrincipal()))
-                .orElseGet(() -> AcceptableUsagePolicyStatus.denied(status.getPrincipal()));
-        }
-        return status;
+        val status = super.verify(requestContext);
+        return status.isDenied() ? verifyWithLdap(status) : status;
+    }
+
+    @Override
+    public Optional<CheckedSupplier<AcceptableUsagePolicyStatus>> prefetch(final RequestContext requestContext) throws Throwable {
+        val status = super.verify(requestContext);
+        return Optional.of(status.isDenied() ? () -> verifyWithLdap(status) : () -> status);
+    }
+
+    private AcceptableUsagePolicyStatus verifyWithLdap(final AcceptableUsagePolicyStatus status) {
+        val principal = status.getPrincipal();
+        return aupProperties.getLdap()
+            .stream()
+            .sorted(Comparator.comparing(LdapAcceptableUsagePolicyProperties::getName))
+            .map(Unchecked.function(ldap -> searchLdapForId(ldap, principal.getId())))
+            .filter(Optional::isPresent)
+            .findFirst()
+            .filter(Optional::isPresent)
+            .map(result -> result.get().getMiddle().getEntry())
+            .map(entry -> {
+                val attribute = entry.getAttribute(aupProperties.getCore().getAupAttributeName());
+                return attribute != null && attribute.getStringValues()
+                    .stream()
+                    .anyMatch(value -> value.equalsIgnoreCase(getAcceptedAttributeValue()));
+            })
+            .map(result -> new AcceptableUsagePolicyStatus(TriStateBoolean.fromBoolean(result), principal))
+            .orElseGet(() -> AcceptableUsagePolicyStatus.denied(principal));
     }
 
     /**
@@ -5,11 +5,13 @@ import org.apereo.cas.aup.LdapAcceptableUsagePolicyRepository;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -33,6 +35,8 @@ public class CasAcceptableUsagePolicyLdapAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
     public AcceptableUsagePolicyRepository acceptableUsagePolicyRepository(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
         final ConfigurableApplicationContext applicationContext,
         final CasConfigurationProperties casProperties,
         @Qualifier(TicketRegistrySupport.BEAN_NAME)
@@ -42,7 +46,8 @@ public class CasAcceptableUsagePolicyLdapAutoConfiguration {
             .supply(() -> {
                 val connectionFactoryList = new ConcurrentHashMap<String, ConnectionFactory>();
                 val aupProperties = casProperties.getAcceptableUsagePolicy();
-                aupProperties.getLdap().forEach(ldap -> connectionFactoryList.put(ldap.getLdapUrl(), LdapUtils.newLdaptiveConnectionFactory(ldap)));
+                aupProperties.getLdap().forEach(ldap -> connectionFactoryList.put(ldap.getLdapUrl(),
+                    LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable())));
                 return new LdapAcceptableUsagePolicyRepository(ticketRegistrySupport, aupProperties, connectionFactoryList);
             })
             .otherwise(AcceptableUsagePolicyRepository::noOp)
@@ -1,5 +1,6 @@
 package org.apereo.cas.aup;
 
+import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.model.support.aup.AcceptableUsagePolicyProperties;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.util.CollectionUtils;
@@ -18,11 +19,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
 import org.hjson.JsonValue;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.webflow.execution.RequestContext;
 import java.io.Serial;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -119,42 +122,57 @@ public class RestAcceptableUsagePolicyRepository extends BaseAcceptableUsagePoli
 
     @Override
     public AcceptableUsagePolicyStatus verify(final RequestContext requestContext) throws Throwable {
-        var status = super.verify(requestContext);
+        val status = super.verify(requestContext);
         if (status.isDenied()) {
-            val principal = WebUtils.getAuthentication(requestContext).getPrincipal();
-            HttpResponse response = null;
-            try {
-                val rest = aupProperties.getRest();
-                val url = StringUtils.appendIfMissing(rest.getUrl(), "/").concat("status");
-                val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
+            val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
+            return verifyWithEndpoint(status, request.getLocale(), WebUtils.getService(requestContext));
+        }
+        return status;
+    }
 
-                val parameters = CollectionUtils.<String, String>wrap(
-                    "username", principal.getId(),
-                    "locale", request.getLocale().toString());
-                val service = WebUtils.getService(requestContext);
-                FunctionUtils.doIfNotNull(service, __ -> parameters.put("service", service.getId()));
+    @Override
+    public Optional<CheckedSupplier<AcceptableUsagePolicyStatus>> prefetch(final RequestContext requestContext) throws Throwable {
+        val status = super.verify(requestContext);
+        if (status.isDenied()) {
+            val locale = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext).getLocale();
+            val service = WebUtils.getService(requestContext);
+            return Optional.of(() -> verifyWithEndpoint(status, locale, service));
+        }
+        return Optional.of(() -> status);
+    }
 
-                val exec = HttpExecutionRequest.builder()
-                    .basicAuthPassword(rest.getBasicAuthPassword())
-                    .basicAuthUsername(rest.getBasicAuthUsername())
-                    .method(HttpMethod.GET)
-                    .url(url)
-                    .httpClient(this.httpClient)
-                    .parameters(parameters)
-                    .build();
-                response = HttpUtils.execute(exec);
-                val statusCode = response.getCode();
-                LOGGER.debug("AUP status request returned with response code [{}]", statusCode);
-                if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
-                    return AcceptableUsagePolicyStatus.accepted(principal);
-                }
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
-            } finally {
-                HttpUtils.close(response);
+    private AcceptableUsagePolicyStatus verifyWithEndpoint(final AcceptableUsagePolicyStatus status,
+                                                           final Locale locale, final Service service) {
+        val principal = status.getPrincipal();
+        HttpResponse response = null;
+        try {
+            val rest = aupProperties.getRest();
+            val url = StringUtils.appendIfMissing(rest.getUrl(), "/").concat("status");
+
+            val parameters = CollectionUtils.<String, String>wrap(
+                "username", principal.getId(),
+                "locale", locale.toString());
+            FunctionUtils.doIfNotNull(service, __ -> parameters.put("service", service.getId()));
+
+            val exec = HttpExecutionRequest.builder()
+                .basicAuthPassword(rest.getBasicAuthPassword())
+                .basicAuthUsername(rest.getBasicAuthUsername())
+                .method(HttpMethod.GET)
+                .url(url)
+                .httpClient(this.httpClient)
+                .parameters(parameters)
+                .build();
+            response = HttpUtils.execute(exec);
+            val statusCode = response.getCode();
+            LOGGER.debug("AUP status request returned with response code [{}]", statusCode);
+            if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
+                return AcceptableUsagePolicyStatus.accepted(principal);
             }
-            return AcceptableUsagePolicyStatus.denied(principal);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            HttpUtils.close(response);
         }
-        return status;
+        return AcceptableUsagePolicyStatus.denied(principal);
     }
 }
@@ -15,6 +15,7 @@ import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.flow.AcceptableUsagePolicyPostAuthenticationInquiry;
 import org.apereo.cas.web.flow.AcceptableUsagePolicySubmitAction;
 import org.apereo.cas.web.flow.AcceptableUsagePolicyVerifyAction;
 import org.apereo.cas.web.flow.AcceptableUsagePolicyVerifyServiceAction;
@@ -22,6 +23,7 @@ import org.apereo.cas.web.flow.AcceptableUsagePolicyWebflowConfigurer;
 import org.apereo.cas.web.flow.CasWebflowConfigurer;
 import org.apereo.cas.web.flow.CasWebflowConstants;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
 import org.apereo.cas.web.flow.actions.ConsumerExecutionAction;
 import org.apereo.cas.web.flow.actions.WebflowActionBeanSupplier;
 import org.apereo.cas.web.support.WebUtils;
@@ -154,7 +156,8 @@ public class CasAcceptableUsagePolicyWebflowAutoConfiguration {
                 .withProperties(casProperties)
                 .withAction(() -> BeanSupplier.of(Action.class)
                     .when(AcceptableUsagePolicyRepository.CONDITION_AUP_ENABLED.given(applicationContext.getEnvironment()))
-                    .supply(() -> new AcceptableUsagePolicyVerifyAction(acceptableUsagePolicyRepository, registeredServiceAccessStrategyEnforcer))
+                    .supply(() -> new AcceptableUsagePolicyVerifyAction(acceptableUsagePolicyRepository,
+                        registeredServiceAccessStrategyEnforcer, casProperties))
                     .otherwise(() -> ConsumerExecutionAction.NONE)
                     .get())
                 .withId(CasWebflowConstants.ACTION_ID_AUP_VERIFY)
@@ -162,6 +165,16 @@ public class CasAcceptableUsagePolicyWebflowAutoConfiguration {
                 .get();
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "acceptableUsagePolicyPostAuthenticationInquiry")
+        public PostAuthenticationInquiry acceptableUsagePolicyPostAuthenticationInquiry(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(AcceptableUsagePolicyRepository.BEAN_NAME)
+            final AcceptableUsagePolicyRepository acceptableUsagePolicyRepository) {
+            return new AcceptableUsagePolicyPostAuthenticationInquiry(acceptableUsagePolicyRepository, casProperties);
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_AUP_RENDER)
@@ -0,0 +1,42 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.aup.AcceptableUsagePolicyRepository;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import lombok.RequiredArgsConstructor;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.webflow.execution.RequestContext;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * This is {@link AcceptableUsagePolicyPostAuthenticationInquiry} that verifies
+ * the acceptable usage policy status in the background once authentication has completed,
+ * if the policy repository is able to do so away from the request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class AcceptableUsagePolicyPostAuthenticationInquiry implements PostAuthenticationInquiry {
+    /**
+     * Name of the prefetched result.
+     */
+    public static final String PREFETCH_NAME = "acceptableUsagePolicy";
+
+    private final AcceptableUsagePolicyRepository repository;
+
+    private final CasConfigurationProperties casProperties;
+
+    @Override
+    public PostAuthenticationPrefetchProperties getPrefetchProperties() {
+        return casProperties.getAcceptableUsagePolicy().getCore().getPrefetch();
+    }
+
+    @Override
+    public Map<String, CheckedSupplier<? extends Serializable>> prepare(final RequestContext requestContext) throws Throwable {
+        return repository.prefetch(requestContext)
+            .<Map<String, CheckedSupplier<? extends Serializable>>>map(task -> Map.of(PREFETCH_NAME, task))
+            .orElseGet(Map::of);
+    }
+}
@@ -7,6 +7,7 @@ import org.apereo.cas.audit.AuditableContext;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.aup.AcceptableUsagePolicyRepository;
 import org.apereo.cas.aup.AcceptableUsagePolicyStatus;
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.WebBasedRegisteredService;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.web.flow.actions.BaseCasWebflowAction;
@@ -32,6 +33,8 @@ public class AcceptableUsagePolicyVerifyAction extends BaseCasWebflowAction {
 
     private final AuditableExecution registeredServiceAccessStrategyEnforcer;
 
+    private final CasConfigurationProperties casProperties;
+
     @Audit(action = AuditableActions.AUP_VERIFY,
         actionResolverName = AuditActionResolvers.AUP_VERIFY_ACTION_RESOLVER,
         resourceResolverName = AuditResourceResolvers.AUP_VERIFY_RESOURCE_RESOLVER)
@@ -49,8 +52,11 @@ public class AcceptableUsagePolicyVerifyAction extends BaseCasWebflowAction {
      */
     private Event verify(final RequestContext context) throws Throwable {
         val authentication = WebUtils.getAuthentication(context);
-        val res = ObjectUtils.defaultIfNull(repository.verify(context),
-            AcceptableUsagePolicyStatus.skipped(authentication.getPrincipal()));
+        val prefetchedStatus = PostAuthenticationPrefetchResults.consume(context,
+            AcceptableUsagePolicyPostAuthenticationInquiry.PREFETCH_NAME, AcceptableUsagePolicyStatus.class,
+            casProperties.getAcceptableUsagePolicy().getCore().getPrefetch());
+        val status = prefetchedStatus.isPresent() ? prefetchedStatus.get() : repository.verify(context);
+        val res = ObjectUtils.defaultIfNull(status, AcceptableUsagePolicyStatus.skipped(authentication.getPrincipal()));
 
         WebUtils.putPrincipal(context, res.getPrincipal());
         WebUtils.putAcceptableUsagePolicyStatusIntoFlowScope(context, res);
@@ -1,6 +1,7 @@
 package org.apereo.cas.web.flow;
 
 import org.apereo.cas.aup.AcceptableUsagePolicyRepository;
+import org.apereo.cas.aup.AcceptableUsagePolicyStatus;
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
@@ -24,6 +25,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.webflow.execution.Action;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -91,6 +93,31 @@ class AcceptableUsagePolicyVerifyActionTests {
             assertEquals(CasWebflowConstants.TRANSITION_ID_AUP_ACCEPTED, acceptableUsagePolicyVerifyAction.execute(context).getId());
         }
 
+        @Test
+        void verifyPrefetchedStatusUsed() throws Throwable {
+            val user = UUID.randomUUID().toString();
+            val context = MockRequestContext.create(applicationContext);
+            WebUtils.putCredential(context, CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword());
+            WebUtils.putTicketGrantingTicketInScopes(context, new MockTicketGrantingTicket(user));
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            WebUtils.putAuthentication(authentication, context);
+            PostAuthenticationPrefetchResults.put(context, AcceptableUsagePolicyPostAuthenticationInquiry.PREFETCH_NAME,
+                CompletableFuture.completedFuture(AcceptableUsagePolicyStatus.accepted(authentication.getPrincipal())));
+            assertEquals(CasWebflowConstants.TRANSITION_ID_AUP_ACCEPTED, acceptableUsagePolicyVerifyAction.execute(context).getId());
+        }
+
+        @Test
+        void verifyFailedPrefetchVerifiesAgain() throws Throwable {
+            val user = UUID.randomUUID().toString();
+            val context = MockRequestContext.create(applicationContext);
+            WebUtils.putCredential(context, CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword());
+            WebUtils.putTicketGrantingTicketInScopes(context, new MockTicketGrantingTicket(user));
+            WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), context);
+            PostAuthenticationPrefetchResults.put(context, AcceptableUsagePolicyPostAuthenticationInquiry.PREFETCH_NAME,
+                CompletableFuture.failedFuture(new IllegalStateException("Unavailable")));
+            assertEquals(CasWebflowConstants.TRANSITION_ID_AUP_MUST_ACCEPT, acceptableUsagePolicyVerifyAction.execute(context).getId());
+        }
+
         @Test
         void verifyActionWithService() throws Throwable {
             val user = UUID.randomUUID().toString();
@@ -4,7 +4,10 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
 
 /**
  * This is {@link ConsentActivationStrategy}.
@@ -33,4 +36,23 @@ public interface ConsentActivationStrategy {
                               RegisteredService registeredService,
                               Authentication authentication,
                               HttpServletRequest request) throws Throwable;
+
+    /**
+     * Prepare the decision so that it may be made in the background, away from the request.
+     * Strategies that need the request to decide produce no result,
+     * and consent is then determined as usual.
+     *
+     * @param service           the service
+     * @param registeredService the registered service
+     * @param authentication    the authentication
+     * @param request           the request
+     * @return the decision
+     * @throws Throwable the throwable
+     */
+    default Optional<CheckedSupplier<Boolean>> prefetch(final Service service,
+                                                        final RegisteredService registeredService,
+                                                        final Authentication authentication,
+                                                        final HttpServletRequest request) throws Throwable {
+        return Optional.empty();
+    }
 }
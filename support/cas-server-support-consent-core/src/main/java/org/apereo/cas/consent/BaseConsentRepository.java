@@ -13,12 +13,18 @@ import lombok.Setter;
 import lombok.val;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link BaseConsentRepository}.
@@ -36,21 +42,38 @@ public abstract class BaseConsentRepository implements ConsentRepository {
 
     private Set<ConsentDecision> consentDecisions = Collections.synchronizedSet(new LinkedHashSet<>(0));
 
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<ConsentDecisionIndex> consentDecisionIndex =
+        new AtomicReference<>(new ConsentDecisionIndex(Set.of(), new ConcurrentHashMap<>()));
+
+    private static String getPrincipalIndexKey(final String principal) {
+        return principal.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Sets consent decisions and rebuilds the principal index.
+     * The index is built aside and replaces the previous index at once,
+     * so that concurrent lookups never observe a partially built index.
+     *
+     * @param consentDecisions the consent decisions
+     */
+    public synchronized void setConsentDecisions(final Set<ConsentDecision> consentDecisions) {
+        this.consentDecisions = consentDecisions;
+        rebuildIndex(consentDecisions);
+    }
+
     @Override
     public ConsentDecision findConsentDecision(final Service service, final RegisteredService registeredService,
                                                final Authentication authentication) {
-        return this.consentDecisions.stream()
-            .filter(d -> d.getPrincipal().equals(authentication.getPrincipal().getId())
-                && d.getService().equals(service.getId()))
+        return findIndexedConsentDecisions(authentication.getPrincipal().getId())
+            .filter(d -> d.getService().equals(service.getId()))
             .findFirst()
             .orElse(null);
     }
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
-        return this.consentDecisions.stream()
-            .filter(d -> d.getPrincipal().equals(principal))
-            .collect(Collectors.toSet());
+        return findIndexedConsentDecisions(principal).collect(Collectors.toSet());
     }
 
     @Override
@@ -65,25 +88,85 @@ public abstract class BaseConsentRepository implements ConsentRepository {
             .anyMatch(d -> d.getId() == decision.getId());
         if (consent) {
             getConsentDecisions().remove(decision);
+            unindex(decision);
         } else {
             decision.setId(RandomUtils.nextInt());
         }
         getConsentDecisions().add(decision);
+        index(decision);
         return decision;
     }
 
     @Override
     public boolean deleteConsentDecision(final long decisionId, final String principal) throws Throwable {
-        return this.consentDecisions.removeIf(d -> d.getId() == decisionId && d.getPrincipal().equalsIgnoreCase(principal));
+        return this.consentDecisions.removeIf(d -> {
+            val matched = d.getId() == decisionId && d.getPrincipal().equalsIgnoreCase(principal);
+            if (matched) {
+                unindex(d);
+            }
+            return matched;
+        });
     }
 
     @Override
     public void deleteAll() throws Throwable {
         consentDecisions.clear();
+        consentDecisionIndex.set(new ConsentDecisionIndex(consentDecisions, new ConcurrentHashMap<>()));
     }
 
     @Override
     public boolean deleteConsentDecisions(final String principal) throws Throwable {
-        return consentDecisions.removeIf(consentDecision -> consentDecision.getPrincipal().equalsIgnoreCase(principal));
+        return consentDecisions.removeIf(consentDecision -> {
+            val matched = consentDecision.getPrincipal().equalsIgnoreCase(principal);
+            if (matched) {
+                unindex(consentDecision);
+            }
+            return matched;
+        });
+    }
+
+    private Stream<ConsentDecision> findIndexedConsentDecisions(final String principal) {
+        var index = consentDecisionIndex.get();
+        if (index.source() != consentDecisions) {
+            index = rebuildIndex();
+        }
+        return index.decisionsByPrincipal().getOrDefault(getPrincipalIndexKey(principal), Set.of())
+            .stream()
+            .filter(d -> d.getPrincipal().equals(principal));
+    }
+
+    private synchronized ConsentDecisionIndex rebuildIndex() {
+        val index = consentDecisionIndex.get();
+        return index.source() == consentDecisions ? index : rebuildIndex(consentDecisions);
+    }
+
+    private ConsentDecisionIndex rebuildIndex(final Set<ConsentDecision> decisions) {
+        val decisionsByPrincipal = new ConcurrentHashMap<String, Set<ConsentDecision>>();
+        decisions.forEach(decision -> index(decisionsByPrincipal, decision));
+        val index = new ConsentDecisionIndex(decisions, decisionsByPrincipal);
+        consentDecisionIndex.set(index);
+        return index;
+    }
+
+    private void index(final ConsentDecision decision) {
+        index(consentDecisionIndex.get().decisionsByPrincipal(), decision);
+    }
+
+    private static void index(final Map<String, Set<ConsentDecision>> decisionsByPrincipal, final ConsentDecision decision) {
+        decisionsByPrincipal.computeIfAbsent(getPrincipalIndexKey(decision.getPrincipal()),
+            __ -> ConcurrentHashMap.newKeySet()).add(decision);
+    }
+
+    private void unindex(final ConsentDecision decision) {
+        consentDecisionIndex.get().decisionsByPrincipal().computeIfPresent(getPrincipalIndexKey(decision.getPrincipal()), (__, decisions) -> {
+            decisions.remove(decision);
+            return decisions.isEmpty() ? null : decisions;
+        });
+    }
+
+    private record ConsentDecisionIndex(Set<ConsentDecision> source,
+                                        Map<String, Set<ConsentDecision>> decisionsByPrincipal) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -2217436590937514211L;
     }
 }
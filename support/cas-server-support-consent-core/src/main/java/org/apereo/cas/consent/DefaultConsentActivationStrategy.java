@@ -8,8 +8,10 @@ import org.apereo.cas.services.RegisteredService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
 
 /**
  * This is {@link DefaultConsentActivationStrategy}.
@@ -51,4 +53,11 @@ public class DefaultConsentActivationStrategy implements ConsentActivationStrate
                      + "nor the global CAS consent policy are enabled for this request", registeredService.getName());
         return false;
     }
+
+    @Override
+    public Optional<CheckedSupplier<Boolean>> prefetch(final Service service, final RegisteredService registeredService,
+                                                       final Authentication authentication,
+                                                       final HttpServletRequest request) {
+        return Optional.of(() -> isConsentRequired(service, registeredService, authentication, request));
+    }
 }
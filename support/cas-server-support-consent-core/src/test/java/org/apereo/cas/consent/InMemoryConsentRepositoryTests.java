@@ -1,12 +1,23 @@
 package org.apereo.cas.consent;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.test.CasTestExtension;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * This is {@link InMemoryConsentRepositoryTests}.
@@ -23,4 +34,32 @@ class InMemoryConsentRepositoryTests extends BaseConsentRepositoryTests {
     @Autowired
     @Qualifier(ConsentRepository.BEAN_NAME)
     protected ConsentRepository repository;
+
+    @Test
+    void verifyLookupsDuringIndexRebuild() throws Throwable {
+        val repository = new InMemoryConsentRepository();
+        val decision = BUILDER.build(SVC, REG_SVC, "casuser", ATTR);
+        repository.storeConsentDecision(decision);
+        val running = new AtomicBoolean(true);
+        val misses = new AtomicInteger();
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val readers = IntStream.range(0, 4)
+                .mapToObj(__ -> executor.submit(() -> {
+                    while (running.get()) {
+                        if (repository.findConsentDecision(SVC, REG_SVC, CoreAuthenticationTestUtils.getAuthentication("casuser")) == null) {
+                            misses.incrementAndGet();
+                        }
+                    }
+                }))
+                .toList();
+            for (var i = 0; i < 1000; i++) {
+                repository.setConsentDecisions(Collections.synchronizedSet(new LinkedHashSet<>(Set.of(decision))));
+            }
+            running.set(false);
+            for (val reader : readers) {
+                reader.get();
+            }
+        }
+        assertEquals(0, misses.get());
+    }
 }
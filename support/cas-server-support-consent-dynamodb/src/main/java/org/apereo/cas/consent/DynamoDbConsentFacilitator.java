@@ -19,10 +19,15 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -81,8 +86,18 @@ public record DynamoDbConsentFacilitator(DynamoDbConsentProperties dynamoDbPrope
             .attributeName(ColumnNames.ID.getColumnName())
             .keyType(KeyType.HASH)
             .build());
-        FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
-            dynamoDbProperties.getTableName(), deleteTables, attributes, schema));
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            val indexAttributes = new ArrayList<>(attributes);
+            indexAttributes.addAll(getPrincipalIndexAttributeDefinitions());
+            val index = buildPrincipalIndex();
+            FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTableName(), deleteTables, indexAttributes, schema, List.of(index)));
+            DynamoDbTableUtils.createGlobalSecondaryIndexIfMissing(amazonDynamoDBClient,
+                dynamoDbProperties.getTableName(), getPrincipalIndexAttributeDefinitions(), index);
+        } else {
+            FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTableName(), deleteTables, attributes, schema));
+        }
     }
 
     /**
@@ -121,6 +136,9 @@ public record DynamoDbConsentFacilitator(DynamoDbConsentProperties dynamoDbPrope
      * @return the collection
      */
     public Collection<? extends ConsentDecision> find(final String principal) {
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            return queryPrincipalIndex(principal, null).collect(Collectors.toList());
+        }
         val query = DynamoDbQueryBuilder.builder()
             .key(ColumnNames.PRINCIPAL.getColumnName())
             .attributeValue(List.of(AttributeValue.builder().s(principal).build()))
@@ -137,6 +155,9 @@ public record DynamoDbConsentFacilitator(DynamoDbConsentProperties dynamoDbPrope
      * @return the consent decision
      */
     public ConsentDecision find(final Service service, final Principal principal) {
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            return queryPrincipalIndex(principal.getId(), service.getId()).findFirst().orElse(null);
+        }
         val query = List.of(
             DynamoDbQueryBuilder.builder()
                 .key(ColumnNames.PRINCIPAL.getColumnName())
@@ -247,6 +268,63 @@ public record DynamoDbConsentFacilitator(DynamoDbConsentProperties dynamoDbPrope
         private final String columnName;
     }
 
+    private static List<AttributeDefinition> getPrincipalIndexAttributeDefinitions() {
+        return List.of(
+            AttributeDefinition.builder()
+                .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                .attributeType(ScalarAttributeType.S)
+                .build(),
+            AttributeDefinition.builder()
+                .attributeName(ColumnNames.SERVICE.getColumnName())
+                .attributeType(ScalarAttributeType.S)
+                .build());
+    }
+
+    private GlobalSecondaryIndex buildPrincipalIndex() {
+        return GlobalSecondaryIndex.builder()
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keySchema(
+                KeySchemaElement.builder()
+                    .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                    .keyType(KeyType.HASH)
+                    .build(),
+                KeySchemaElement.builder()
+                    .attributeName(ColumnNames.SERVICE.getColumnName())
+                    .keyType(KeyType.RANGE)
+                    .build())
+            .projection(Projection.builder()
+                .projectionType(ProjectionType.INCLUDE)
+                .nonKeyAttributes(ColumnNames.ID.getColumnName(), ColumnNames.BODY.getColumnName())
+                .build())
+            .provisionedThroughput(DynamoDbTableUtils.getProvisionedThroughput(dynamoDbProperties))
+            .build();
+    }
+
+    private Stream<ConsentDecision> queryPrincipalIndex(final String principal, final String service) {
+        val names = new HashMap<String, String>();
+        names.put("#principal", ColumnNames.PRINCIPAL.getColumnName());
+        val values = new HashMap<String, AttributeValue>();
+        values.put(":principal", AttributeValue.builder().s(principal).build());
+        var condition = "#principal = :principal";
+        if (service != null) {
+            names.put("#service", ColumnNames.SERVICE.getColumnName());
+            values.put(":service", AttributeValue.builder().s(service).build());
+            condition += " AND #service = :service";
+        }
+        val request = QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTableName())
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keyConditionExpression(condition)
+            .expressionAttributeNames(names)
+            .expressionAttributeValues(values)
+            .build();
+        LOGGER.debug("Querying index [{}] with request [{}]", dynamoDbProperties.getPrincipalIndexName(), request);
+        return amazonDynamoDBClient.queryPaginator(request)
+            .items()
+            .stream()
+            .map(DynamoDbConsentFacilitator::extractAttributeValuesFrom);
+    }
+
     private Stream<ConsentDecision> getRecordsByKeys(final List<? extends DynamoDbQueryBuilder> queries) {
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient,
             dynamoDbProperties.getTableName(),
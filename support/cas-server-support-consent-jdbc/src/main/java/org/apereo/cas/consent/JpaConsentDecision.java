@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 
@@ -23,7 +24,8 @@ import java.io.Serial;
 @Getter
 @Setter
 @Entity
-@Table(name = "ConsentDecision")
+@Table(name = "ConsentDecision", indexes =
+    @Index(name = "idx_consent_principal_service", columnList = "principal,service"))
 @NoArgsConstructor
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 public class JpaConsentDecision extends ConsentDecision {
@@ -5,10 +5,12 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.consent.ConsentRepository;
 import org.apereo.cas.consent.LdapConsentRepository;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
 import org.ldaptive.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -41,8 +43,11 @@ public class CasConsentLdapAutoConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "consentLdapConnectionFactory")
-    public ConnectionFactory consentLdapConnectionFactory(final CasConfigurationProperties casProperties) {
+    public ConnectionFactory consentLdapConnectionFactory(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
+        final CasConfigurationProperties casProperties) {
         val ldap = casProperties.getConsent().getLdap();
-        return LdapUtils.newLdaptiveConnectionFactory(ldap);
+        return LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable());
     }
 }
@@ -14,6 +14,9 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.Index;
+import java.util.List;
 
 /**
  * This is {@link CasConsentMongoDbAutoConfiguration}.
@@ -36,6 +39,9 @@ public class CasConsentMongoDbAutoConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(
+            new Index().on("principal", Sort.Direction.ASC).on("service", Sort.Direction.ASC).named("principalServiceIndex")));
         return new MongoDbConsentRepository(mongoTemplate, mongo.getCollection());
     }
 }
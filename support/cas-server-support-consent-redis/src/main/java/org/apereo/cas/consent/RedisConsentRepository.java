@@ -9,14 +9,22 @@ import org.apereo.cas.util.LoggingUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.data.redis.core.RedisCallback;
 
 import java.io.Serial;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link RedisConsentRepository}.
+ * Decisions are indexed by principal so that consent checks find a matching decision
+ * without scanning. When the index has no matching decision, the decisions of the principal
+ * are scanned and indexed, which picks up decisions stored by earlier versions or by nodes
+ * that do not maintain the index.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -29,6 +37,11 @@ public class RedisConsentRepository implements ConsentRepository {
      */
     public static final String CAS_CONSENT_DECISION_PREFIX = ConsentDecision.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix for the sets that index decision keys by principal.
+     */
+    public static final String CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX = ConsentDecision.class.getSimpleName() + "Principals:";
+
     @Serial
     private static final long serialVersionUID = 1234168609139907616L;
 
@@ -36,24 +49,41 @@ public class RedisConsentRepository implements ConsentRepository {
 
     private final long scanCount;
 
+    private static byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getRedisKey(final ConsentDecision decision) {
+        return CAS_CONSENT_DECISION_PREFIX + decision.getPrincipal() + ':' + decision.getId();
+    }
+
     @Override
     public ConsentDecision findConsentDecision(final Service service,
                                                final RegisteredService registeredService,
                                                final Authentication authentication) {
-        val results = findConsentDecisions(authentication.getPrincipal().getId());
-        return results
-            .stream()
-            .map(ConsentDecision.class::cast)
+        val principal = authentication.getPrincipal().getId();
+        return findIndexedConsentDecisions(principal)
             .filter(d -> d.getService().equalsIgnoreCase(service.getId()))
             .findFirst()
-            .orElse(null);
+            .orElseGet(() -> findConsentDecisions(principal)
+                .stream()
+                .map(ConsentDecision.class::cast)
+                .filter(d -> d.getService().equalsIgnoreCase(service.getId()))
+                .findFirst()
+                .orElse(null));
     }
 
     @Override
     public Collection<? extends ConsentDecision> findConsentDecisions(final String principal) {
         try (val redisKeys = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ":*", this.scanCount)) {
             return redisKeys
-                .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
+                .map(redisKey -> {
+                    val decision = redisTemplate.boundValueOps(redisKey).get();
+                    if (decision != null) {
+                        addToIndex(redisKey, decision);
+                    }
+                    return decision;
+                })
                 .filter(Objects::nonNull)
                 .map(ConsentDecision.class::cast)
                 .collect(Collectors.toList());
@@ -74,8 +104,9 @@ public class RedisConsentRepository implements ConsentRepository {
     @Override
     public ConsentDecision storeConsentDecision(final ConsentDecision decision) {
         try {
-            val redisKey = CAS_CONSENT_DECISION_PREFIX + decision.getPrincipal() + ':' + decision.getId();
+            val redisKey = getRedisKey(decision);
             redisTemplate.boundValueOps(redisKey).set(decision);
+            addToIndex(redisKey, decision);
             return decision;
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
@@ -85,10 +116,10 @@ public class RedisConsentRepository implements ConsentRepository {
 
     @Override
     public boolean deleteConsentDecision(final long decisionId, final String principal) {
-        try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ':' + decisionId, scanCount)) {
-            val count = redisTemplate.delete(redisKey.collect(Collectors.toSet()));
-            return count != null && count.intValue() > 0;
-        }
+        val redisKey = CAS_CONSENT_DECISION_PREFIX + principal + ':' + decisionId;
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands()
+            .sRem(toBytes(CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX + principal), toBytes(redisKey)));
+        return Boolean.TRUE.equals(redisTemplate.delete(redisKey));
     }
 
     @Override
@@ -96,13 +127,36 @@ public class RedisConsentRepository implements ConsentRepository {
         try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + '*', scanCount)) {
             redisTemplate.delete(redisKey.collect(Collectors.toSet()));
         }
+        try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX + '*', scanCount)) {
+            redisTemplate.delete(redisKey.collect(Collectors.toSet()));
+        }
     }
 
     @Override
     public boolean deleteConsentDecisions(final String principal) {
-        try (val redisKey = redisTemplate.scan(CAS_CONSENT_DECISION_PREFIX + principal + ":*", scanCount)) {
-            val count = redisTemplate.delete(redisKey.collect(Collectors.toSet()));
-            return count != null && count.intValue() > 0;
-        }
+        val indexKey = CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX + principal;
+        val redisKeys = findConsentDecisions(principal)
+            .stream()
+            .map(RedisConsentRepository::getRedisKey)
+            .collect(Collectors.toSet());
+        val count = redisTemplate.delete(redisKeys);
+        redisTemplate.delete(indexKey);
+        return count != null && count.intValue() > 0;
+    }
+
+    private Stream<ConsentDecision> findIndexedConsentDecisions(final String principal) {
+        val redisKeys = Objects.requireNonNull(redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+            connection.setCommands().sMembers(toBytes(CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX + principal))));
+        return redisKeys
+            .stream()
+            .map(redisKey -> new String(redisKey, StandardCharsets.UTF_8))
+            .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
+            .filter(Objects::nonNull)
+            .map(ConsentDecision.class::cast);
+    }
+
+    private void addToIndex(final String redisKey, final ConsentDecision decision) {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands()
+            .sAdd(toBytes(CAS_CONSENT_DECISION_PRINCIPAL_INDEX_PREFIX + decision.getPrincipal()), toBytes(redisKey)));
     }
 }
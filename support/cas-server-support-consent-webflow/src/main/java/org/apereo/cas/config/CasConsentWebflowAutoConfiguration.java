@@ -18,7 +18,9 @@ import org.apereo.cas.web.flow.CheckConsentRequiredAction;
 import org.apereo.cas.web.flow.ConfirmConsentAction;
 import org.apereo.cas.web.flow.ConsentAccountProfilePrepareAction;
 import org.apereo.cas.web.flow.ConsentAccountProfileWebflowConfigurer;
+import org.apereo.cas.web.flow.ConsentPostAuthenticationInquiry;
 import org.apereo.cas.web.flow.ConsentWebflowConfigurer;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
 import org.apereo.cas.web.flow.actions.ConsumerExecutionAction;
 import org.apereo.cas.web.flow.actions.WebflowActionBeanSupplier;
 
@@ -85,6 +87,21 @@ public class CasConsentWebflowAutoConfiguration {
                 .get();
         }
 
+        @ConditionalOnMissingBean(name = "consentPostAuthenticationInquiry")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public PostAuthenticationInquiry consentPostAuthenticationInquiry(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
+            final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies,
+            @Qualifier(ServicesManager.BEAN_NAME)
+            final ServicesManager servicesManager,
+            @Qualifier(ConsentActivationStrategy.BEAN_NAME)
+            final ConsentActivationStrategy consentActivationStrategy) {
+            return new ConsentPostAuthenticationInquiry(servicesManager,
+                authenticationRequestServiceSelectionStrategies, consentActivationStrategy, casProperties);
+        }
+
         @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_CONFIRM_CONSENT)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
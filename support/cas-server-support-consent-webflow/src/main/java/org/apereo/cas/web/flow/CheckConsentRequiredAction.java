@@ -76,6 +76,12 @@ public class CheckConsentRequiredAction extends AbstractConsentAction {
                                        final RegisteredService registeredService,
                                        final Authentication authentication,
                                        final RequestContext requestContext) throws Throwable {
+        val prefetchedDecision = PostAuthenticationPrefetchResults.consume(requestContext,
+            ConsentPostAuthenticationInquiry.getPrefetchName(service), Boolean.class,
+            casProperties.getConsent().getCore().getPrefetch());
+        if (prefetchedDecision.isPresent()) {
+            return prefetchedDecision.get() ? EVENT_ID_CONSENT_REQUIRED : null;
+        }
         val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
         val required = consentActivationStrategy.isConsentRequired(service,
             registeredService, authentication, request);
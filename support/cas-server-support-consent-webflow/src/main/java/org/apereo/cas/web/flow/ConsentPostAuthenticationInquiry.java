@@ -0,0 +1,71 @@
+package org.apereo.cas.web.flow;
+
+import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import org.apereo.cas.consent.ConsentActivationStrategy;
+import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.web.support.WebUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.webflow.execution.RequestContext;
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * This is {@link ConsentPostAuthenticationInquiry} that determines whether
+ * attribute consent is required for the requested service in the background
+ * once authentication has completed, if the consent activation strategy
+ * is able to do so away from the request. The decision is prepared from the same
+ * service, registered service and authentication that {@link CheckConsentRequiredAction}
+ * later uses, and is discarded if the authentication changes in the meantime.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class ConsentPostAuthenticationInquiry implements PostAuthenticationInquiry {
+    private final ServicesManager servicesManager;
+
+    private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
+
+    private final ConsentActivationStrategy consentActivationStrategy;
+
+    private final CasConfigurationProperties casProperties;
+
+    /**
+     * Name of the prefetched result for the service.
+     *
+     * @param service the service
+     * @return the name
+     */
+    public static String getPrefetchName(final Service service) {
+        return "consent:" + service.getId();
+    }
+
+    @Override
+    public PostAuthenticationPrefetchProperties getPrefetchProperties() {
+        return casProperties.getConsent().getCore().getPrefetch();
+    }
+
+    @Override
+    public Map<String, CheckedSupplier<? extends Serializable>> prepare(final RequestContext requestContext) throws Throwable {
+        val service = authenticationRequestServiceSelectionStrategies.resolveService(WebUtils.getService(requestContext));
+        if (service == null) {
+            return Map.of();
+        }
+        val authentication = WebUtils.getAuthentication(requestContext);
+        if (authentication == null) {
+            return Map.of();
+        }
+        val registeredService = servicesManager.findServiceBy(authenticationRequestServiceSelectionStrategies.resolveService(service));
+        RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(service, registeredService);
+        val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
+        return consentActivationStrategy.prefetch(service, registeredService, authentication, request)
+            .<Map<String, CheckedSupplier<? extends Serializable>>>map(task -> Map.of(getPrefetchName(service), task))
+            .orElseGet(Map::of);
+    }
+}
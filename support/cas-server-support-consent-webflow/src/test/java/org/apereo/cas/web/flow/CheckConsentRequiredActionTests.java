@@ -17,6 +17,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -90,6 +91,43 @@ class CheckConsentRequiredActionTests extends BaseConsentActionTests {
         assertNull(checkConsentRequiredAction.execute(context));
     }
 
+    @Test
+    void verifyPrefetchedDecisionUsed() throws Throwable {
+        val context = MockRequestContext.create(applicationContext);
+        WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(), context);
+        val registeredService = getRegisteredServiceWithConsentStatus(TriStateBoolean.FALSE);
+        val service = CoreAuthenticationTestUtils.getWebApplicationService(registeredService.getServiceId());
+        WebUtils.putServiceIntoFlowScope(context, service);
+        PostAuthenticationPrefetchResults.put(context, ConsentPostAuthenticationInquiry.getPrefetchName(service),
+            CompletableFuture.completedFuture(Boolean.TRUE));
+        assertEquals(CheckConsentRequiredAction.EVENT_ID_CONSENT_REQUIRED, checkConsentRequiredAction.execute(context).getId());
+    }
+
+    @Test
+    void verifyFailedPrefetchInquiresAgain() throws Throwable {
+        val context = MockRequestContext.create(applicationContext);
+        WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(), context);
+        val registeredService = getRegisteredServiceWithConsentStatus(TriStateBoolean.TRUE);
+        val service = CoreAuthenticationTestUtils.getWebApplicationService(registeredService.getServiceId());
+        WebUtils.putServiceIntoFlowScope(context, service);
+        PostAuthenticationPrefetchResults.put(context, ConsentPostAuthenticationInquiry.getPrefetchName(service),
+            CompletableFuture.failedFuture(new IllegalStateException("Unavailable")));
+        assertEquals(CheckConsentRequiredAction.EVENT_ID_CONSENT_REQUIRED, checkConsentRequiredAction.execute(context).getId());
+    }
+
+    @Test
+    void verifyPrefetchedDecisionDiscardedAfterAuthenticationChanges() throws Throwable {
+        val context = MockRequestContext.create(applicationContext);
+        WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(), context);
+        val registeredService = getRegisteredServiceWithConsentStatus(TriStateBoolean.FALSE);
+        val service = CoreAuthenticationTestUtils.getWebApplicationService(registeredService.getServiceId());
+        WebUtils.putServiceIntoFlowScope(context, service);
+        PostAuthenticationPrefetchResults.put(context, ConsentPostAuthenticationInquiry.getPrefetchName(service),
+            CompletableFuture.completedFuture(Boolean.TRUE));
+        WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), context);
+        assertNull(checkConsentRequiredAction.execute(context));
+    }
+
     private RegisteredService getRegisteredServiceWithConsentStatus(final TriStateBoolean status) {
         val id = UUID.randomUUID().toString();
         val registeredService = RegisteredServiceTestUtils.getRegisteredService(id);
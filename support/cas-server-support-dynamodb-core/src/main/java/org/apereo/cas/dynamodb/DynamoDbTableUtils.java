@@ -14,24 +14,35 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.Condition;
+import software.amazon.awssdk.services.dynamodb.model.CreateGlobalSecondaryIndexAction;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexUpdate;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
 import software.amazon.awssdk.services.dynamodb.model.TimeToLiveSpecification;
+import software.amazon.awssdk.services.dynamodb.model.UpdateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.UpdateTimeToLiveRequest;
 
 import java.io.Serial;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -129,19 +140,43 @@ public class DynamoDbTableUtils {
                                                final boolean deleteTable,
                                                final List<AttributeDefinition> attributeDefinitions,
                                                final List<KeySchemaElement> keySchemaElements) throws Exception {
+        return createTable(dynamoDbClient, dynamoDbProperties, tableName, deleteTable,
+            attributeDefinitions, keySchemaElements, List.of());
+    }
+
+    /**
+     * Create table with global secondary indexes.
+     *
+     * @param dynamoDbClient         the dynamo db client
+     * @param dynamoDbProperties     the dynamo db properties
+     * @param tableName              the table name
+     * @param deleteTable            the delete tables
+     * @param attributeDefinitions   the attribute definitions, including those used by indexes
+     * @param keySchemaElements      the key schema elements
+     * @param globalSecondaryIndexes the global secondary indexes
+     * @return the table description
+     * @throws Exception the exception
+     */
+    public static TableDescription createTable(final DynamoDbClient dynamoDbClient,
+                                               final AbstractDynamoDbProperties dynamoDbProperties,
+                                               final String tableName,
+                                               final boolean deleteTable,
+                                               final List<AttributeDefinition> attributeDefinitions,
+                                               final List<KeySchemaElement> keySchemaElements,
+                                               final List<GlobalSecondaryIndex> globalSecondaryIndexes) throws Exception {
 
         val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
-        val throughput = billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
-            .readCapacityUnits(dynamoDbProperties.getReadCapacity())
-            .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
-            .build() : null;
-        val request = CreateTableRequest.builder()
+        val throughput = getProvisionedThroughput(dynamoDbProperties);
+        val requestBuilder = CreateTableRequest.builder()
             .attributeDefinitions(attributeDefinitions)
             .keySchema(keySchemaElements)
             .provisionedThroughput(throughput)
             .tableName(tableName)
-            .billingMode(billingMode)
-            .build();
+            .billingMode(billingMode);
+        if (!globalSecondaryIndexes.isEmpty()) {
+            requestBuilder.globalSecondaryIndexes(globalSecondaryIndexes);
+        }
+        val request = requestBuilder.build();
 
         if (deleteTable) {
             val delete = DeleteTableRequest.builder().tableName(tableName).build();
@@ -159,6 +194,156 @@ public class DynamoDbTableUtils {
         return tableDescription;
     }
 
+    /**
+     * Build the provisioned throughput for tables and indexes
+     * if the billing mode requires it.
+     *
+     * @param dynamoDbProperties the dynamo db properties
+     * @return the provisioned throughput, or null
+     */
+    public static ProvisionedThroughput getProvisionedThroughput(final AbstractDynamoDbProperties dynamoDbProperties) {
+        val billingMode = BillingMode.fromValue(dynamoDbProperties.getBillingMode().name());
+        return billingMode == BillingMode.PROVISIONED ? ProvisionedThroughput.builder()
+            .readCapacityUnits(dynamoDbProperties.getReadCapacity())
+            .writeCapacityUnits(dynamoDbProperties.getWriteCapacity())
+            .build() : null;
+    }
+
+    /**
+     * Create the global secondary index on an existing table, if the table does not have it already.
+     *
+     * @param dynamoDbClient       the dynamo db client
+     * @param tableName            the table name
+     * @param attributeDefinitions the attribute definitions used by the index
+     * @param index                the index
+     * @return true if the index was requested to be created
+     */
+    public static boolean createGlobalSecondaryIndexIfMissing(final DynamoDbClient dynamoDbClient,
+                                                              final String tableName,
+                                                              final List<AttributeDefinition> attributeDefinitions,
+                                                              final GlobalSecondaryIndex index) {
+        return FunctionUtils.doAndHandle(() -> {
+            val table = dynamoDbClient.describeTable(DescribeTableRequest.builder().tableName(tableName).build()).table();
+            val exists = table.hasGlobalSecondaryIndexes() && table.globalSecondaryIndexes()
+                .stream()
+                .anyMatch(gsi -> gsi.indexName().equals(index.indexName()));
+            if (exists) {
+                return false;
+            }
+            val action = CreateGlobalSecondaryIndexAction.builder()
+                .indexName(index.indexName())
+                .keySchema(index.keySchema())
+                .projection(index.projection())
+                .provisionedThroughput(index.provisionedThroughput())
+                .build();
+            val request = UpdateTableRequest.builder()
+                .tableName(tableName)
+                .attributeDefinitions(attributeDefinitions)
+                .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder().create(action).build())
+                .build();
+            LOGGER.debug("Creating global secondary index [{}] on table [{}]", index.indexName(), tableName);
+            dynamoDbClient.updateTable(request);
+            return true;
+        }, e -> false).get();
+    }
+
+    /**
+     * Scan the table in parallel using the given number of segments,
+     * with at most {@code maxConcurrency} segments scanned at the same time on virtual threads.
+     * Each segment is paginated until exhausted. A single segment falls back to a sequential paginated scan.
+     *
+     * @param <T>            the type parameter
+     * @param dynamoDbClient the dynamo db client
+     * @param scanRequest    the scan request to use as a template for each segment
+     * @param totalSegments  the total segments
+     * @param maxConcurrency the max concurrency
+     * @param itemMapper     the item mapper
+     * @return the list of mapped, non-null items
+     */
+    public static <T> List<T> parallelScan(final DynamoDbClient dynamoDbClient,
+                                           final ScanRequest scanRequest,
+                                           final int totalSegments,
+                                           final int maxConcurrency,
+                                           final Function<Map<String, AttributeValue>, T> itemMapper) {
+        val results = scanSegments(totalSegments, maxConcurrency, segment -> {
+            val request = buildSegmentScanRequest(scanRequest, segment, totalSegments);
+            LOGGER.debug("Scanning table with scan request [{}]", request);
+            return dynamoDbClient.scanPaginator(request)
+                .items()
+                .stream()
+                .map(itemMapper)
+                .filter(Objects::nonNull)
+                .toList();
+        });
+        return results.stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Count items in the table using a parallel scan that only returns item counts.
+     *
+     * @param dynamoDbClient the dynamo db client
+     * @param scanRequest    the scan request to use as a template for each segment
+     * @param totalSegments  the total segments
+     * @param maxConcurrency the max concurrency
+     * @return the count
+     */
+    public static long parallelCount(final DynamoDbClient dynamoDbClient,
+                                     final ScanRequest scanRequest,
+                                     final int totalSegments,
+                                     final int maxConcurrency) {
+        val counts = scanSegments(totalSegments, maxConcurrency, segment -> {
+            val request = buildSegmentScanRequest(scanRequest, segment, totalSegments)
+                .toBuilder()
+                .select(Select.COUNT)
+                .build();
+            LOGGER.debug("Counting items with scan request [{}]", request);
+            return dynamoDbClient.scanPaginator(request)
+                .stream()
+                .mapToLong(ScanResponse::count)
+                .sum();
+        });
+        return counts.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static ScanRequest buildSegmentScanRequest(final ScanRequest scanRequest, final int segment, final int totalSegments) {
+        return totalSegments > 1
+            ? scanRequest.toBuilder().segment(segment).totalSegments(totalSegments).build()
+            : scanRequest;
+    }
+
+    private static <R> List<R> scanSegments(final int totalSegments, final int maxConcurrency,
+                                            final IntFunction<R> segmentScanner) {
+        val segments = Math.max(1, totalSegments);
+        if (segments == 1) {
+            return List.of(segmentScanner.apply(0));
+        }
+        val permits = new Semaphore(Math.max(1, maxConcurrency));
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = new ArrayList<Future<R>>(segments);
+            for (var i = 0; i < segments; i++) {
+                val segment = i;
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return segmentScanner.apply(segment);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            val results = new ArrayList<R>(segments);
+            for (val future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("Parallel scan was interrupted", e);
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof final RuntimeException re ? re : SdkClientException.create(e.getMessage(), e.getCause());
+        }
+    }
+
     /**
      * Enable time to live on table.
      *
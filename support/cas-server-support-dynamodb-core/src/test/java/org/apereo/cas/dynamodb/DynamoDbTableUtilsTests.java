@@ -8,6 +8,7 @@ import org.mockito.ArgumentMatcher;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BillingMode;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.CreateTableResponse;
@@ -16,9 +17,15 @@ import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 import software.amazon.awssdk.services.dynamodb.model.TableStatus;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -116,6 +123,51 @@ class DynamoDbTableUtilsTests {
         verify(client).createTable(argThat(createTableArgMatcher));
     }
 
+    @Test
+    void verifyParallelScan() {
+        val client = mock(DynamoDbClient.class);
+        val segments = ConcurrentHashMap.<Integer>newKeySet();
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(args -> new ScanIterable(client, args.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(args -> {
+            val request = args.<ScanRequest>getArgument(0);
+            assertEquals(4, request.totalSegments());
+            segments.add(request.segment());
+            val item = Map.of("id", AttributeValue.builder().s("item-" + request.segment()).build());
+            return ScanResponse.builder().items(List.of(item)).count(1).build();
+        });
+        val scanRequest = ScanRequest.builder().tableName("test-table").build();
+        val results = DynamoDbTableUtils.parallelScan(client, scanRequest, 4, 2, item -> item.get("id").s());
+        assertEquals(4, results.size());
+        assertEquals(4, segments.size());
+        assertTrue(results.containsAll(List.of("item-0", "item-1", "item-2", "item-3")));
+    }
+
+    @Test
+    void verifyParallelCount() {
+        val client = mock(DynamoDbClient.class);
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenAnswer(args -> new ScanIterable(client, args.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(args -> {
+            val request = args.<ScanRequest>getArgument(0);
+            assertNotNull(request.select());
+            return ScanResponse.builder().count(Objects.requireNonNullElse(request.segment(), 0) + 1).build();
+        });
+        val scanRequest = ScanRequest.builder().tableName("test-table").build();
+        assertEquals(10, DynamoDbTableUtils.parallelCount(client, scanRequest, 4, 4));
+        assertEquals(1, DynamoDbTableUtils.parallelCount(client, scanRequest, 1, 4));
+    }
+
+    @Test
+    void verifyParallelScanFailure() {
+        val client = mock(DynamoDbClient.class);
+        when(client.scanPaginator(any(ScanRequest.class)))
+            .thenThrow(SdkException.create("error", new IllegalArgumentException()));
+        val scanRequest = ScanRequest.builder().tableName("test-table").build();
+        assertThrows(SdkException.class,
+            () -> DynamoDbTableUtils.parallelScan(client, scanRequest, 4, 2, item -> item));
+    }
+
     @SuppressWarnings("serial")
     static class MinimalTestDynamoDbProperties extends AbstractDynamoDbProperties {
 
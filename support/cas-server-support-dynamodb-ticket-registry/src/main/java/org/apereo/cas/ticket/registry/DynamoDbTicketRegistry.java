@@ -52,6 +52,12 @@ public class DynamoDbTicketRegistry extends AbstractTicketRegistry {
         return dbTableService.getSessionsFor(digestIdentifier(principalId));
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        val count = dbTableService.countSessionsFor(digestIdentifier(principalId));
+        return count >= 0 ? count : super.countSessionsFor(principalId);
+    }
+
     @Override
     public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
         val filterExpressions = new ArrayList<String>();
@@ -2,15 +2,18 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.model.support.dynamodb.DynamoDbTicketRegistryProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.dynamodb.DynamoDbQueryBuilder;
 import org.apereo.cas.dynamodb.DynamoDbTableUtils;
 import org.apereo.cas.ticket.IdleExpirationPolicy;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketDefinition;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
-import com.google.common.collect.Streams;
+import org.apereo.cas.util.function.FunctionUtils;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -26,16 +29,26 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import java.nio.ByteBuffer;
+import java.time.Clock;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,12 +74,24 @@ import java.util.stream.Stream;
 public class DynamoDbTicketRegistryFacilitator {
     private static final int BATCH_PUT_REQUEST_LIMIT = 25;
 
+    private static final String COUNTER_COLUMN_COUNT = "ticketCount";
+
+    private static final String COUNTER_COLUMN_RECONCILED = "reconciledAt";
+
     private final TicketCatalog ticketCatalog;
 
     private final DynamoDbTicketRegistryProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
 
+    private final Clock clock;
+
+    public DynamoDbTicketRegistryFacilitator(final TicketCatalog ticketCatalog,
+                                             final DynamoDbTicketRegistryProperties dynamoDbProperties,
+                                             final DynamoDbClient amazonDynamoDBClient) {
+        this(ticketCatalog, dynamoDbProperties, amazonDynamoDBClient, Clock.systemUTC());
+    }
+
     private static Ticket deserializeTicket(final Map<String, AttributeValue> returnItem) {
         val encoded = returnItem.get(ColumnNames.ENCODED.getColumnName()).b();
         LOGGER.debug("Located binary encoding of ticket item [{}]. Transforming item into ticket object", returnItem);
@@ -89,10 +114,15 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(ticketId);
         if (metadata != null) {
             val del = DeleteItemRequest.builder().tableName(metadata.getProperties().getStorageName())
-                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build())).build();
+                .key(CollectionUtils.wrap(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(encodedTicketId).build()))
+                .returnValues(dynamoDbProperties.isTicketCountersEnabled() ? ReturnValue.ALL_OLD : ReturnValue.NONE)
+                .build();
             LOGGER.debug("Submitting delete request [{}] for ticket [{}]", del, ticketId);
             val res = amazonDynamoDBClient.deleteItem(del);
             LOGGER.debug("Delete request came back with result [{}]", res);
+            if (res != null && res.hasAttributes() && !res.attributes().isEmpty()) {
+                updateTicketCounter(metadata.getPrefix(), -1);
+            }
             return res != null;
         }
         return false;
@@ -109,33 +139,27 @@ public class DynamoDbTicketRegistryFacilitator {
         metadata.forEach(r -> {
             val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
             LOGGER.debug("Submitting scan request [{}] to table [{}]", scan, r.getProperties().getStorageName());
-            count.addAndGet(this.amazonDynamoDBClient.scan(scan).count());
+            count.addAndGet((int) DynamoDbTableUtils.parallelCount(amazonDynamoDBClient, scan,
+                dynamoDbProperties.getScanTotalSegments(), dynamoDbProperties.getScanMaxConcurrency()));
         });
         createTicketTables(true);
         return count.get();
     }
 
     /**
-     * Scan and paginate.
+     * Scan all ticket tables, using parallel segment scans of each table
+     * so that the registry cleaner and other full scans are not bound to a single
+     * sequential paginator.
      *
      * @return the stream
      */
     public Stream<Ticket> stream() {
-        val metadata = ticketCatalog.findAll();
-        val resultStreams = metadata
+        return ticketCatalog.findAll()
             .stream()
-            .map(defn -> {
-                val keys = List.<DynamoDbQueryBuilder>of(
-                    DynamoDbQueryBuilder.builder()
-                        .key(ColumnNames.PREFIX.getColumnName())
-                        .attributeValue(List.of(AttributeValue.builder().s(defn.getPrefix()).build()))
-                        .operator(ComparisonOperator.EQ)
-                        .build());
-                return DynamoDbTableUtils.scanPaginator(amazonDynamoDBClient, defn.getProperties().getStorageName(),
-                    keys, DynamoDbTicketRegistryFacilitator::deserializeTicket);
-            })
-            .toList();
-        return Streams.concat(resultStreams.toArray(new Stream[]{}));
+            .flatMap(defn -> getEntitiesWithAttributes(defn.getProperties().getStorageName(),
+                "#prefix = :prefix",
+                Map.of("#prefix", ColumnNames.PREFIX.getColumnName()),
+                Map.of(":prefix", AttributeValue.builder().s(defn.getPrefix()).build())));
     }
 
     /**
@@ -176,12 +200,12 @@ public class DynamoDbTicketRegistryFacilitator {
         metadata.forEach(r -> {
             val scan = ScanRequest.builder().tableName(r.getProperties().getStorageName()).build();
             LOGGER.debug("Scanning table with request [{}]", scan);
-            val result = this.amazonDynamoDBClient.scan(scan);
-            LOGGER.debug("Scanned table with result [{}]", scan);
-            tickets.addAll(result.items()
+            val result = DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scan,
+                dynamoDbProperties.getScanTotalSegments(), dynamoDbProperties.getScanMaxConcurrency(),
+                DynamoDbTicketRegistryFacilitator::deserializeTicket);
+            LOGGER.debug("Scanned table [{}] and found [{}] item(s)", r.getProperties().getStorageName(), result.size());
+            tickets.addAll(result
                 .stream()
-                .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
-                .filter(Objects::nonNull)
                 .filter(ticket -> !ticket.isExpired())
                 .toList());
         });
@@ -219,18 +243,22 @@ public class DynamoDbTicketRegistryFacilitator {
     }
 
     /**
-     * Put.
+     * Put tickets in batches. Batch writes do not report whether an item
+     * is replaced, so ticket counters are incremented for every ticket in the batch;
+     * counters are corrected once they are reconciled.
      *
      * @param toSave the to save
      */
     public void put(final Stream<TicketPayload> toSave) {
         val queue = new HashMap<String, Collection<WriteRequest>>();
         val count = new AtomicLong(0);
+        val addedByPrefix = new HashMap<String, Long>();
         toSave.forEach(entry -> {
             val metadata = ticketCatalog.find(entry.getOriginalTicket());
             val entries = queue.getOrDefault(metadata.getProperties().getStorageName(), new ArrayList<>());
             entries.add(WriteRequest.builder().putRequest(buildPutRequest(entry)).build());
             count.getAndIncrement();
+            addedByPrefix.merge(entry.getOriginalTicket().getPrefix(), 1L, Long::sum);
 
             queue.put(metadata.getProperties().getStorageName(), entries);
             if (count.get() >= BATCH_PUT_REQUEST_LIMIT) {
@@ -244,6 +272,7 @@ public class DynamoDbTicketRegistryFacilitator {
             val batchRequest = BatchWriteItemRequest.builder().requestItems(queue).build();
             amazonDynamoDBClient.batchWriteItem(batchRequest);
         }
+        addedByPrefix.forEach(this::updateTicketCounter);
     }
 
     /**
@@ -256,6 +285,9 @@ public class DynamoDbTicketRegistryFacilitator {
         LOGGER.debug("Submitting put request [{}] for ticket id [{}]", putItemRequest, payload.getEncodedTicket().getId());
         val putItemResult = amazonDynamoDBClient.putItem(putItemRequest);
         LOGGER.debug("Ticket added with result [{}]", putItemResult);
+        if (dynamoDbProperties.isTicketCountersEnabled() && (!putItemResult.hasAttributes() || putItemResult.attributes().isEmpty())) {
+            updateTicketCounter(payload.getOriginalTicket().getPrefix(), 1);
+        }
     }
 
     /**
@@ -286,13 +318,16 @@ public class DynamoDbTicketRegistryFacilitator {
                                                     final String filterExpression,
                                                     final Map<String, String> attributeNames,
                                                     final Map<String, AttributeValue> attributeValues) {
-        val scanResponse = DynamoDbTableUtils.scan(amazonDynamoDBClient, tableName,
-            filterExpression, attributeNames, attributeValues);
-        return scanResponse
-            .items()
-            .stream()
-            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
-            .filter(Objects::nonNull);
+        val scanRequest = ScanRequest.builder()
+            .tableName(tableName)
+            .filterExpression(filterExpression)
+            .expressionAttributeValues(attributeValues)
+            .expressionAttributeNames(attributeNames)
+            .build();
+        return DynamoDbTableUtils.parallelScan(amazonDynamoDBClient, scanRequest,
+                dynamoDbProperties.getScanTotalSegments(), dynamoDbProperties.getScanMaxConcurrency(),
+                DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .stream();
     }
 
     private PutRequest buildPutRequest(final TicketPayload payload) {
@@ -305,7 +340,11 @@ public class DynamoDbTicketRegistryFacilitator {
         val metadata = this.ticketCatalog.find(payload.getOriginalTicket());
         val values = buildTableAttributeValuesMapFromTicket(payload);
         LOGGER.debug("Adding ticket id [{}] with attribute values [{}]", payload.getEncodedTicket().getId(), values);
-        return PutItemRequest.builder().tableName(metadata.getProperties().getStorageName()).item(values).build();
+        return PutItemRequest.builder()
+            .tableName(metadata.getProperties().getStorageName())
+            .item(values)
+            .returnValues(dynamoDbProperties.isTicketCountersEnabled() ? ReturnValue.ALL_OLD : ReturnValue.NONE)
+            .build();
     }
 
     /**
@@ -325,14 +364,69 @@ public class DynamoDbTicketRegistryFacilitator {
                 .attributeName(ColumnNames.ID.getColumnName())
                 .keyType(KeyType.HASH)
                 .build());
-            val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
-                r.getProperties().getStorageName(),
-                deleteTables,
-                attributeDefns,
-                keySchemaElements);
-            DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
-                tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
+            val tableName = r.getProperties().getStorageName();
+            if (dynamoDbProperties.isPrincipalIndexEnabled()
+                && tableName.equals(dynamoDbProperties.getTicketGrantingTicketsTableName())) {
+                val indexAttributeDefns = new ArrayList<>(attributeDefns);
+                indexAttributeDefns.addAll(getPrincipalIndexAttributeDefinitions());
+                val index = buildPrincipalIndex();
+                val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                    tableName, deleteTables, indexAttributeDefns, keySchemaElements, List.of(index));
+                DynamoDbTableUtils.createGlobalSecondaryIndexIfMissing(amazonDynamoDBClient,
+                    tableName, getPrincipalIndexAttributeDefinitions(), index);
+                DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
+                    tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
+            } else {
+                val tableDesc = DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                    tableName, deleteTables, attributeDefns, keySchemaElements);
+                DynamoDbTableUtils.enableTimeToLiveOnTable(amazonDynamoDBClient,
+                    tableDesc.tableName(), ColumnNames.EXPIRATION.getColumnName());
+            }
         }));
+        if (dynamoDbProperties.isTicketCountersEnabled()) {
+            FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTicketCountersTableName(), deleteTables,
+                List.of(AttributeDefinition.builder()
+                    .attributeName(ColumnNames.ID.getColumnName())
+                    .attributeType(ScalarAttributeType.S)
+                    .build()),
+                List.of(KeySchemaElement.builder()
+                    .attributeName(ColumnNames.ID.getColumnName())
+                    .keyType(KeyType.HASH)
+                    .build())));
+        }
+    }
+
+    private static List<AttributeDefinition> getPrincipalIndexAttributeDefinitions() {
+        return List.of(
+            AttributeDefinition.builder()
+                .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                .attributeType(ScalarAttributeType.S)
+                .build(),
+            AttributeDefinition.builder()
+                .attributeName(ColumnNames.PREFIX.getColumnName())
+                .attributeType(ScalarAttributeType.S)
+                .build());
+    }
+
+    private GlobalSecondaryIndex buildPrincipalIndex() {
+        return GlobalSecondaryIndex.builder()
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keySchema(
+                KeySchemaElement.builder()
+                    .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                    .keyType(KeyType.HASH)
+                    .build(),
+                KeySchemaElement.builder()
+                    .attributeName(ColumnNames.PREFIX.getColumnName())
+                    .keyType(KeyType.RANGE)
+                    .build())
+            .projection(Projection.builder()
+                .projectionType(ProjectionType.INCLUDE)
+                .nonKeyAttributes(ColumnNames.ENCODED.getColumnName(), ColumnNames.EXPIRATION.getColumnName())
+                .build())
+            .provisionedThroughput(DynamoDbTableUtils.getProvisionedThroughput(dynamoDbProperties))
+            .build();
     }
 
     /**
@@ -355,8 +449,10 @@ public class DynamoDbTicketRegistryFacilitator {
             AttributeValue.builder().n(String.valueOf(ttl)).build());
         values.put(ColumnNames.ID.getColumnName(),
             AttributeValue.builder().s(payload.getEncodedTicket().getId()).build());
-        values.put(ColumnNames.PRINCIPAL.getColumnName(),
-            AttributeValue.builder().s(payload.getPrincipal()).build());
+        if (!dynamoDbProperties.isPrincipalIndexEnabled() || StringUtils.isNotBlank(payload.getPrincipal())) {
+            values.put(ColumnNames.PRINCIPAL.getColumnName(),
+                AttributeValue.builder().s(payload.getPrincipal()).build());
+        }
         values.put(ColumnNames.SERVICE.getColumnName(),
             AttributeValue.builder().s(payload.getService()).build());
         values.put(ColumnNames.PREFIX.getColumnName(),
@@ -395,6 +491,9 @@ public class DynamoDbTicketRegistryFacilitator {
      * @return the sessions for
      */
     public Stream<? extends Ticket> getSessionsFor(final String principal) {
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            return queryPrincipalIndex(principal).filter(ticket -> !ticket.isExpired());
+        }
         val keys = List.<DynamoDbQueryBuilder>of(
             DynamoDbQueryBuilder.builder()
                 .key(ColumnNames.PRINCIPAL.getColumnName())
@@ -407,6 +506,70 @@ public class DynamoDbTicketRegistryFacilitator {
             .filter(ticket -> !ticket.isExpired());
     }
 
+    /**
+     * Count sessions for principal.
+     * Counting sessions requires the principal index; otherwise,
+     * a negative value is returned to signal that the count cannot be determined efficiently.
+     * Sessions are counted by the index without reading tickets, and those whose maximum
+     * expiration time has passed are excluded; sessions that have only exceeded
+     * their idle timeout are counted until they are removed.
+     *
+     * @param principal the principal
+     * @return the count, or -1
+     */
+    public long countSessionsFor(final String principal) {
+        if (!dynamoDbProperties.isPrincipalIndexEnabled()) {
+            return -1;
+        }
+        val request = buildPrincipalIndexQuery(principal).toBuilder()
+            .select(Select.COUNT)
+            .filterExpression("#expiration > :now OR #expiration < :never")
+            .expressionAttributeNames(Map.of(
+                "#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                "#prefix", ColumnNames.PREFIX.getColumnName(),
+                "#expiration", ColumnNames.EXPIRATION.getColumnName()))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(principal).build(),
+                ":prefix", AttributeValue.builder().s(getTicketGrantingTicketPrefix()).build(),
+                ":now", AttributeValue.builder().n(Long.toString(clock.instant().getEpochSecond())).build(),
+                ":never", AttributeValue.builder().n("0").build()))
+            .build();
+        return amazonDynamoDBClient.queryPaginator(request)
+            .stream()
+            .mapToLong(QueryResponse::count)
+            .sum();
+    }
+
+    private Stream<Ticket> queryPrincipalIndex(final String principal) {
+        val request = buildPrincipalIndexQuery(principal);
+        LOGGER.debug("Querying index [{}] with request [{}]", dynamoDbProperties.getPrincipalIndexName(), request);
+        return amazonDynamoDBClient.queryPaginator(request)
+            .items()
+            .stream()
+            .map(DynamoDbTicketRegistryFacilitator::deserializeTicket)
+            .filter(Objects::nonNull);
+    }
+
+    private QueryRequest buildPrincipalIndexQuery(final String principal) {
+        return QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTicketGrantingTicketsTableName())
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keyConditionExpression("#principal = :principal AND #prefix = :prefix")
+            .expressionAttributeNames(Map.of(
+                "#principal", ColumnNames.PRINCIPAL.getColumnName(),
+                "#prefix", ColumnNames.PREFIX.getColumnName()))
+            .expressionAttributeValues(Map.of(
+                ":principal", AttributeValue.builder().s(principal).build(),
+                ":prefix", AttributeValue.builder().s(getTicketGrantingTicketPrefix()).build()))
+            .build();
+    }
+
+    private String getTicketGrantingTicketPrefix() {
+        return ticketCatalog.findTicketDefinition(TicketGrantingTicket.class)
+            .map(TicketDefinition::getPrefix)
+            .orElse(TicketGrantingTicket.PREFIX);
+    }
+
     /**
      * Count tickets for.
      *
@@ -442,8 +605,76 @@ public class DynamoDbTicketRegistryFacilitator {
                 .operator(ComparisonOperator.EQ)
                 .build());
         return ticketCatalog.findTicketDefinition(ticketType)
-            .map(def -> DynamoDbTableUtils.scan(amazonDynamoDBClient, def.getProperties().getStorageName(), keys).count())
-            .orElse(-1);
+            .map(def -> {
+                val scanRequest = ScanRequest.builder()
+                    .tableName(def.getProperties().getStorageName())
+                    .scanFilter(DynamoDbTableUtils.buildRequestQueryFilter(keys))
+                    .build();
+                if (!dynamoDbProperties.isTicketCountersEnabled()) {
+                    return DynamoDbTableUtils.parallelCount(amazonDynamoDBClient, scanRequest,
+                        dynamoDbProperties.getScanTotalSegments(), dynamoDbProperties.getScanMaxConcurrency());
+                }
+                return readTicketCounter(prefix, scanRequest);
+            })
+            .orElse(-1L);
+    }
+
+    private long readTicketCounter(final String prefix, final ScanRequest reconciliationRequest) {
+        val key = Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(prefix).build());
+        val request = GetItemRequest.builder()
+            .tableName(dynamoDbProperties.getTicketCountersTableName())
+            .key(key)
+            .consistentRead(true)
+            .build();
+        val item = amazonDynamoDBClient.getItem(request).item();
+        val reconciliationInterval = Beans.newDuration(dynamoDbProperties.getTicketCountersReconciliationInterval()).toMillis();
+        val now = clock.millis();
+        val currentCount = item != null && item.containsKey(COUNTER_COLUMN_COUNT) ? item.get(COUNTER_COLUMN_COUNT) : null;
+        if (currentCount != null && item.containsKey(COUNTER_COLUMN_RECONCILED)) {
+            val reconciledAt = Long.parseLong(item.get(COUNTER_COLUMN_RECONCILED).n());
+            if (now - reconciledAt < reconciliationInterval) {
+                return Math.max(0, Long.parseLong(currentCount.n()));
+            }
+        }
+        val count = DynamoDbTableUtils.parallelCount(amazonDynamoDBClient, reconciliationRequest,
+            dynamoDbProperties.getScanTotalSegments(), dynamoDbProperties.getScanMaxConcurrency());
+        val names = Map.of("#count", COUNTER_COLUMN_COUNT, "#reconciled", COUNTER_COLUMN_RECONCILED);
+        val values = new HashMap<String, AttributeValue>();
+        values.put(":count", AttributeValue.builder().n(Long.toString(count)).build());
+        values.put(":now", AttributeValue.builder().n(Long.toString(now)).build());
+        if (currentCount != null) {
+            values.put(":previous", currentCount);
+        }
+        val update = UpdateItemRequest.builder()
+            .tableName(dynamoDbProperties.getTicketCountersTableName())
+            .key(key)
+            .updateExpression("SET #count = :count, #reconciled = :now")
+            .conditionExpression(currentCount == null ? "attribute_not_exists(#count)" : "#count = :previous")
+            .expressionAttributeNames(names)
+            .expressionAttributeValues(values)
+            .build();
+        try {
+            amazonDynamoDBClient.updateItem(update);
+            LOGGER.debug("Reconciled ticket counter for [{}] with count [{}]", prefix, count);
+        } catch (final ConditionalCheckFailedException e) {
+            LOGGER.debug("Ticket counter for [{}] changed while it was reconciled; Reconciliation is deferred", prefix);
+        }
+        return count;
+    }
+
+    private void updateTicketCounter(final String prefix, final long delta) {
+        if (dynamoDbProperties.isTicketCountersEnabled()) {
+            FunctionUtils.doAndHandle(__ -> {
+                val request = UpdateItemRequest.builder()
+                    .tableName(dynamoDbProperties.getTicketCountersTableName())
+                    .key(Map.of(ColumnNames.ID.getColumnName(), AttributeValue.builder().s(prefix).build()))
+                    .updateExpression("ADD #count :delta")
+                    .expressionAttributeNames(Map.of("#count", COUNTER_COLUMN_COUNT))
+                    .expressionAttributeValues(Map.of(":delta", AttributeValue.builder().n(Long.toString(delta)).build()))
+                    .build();
+                amazonDynamoDBClient.updateItem(request);
+            });
+        }
     }
 
 
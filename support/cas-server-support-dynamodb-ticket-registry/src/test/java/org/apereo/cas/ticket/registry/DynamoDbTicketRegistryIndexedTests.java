@@ -0,0 +1,78 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.test.context.TestPropertySource;
+import java.util.UUID;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DynamoDbTicketRegistryIndexedTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@TestPropertySource(properties = {
+    "cas.ticket.registry.dynamo-db.principal-index-enabled=true",
+    "cas.ticket.registry.dynamo-db.ticket-counters-enabled=true",
+    "cas.ticket.registry.dynamo-db.scan-total-segments=3",
+    "cas.ticket.registry.dynamo-db.scan-max-concurrency=2"
+})
+@EnabledIfListeningOnPort(port = 8000)
+@Tag("DynamoDb")
+class DynamoDbTicketRegistryIndexedTests extends DynamoDbTicketRegistryTests {
+
+    @RepeatedTest(2)
+    void verifySessionsForPrincipalViaIndex() throws Throwable {
+        val principalId = UUID.randomUUID().toString();
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(principalId);
+        val tickets = Stream.generate(() -> new TicketGrantingTicketImpl(
+                new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX),
+                authentication, NeverExpiresExpirationPolicy.INSTANCE))
+            .limit(5)
+            .toList();
+        for (val ticket : tickets) {
+            getNewTicketRegistry().addTicket(ticket);
+        }
+        assertEquals(5, getNewTicketRegistry().getSessionsFor(principalId).count());
+        assertEquals(5, getNewTicketRegistry().countSessionsFor(principalId));
+        assertEquals(0, getNewTicketRegistry().countSessionsFor(UUID.randomUUID().toString()));
+    }
+
+    @RepeatedTest(2)
+    void verifyTicketCounters() throws Throwable {
+        getNewTicketRegistry().deleteAll();
+        val initialSessions = getNewTicketRegistry().sessionCount();
+        val tgt = new TicketGrantingTicketImpl(
+            new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        getNewTicketRegistry().addTicket(tgt);
+        getNewTicketRegistry().updateTicket(tgt);
+        assertEquals(initialSessions + 1, getNewTicketRegistry().sessionCount());
+        getNewTicketRegistry().deleteTicket(tgt.getId());
+        assertEquals(initialSessions, getNewTicketRegistry().sessionCount());
+        assertTrue(getNewTicketRegistry().serviceTicketCount() >= 0);
+    }
+
+    @RepeatedTest(2)
+    void verifyTicketCountersWithBatchAdd() throws Throwable {
+        getNewTicketRegistry().deleteAll();
+        val initialSessions = getNewTicketRegistry().sessionCount();
+        val tickets = Stream.generate(() -> new TicketGrantingTicketImpl(
+                new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE))
+            .limit(30)
+            .toList();
+        getNewTicketRegistry().addTicket(tickets.stream());
+        assertEquals(initialSessions + tickets.size(), getNewTicketRegistry().sessionCount());
+    }
+}
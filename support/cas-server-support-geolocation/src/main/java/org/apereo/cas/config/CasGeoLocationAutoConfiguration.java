@@ -1,8 +1,11 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
 import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.support.geo.CachingGeoLocationService;
 import org.apereo.cas.support.geo.GeoLocationServiceConfigurer;
 import org.apereo.cas.support.geo.GroovyGeoLocationService;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
@@ -35,18 +38,34 @@ import java.util.List;
 public class CasGeoLocationAutoConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-    public GeoLocationService geoLocationService(final List<GeoLocationServiceConfigurer> providers) {
+    public GeoLocationService geoLocationService(
+        @Qualifier(IPAddressEnrichmentCache.BEAN_NAME_GEO_LOCATION)
+        final IPAddressEnrichmentCache<GeoLocationResponse> geoLocationEnrichmentCache,
+        final List<GeoLocationServiceConfigurer> providers) {
         val services = providers.stream()
             .map(GeoLocationServiceConfigurer::configure)
             .filter(BeanSupplier::isNotProxy)
             .sorted(AnnotationAwareOrderComparator.INSTANCE).toList();
         return BeanSupplier.of(GeoLocationService.class)
             .when(!services.isEmpty())
-            .supply(services::getFirst)
+            .supply(() -> {
+                val service = services.getFirst();
+                return geoLocationEnrichmentCache.isEnabled()
+                    ? new CachingGeoLocationService(service, geoLocationEnrichmentCache)
+                    : service;
+            })
             .otherwiseProxy()
             .get();
     }
 
+    @ConditionalOnMissingBean(name = IPAddressEnrichmentCache.BEAN_NAME_GEO_LOCATION)
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public IPAddressEnrichmentCache<GeoLocationResponse> geoLocationEnrichmentCache(
+        final CasConfigurationProperties casProperties) {
+        return CachingGeoLocationService.newEnrichmentCache(casProperties.getGeoLocation().getCache());
+    }
+
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @Configuration(value = "GroovyGeoLocationConfiguration", proxyBeanMethods = false)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.GeoLocation)
@@ -0,0 +1,80 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.IPAddressEnrichmentCache;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.core.authentication.IPAddressEnrichmentCacheProperties;
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import java.net.InetAddress;
+
+/**
+ * This is {@link CachingGeoLocationService} that remembers
+ * geolocation results by IP address or network, so that risk calculators,
+ * device fingerprinting and other components that locate the same client
+ * share a single lookup. Lookups by coordinates are not cached.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Getter
+public class CachingGeoLocationService extends AbstractGeoLocationService implements DisposableBean {
+    private final GeoLocationService delegate;
+
+    private final IPAddressEnrichmentCache<GeoLocationResponse> enrichmentCache;
+
+    private final boolean enrichmentCacheOwned;
+
+    public CachingGeoLocationService(final GeoLocationService delegate,
+                                     final IPAddressEnrichmentCacheProperties properties) {
+        this(delegate, newEnrichmentCache(properties), true);
+    }
+
+    public CachingGeoLocationService(final GeoLocationService delegate,
+                                     final IPAddressEnrichmentCache<GeoLocationResponse> enrichmentCache) {
+        this(delegate, enrichmentCache, false);
+    }
+
+    private CachingGeoLocationService(final GeoLocationService delegate,
+                                      final IPAddressEnrichmentCache<GeoLocationResponse> enrichmentCache,
+                                      final boolean enrichmentCacheOwned) {
+        this.delegate = delegate;
+        this.enrichmentCache = enrichmentCache;
+        this.enrichmentCacheOwned = enrichmentCacheOwned;
+    }
+
+    /**
+     * Build the cache that remembers geolocation results.
+     *
+     * @param properties the cache properties
+     * @return the enrichment cache
+     */
+    public static IPAddressEnrichmentCache<GeoLocationResponse> newEnrichmentCache(final IPAddressEnrichmentCacheProperties properties) {
+        return new IPAddressEnrichmentCache<>(GeoLocationService.class.getSimpleName(),
+            properties, response -> !response.getAddresses().isEmpty()
+                || response.getLatitude() != 0 || response.getLongitude() != 0);
+    }
+
+    @Override
+    public GeoLocationResponse locate(final InetAddress address) throws Throwable {
+        return enrichmentCache.get(address.getHostAddress(), () -> delegate.locate(address));
+    }
+
+    @Override
+    public GeoLocationResponse locate(final String address) {
+        return FunctionUtils.doAndHandle(() -> enrichmentCache.get(address, () -> delegate.locate(address)), e -> null).get();
+    }
+
+    @Override
+    public GeoLocationResponse locate(final Double latitude, final Double longitude) throws Throwable {
+        return delegate.locate(latitude, longitude);
+    }
+
+    @Override
+    public void destroy() {
+        if (enrichmentCacheOwned) {
+            enrichmentCache.destroy();
+        }
+    }
+}
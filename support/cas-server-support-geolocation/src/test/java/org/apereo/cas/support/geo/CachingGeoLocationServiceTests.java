@@ -0,0 +1,80 @@
+package org.apereo.cas.support.geo;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationResponse;
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
+import org.apereo.cas.configuration.model.core.authentication.IPAddressEnrichmentCacheProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.InetAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CachingGeoLocationServiceTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("GeoLocation")
+class CachingGeoLocationServiceTests {
+    @TempDir
+    private File directory;
+
+    @Test
+    void verifyLocationsCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(any(InetAddress.class))).thenReturn(new GeoLocationResponse().setLatitude(1).setLongitude(1));
+        when(delegate.locate(anyString())).thenReturn(new GeoLocationResponse().addAddress("1234 Main Street"));
+
+        val properties = new IPAddressEnrichmentCacheProperties().setTimeToLive("PT1M").setIpv4PrefixLength(24);
+        val service = new CachingGeoLocationService(delegate, properties);
+        assertTrue(service.getEnrichmentCache().isEnabled());
+        assertNotNull(service.locate(InetAddress.getByName("192.168.1.10")));
+        assertNotNull(service.locate(InetAddress.getByName("192.168.1.20")));
+        verify(delegate, times(1)).locate(any(InetAddress.class));
+
+        assertNotNull(service.locate("10.0.0.1"));
+        assertNotNull(service.locate("10.0.0.1"));
+        verify(delegate, times(1)).locate(anyString());
+        assertEquals(0.5, service.getEnrichmentCache().getStatistics().getHitRatio());
+        service.destroy();
+    }
+
+    @Test
+    void verifyCoordinatesNotCached() throws Throwable {
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(anyDouble(), anyDouble())).thenReturn(new GeoLocationResponse());
+        val service = new CachingGeoLocationService(delegate, new IPAddressEnrichmentCacheProperties().setTimeToLive("PT1M"));
+        service.locate(1D, 1D);
+        service.locate(1D, 1D);
+        verify(delegate, times(2)).locate(anyDouble(), anyDouble());
+    }
+
+    @Test
+    void verifySharedCacheOutlivesService() throws Throwable {
+        val snapshot = new File(directory, "snapshot.bin");
+        val properties = new IPAddressEnrichmentCacheProperties()
+            .setTimeToLive("PT1M")
+            .setSnapshotLocation(snapshot.getAbsolutePath());
+        val cache = CachingGeoLocationService.newEnrichmentCache(properties);
+        val delegate = mock(GeoLocationService.class);
+        when(delegate.locate(anyString())).thenReturn(new GeoLocationResponse().addAddress("1234 Main Street"));
+
+        val first = new CachingGeoLocationService(delegate, cache);
+        assertNotNull(first.locate("10.0.0.1"));
+        first.destroy();
+        assertFalse(snapshot.exists());
+
+        val second = new CachingGeoLocationService(delegate, cache);
+        assertNotNull(second.locate("10.0.0.1"));
+        verify(delegate, times(1)).locate(anyString());
+        cache.destroy();
+        assertTrue(snapshot.exists());
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.gua.api.UserGraphicalAuthenticationRepository;
 import org.apereo.cas.gua.impl.LdapUserGraphicalAuthenticationRepository;
 import org.apereo.cas.gua.impl.StaticUserGraphicalAuthenticationRepository;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -22,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -65,6 +67,8 @@ public class CasGraphicalUserAuthenticationAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "userGraphicalAuthenticationRepository")
     public UserGraphicalAuthenticationRepository userGraphicalAuthenticationRepository(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
         final CasConfigurationProperties casProperties) {
         val gua = casProperties.getAuthn().getGua();
         if (!gua.getSimple().isEmpty()) {
@@ -77,7 +81,8 @@ public class CasGraphicalUserAuthenticationAutoConfiguration {
         val ldap = gua.getLdap();
         if (StringUtils.isNotBlank(ldap.getLdapUrl()) && StringUtils.isNotBlank(ldap.getSearchFilter())
             && StringUtils.isNotBlank(ldap.getBaseDn()) && StringUtils.isNotBlank(ldap.getImageAttribute())) {
-            val connectionFactory = new LdapConnectionFactory(LdapUtils.newLdaptiveConnectionFactory(gua.getLdap()));
+            val connectionFactory = new LdapConnectionFactory(
+                LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable()));
             return new LdapUserGraphicalAuthenticationRepository(casProperties, connectionFactory);
         }
         throw new BeanCreationException("A repository instance must be configured to locate user-defined graphics");
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.heimdall.AuthorizationResponse;
 import org.apereo.cas.heimdall.HeimdallAuthorizationController;
 import org.apereo.cas.heimdall.authorizer.DefaultResourceAuthorizer;
 import org.apereo.cas.heimdall.authorizer.ResourceAuthorizer;
@@ -12,6 +13,7 @@ import org.apereo.cas.heimdall.engine.AuthorizationPrincipalParser;
 import org.apereo.cas.heimdall.engine.DefaultAuthorizationEngine;
 import org.apereo.cas.heimdall.engine.DefaultAuthorizationPrincipalParser;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.CasWebSecurityConfigurer;
 import lombok.val;
@@ -47,21 +49,33 @@ public class CasHeimdallAutoConfiguration {
     @Bean
     @ConditionalOnMissingBean(name = "heimdallAuthorizationController")
     public HeimdallAuthorizationController heimdallAuthorizationController(
+        final CasConfigurationProperties casProperties,
         @Qualifier("authorizationPrincipalParser")
         final AuthorizationPrincipalParser authorizationPrincipalParser,
         @Qualifier("heimdallAuthorizationEngine")
         final AuthorizationEngine heimdallAuthorizationEngine) {
-        return new HeimdallAuthorizationController(heimdallAuthorizationEngine, authorizationPrincipalParser);
+        return new HeimdallAuthorizationController(heimdallAuthorizationEngine, authorizationPrincipalParser, casProperties);
     }
 
     @Bean
     @ConditionalOnMissingBean(name = "heimdallAuthorizationEngine")
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public AuthorizationEngine heimdallAuthorizationEngine(
+        final CasConfigurationProperties casProperties,
         final List<ResourceAuthorizer> resourceAuthorizers,
+        @Qualifier(DefaultAuthorizationEngine.DECISION_CACHE_BEAN_NAME)
+        final AuthorizationDecisionCache<AuthorizationResponse> heimdallAuthorizationDecisionCache,
         @Qualifier("authorizableResourceRepository")
         final AuthorizableResourceRepository authorizableResourceRepository) {
-        return new DefaultAuthorizationEngine(authorizableResourceRepository, resourceAuthorizers);
+        return new DefaultAuthorizationEngine(authorizableResourceRepository, resourceAuthorizers,
+            heimdallAuthorizationDecisionCache, casProperties.getHeimdall().getCache());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = DefaultAuthorizationEngine.DECISION_CACHE_BEAN_NAME)
+    public AuthorizationDecisionCache<AuthorizationResponse> heimdallAuthorizationDecisionCache(
+        final CasConfigurationProperties casProperties) {
+        return DefaultAuthorizationEngine.newDecisionCache(casProperties.getHeimdall().getCache());
     }
 
     @Bean
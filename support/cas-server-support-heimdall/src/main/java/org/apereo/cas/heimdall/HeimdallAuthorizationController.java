@@ -1,5 +1,7 @@
 package org.apereo.cas.heimdall;
 
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.heimdall.engine.AuthorizationEngine;
 import org.apereo.cas.heimdall.engine.AuthorizationPrincipalParser;
 import org.apereo.cas.util.LoggingUtils;
@@ -8,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -41,6 +45,7 @@ public class HeimdallAuthorizationController {
 
     private final AuthorizationEngine authorizationEngine;
     private final AuthorizationPrincipalParser principalParser;
+    private final CasConfigurationProperties casProperties;
 
     /**
      * Authorize response entity.
@@ -65,17 +70,64 @@ public class HeimdallAuthorizationController {
         }
     }
 
+    /**
+     * Authorize a batch of requests in one call.
+     * The authorization header is parsed once and applies to all requests,
+     * and responses are returned in the same order as requests.
+     *
+     * @param authorizationRequests the authorization requests
+     * @param request               the request
+     * @return the response entity
+     */
+    @PostMapping("/authorize/batch")
+    public ResponseEntity authorizeBatch(
+        @RequestBody final @Valid List<@Valid AuthorizationRequest> authorizationRequests,
+        final HttpServletRequest request) {
+
+        val maximumBatchSize = casProperties.getHeimdall().getMaximumBatchSize();
+        if (authorizationRequests.isEmpty() || authorizationRequests.size() > maximumBatchSize) {
+            return ResponseEntity.badRequest().body(new AuthorizationResponse()
+                .setStatus(HttpStatus.BAD_REQUEST)
+                .setMessage("Batch must contain between 1 and %s requests".formatted(maximumBatchSize)));
+        }
+        try {
+            val principal = parsePrincipal(request);
+            val headers = HttpRequestUtils.getRequestHeaders(request);
+            val requestsToAuthorize = authorizationRequests
+                .stream()
+                .map(authorizationRequest -> prepareAuthorizationRequest(authorizationRequest, principal, headers))
+                .toList();
+            requestsToAuthorize.forEach(HeimdallAuthorizationController::logRequest);
+            val authorizationResponses = authorizationEngine.authorize(requestsToAuthorize);
+            authorizationResponses.forEach(HeimdallAuthorizationController::logRequest);
+            return ResponseEntity.ok(authorizationResponses);
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+            return buildResponse(AuthorizationResponse.unauthorized(e.getMessage()));
+        }
+    }
+
     private AuthorizationRequest prepareAuthorizationRequest(final AuthorizationRequest authorizationRequest,
                                                              final HttpServletRequest request) throws Throwable {
-        val authorizationHeader = Objects.requireNonNull(request.getHeader(HttpHeaders.AUTHORIZATION));
-        Assert.hasText(authorizationHeader, "Authorization header cannot be blank");
-        val principal = principalParser.parse(authorizationHeader);
+        val principal = parsePrincipal(request);
         val headers = HttpRequestUtils.getRequestHeaders(request);
+        return prepareAuthorizationRequest(authorizationRequest, principal, headers);
+    }
+
+    private static AuthorizationRequest prepareAuthorizationRequest(final AuthorizationRequest authorizationRequest,
+                                                                    final Principal principal,
+                                                                    final Map<String, String> headers) {
         val requestToAuthorize = authorizationRequest.withPrincipal(principal);
         requestToAuthorize.getContext().putAll((Map) headers);
         return requestToAuthorize;
     }
 
+    private Principal parsePrincipal(final HttpServletRequest request) throws Throwable {
+        val authorizationHeader = Objects.requireNonNull(request.getHeader(HttpHeaders.AUTHORIZATION));
+        Assert.hasText(authorizationHeader, "Authorization header cannot be blank");
+        return principalParser.parse(authorizationHeader);
+    }
+
     protected ResponseEntity<AuthorizationResponse> buildResponse(
         final AuthorizationResponse authorizationResponse) {
         logRequest(authorizationResponse);
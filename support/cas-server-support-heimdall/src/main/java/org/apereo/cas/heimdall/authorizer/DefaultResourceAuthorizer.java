@@ -19,7 +19,7 @@ public class DefaultResourceAuthorizer implements ResourceAuthorizer {
 
     protected boolean enforceAnyPolicy(final AuthorizationRequest request, final AuthorizableResource resource) {
         return resource.getPolicies()
-            .parallelStream()
+            .stream()
             .map(policy -> policy.evaluate(resource, request))
             .allMatch(AuthorizationResult::authorized);
     }
@@ -27,7 +27,7 @@ public class DefaultResourceAuthorizer implements ResourceAuthorizer {
     protected boolean enforceAllPolicies(final AuthorizationRequest request,
                                          final AuthorizableResource resource) {
         return resource.getPolicies()
-            .parallelStream()
+            .stream()
             .map(policy -> policy.evaluate(resource, request))
             .allMatch(AuthorizationResult::authorized);
     }
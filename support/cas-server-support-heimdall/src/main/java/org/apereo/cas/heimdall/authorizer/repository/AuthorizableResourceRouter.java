@@ -0,0 +1,156 @@
+package org.apereo.cas.heimdall.authorizer.repository;
+
+import org.apereo.cas.heimdall.AuthorizationRequest;
+import org.apereo.cas.heimdall.authorizer.resource.AuthorizableResource;
+import org.apereo.cas.util.RegexUtils;
+import lombok.Getter;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * This is {@link AuthorizableResourceRouter}.
+ * Routes authorization requests to the first matching resource of a namespace.
+ * Resources whose patterns are anchored and start with a literal path
+ * are indexed in a prefix trie, so that only resources sharing a prefix with the
+ * request URI are evaluated. Other resources are always evaluated as a fallback.
+ * Candidates are evaluated in the order in which resources are defined,
+ * and all patterns are compiled once when the router is built.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class AuthorizableResourceRouter {
+    private static final String WILDCARD_METHOD = "*";
+
+    private static final String REGEX_META_CHARACTERS = "\\.[]{}()*+?^$|";
+
+    private static final String REGEX_QUANTIFIERS = "*+?{";
+
+    @Getter
+    private final String namespace;
+
+    private final List<Route> routes;
+
+    private final TrieNode root = new TrieNode();
+
+    private final BitSet fallbackRoutes = new BitSet();
+
+    public AuthorizableResourceRouter(final String namespace, final List<AuthorizableResource> resources) {
+        this.namespace = namespace;
+        this.routes = new ArrayList<>(resources.size());
+        for (var index = 0; index < resources.size(); index++) {
+            val resource = resources.get(index);
+            val route = new Route(resource, compileMethod(resource.getMethod()));
+            routes.add(route);
+            val prefix = getLiteralPrefix(resource.getPattern());
+            if (prefix.isEmpty()) {
+                fallbackRoutes.set(index);
+            } else {
+                root.insert(prefix.get(), index);
+            }
+        }
+    }
+
+    /**
+     * Find the first resource that matches the request.
+     *
+     * @param request the request
+     * @return the authorizable resource
+     */
+    public Optional<AuthorizableResource> route(final AuthorizationRequest request) {
+        val uri = StringUtils.defaultString(request.getUri());
+        val candidates = (BitSet) fallbackRoutes.clone();
+        root.collect(uri, candidates);
+        for (var index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            val route = routes.get(index);
+            if (route.matches(uri, request.getMethod())) {
+                return Optional.of(route.resource());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    private static Pattern compileMethod(final String method) {
+        return WILDCARD_METHOD.equalsIgnoreCase(method) ? null : RegexUtils.createPattern(method, Pattern.CASE_INSENSITIVE);
+    }
+
+    /**
+     * Calculate the literal text every match of the pattern must start with.
+     * Only patterns anchored to the start of the input qualify, and the prefix
+     * is limited to ASCII characters to stay consistent with case-insensitive matching.
+     *
+     * @param pattern the pattern
+     * @return the literal prefix, lower-cased
+     */
+    static Optional<String> getLiteralPrefix(final Pattern pattern) {
+        if (pattern == null || (pattern.flags() & (Pattern.LITERAL | Pattern.COMMENTS | Pattern.MULTILINE)) != 0) {
+            return Optional.empty();
+        }
+        val source = pattern.pattern();
+        if (!source.startsWith("^") || source.contains("|")) {
+            return Optional.empty();
+        }
+        val prefix = new StringBuilder();
+        for (var i = 1; i < source.length(); i++) {
+            val character = source.charAt(i);
+            if (REGEX_QUANTIFIERS.indexOf(character) >= 0) {
+                if (!prefix.isEmpty()) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            if (REGEX_META_CHARACTERS.indexOf(character) >= 0 || character > 127) {
+                break;
+            }
+            prefix.append(toLowerCase(character));
+        }
+        return prefix.isEmpty() ? Optional.empty() : Optional.of(prefix.toString());
+    }
+
+    private static char toLowerCase(final char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+    }
+
+    private record Route(AuthorizableResource resource, Pattern method) {
+        boolean matches(final String uri, final String requestMethod) {
+            return resource.getPattern() != null
+                && RegexUtils.find(resource.getPattern(), uri)
+                && (method == null || (StringUtils.isNotBlank(requestMethod) && RegexUtils.find(method, requestMethod)));
+        }
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private final BitSet routes = new BitSet();
+
+        void insert(final String prefix, final int index) {
+            var node = this;
+            for (var i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), __ -> new TrieNode());
+            }
+            node.routes.set(index);
+        }
+
+        void collect(final String uri, final BitSet candidates) {
+            var node = this;
+            for (var i = 0; i < uri.length() && node != null; i++) {
+                node = node.children.get(toLowerCase(uri.charAt(i)));
+                if (node != null) {
+                    candidates.or(node.routes);
+                }
+            }
+        }
+    }
+}
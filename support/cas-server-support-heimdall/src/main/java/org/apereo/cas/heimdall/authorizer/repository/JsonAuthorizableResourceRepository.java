@@ -3,7 +3,6 @@ package org.apereo.cas.heimdall.authorizer.repository;
 import org.apereo.cas.heimdall.AuthorizationRequest;
 import org.apereo.cas.heimdall.authorizer.resource.AuthorizableResource;
 import org.apereo.cas.heimdall.authorizer.resource.AuthorizableResources;
-import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.PathWatcherService;
 import org.apereo.cas.util.io.WatcherService;
@@ -16,13 +15,14 @@ import org.springframework.util.Assert;
 import java.io.File;
 import java.io.FileReader;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is {@link JsonAuthorizableResourceRepository}.
+ * Resources of each namespace are compiled into a {@link AuthorizableResourceRouter}
+ * that is rebuilt and swapped in as a whole when the namespace file changes.
  *
  * @author Misagh Moayyed
  * @since 7.2.0
@@ -31,7 +31,7 @@ public class JsonAuthorizableResourceRepository implements AuthorizableResourceR
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(true).build().toObjectMapper();
 
-    private final Map<String, List<AuthorizableResource>> resources = new ConcurrentHashMap<>();
+    private final Map<String, AuthorizableResourceRouter> routers = new ConcurrentHashMap<>();
 
     private final File directory;
     private final WatcherService watcherService;
@@ -47,15 +47,9 @@ public class JsonAuthorizableResourceRepository implements AuthorizableResourceR
 
     @Override
     public Optional<AuthorizableResource> find(final AuthorizationRequest request) {
-        if (resources.containsKey(request.getNamespace())) {
-            val authorizableResources = resources.get(request.getNamespace());
-            return authorizableResources
-                .stream()
-                .filter(r -> RegexUtils.find(r.getPattern(), request.getUri()))
-                .filter(r -> "*".equalsIgnoreCase(r.getMethod()) || RegexUtils.find(r.getMethod(), request.getMethod()))
-                .findFirst();
-        }
-        return Optional.empty();
+        return Optional.ofNullable(request.getNamespace())
+            .map(routers::get)
+            .flatMap(router -> router.route(request));
     }
 
     @Override
@@ -75,7 +69,8 @@ public class JsonAuthorizableResourceRepository implements AuthorizableResourceR
             try (val reader = new FileReader(jsonFile, StandardCharsets.UTF_8)) {
                 val json = JsonValue.readHjson(reader).toString();
                 val loadedResource = MAPPER.readValue(json, AuthorizableResources.class);
-                resources.put(loadedResource.getNamespace(), loadedResource.getResources());
+                val router = new AuthorizableResourceRouter(loadedResource.getNamespace(), loadedResource.getResources());
+                routers.put(loadedResource.getNamespace(), router);
             }
         });
     }
@@ -2,6 +2,7 @@ package org.apereo.cas.heimdall.engine;
 
 import org.apereo.cas.heimdall.AuthorizationRequest;
 import org.apereo.cas.heimdall.AuthorizationResponse;
+import java.util.List;
 
 /**
  * This is {@link AuthorizationEngine}.
@@ -19,4 +20,15 @@ public interface AuthorizationEngine {
      * @return the authorization response
      */
     AuthorizationResponse authorize(AuthorizationRequest request);
+
+    /**
+     * Authorize a batch of requests.
+     * Responses are produced in the same order as requests.
+     *
+     * @param requests the requests
+     * @return the authorization responses
+     */
+    default List<AuthorizationResponse> authorize(final List<AuthorizationRequest> requests) {
+        return requests.stream().map(this::authorize).toList();
+    }
 }
@@ -1,26 +1,85 @@
 package org.apereo.cas.heimdall.engine;
 
+import org.apereo.cas.configuration.model.support.heimdall.HeimdallAuthorizationCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.heimdall.AuthorizationRequest;
 import org.apereo.cas.heimdall.AuthorizationResponse;
 import org.apereo.cas.heimdall.authorizer.ResourceAuthorizer;
 import org.apereo.cas.heimdall.authorizer.repository.AuthorizableResourceRepository;
-import lombok.RequiredArgsConstructor;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.cache.AuthorizationDecisionCache;
+import org.apereo.cas.util.function.FunctionUtils;
+import lombok.Getter;
 import lombok.val;
 import java.util.List;
+import java.util.TreeMap;
 
 /**
  * This is {@link DefaultAuthorizationEngine}.
+ * Decisions may be remembered for a short period of time,
+ * keyed by the subject and its claims as well as the namespace, method and URI.
  *
  * @author Misagh Moayyed
  * @since 7.2.0
  */
-@RequiredArgsConstructor
 public class DefaultAuthorizationEngine implements AuthorizationEngine {
+    /**
+     * Bean name of the decision cache used by the authorization engine.
+     */
+    public static final String DECISION_CACHE_BEAN_NAME = "heimdallAuthorizationDecisionCache";
+
     private final AuthorizableResourceRepository repository;
     private final List<ResourceAuthorizer> authorizers;
 
+    @Getter
+    private final AuthorizationDecisionCache<AuthorizationResponse> decisionCache;
+
+    private final AuthorizationDecisionCache.DecisionCacheSettings decisionCacheSettings;
+
+    public DefaultAuthorizationEngine(final AuthorizableResourceRepository repository,
+                                      final List<ResourceAuthorizer> authorizers) {
+        this(repository, authorizers, new HeimdallAuthorizationCacheProperties());
+    }
+
+    public DefaultAuthorizationEngine(final AuthorizableResourceRepository repository,
+                                      final List<ResourceAuthorizer> authorizers,
+                                      final HeimdallAuthorizationCacheProperties cacheProperties) {
+        this(repository, authorizers, newDecisionCache(cacheProperties), cacheProperties);
+    }
+
+    public DefaultAuthorizationEngine(final AuthorizableResourceRepository repository,
+                                      final List<ResourceAuthorizer> authorizers,
+                                      final AuthorizationDecisionCache<AuthorizationResponse> decisionCache,
+                                      final HeimdallAuthorizationCacheProperties cacheProperties) {
+        this.repository = repository;
+        this.authorizers = authorizers;
+        this.decisionCache = decisionCache;
+        this.decisionCacheSettings = new AuthorizationDecisionCache.DecisionCacheSettings(
+            Beans.newDuration(cacheProperties.getTimeToLive()), null, null);
+    }
+
+    /**
+     * Build the decision cache used by the authorization engine.
+     *
+     * @param cacheProperties the cache properties
+     * @return the decision cache
+     */
+    public static AuthorizationDecisionCache<AuthorizationResponse> newDecisionCache(
+        final HeimdallAuthorizationCacheProperties cacheProperties) {
+        return new AuthorizationDecisionCache<>(DefaultAuthorizationEngine.class.getSimpleName(),
+            response -> response.getStatus().is2xxSuccessful(), cacheProperties.getMaximumSize());
+    }
+
     @Override
     public AuthorizationResponse authorize(final AuthorizationRequest request) {
+        if (request.getPrincipal() == null || !decisionCacheSettings.isEnabled()) {
+            return evaluate(request);
+        }
+        val key = buildDecisionCacheKey(request);
+        return FunctionUtils.doUnchecked(() -> decisionCache.decide(key, decisionCacheSettings, () -> evaluate(request)));
+    }
+
+    protected AuthorizationResponse evaluate(final AuthorizationRequest request) {
         val resource = repository.find(request);
         if (resource.isEmpty()) {
             return AuthorizationResponse.notFound("Resource not found");
@@ -33,4 +92,10 @@ public class DefaultAuthorizationEngine implements AuthorizationEngine {
         }
         return AuthorizationResponse.ok();
     }
+
+    protected String buildDecisionCacheKey(final AuthorizationRequest request) {
+        val principal = request.getPrincipal();
+        val claims = DigestUtils.sha256(new TreeMap<>(principal.getAttributes()).toString());
+        return String.join("|", principal.getId(), claims, request.getNamespace(), request.getMethod(), request.getUri());
+    }
 }
@@ -22,10 +22,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +44,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest(classes = BaseHeimdallTests.SharedTestConfiguration.class,
     properties = {
         "cas.heimdall.json.location=classpath:/policies",
+        "cas.heimdall.cache.time-to-live=PT5S",
+        "cas.heimdall.maximum-batch-size=5",
         "server.port=8585"
     }, webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
 @EnableConfigurationProperties(CasConfigurationProperties.class)
@@ -76,6 +80,50 @@ class HeimdallAuthorizationControllerTests {
         ).andExpect(status().isOk());
     }
 
+    @Test
+    void verifyBatchOperation() throws Throwable {
+        val principal = RegisteredServiceTestUtils.getPrincipal(UUID.randomUUID().toString(),
+            Map.of("color", List.of("red", "green"), "memberOf", List.of("admin")));
+        val authentication = RegisteredServiceTestUtils.getAuthentication(principal);
+        val accessToken = buildAccessToken(authentication);
+        ticketRegistry.addTicket(accessToken);
+
+        val requests = List.of(
+            AuthorizationRequest.builder().uri("/api/users").method("POST").namespace("API_USERS").build(),
+            AuthorizationRequest.builder().uri("/api/users").method("POST").namespace("API_USERS").build(),
+            AuthorizationRequest.builder().uri("/api/all").method("POST").namespace("API_ALL").build(),
+            AuthorizationRequest.builder().uri("/api/users").method("POST").namespace("API_UNKNOWN").build());
+        mockMvc.perform(post("/heimdall/authorize/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(requests.stream().map(AuthorizationRequest::toJson).collect(Collectors.joining(",", "[", "]")))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(accessToken.getId()))
+            .accept(MediaType.APPLICATION_JSON)
+        )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(requests.size()))
+            .andExpect(jsonPath("$[0].status").value("OK"))
+            .andExpect(jsonPath("$[1].status").value("OK"))
+            .andExpect(jsonPath("$[2].status").value("FORBIDDEN"))
+            .andExpect(jsonPath("$[3].status").value("NOT_FOUND"));
+
+        val oversizedBatch = Collections.nCopies(10, requests.getFirst().toJson());
+        mockMvc.perform(post("/heimdall/authorize/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(String.join(",", oversizedBatch).transform("[%s]"::formatted))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(accessToken.getId()))
+            .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isBadRequest());
+
+        val invalidBatch = List.of(requests.getFirst().toJson(),
+            AuthorizationRequest.builder().uri("/api/users").method("POST").build().toJson());
+        mockMvc.perform(post("/heimdall/authorize/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(String.join(",", invalidBatch).transform("[%s]"::formatted))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer %s".formatted(accessToken.getId()))
+            .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(status().isBadRequest());
+    }
+
     @Test
     void verifyAllPoliciesForcedOperation() throws Throwable {
         val principal = RegisteredServiceTestUtils.getPrincipal(UUID.randomUUID().toString(),
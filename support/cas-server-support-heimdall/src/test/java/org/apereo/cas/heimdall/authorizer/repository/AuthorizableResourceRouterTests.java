@@ -0,0 +1,64 @@
+package org.apereo.cas.heimdall.authorizer.repository;
+
+import org.apereo.cas.heimdall.AuthorizationRequest;
+import org.apereo.cas.heimdall.authorizer.resource.AuthorizableResource;
+import org.apereo.cas.util.RegexUtils;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuthorizableResourceRouterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Authorization")
+class AuthorizableResourceRouterTests {
+
+    private static AuthorizableResource resource(final String pattern, final String method) {
+        return new AuthorizableResource().setPattern(RegexUtils.createPattern(pattern)).setMethod(method);
+    }
+
+    private static AuthorizationRequest request(final String uri, final String method) {
+        return AuthorizationRequest.builder().uri(uri).method(method).namespace("API").build();
+    }
+
+    @Test
+    void verifyLiteralPrefix() {
+        assertEquals("/api/users", AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("^/API/users/\\d+")).orElseThrow());
+        assertEquals("/api/v1", AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("^/api/v1.0")).orElseThrow());
+        assertEquals("/api/user", AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("^/api/users?")).orElseThrow());
+        assertTrue(AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("/api/users")).isEmpty());
+        assertTrue(AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("^/api/users|/api/groups")).isEmpty());
+        assertTrue(AuthorizableResourceRouter.getLiteralPrefix(RegexUtils.createPattern("^.*")).isEmpty());
+    }
+
+    @Test
+    void verifyRoutingPreservesOrder() {
+        val first = resource("^/api/users/.+", "GET");
+        val second = resource("users", "*");
+        val third = resource("^/API/users", "POST|PUT");
+        val fourth = resource("^/api/groups", "*");
+        val router = new AuthorizableResourceRouter("API", List.of(first, second, third, fourth));
+        assertEquals(4, router.size());
+
+        assertSame(first, router.route(request("/api/users/casuser", "get")).orElseThrow());
+        assertSame(second, router.route(request("/api/users/casuser", "DELETE")).orElseThrow());
+        assertSame(second, router.route(request("/v2/users", "POST")).orElseThrow());
+        assertSame(fourth, router.route(request("/api/groups/admins", "GET")).orElseThrow());
+        assertTrue(router.route(request("/api/unknown", "GET")).isEmpty());
+        assertTrue(router.route(request("/v2/api/groups", "GET")).isEmpty());
+    }
+
+    @Test
+    void verifyMethodMatching() {
+        val resource = resource("^/api/users", "POST|PUT");
+        val router = new AuthorizableResourceRouter("API", List.of(resource));
+        assertTrue(router.route(request("/api/users", "put")).isPresent());
+        assertTrue(router.route(request("/api/users", "GET")).isEmpty());
+        assertTrue(router.route(request("/api/users", null)).isEmpty());
+    }
+}
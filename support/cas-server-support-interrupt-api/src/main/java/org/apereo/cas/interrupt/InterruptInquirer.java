@@ -6,9 +6,12 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.NamedObject;
 
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.core.Ordered;
 import org.springframework.webflow.execution.RequestContext;
 
+import java.util.Optional;
+
 /**
  * This is {@link InterruptInquirer}.
  *
@@ -32,6 +35,26 @@ public interface InterruptInquirer extends Ordered, NamedObject {
     InterruptResponse inquire(Authentication authentication, RegisteredService registeredService,
                               Service service, Credential credential, RequestContext requestContext) throws Throwable;
 
+    /**
+     * Prepare the inquiry so that it may run in the background, away from the request.
+     * Inquirers that cannot run without the request context produce no result,
+     * and are then inquired as usual.
+     *
+     * @param authentication    the authentication
+     * @param registeredService the registered service
+     * @param service           the service
+     * @param credential        the credential
+     * @param requestContext    the request context
+     * @return the inquiry
+     * @throws Throwable the throwable
+     */
+    default Optional<CheckedSupplier<InterruptResponse>> prefetch(final Authentication authentication,
+                                                                 final RegisteredService registeredService,
+                                                                 final Service service, final Credential credential,
+                                                                 final RequestContext requestContext) throws Throwable {
+        return Optional.empty();
+    }
+
     @Override
     default int getOrder() {
         return Ordered.LOWEST_PRECEDENCE;
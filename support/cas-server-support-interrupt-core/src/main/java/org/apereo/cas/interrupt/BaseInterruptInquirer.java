@@ -7,7 +7,9 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.WebBasedRegisteredService;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.webflow.execution.RequestContext;
+import java.util.Optional;
 
 /**
  * This is {@link BaseInterruptInquirer}.
@@ -29,6 +31,18 @@ public abstract class BaseInterruptInquirer implements InterruptInquirer {
         return inquireInternal(authentication, registeredService, service, credential, requestContext);
     }
 
+    @Override
+    public final Optional<CheckedSupplier<InterruptResponse>> prefetch(final Authentication authentication,
+                                                                      final RegisteredService registeredService,
+                                                                      final Service service,
+                                                                      final Credential credential,
+                                                                      final RequestContext requestContext) throws Throwable {
+        if (shouldSkipInterruptForRegisteredService(registeredService)) {
+            return Optional.of(InterruptResponse::none);
+        }
+        return prefetchInternal(authentication, registeredService, service, credential, requestContext);
+    }
+
     /**
      * Should skip interrupt for registered service.
      *
@@ -55,4 +69,12 @@ public abstract class BaseInterruptInquirer implements InterruptInquirer {
                                                          Service service,
                                                          Credential credential,
                                                          RequestContext requestContext) throws Throwable;
+
+    protected Optional<CheckedSupplier<InterruptResponse>> prefetchInternal(final Authentication authentication,
+                                                                           final RegisteredService registeredService,
+                                                                           final Service service,
+                                                                           final Credential credential,
+                                                                           final RequestContext requestContext) throws Throwable {
+        return Optional.empty();
+    }
 }
@@ -20,12 +20,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
 import org.hjson.JsonValue;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.webflow.execution.RequestContext;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Locale;
+import java.util.Optional;
 
 /**
  * This is {@link RestEndpointInterruptInquirer}.
@@ -48,6 +50,28 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
                                              final Service service,
                                              final Credential credential,
                                              final RequestContext requestContext) {
+        return inquire(authentication, registeredService, service, getAcceptedLanguage(requestContext));
+    }
+
+    @Override
+    protected Optional<CheckedSupplier<InterruptResponse>> prefetchInternal(final Authentication authentication,
+                                                                           final RegisteredService registeredService,
+                                                                           final Service service,
+                                                                           final Credential credential,
+                                                                           final RequestContext requestContext) {
+        val acceptedLanguage = getAcceptedLanguage(requestContext);
+        return Optional.of(() -> inquire(authentication, registeredService, service, acceptedLanguage));
+    }
+
+    private static String getAcceptedLanguage(final RequestContext requestContext) {
+        val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
+        return request.getHeader("accept-language");
+    }
+
+    private InterruptResponse inquire(final Authentication authentication,
+                                      final RegisteredService registeredService,
+                                      final Service service,
+                                      final String acceptedLanguage) {
         HttpResponse response = null;
         try {
             val parameters = new HashMap<String, String>();
@@ -61,8 +85,6 @@ public class RestEndpointInterruptInquirer extends BaseInterruptInquirer {
             }
 
             val headers = new HashMap<String, String>();
-            val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
-            val acceptedLanguage = request.getHeader("accept-language");
             if (StringUtils.isNotBlank(acceptedLanguage)) {
                 headers.put("Accept-Language", acceptedLanguage);
             }
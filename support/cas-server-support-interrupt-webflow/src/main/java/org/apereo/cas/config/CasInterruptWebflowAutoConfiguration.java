@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.interrupt.InterruptInquiryExecutionPlan;
 import org.apereo.cas.interrupt.InterruptTrackingEngine;
+import org.apereo.cas.interrupt.webflow.InterruptPostAuthenticationInquiry;
 import org.apereo.cas.interrupt.webflow.InterruptSingleSignOnParticipationStrategy;
 import org.apereo.cas.interrupt.webflow.InterruptWebflowConfigurer;
 import org.apereo.cas.interrupt.webflow.actions.FinalizeInterruptFlowAction;
@@ -15,6 +16,7 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.flow.CasWebflowConfigurer;
 import org.apereo.cas.web.flow.CasWebflowConstants;
 import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
 import org.apereo.cas.web.flow.SingleSignOnParticipationStrategy;
 import org.apereo.cas.web.flow.SingleSignOnParticipationStrategyConfigurer;
 import org.apereo.cas.web.flow.actions.ConsumerExecutionAction;
@@ -75,6 +77,16 @@ public class CasInterruptWebflowAutoConfiguration {
             .get();
     }
 
+    @ConditionalOnMissingBean(name = "interruptPostAuthenticationInquiry")
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public PostAuthenticationInquiry interruptPostAuthenticationInquiry(
+        final CasConfigurationProperties casProperties,
+        @Qualifier("interruptInquirer")
+        final InterruptInquiryExecutionPlan interruptInquirer) {
+        return new InterruptPostAuthenticationInquiry(interruptInquirer, casProperties);
+    }
+
     @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_PREPARE_INTERRUPT_VIEW)
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
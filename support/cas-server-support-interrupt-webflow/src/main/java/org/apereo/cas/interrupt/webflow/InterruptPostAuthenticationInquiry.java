@@ -0,0 +1,64 @@
+package org.apereo.cas.interrupt.webflow;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.core.web.flow.PostAuthenticationPrefetchProperties;
+import org.apereo.cas.interrupt.InterruptInquirer;
+import org.apereo.cas.interrupt.InterruptInquiryExecutionPlan;
+import org.apereo.cas.web.flow.PostAuthenticationInquiry;
+import org.apereo.cas.web.support.WebUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.webflow.execution.RequestContext;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is {@link InterruptPostAuthenticationInquiry} that prepares
+ * every interrupt inquirer that is able to run away from the request,
+ * so that the inquirers are asked concurrently once authentication has completed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+public class InterruptPostAuthenticationInquiry implements PostAuthenticationInquiry {
+    private final InterruptInquiryExecutionPlan interruptInquiryExecutionPlan;
+
+    private final CasConfigurationProperties casProperties;
+
+    /**
+     * Name of the prefetched result of the inquirer.
+     *
+     * @param inquirer the inquirer
+     * @param index    the position of the inquirer in the execution plan
+     * @return the name
+     */
+    public static String getPrefetchName(final InterruptInquirer inquirer, final int index) {
+        return "interrupt:" + index + ':' + inquirer.getName();
+    }
+
+    @Override
+    public PostAuthenticationPrefetchProperties getPrefetchProperties() {
+        return casProperties.getInterrupt().getCore().getPrefetch();
+    }
+
+    @Override
+    public Map<String, CheckedSupplier<? extends Serializable>> prepare(final RequestContext requestContext) throws Throwable {
+        val authentication = WebUtils.getAuthentication(requestContext);
+        val service = WebUtils.getService(requestContext);
+        val registeredService = WebUtils.getRegisteredService(requestContext);
+        val credential = WebUtils.getCredential(requestContext);
+
+        val tasks = new LinkedHashMap<String, CheckedSupplier<? extends Serializable>>();
+        val inquirers = interruptInquiryExecutionPlan.getInterruptInquirers();
+        for (var i = 0; i < inquirers.size(); i++) {
+            val inquirer = inquirers.get(i);
+            val name = getPrefetchName(inquirer, i);
+            inquirer.prefetch(authentication, registeredService, service, credential, requestContext)
+                .ifPresent(task -> tasks.put(name, task));
+        }
+        return tasks;
+    }
+}
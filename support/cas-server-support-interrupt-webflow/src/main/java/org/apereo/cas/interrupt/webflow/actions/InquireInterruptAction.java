@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.interrupt.InterruptInquirer;
 import org.apereo.cas.interrupt.InterruptResponse;
 import org.apereo.cas.interrupt.InterruptTrackingEngine;
+import org.apereo.cas.interrupt.webflow.InterruptPostAuthenticationInquiry;
 import org.apereo.cas.interrupt.webflow.InterruptUtils;
 import org.apereo.cas.services.WebBasedRegisteredService;
 import org.apereo.cas.util.CollectionUtils;
@@ -13,6 +14,7 @@ import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import org.apereo.cas.web.flow.CasWebflowConstants;
+import org.apereo.cas.web.flow.PostAuthenticationPrefetchResults;
 import org.apereo.cas.web.flow.actions.BaseCasWebflowAction;
 import org.apereo.cas.web.support.WebUtils;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +26,6 @@ import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -147,24 +148,30 @@ public class InquireInterruptAction extends BaseCasWebflowAction {
     }
 
     protected Optional<InterruptResponse> inquire(final RequestContext requestContext) {
-        return interruptInquirers
-            .stream()
-            .map(inquirer -> {
-                try {
-                    LOGGER.trace("Invoking interrupt inquirer using [{}]", inquirer.getName());
-                    val authentication = WebUtils.getAuthentication(requestContext);
-                    val service = WebUtils.getService(requestContext);
-                    val registeredService = (WebBasedRegisteredService) WebUtils.getRegisteredService(requestContext);
-                    val credential = WebUtils.getCredential(requestContext);
-                    return inquirer.inquire(authentication, registeredService, service, credential, requestContext);
-                } catch (final Throwable e) {
-                    LoggingUtils.error(LOGGER, e);
-                    return null;
+        val prefetchProperties = casProperties.getInterrupt().getCore().getPrefetch();
+        for (var i = 0; i < interruptInquirers.size(); i++) {
+            val inquirer = interruptInquirers.get(i);
+            try {
+                LOGGER.trace("Invoking interrupt inquirer using [{}]", inquirer.getName());
+                val prefetchedResponse = PostAuthenticationPrefetchResults.consume(requestContext,
+                    InterruptPostAuthenticationInquiry.getPrefetchName(inquirer, i),
+                    InterruptResponse.class, prefetchProperties);
+                val interruptResponse = prefetchedResponse.isPresent() ? prefetchedResponse.get() : inquire(inquirer, requestContext);
+                if (interruptResponse != null && interruptResponse.isInterrupt()) {
+                    return Optional.of(interruptResponse);
                 }
-            })
-            .filter(Objects::nonNull)
-            .filter(InterruptResponse::isInterrupt)
-            .findFirst();
+            } catch (final Throwable e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+        return Optional.empty();
     }
 
+    private static InterruptResponse inquire(final InterruptInquirer inquirer, final RequestContext requestContext) throws Throwable {
+        val authentication = WebUtils.getAuthentication(requestContext);
+        val service = WebUtils.getService(requestContext);
+        val registeredService = (WebBasedRegisteredService) WebUtils.getRegisteredService(requestContext);
+        val credential = WebUtils.getCredential(requestContext);
+        return inquirer.inquire(authentication, registeredService, service, credential, requestContext);
+    }
 }
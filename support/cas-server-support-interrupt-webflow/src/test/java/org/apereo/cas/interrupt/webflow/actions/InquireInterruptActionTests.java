@@ -7,9 +7,11 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.TriStateBoolean;
 import org.apereo.cas.interrupt.InterruptInquirer;
+import org.apereo.cas.interrupt.InterruptInquiryExecutionPlan;
 import org.apereo.cas.interrupt.InterruptInquiryExecutionPlanConfigurer;
 import org.apereo.cas.interrupt.InterruptResponse;
 import org.apereo.cas.interrupt.InterruptTrackingEngine;
+import org.apereo.cas.interrupt.webflow.InterruptPostAuthenticationInquiry;
 import org.apereo.cas.interrupt.webflow.InterruptUtils;
 import org.apereo.cas.services.DefaultRegisteredServiceWebflowInterruptPolicy;
 import org.apereo.cas.services.RegisteredService;
@@ -17,6 +19,7 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.MockRequestContext;
 import org.apereo.cas.web.flow.CasWebflowConstants;
+import org.apereo.cas.web.flow.PostAuthenticationPrefetchResults;
 import org.apereo.cas.web.support.WebUtils;
 import lombok.val;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +37,7 @@ import org.springframework.webflow.execution.Action;
 import org.springframework.webflow.execution.RequestContext;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -62,6 +66,10 @@ class InquireInterruptActionTests {
         @Qualifier(InterruptTrackingEngine.BEAN_NAME)
         private InterruptTrackingEngine interruptTrackingEngine;
 
+        @Autowired
+        @Qualifier("interruptInquirer")
+        private InterruptInquiryExecutionPlan interruptInquiryExecutionPlan;
+
         @Autowired
         private ConfigurableApplicationContext applicationContext;
 
@@ -127,6 +135,19 @@ class InquireInterruptActionTests {
             assertEquals(CasWebflowConstants.TRANSITION_ID_INTERRUPT_REQUIRED, event.getId());
         }
 
+        @Test
+        void verifyFailedPrefetchInquiresAgain() throws Throwable {
+            val context = MockRequestContext.create(applicationContext);
+            WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(), context);
+            WebUtils.putRegisteredService(context, RegisteredServiceTestUtils.getRegisteredService());
+            WebUtils.putServiceIntoFlowScope(context, CoreAuthenticationTestUtils.getWebApplicationService());
+            WebUtils.putCredential(context, CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword());
+            val inquirer = interruptInquiryExecutionPlan.getInterruptInquirers().getFirst();
+            PostAuthenticationPrefetchResults.put(context, InterruptPostAuthenticationInquiry.getPrefetchName(inquirer, 0),
+                CompletableFuture.failedFuture(new IllegalStateException("Unavailable")));
+            assertEquals(CasWebflowConstants.TRANSITION_ID_INTERRUPT_REQUIRED, action.execute(context).getId());
+        }
+
         @Test
         void verifyInterruptForInlineGroovyScript() throws Throwable {
             val groovyScript = """
@@ -175,6 +196,10 @@ class InquireInterruptActionTests {
         @Qualifier(CasWebflowConstants.ACTION_ID_INQUIRE_INTERRUPT)
         private Action action;
 
+        @Autowired
+        @Qualifier("interruptInquirer")
+        private InterruptInquiryExecutionPlan interruptInquiryExecutionPlan;
+
         @Test
         void verifyInterruptedAlready() throws Throwable {
             val context = MockRequestContext.create();
@@ -220,6 +245,19 @@ class InquireInterruptActionTests {
             assertEquals(CasWebflowConstants.TRANSITION_ID_INTERRUPT_SKIPPED, event.getId());
         }
 
+        @Test
+        void verifyPrefetchedInterruptUsed() throws Throwable {
+            val context = MockRequestContext.create();
+            WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(), context);
+            WebUtils.putRegisteredService(context, RegisteredServiceTestUtils.getRegisteredService());
+            WebUtils.putServiceIntoFlowScope(context, CoreAuthenticationTestUtils.getWebApplicationService());
+            WebUtils.putCredential(context, CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword());
+            val inquirer = interruptInquiryExecutionPlan.getInterruptInquirers().getFirst();
+            PostAuthenticationPrefetchResults.put(context, InterruptPostAuthenticationInquiry.getPrefetchName(inquirer, 0),
+                CompletableFuture.completedFuture(InterruptResponse.interrupt()));
+            assertEquals(CasWebflowConstants.TRANSITION_ID_INTERRUPT_REQUIRED, action.execute(context).getId());
+        }
+
         @Test
         void verifyNotInterruptedAsFinalized() throws Throwable {
             val context = MockRequestContext.create();
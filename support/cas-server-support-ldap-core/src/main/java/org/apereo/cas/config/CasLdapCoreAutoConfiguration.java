@@ -0,0 +1,88 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
+import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * This is {@link CasLdapCoreAutoConfiguration}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@AutoConfiguration
+public class CasLdapCoreAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(name = LdapConnectionFactoryRegistry.BEAN_NAME)
+    public LdapConnectionFactoryRegistry ldapConnectionFactoryRegistry() {
+        return new LdapConnectionFactoryRegistry();
+    }
+
+    @Configuration(value = "CasLdapCoreMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
+    static class CasLdapCoreMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "ldapConnectionFactoryRegistryMeterBinder")
+        public MeterBinder ldapConnectionFactoryRegistryMeterBinder(
+            @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+            final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry) {
+            return registry -> {
+                val factoryRegistry = ldapConnectionFactoryRegistry.getIfAvailable();
+                if (factoryRegistry == null) {
+                    return;
+                }
+                Gauge.builder("cas.ldap.pool.shared", factoryRegistry, LdapConnectionFactoryRegistry::getPoolCount)
+                    .description("Shared LDAP connection pools that are open")
+                    .register(registry);
+                factoryRegistry.registerConsumerListener(consumer -> {
+                    val tags = Tags.of("consumer", consumer);
+                    FunctionCounter.builder("cas.ldap.pool.borrowed", factoryRegistry,
+                            source -> statistic(source, consumer, LdapConnectionFactoryRegistry.BorrowStatisticsSnapshot::borrowed))
+                        .description("Connections borrowed from shared LDAP connection pools")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.ldap.pool.failures", factoryRegistry,
+                            source -> statistic(source, consumer, LdapConnectionFactoryRegistry.BorrowStatisticsSnapshot::failures))
+                        .description("Failed attempts to borrow connections from shared LDAP connection pools")
+                        .tags(tags).register(registry);
+                    Gauge.builder("cas.ldap.pool.borrow.average", factoryRegistry,
+                            source -> statistic(source, consumer, LdapConnectionFactoryRegistry.BorrowStatisticsSnapshot::averageMicros))
+                        .description("Average time to borrow a connection from shared LDAP connection pools")
+                        .baseUnit("microseconds")
+                        .tags(tags).register(registry);
+                    Gauge.builder("cas.ldap.pool.borrow.max", factoryRegistry,
+                            source -> statistic(source, consumer, LdapConnectionFactoryRegistry.BorrowStatisticsSnapshot::maxMicros))
+                        .description("Longest time to borrow a connection from shared LDAP connection pools")
+                        .baseUnit("microseconds")
+                        .tags(tags).register(registry);
+                });
+            };
+        }
+
+        private static long statistic(final LdapConnectionFactoryRegistry registry, final String consumer,
+                                      final ToLongFunction<LdapConnectionFactoryRegistry.BorrowStatisticsSnapshot> metric) {
+            return Optional.ofNullable(registry.getStatistics().get(consumer))
+                .map(metric::applyAsLong)
+                .orElse(0L);
+        }
+    }
+}
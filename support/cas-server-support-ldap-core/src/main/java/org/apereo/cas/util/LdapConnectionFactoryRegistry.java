@@ -0,0 +1,266 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.configuration.model.support.ldap.LdapValidatorProperties;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.LdapException;
+import org.ldaptive.PooledConnectionFactory;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link LdapConnectionFactoryRegistry} that hands out shared, reference-counted
+ * connection pools to LDAP-backed features. Features whose effective connection settings
+ * are identical receive the same pool, so that a deployment that points several features
+ * at the same directory opens one pool and one set of connections instead of one per feature.
+ * Each feature receives its own handle to the pool that records borrow statistics, and the pool
+ * is closed once all handles are closed. Pools used by bind authentication handlers are never
+ * obtained from this registry, since binding changes the identity of pooled connections.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class LdapConnectionFactoryRegistry implements Closeable {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ldapConnectionFactoryRegistry";
+
+    private final Map<ConnectionKey, SharedPool> pools = new HashMap<>();
+
+    private final Map<String, BorrowStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final List<Consumer<String>> consumerListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Acquire a handle to the shared pool for the given settings, creating the pool if necessary.
+     * Closing the handle releases the reference to the pool.
+     *
+     * @param properties the properties
+     * @return the connection factory
+     */
+    public synchronized ConnectionFactory acquire(final AbstractLdapProperties properties) {
+        val key = ConnectionKey.from(properties);
+        val pool = pools.computeIfAbsent(key, k -> {
+            LOGGER.debug("Creating shared LDAP connection pool for [{}]", properties.getLdapUrl());
+            return new SharedPool(LdapUtils.newLdaptivePooledConnectionFactory(properties));
+        });
+        val references = pool.getReferences().incrementAndGet();
+        val consumer = getConsumerName(properties);
+        LOGGER.debug("Handing out shared LDAP connection pool for [{}] to [{}] with [{}] reference(s)",
+            properties.getLdapUrl(), consumer, references);
+        return new SharedConnectionFactory(key, pool, getBorrowStatistics(consumer));
+    }
+
+    /**
+     * Register a listener that is notified of every consumer of shared pools,
+     * including consumers that are already known.
+     *
+     * @param listener the listener
+     */
+    public void registerConsumerListener(final Consumer<String> listener) {
+        consumerListeners.add(listener);
+        statistics.keySet().forEach(listener);
+    }
+
+    /**
+     * Number of shared pools that are open.
+     *
+     * @return the count
+     */
+    public synchronized int getPoolCount() {
+        return pools.size();
+    }
+
+    /**
+     * Collect borrow statistics of each consumer.
+     *
+     * @return the statistics keyed by consumer
+     */
+    public Map<String, BorrowStatisticsSnapshot> getStatistics() {
+        val results = new TreeMap<String, BorrowStatisticsSnapshot>();
+        statistics.forEach((consumer, stats) -> results.put(consumer, stats.snapshot()));
+        return results;
+    }
+
+    @Override
+    public synchronized void close() {
+        pools.values().forEach(pool -> pool.getFactory().close());
+        pools.clear();
+    }
+
+    private synchronized void release(final ConnectionKey key, final SharedPool pool) {
+        if (pool.getReferences().decrementAndGet() <= 0 && pools.remove(key, pool)) {
+            LOGGER.debug("Closing shared LDAP connection pool for [{}]", key.ldapUrl());
+            pool.getFactory().close();
+        }
+    }
+
+    private BorrowStatistics getBorrowStatistics(final String consumer) {
+        val existing = statistics.get(consumer);
+        if (existing != null) {
+            return existing;
+        }
+        val created = new BorrowStatistics();
+        val previous = statistics.putIfAbsent(consumer, created);
+        if (previous != null) {
+            return previous;
+        }
+        consumerListeners.forEach(listener -> listener.accept(consumer));
+        return created;
+    }
+
+    private static String getConsumerName(final AbstractLdapProperties properties) {
+        return StringUtils.defaultIfBlank(properties.getName(), properties.getClass().getSimpleName());
+    }
+
+    @Getter
+    private static final class SharedPool {
+        private final PooledConnectionFactory factory;
+
+        private final AtomicLong references = new AtomicLong();
+
+        SharedPool(final PooledConnectionFactory factory) {
+            this.factory = factory;
+        }
+    }
+
+    private final class SharedConnectionFactory implements ConnectionFactory {
+        private final ConnectionKey key;
+
+        private final SharedPool pool;
+
+        private final BorrowStatistics statistics;
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        SharedConnectionFactory(final ConnectionKey key, final SharedPool pool, final BorrowStatistics statistics) {
+            this.key = key;
+            this.pool = pool;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public ConnectionConfig getConnectionConfig() {
+            return pool.getFactory().getConnectionConfig();
+        }
+
+        @Override
+        public Connection getConnection() throws LdapException {
+            val started = System.nanoTime();
+            try {
+                val connection = pool.getFactory().getConnection();
+                statistics.record(System.nanoTime() - started);
+                return connection;
+            } catch (final LdapException | RuntimeException e) {
+                statistics.getFailures().increment();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(key, pool);
+            }
+        }
+    }
+
+    /**
+     * Effective connection settings that identify a shared pool.
+     * Credentials are kept as digests.
+     */
+    private record ConnectionKey(String ldapUrl, String bindDn, String bindCredential, boolean useStartTls,
+                                 String connectionStrategy, boolean allowMultipleDns, String trustCertificates,
+                                 String trustStore, String trustStorePassword, String trustStoreType,
+                                 String keystore, String keystorePassword, String keystoreType,
+                                 String hostnameVerifier, String trustManager, String saslMechanism,
+                                 String saslRealm, String saslAuthorizationId, String saslSecurityStrength,
+                                 Boolean saslMutualAuth, String saslQualityOfProtection,
+                                 String connectTimeout, String responseTimeout, int minPoolSize, int maxPoolSize,
+                                 String validator, boolean validateOnCheckout, boolean validatePeriodically,
+                                 String validatePeriod, String validateTimeout, boolean failFast,
+                                 String poolPassivator, String idleTime, String prunePeriod, String blockWaitTime) {
+        static ConnectionKey from(final AbstractLdapProperties properties) {
+            return new ConnectionKey(properties.getLdapUrl(), properties.getBindDn(),
+                digest(properties.getBindCredential()), properties.isUseStartTls(), properties.getConnectionStrategy(),
+                properties.isAllowMultipleDns(), properties.getTrustCertificates(),
+                properties.getTrustStore(), digest(properties.getTrustStorePassword()), properties.getTrustStoreType(),
+                properties.getKeystore(), digest(properties.getKeystorePassword()), properties.getKeystoreType(),
+                Objects.toString(properties.getHostnameVerifier(), null), properties.getTrustManager(),
+                properties.getSaslMechanism(), properties.getSaslRealm(), properties.getSaslAuthorizationId(),
+                properties.getSaslSecurityStrength(), properties.getSaslMutualAuth(), properties.getSaslQualityOfProtection(),
+                properties.getConnectTimeout(), properties.getResponseTimeout(),
+                properties.getMinPoolSize(), properties.getMaxPoolSize(),
+                getValidatorKey(properties.getValidator()), properties.isValidateOnCheckout(), properties.isValidatePeriodically(),
+                properties.getValidatePeriod(), properties.getValidateTimeout(), properties.isFailFast(),
+                properties.getPoolPassivator(), properties.getIdleTime(), properties.getPrunePeriod(), properties.getBlockWaitTime());
+        }
+
+        private static String getValidatorKey(final LdapValidatorProperties validator) {
+            return Stream.of(validator.getType(), validator.getBaseDn(), validator.getSearchFilter(), validator.getScope(),
+                    validator.getDn(), validator.getAttributeName(), validator.getAttributeValue())
+                .map(value -> Objects.toString(value, StringUtils.EMPTY))
+                .collect(Collectors.joining(":"));
+        }
+
+        private static String digest(final String value) {
+            return StringUtils.isBlank(value) ? value : DigestUtils.sha256(value);
+        }
+    }
+
+    @Getter
+    private static final class BorrowStatistics {
+        private final LongAdder borrowed = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder totalTime = new LongAdder();
+
+        private final AtomicLong maxTime = new AtomicLong();
+
+        void record(final long elapsed) {
+            borrowed.increment();
+            totalTime.add(elapsed);
+            maxTime.accumulateAndGet(elapsed, Math::max);
+        }
+
+        BorrowStatisticsSnapshot snapshot() {
+            val count = borrowed.sum();
+            return new BorrowStatisticsSnapshot(count, failures.sum(),
+                count == 0 ? 0 : totalTime.sum() / count / 1_000, maxTime.get() / 1_000);
+        }
+    }
+
+    /**
+     * Borrow statistics of a consumer of shared pools.
+     *
+     * @param borrowed       the number of connections borrowed
+     * @param failures       the number of failed attempts to borrow a connection
+     * @param averageMicros  the average time to borrow a connection, in microseconds
+     * @param maxMicros      the longest time to borrow a connection, in microseconds
+     */
+    public record BorrowStatisticsSnapshot(long borrowed, long failures, long averageMicros, long maxMicros) {
+    }
+}
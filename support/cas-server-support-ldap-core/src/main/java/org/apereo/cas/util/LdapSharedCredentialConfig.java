@@ -0,0 +1,72 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.util.ssl.SSLContextRegistry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ldaptive.ssl.CredentialConfig;
+import org.ldaptive.ssl.SSLContextInitializer;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import java.security.GeneralSecurityException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link LdapSharedCredentialConfig} that hands ldaptive the same TLS context
+ * for every connection opened with the same LDAP settings, instead of the new context
+ * ldaptive builds for each connection. Contexts are registered with the {@link SSLContextRegistry},
+ * so that connections share the client session cache of the context and can resume
+ * earlier sessions, rather than performing a full handshake on every reconnect.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@RequiredArgsConstructor
+@Getter
+public class LdapSharedCredentialConfig implements CredentialConfig {
+    private final CredentialConfig delegate;
+
+    private final SSLContextRegistry sslContextRegistry;
+
+    private final Map<String, SSLContext> sslContexts = new ConcurrentHashMap<>();
+
+    @Override
+    public SSLContextInitializer createSSLContextInitializer() throws GeneralSecurityException {
+        return new SharedSSLContextInitializer(delegate.createSSLContextInitializer());
+    }
+
+    @RequiredArgsConstructor
+    private final class SharedSSLContextInitializer implements SSLContextInitializer {
+        private final SSLContextInitializer initializer;
+
+        @Override
+        public SSLContext initSSLContext(final String protocol) throws GeneralSecurityException {
+            val existing = sslContexts.get(protocol);
+            if (existing != null) {
+                return existing;
+            }
+            val sslContext = sslContextRegistry.register(initializer.initSSLContext(protocol));
+            val previous = sslContexts.putIfAbsent(protocol, sslContext);
+            return previous == null ? sslContext : previous;
+        }
+
+        @Override
+        public TrustManager[] getTrustManagers() throws GeneralSecurityException {
+            return initializer.getTrustManagers();
+        }
+
+        @Override
+        public void setTrustManagers(final TrustManager... managers) {
+            initializer.setTrustManagers(managers);
+        }
+
+        @Override
+        public KeyManager[] getKeyManagers() throws GeneralSecurityException {
+            return initializer.getKeyManagers();
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apereo.cas.util.scripting.ExecutableCompiledScript;
 import org.apereo.cas.util.scripting.ExecutableCompiledScriptFactory;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.ssl.SSLUtils;
 import com.google.common.collect.Multimap;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -622,6 +623,10 @@ public class LdapUtils {
                     case DEFAULT -> sslConfig.setTrustManagers(new DefaultTrustManager());
                 }
             }
+
+            if (sslConfig.getCredentialConfig() != null) {
+                sslConfig.setCredentialConfig(new LdapSharedCredentialConfig(sslConfig.getCredentialConfig(), SSLUtils.getSslContextRegistry()));
+            }
         }
 
         if (StringUtils.isNotBlank(properties.getSaslMechanism())) {
@@ -658,12 +663,45 @@ public class LdapUtils {
 
     /**
      * Returns a pooled connection factory or default connection factory based on {@link AbstractLdapProperties#isDisablePooling()}.
+     * The pool is never shared with other features.
      *
      * @param properties ldap properties
      * @return the connection factory
      */
     public static ConnectionFactory newLdaptiveConnectionFactory(final AbstractLdapProperties properties) {
-        return properties.isDisablePooling() ? newLdaptiveDefaultConnectionFactory(properties) : newLdaptivePooledConnectionFactory(properties);
+        return newLdaptiveConnectionFactory(properties, null);
+    }
+
+    /**
+     * Returns a pooled connection factory or default connection factory based on {@link AbstractLdapProperties#isDisablePooling()}.
+     * Pools that are marked as shared are obtained from the given {@link LdapConnectionFactoryRegistry}, if any.
+     *
+     * @param properties ldap properties
+     * @param registry   the registry of shared pools, may be null
+     * @return the connection factory
+     */
+    public static ConnectionFactory newLdaptiveConnectionFactory(final AbstractLdapProperties properties,
+                                                                 final LdapConnectionFactoryRegistry registry) {
+        if (properties.isDisablePooling()) {
+            return newLdaptiveDefaultConnectionFactory(properties);
+        }
+        if (properties.isSharePool() && registry != null) {
+            return registry.acquire(properties);
+        }
+        return newLdaptivePooledConnectionFactory(properties);
+    }
+
+    /**
+     * Returns a connection factory for bind authentication handlers. Binding changes the identity
+     * of the connection it is performed on, so these connections are never taken from a shared pool.
+     *
+     * @param properties ldap properties
+     * @return the connection factory
+     */
+    public static ConnectionFactory newLdaptiveBindConnectionFactory(final AbstractLdapProperties properties) {
+        return properties.isDisablePooling()
+            ? newLdaptiveDefaultConnectionFactory(properties)
+            : newLdaptivePooledConnectionFactory(properties);
     }
 
     /**
@@ -804,7 +842,7 @@ public class LdapUtils {
         val resolver = buildAggregateDnResolver(properties, connectionFactoryForSearch);
 
         val auth = StringUtils.isBlank(properties.getPrincipalAttributePassword())
-            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(properties)))
+            ? new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveBindConnectionFactory(properties)))
             : new Authenticator(resolver, getCompareAuthenticationHandler(properties, newLdaptiveConnectionFactory(properties)));
 
         if (properties.isEnhanceWithEntryResolver()) {
@@ -830,7 +868,7 @@ public class LdapUtils {
     private static Authenticator getAuthenticatorViaDnFormat(final AbstractLdapAuthenticationProperties properties,
                                                              final ConnectionFactory factory) {
         val resolver = new FormatDnResolver(properties.getDnFormat());
-        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveConnectionFactory(properties)));
+        val authenticator = new Authenticator(resolver, getBindAuthenticationHandler(newLdaptiveBindConnectionFactory(properties)));
 
         if (properties.isEnhanceWithEntryResolver()) {
             authenticator.setEntryResolver(newLdaptiveSearchEntryResolver(properties, factory));
@@ -9,6 +9,7 @@ import org.apereo.cas.configuration.model.support.ldap.LdapPasswordPolicyPropert
 import org.apereo.cas.configuration.model.support.ldap.LdapSearchEntryHandlersProperties;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapSharedCredentialConfig;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
@@ -328,6 +329,20 @@ class LdapUtilsTests {
         });
     }
 
+    @Test
+    void verifyTlsContextShared() throws Throwable {
+        val ldap = new Ldap();
+        ldap.setLdapUrl("ldaps://localhost:10636");
+        ldap.setTrustStoreType(KeyStore.getDefaultType());
+        ldap.setTrustStorePassword("changeit");
+        ldap.setTrustStore(new File(System.getProperty("java.home"), "lib/security/cacerts").getCanonicalPath());
+        val credentialConfig = LdapUtils.newLdaptiveConnectionConfig(ldap).getSslConfig().getCredentialConfig();
+        assertInstanceOf(LdapSharedCredentialConfig.class, credentialConfig);
+        val first = credentialConfig.createSSLContextInitializer().initSSLContext("TLS");
+        val second = credentialConfig.createSSLContextInitializer().initSSLContext("TLS");
+        assertSame(first, second);
+    }
+
     private static final class Ldap extends AbstractLdapAuthenticationProperties {
         @Serial
         private static final long serialVersionUID = 7979417317490698363L;
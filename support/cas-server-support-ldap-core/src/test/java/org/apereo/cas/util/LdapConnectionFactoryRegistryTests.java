@@ -0,0 +1,129 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.configuration.model.support.ldap.AbstractLdapProperties;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.ldaptive.PooledConnectionFactory;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link LdapConnectionFactoryRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Ldap")
+@EnabledIfListeningOnPort(port = 10389)
+class LdapConnectionFactoryRegistryTests {
+
+    private static AbstractLdapProperties getLdapProperties(final String name) {
+        val ldap = new Ldap();
+        ldap.setName(name);
+        ldap.setLdapUrl("ldap://localhost:10389");
+        ldap.setBindDn("cn=Directory Manager");
+        ldap.setBindCredential("password");
+        ldap.setMinPoolSize(1);
+        ldap.setFailFast(false);
+        ldap.setSharePool(true);
+        return ldap;
+    }
+
+    @Test
+    void verifyPoolsSharedAndReleased() throws Throwable {
+        try (val registry = new LdapConnectionFactoryRegistry()) {
+            val first = registry.acquire(getLdapProperties("authentication"));
+            val second = registry.acquire(getLdapProperties("consent"));
+            assertEquals(1, registry.getPoolCount());
+
+            try (val connection = first.getConnection()) {
+                assertTrue(connection.isOpen());
+            }
+            try (val connection = second.getConnection()) {
+                assertTrue(connection.isOpen());
+            }
+            val statistics = registry.getStatistics();
+            assertEquals(1, statistics.get("authentication").borrowed());
+            assertEquals(1, statistics.get("consent").borrowed());
+
+            first.close();
+            first.close();
+            assertEquals(1, registry.getPoolCount());
+            second.close();
+            assertEquals(0, registry.getPoolCount());
+        }
+    }
+
+    @Test
+    void verifyPoolsSeparatedByConfiguration() throws Throwable {
+        try (val registry = new LdapConnectionFactoryRegistry()) {
+            val properties = getLdapProperties("authentication");
+            val first = registry.acquire(properties);
+            val second = registry.acquire(getLdapProperties("consent").setBindDn("cn=admin,dc=example,dc=org"));
+            assertEquals(2, registry.getPoolCount());
+            val third = registry.acquire(getLdapProperties("events").setValidatePeriodically(false));
+            val fourth = registry.acquire(getLdapProperties("events").setKeystoreType("PKCS12"));
+            assertEquals(4, registry.getPoolCount());
+            first.close();
+            second.close();
+            third.close();
+            fourth.close();
+            assertEquals(0, registry.getPoolCount());
+        }
+    }
+
+    @Test
+    void verifyConsumerListenersNotified() throws Throwable {
+        try (val registry = new LdapConnectionFactoryRegistry()) {
+            val consumers = new ArrayList<String>();
+            val first = registry.acquire(getLdapProperties("authentication"));
+            registry.registerConsumerListener(consumers::add);
+            val second = registry.acquire(getLdapProperties("consent"));
+            val third = registry.acquire(getLdapProperties("consent"));
+            assertEquals(List.of("authentication", "consent"), consumers);
+            first.close();
+            second.close();
+            third.close();
+        }
+    }
+
+    @Test
+    void verifySharingRequiresRegistry() throws Throwable {
+        val factory = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("authentication"));
+        try {
+            assertInstanceOf(PooledConnectionFactory.class, factory);
+        } finally {
+            factory.close();
+        }
+        try (val registry = new LdapConnectionFactoryRegistry()) {
+            val shared = LdapUtils.newLdaptiveConnectionFactory(getLdapProperties("authentication"), registry);
+            assertFalse(shared instanceof PooledConnectionFactory);
+            assertEquals(1, registry.getPoolCount());
+            shared.close();
+            assertEquals(0, registry.getPoolCount());
+        }
+    }
+
+    @Test
+    void verifyBindConnectionsNeverShared() throws Throwable {
+        val properties = getLdapProperties("authentication");
+        val factory = LdapUtils.newLdaptiveBindConnectionFactory(properties);
+        try {
+            assertInstanceOf(PooledConnectionFactory.class, factory);
+        } finally {
+            factory.close();
+        }
+    }
+
+    private static final class Ldap extends AbstractLdapProperties {
+        @Serial
+        private static final long serialVersionUID = 7309211338342390514L;
+    }
+}
@@ -9,6 +9,7 @@ import org.apereo.cas.services.ServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryExecutionPlanConfigurer;
 import org.apereo.cas.services.ServiceRegistryListener;
 import org.apereo.cas.services.util.RegisteredServiceJsonSerializer;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
@@ -59,6 +60,8 @@ public class CasLdapServiceRegistryAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "ldapServiceRegistry")
     public ServiceRegistry ldapServiceRegistry(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
         @Qualifier("ldapServiceRegistryMapper")
         final LdapRegisteredServiceMapper ldapServiceRegistryMapper,
         final CasConfigurationProperties casProperties,
@@ -68,7 +71,7 @@ public class CasLdapServiceRegistryAutoConfiguration {
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val ldap = casProperties.getServiceRegistry().getLdap();
-                val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+                val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable());
                 LOGGER.debug("Configured LDAP service registry search filter to [{}] and load filter to [{}]",
                     ldap.getSearchFilter(), ldap.getLoadFilter());
                 return new LdapServiceRegistry(connectionFactory, ldapServiceRegistryMapper,
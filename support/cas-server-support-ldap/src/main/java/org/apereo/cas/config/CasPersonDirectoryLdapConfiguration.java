@@ -8,6 +8,7 @@ import org.apereo.cas.persondir.LdaptivePersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -20,6 +21,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.ldaptive.handler.LdapEntryHandler;
 import org.ldaptive.handler.SearchResultHandler;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -59,6 +61,8 @@ class CasPersonDirectoryLdapConfiguration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public BeanContainer<PersonAttributeDao> ldapAttributeRepositories(
+            @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+            final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(BeanContainer.class)
@@ -73,7 +77,8 @@ class CasPersonDirectoryLdapConfiguration {
                             val dao = new LdaptivePersonAttributeDao();
                             FunctionUtils.doIfNotNull(ldap.getId(), id -> dao.setId(id));
                             LOGGER.debug("Configured LDAP attribute source for [{}] and baseDn [{}]", ldap.getLdapUrl(), ldap.getBaseDn());
-                            dao.setConnectionFactory(LdapUtils.newLdaptiveConnectionFactory(ldap));
+                            dao.setConnectionFactory(LdapUtils.newLdaptiveConnectionFactory(ldap,
+                                ldapConnectionFactoryRegistry.getIfAvailable()));
                             dao.setBaseDN(ldap.getBaseDn());
                             dao.setEnabled(ldap.getState() != AttributeRepositoryStates.DISABLED);
                             dao.putTag(PersonDirectoryAttributeRepositoryPlanConfigurer.class.getSimpleName(),
@@ -10,6 +10,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.monitor.LdapSecurityActuatorEndpointsMonitorProperties;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.beans.BeanContainer;
@@ -20,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
@@ -112,15 +114,19 @@ class LdapAuthenticationConfiguration {
         @ConditionalOnMissingBean(name = "ldapHttpWebSecurityConfigurer")
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public CasWebSecurityConfigurer<HttpSecurity> ldapHttpWebSecurityConfigurer(
+            @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+            final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
             final SecurityProperties securityProperties,
             final CasConfigurationProperties casProperties) {
-            return new LdapHttpSecurityCasWebSecurityConfigurer(casProperties, securityProperties);
+            return new LdapHttpSecurityCasWebSecurityConfigurer(casProperties, securityProperties,
+                ldapConnectionFactoryRegistry.getIfAvailable());
         }
 
         @RequiredArgsConstructor
         private static final class LdapHttpSecurityCasWebSecurityConfigurer implements CasWebSecurityConfigurer<HttpSecurity> {
             private final CasConfigurationProperties casProperties;
             private final SecurityProperties securityProperties;
+            private final LdapConnectionFactoryRegistry ldapConnectionFactoryRegistry;
 
             private EndpointLdapAuthenticationProvider endpointLdapAuthenticationProvider;
 
@@ -144,7 +150,7 @@ class LdapAuthenticationConfiguration {
             private void configureLdapAuthenticationProvider(final HttpSecurity http,
                                                              final LdapSecurityActuatorEndpointsMonitorProperties ldap) {
                 if (isLdapAuthorizationActive()) {
-                    val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+                    val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry);
                     val authenticator = LdapUtils.newLdaptiveAuthenticator(ldap);
                     this.endpointLdapAuthenticationProvider = new EndpointLdapAuthenticationProvider(ldap,
                         securityProperties, connectionFactory, authenticator);
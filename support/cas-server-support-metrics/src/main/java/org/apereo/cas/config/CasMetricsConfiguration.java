@@ -2,12 +2,22 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.ProxyCallbackHttpClient;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
@@ -24,4 +34,48 @@ class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    public MeterBinder proxyCallbackHttpClientMeterBinder(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_PROXY_CALLBACK)
+        final ObjectProvider<HttpClient> proxyCallbackHttpClient) {
+        return registry -> {
+            if (casProperties.getHttpClient().getProxyCallback().isEnabled()) {
+                FunctionTimer.builder("cas.proxy.callback.latency", ProxyCallbackHttpClient.class,
+                        type -> getProxyCallbackStatistics(proxyCallbackHttpClient, ProxyCallbackHttpClient.CallbackStatisticsSnapshot::callbacks),
+                        type -> getProxyCallbackStatistics(proxyCallbackHttpClient, ProxyCallbackHttpClient.CallbackStatisticsSnapshot::totalNanos),
+                        TimeUnit.NANOSECONDS)
+                    .description("Proxy callbacks sent to client applications")
+                    .register(registry);
+                FunctionCounter.builder("cas.proxy.callback.failures", ProxyCallbackHttpClient.class,
+                        type -> getProxyCallbackStatistics(proxyCallbackHttpClient, ProxyCallbackHttpClient.CallbackStatisticsSnapshot::failures))
+                    .description("Proxy callbacks that failed or returned an unacceptable status")
+                    .register(registry);
+                FunctionCounter.builder("cas.proxy.callback.rejected", ProxyCallbackHttpClient.class,
+                        type -> getProxyCallbackStatistics(proxyCallbackHttpClient, ProxyCallbackHttpClient.CallbackStatisticsSnapshot::rejected))
+                    .description("Proxy callbacks rejected because too many callbacks were in flight for the host")
+                    .register(registry);
+                FunctionCounter.builder("cas.proxy.callback.verification.cache.hits", ProxyCallbackHttpClient.class,
+                        type -> getProxyCallbackClient(proxyCallbackHttpClient)
+                            .map(ProxyCallbackHttpClient::getVerificationCacheHits)
+                            .orElse(0L))
+                    .description("Proxy callback urls accepted on a recently verified origin without being probed")
+                    .register(registry);
+            }
+        };
+    }
+
+    private static Optional<ProxyCallbackHttpClient> getProxyCallbackClient(final ObjectProvider<HttpClient> proxyCallbackHttpClient) {
+        return Optional.ofNullable(proxyCallbackHttpClient.getIfAvailable())
+            .filter(ProxyCallbackHttpClient.class::isInstance)
+            .map(ProxyCallbackHttpClient.class::cast);
+    }
+
+    private static long getProxyCallbackStatistics(final ObjectProvider<HttpClient> proxyCallbackHttpClient,
+                                                   final ToLongFunction<ProxyCallbackHttpClient.CallbackStatisticsSnapshot> metric) {
+        return getProxyCallbackClient(proxyCallbackHttpClient)
+            .map(client -> metric.applyAsLong(client.getTotalStatistics()))
+            .orElse(0L);
+    }
 }
@@ -0,0 +1,188 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.configuration.model.support.oidc.OidcProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
+import org.apereo.cas.services.OidcRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jose4j.jwk.JsonWebKey;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link OidcDefaultJsonWebKeySetDocumentCache} that builds the public keystore
+ * document from the CAS keystore and from keys owned by relying parties, once per key state.
+ * <p>
+ * Documents are tagged with a cache version; invalidating the cache moves to the next version,
+ * so that documents still being built from keys that were just modified are never served.
+ * When services are reloaded, the public keys owned by relying parties are compared with the keys
+ * seen at the previous reload, so that documents are only rebuilt if key content has changed.
+ * Requests for unknown key states are answered with an empty document right away.
+ * When the document cache is turned off, documents are built for every request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class OidcDefaultJsonWebKeySetDocumentCache implements OidcJsonWebKeySetDocumentCache {
+    private static final String ALL_KEYS = "ALL";
+
+    private final OidcProperties oidcProperties;
+
+    private final OidcJsonWebKeystoreGeneratorService generatorService;
+
+    private final ServicesManager servicesManager;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final Cache<DocumentKey, OidcJsonWebKeySetDocument> documents;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final AtomicReference<Map<Long, String>> serviceKeystores = new AtomicReference<>();
+
+    public OidcDefaultJsonWebKeySetDocumentCache(final OidcProperties oidcProperties,
+                                                 final OidcJsonWebKeystoreGeneratorService generatorService,
+                                                 final ServicesManager servicesManager,
+                                                 final ConfigurableApplicationContext applicationContext) {
+        this.oidcProperties = oidcProperties;
+        this.generatorService = generatorService;
+        this.servicesManager = servicesManager;
+        this.applicationContext = applicationContext;
+        this.documents = Caffeine.newBuilder()
+            .maximumSize(OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.values().length * 2L + 2)
+            .expireAfterWrite(Beans.newDuration(oidcProperties.getJwks().getCore().getJwksCacheExpiration()))
+            .build();
+    }
+
+    @Override
+    public OidcJsonWebKeySetDocument getDocument(final String state) throws Throwable {
+        val stateName = StringUtils.isBlank(state) ? ALL_KEYS : state.trim().toUpperCase(Locale.ENGLISH);
+        val knownState = ALL_KEYS.equals(stateName) || Arrays.stream(OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.values())
+            .anyMatch(lifecycleState -> lifecycleState.name().equals(stateName));
+        val currentVersion = version.get();
+        if (!knownState) {
+            LOGGER.debug("Unknown key state [{}] requested; no keys will be served", stateName);
+            return toDocument(new JsonWebKeySet(), currentVersion);
+        }
+        if (!oidcProperties.getJwks().getCore().isJwksDocumentCacheEnabled()) {
+            return build(stateName, currentVersion);
+        }
+        return documents.get(new DocumentKey(stateName, currentVersion),
+            key -> FunctionUtils.doUnchecked(() -> build(key.state(), key.version())));
+    }
+
+    @Override
+    public void invalidate() {
+        val nextVersion = version.incrementAndGet();
+        documents.invalidateAll();
+        LOGGER.debug("Discarded cached JWKS documents; documents will be rebuilt for version [{}]", nextVersion);
+    }
+
+    @Override
+    public void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        if (event.getRegisteredService() instanceof OidcRegisteredService) {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        if (!oidcProperties.getJwks().getCore().isJwksDocumentCacheEnabled()) {
+            return;
+        }
+        val loaded = collectServiceKeystores(event.getServices());
+        val previous = serviceKeystores.getAndSet(loaded);
+        if (!Objects.equals(previous, loaded)) {
+            LOGGER.debug("Keystores owned by relying parties have changed after services were loaded");
+            invalidate();
+        }
+    }
+
+    protected OidcJsonWebKeySetDocument build(final String state, final long documentVersion) throws Throwable {
+        LOGGER.debug("Building JWKS document for key state [{}]", state);
+        val resource = generatorService.generate();
+        val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
+        val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
+
+        servicesManager.getAllServicesOfType(OidcRegisteredService.class)
+            .stream()
+            .filter(service -> StringUtils.isNotBlank(resolveServiceKeystore(service)))
+            .forEach(service -> {
+                val set = getServiceJsonWebKeySet(service);
+                set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
+            });
+
+        if (!ALL_KEYS.equals(state)) {
+            jsonWebKeySet.getJsonWebKeys().removeIf(key -> {
+                val keyState = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
+                return !state.equalsIgnoreCase(keyState);
+            });
+        }
+        return toDocument(jsonWebKeySet, documentVersion);
+    }
+
+    private static OidcJsonWebKeySetDocument toDocument(final JsonWebKeySet jsonWebKeySet, final long documentVersion) {
+        val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
+        return new OidcJsonWebKeySetDocument(body, '"' + DigestUtils.sha256(body) + '"', documentVersion);
+    }
+
+    private Map<Long, String> collectServiceKeystores(final Collection<RegisteredService> services) {
+        val results = new TreeMap<Long, String>();
+        services.stream()
+            .filter(OidcRegisteredService.class::isInstance)
+            .map(OidcRegisteredService.class::cast)
+            .filter(service -> StringUtils.isNotBlank(resolveServiceKeystore(service)))
+            .forEach(service -> {
+                val publicKeys = getServiceJsonWebKeySet(service)
+                    .map(keys -> keys.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY))
+                    .orElse(StringUtils.EMPTY);
+                results.put(service.getId(), DigestUtils.sha256(publicKeys));
+            });
+        return results;
+    }
+
+    private Optional<JsonWebKeySet> getServiceJsonWebKeySet(final OidcRegisteredService service) {
+        return OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service, applicationContext, Optional.empty());
+    }
+
+    private static String resolveServiceKeystore(final OidcRegisteredService service) {
+        return SpringExpressionLanguageValueResolver.getInstance().resolve(service.getJwks());
+    }
+
+    private record DocumentKey(String state, long version) {
+    }
+}
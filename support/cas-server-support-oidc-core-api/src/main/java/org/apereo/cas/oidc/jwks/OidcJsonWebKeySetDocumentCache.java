@@ -0,0 +1,110 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreModifiedEvent;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotatedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link OidcJsonWebKeySetDocumentCache} that keeps the public
+ * keystore document served by the JWKS endpoint, and rebuilds it
+ * when the keys that make up the document are modified.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public interface OidcJsonWebKeySetDocumentCache extends CasEventListener {
+    /**
+     * Bean name.
+     */
+    String BEAN_NAME = "oidcJsonWebKeySetDocumentCache";
+
+    /**
+     * Gets the public keystore document, with keys filtered by the given state.
+     *
+     * @param state the key state name; blank to include all keys
+     * @return the document
+     * @throws Throwable the throwable
+     */
+    OidcJsonWebKeySetDocument getDocument(String state) throws Throwable;
+
+    /**
+     * Discard documents, so they are rebuilt on the next request.
+     */
+    void invalidate();
+
+    /**
+     * Handle keystore modified event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleOidcJsonWebKeystoreModifiedEvent(final OidcJsonWebKeystoreModifiedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle keystore rotated event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleOidcJsonWebKeystoreRotatedEvent(final OidcJsonWebKeystoreRotatedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered services deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServicesDeletedEvent(final CasRegisteredServicesDeletedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered services loaded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Public keystore document.
+     *
+     * @param body    the document body, with public keys only
+     * @param etag    the strong entity tag calculated from the document body
+     * @param version the version of the cache the document was built for
+     */
+    record OidcJsonWebKeySetDocument(String body, String etag, long version) {
+    }
+}
@@ -49,15 +49,19 @@ public class OidcRestfulJsonWebKeystoreGeneratorService implements OidcJsonWebKe
             .url(rest.getUrl())
             .build();
         val response = HttpUtils.execute(exec);
-        if (response == null || !HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
-            LOGGER.warn("Unable to successfully fetch JWKS resource from [{}]", rest.getUrl());
-            return null;
-        }
+        try {
+            if (response == null || !HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
+                LOGGER.warn("Unable to successfully fetch JWKS resource from [{}]", rest.getUrl());
+                return null;
+            }
 
-        try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
-            val result = IOUtils.toString(content, StandardCharsets.UTF_8);
-            LOGGER.debug("Received payload result from [{}] as [{}]", rest.getUrl(), result);
-            return new ByteArrayResource(result.getBytes(StandardCharsets.UTF_8), "OIDC JWKS");
+            try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
+                val result = IOUtils.toString(content, StandardCharsets.UTF_8);
+                LOGGER.debug("Received payload result from [{}] as [{}]", rest.getUrl(), result);
+                return new ByteArrayResource(result.getBytes(StandardCharsets.UTF_8), "OIDC JWKS");
+            }
+        } finally {
+            HttpUtils.close(response);
         }
     }
 
@@ -78,6 +82,7 @@ public class OidcRestfulJsonWebKeystoreGeneratorService implements OidcJsonWebKe
         FunctionUtils.doIfNotNull(response,
             httpResponse -> LOGGER.debug("Storing JWKS resource via [{}] returned [{}]",
                 rest.getUrl(), response.getReasonPhrase()));
+        HttpUtils.close(response);
         return jsonWebKeySet;
     }
 }
@@ -9,8 +9,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.jooq.lambda.Unchecked;
 import org.jose4j.jwk.JsonWebKeySet;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
 
 import java.nio.charset.StandardCharsets;
@@ -29,6 +31,8 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
 
     private final OidcJsonWebKeystoreGeneratorService generatorService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public JsonWebKeySet rotate() throws Throwable {
         return whenKeystoreResourceExists()
@@ -53,7 +57,7 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                 generateFutureKeys(jsonWebKeySet);
                 generateCurrentKeys(jsonWebKeySet);
 
-                return generatorService.store(jsonWebKeySet);
+                return publishRotatedEvent(generatorService.store(jsonWebKeySet));
             }))
             .orElse(null);
     }
@@ -98,11 +102,16 @@ public class OidcDefaultJsonWebKeystoreRotationService implements OidcJsonWebKey
                     val state = JsonWebKeyLifecycleStates.getJsonWebKeyState(key);
                     return state == JsonWebKeyLifecycleStates.PREVIOUS;
                 });
-                return generatorService.store(jsonWebKeySet);
+                return publishRotatedEvent(generatorService.store(jsonWebKeySet));
             }))
             .orElse(null);
     }
 
+    private JsonWebKeySet publishRotatedEvent(final JsonWebKeySet jsonWebKeySet) {
+        eventPublisher.publishEvent(new OidcJsonWebKeystoreRotatedEvent(this, jsonWebKeySet, ClientInfoHolder.getClientInfo()));
+        return jsonWebKeySet;
+    }
+
     private Optional<Resource> whenKeystoreResourceExists() {
         return FunctionUtils.doUnchecked(generatorService::find);
     }
@@ -0,0 +1,32 @@
+package org.apereo.cas.oidc.jwks.rotation;
+
+import org.apereo.cas.support.events.AbstractCasEvent;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.jose4j.jwk.JsonWebKeySet;
+
+import java.io.Serial;
+
+/**
+ * This is {@link OidcJsonWebKeystoreRotatedEvent} that is signaled
+ * once keys in the keystore are rotated or revoked.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@ToString(callSuper = true)
+@Getter
+public class OidcJsonWebKeystoreRotatedEvent extends AbstractCasEvent {
+
+    @Serial
+    private static final long serialVersionUID = -4129833516024878751L;
+
+    private final transient JsonWebKeySet jsonWebKeySet;
+
+    public OidcJsonWebKeystoreRotatedEvent(final Object source, final JsonWebKeySet jsonWebKeySet, final ClientInfo clientInfo) {
+        super(source, clientInfo);
+        this.jsonWebKeySet = jsonWebKeySet;
+    }
+}
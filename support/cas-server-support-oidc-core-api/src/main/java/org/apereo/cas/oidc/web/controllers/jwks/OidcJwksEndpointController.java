@@ -1,26 +1,22 @@
 package org.apereo.cas.oidc.web.controllers.jwks;
 
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.OidcConfigurationContext;
 import org.apereo.cas.oidc.OidcConstants;
-import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
-import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
-import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocumentCache;
 import org.apereo.cas.oidc.web.controllers.BaseOidcController;
-import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.util.LoggingUtils;
-import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.jose4j.jwk.JsonWebKey;
-import org.jose4j.jwk.JsonWebKeySet;
 import org.pac4j.jee.context.JEEContext;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,8 +24,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.Collections;
 
 /**
  * This is {@link OidcJwksEndpointController}.
@@ -39,12 +35,12 @@ import java.util.Optional;
  */
 @Slf4j
 public class OidcJwksEndpointController extends BaseOidcController {
-    private final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService;
+    private final OidcJsonWebKeySetDocumentCache jsonWebKeySetDocumentCache;
 
     public OidcJwksEndpointController(final OidcConfigurationContext configurationContext,
-                                      final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService) {
+                                      final OidcJsonWebKeySetDocumentCache jsonWebKeySetDocumentCache) {
         super(configurationContext);
-        this.oidcJsonWebKeystoreGeneratorService = oidcJsonWebKeystoreGeneratorService;
+        this.jsonWebKeySetDocumentCache = jsonWebKeySetDocumentCache;
     }
 
     /**
@@ -70,36 +66,28 @@ public class OidcJwksEndpointController extends BaseOidcController {
             return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
         }
         try {
-            val resource = oidcJsonWebKeystoreGeneratorService.generate();
-            val jsonJwks = IOUtils.toString(resource.getInputStream(), StandardCharsets.UTF_8);
-            val jsonWebKeySet = new JsonWebKeySet(jsonJwks);
-
-            val servicesManager = getConfigurationContext().getServicesManager();
-            servicesManager.getAllServicesOfType(OidcRegisteredService.class)
-                .stream()
-                .filter(service -> {
-                    val serviceJwks = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getJwks());
-                    return StringUtils.isNotBlank(serviceJwks);
-                })
-                .forEach(service -> {
-                    val set = OidcJsonWebKeyStoreUtils.getJsonWebKeySet(service,
-                        getConfigurationContext().getApplicationContext(), Optional.empty());
-                    set.ifPresent(keys -> keys.getJsonWebKeys().forEach(jsonWebKeySet::addJsonWebKey));
-                });
-
-            if (StringUtils.isNotBlank(state)) {
-                jsonWebKeySet.getJsonWebKeys()
-                    .removeIf(key -> {
-                        val st = OidcJsonWebKeystoreRotationService.JsonWebKeyLifecycleStates.getJsonWebKeyState(key).name();
-                        return !state.equalsIgnoreCase(st);
-                    });
-            }
-            val body = jsonWebKeySet.toJson(JsonWebKey.OutputControlLevel.PUBLIC_ONLY);
+            val document = jsonWebKeySetDocumentCache.getDocument(state);
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-            return new ResponseEntity<>(body, HttpStatus.OK);
+            val core = getConfigurationContext().getCasProperties().getAuthn().getOidc().getJwks().getCore();
+            if (!core.isJwksDocumentCacheEnabled()) {
+                return new ResponseEntity<>(document.body(), HttpStatus.OK);
+            }
+            val cacheControl = CacheControl.maxAge(Beans.newDuration(core.getJwksDocumentMaxAge())).cachePublic();
+            if (isNotModified(request, document.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(document.etag()).cacheControl(cacheControl).build();
+            }
+            return ResponseEntity.ok().eTag(document.etag()).cacheControl(cacheControl).body(document.body());
         } catch (final Throwable e) {
             LoggingUtils.error(LOGGER, e);
             return new ResponseEntity<>(StringEscapeUtils.escapeHtml4(e.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
+
+    private static boolean isNotModified(final HttpServletRequest request, final String etag) {
+        return Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))
+            .stream()
+            .flatMap(value -> Arrays.stream(value.split(",")))
+            .map(value -> StringUtils.removeStart(value.trim(), "W/"))
+            .anyMatch(value -> "*".equals(value) || etag.equals(value));
+    }
 }
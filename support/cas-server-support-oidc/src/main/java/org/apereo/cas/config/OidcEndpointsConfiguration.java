@@ -11,7 +11,7 @@ import org.apereo.cas.oidc.OidcConstants;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.oidc.discovery.webfinger.OidcWebFingerDiscoveryService;
 import org.apereo.cas.oidc.issuer.OidcIssuerService;
-import org.apereo.cas.oidc.jwks.generator.OidcJsonWebKeystoreGeneratorService;
+import org.apereo.cas.oidc.jwks.OidcJsonWebKeySetDocumentCache;
 import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotationService;
 import org.apereo.cas.oidc.token.ciba.CibaTokenDeliveryHandler;
 import org.apereo.cas.oidc.web.OidcHandlerInterceptorAdapter;
@@ -414,11 +414,11 @@ class OidcEndpointsConfiguration {
         @ConditionalOnMissingBean(name = "oidcJwksController")
         @Bean
         public OidcJwksEndpointController oidcJwksController(
-            @Qualifier("oidcJsonWebKeystoreGeneratorService")
-            final OidcJsonWebKeystoreGeneratorService oidcJsonWebKeystoreGeneratorService,
+            @Qualifier(OidcJsonWebKeySetDocumentCache.BEAN_NAME)
+            final OidcJsonWebKeySetDocumentCache oidcJsonWebKeySetDocumentCache,
             @Qualifier(OidcConfigurationContext.BEAN_NAME)
             final OidcConfigurationContext oidcConfigurationContext) {
-            return new OidcJwksEndpointController(oidcConfigurationContext, oidcJsonWebKeystoreGeneratorService);
+            return new OidcJwksEndpointController(oidcConfigurationContext, oidcJsonWebKeySetDocumentCache);
         }
 
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
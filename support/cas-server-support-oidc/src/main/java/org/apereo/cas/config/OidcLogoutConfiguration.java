@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
@@ -18,6 +19,7 @@ import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -88,14 +90,19 @@ class OidcLogoutConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient httpClient,
             @Qualifier(OidcIssuerService.BEAN_NAME)
-            final OidcIssuerService oidcIssuerService) {
-            return new OidcSingleLogoutServiceMessageHandler(httpClient,
+            final OidcIssuerService oidcIssuerService,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher) {
+            val slo = casProperties.getSlo();
+            val handler = new OidcSingleLogoutServiceMessageHandler(httpClient,
                 oidcSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
-                casProperties.getSlo().isAsynchronous(),
+                slo.isAsynchronous() && !slo.getOutbox().isEnabled(),
                 authenticationServiceSelectionPlan,
                 oidcIssuerService);
+            singleLogoutMessageDispatcher.ifAvailable(handler::setMessageDispatcher);
+            return handler;
         }
 
     }
@@ -0,0 +1,93 @@
+package org.apereo.cas.oidc.jwks;
+
+import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.oidc.OidcConstants;
+import org.apereo.cas.oidc.jwks.rotation.OidcJsonWebKeystoreRotatedEvent;
+import org.apereo.cas.oidc.web.controllers.jwks.OidcJwksEndpointController;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+
+import lombok.val;
+import org.jose4j.jwk.JsonWebKeySet;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link OidcDefaultJsonWebKeySetDocumentCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("OIDC")
+@TestPropertySource(properties = {
+    "cas.authn.oidc.jwks.core.jwks-document-cache-enabled=true",
+    "cas.authn.oidc.jwks.core.jwks-document-max-age=PT10M"
+})
+class OidcDefaultJsonWebKeySetDocumentCacheTests extends AbstractOidcTests {
+    @Autowired
+    @Qualifier(OidcJsonWebKeySetDocumentCache.BEAN_NAME)
+    private OidcJsonWebKeySetDocumentCache oidcJsonWebKeySetDocumentCache;
+
+    @Autowired
+    @Qualifier("oidcJwksController")
+    private OidcJwksEndpointController oidcJwksEndpointController;
+
+    @Autowired
+    private ConfigurableApplicationContext realApplicationContext;
+
+    @Test
+    void verifyDocumentServedWithEntityTag() throws Throwable {
+        val response = new MockHttpServletResponse();
+        val result = oidcJwksEndpointController.handleRequestInternal(getHttpRequestForEndpoint(OidcConstants.JWKS_URL), response, null);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        val etag = result.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals("max-age=600, public", result.getHeaders().getCacheControl());
+        assertFalse(new JsonWebKeySet(result.getBody().toString()).getJsonWebKeys().isEmpty());
+
+        val request = getHttpRequestForEndpoint(OidcConstants.JWKS_URL);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"unknown\", W/" + etag);
+        val notModified = oidcJwksEndpointController.handleRequestInternal(request, new MockHttpServletResponse(), null);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(etag, notModified.getHeaders().getETag());
+        assertNull(notModified.getBody());
+    }
+
+    @Test
+    void verifyDocumentRebuiltOnRotation() throws Throwable {
+        val document = oidcJsonWebKeySetDocumentCache.getDocument("current");
+        assertSame(document, oidcJsonWebKeySetDocumentCache.getDocument("CURRENT"));
+        realApplicationContext.publishEvent(new OidcJsonWebKeystoreRotatedEvent(this, new JsonWebKeySet(), null));
+        val rebuilt = oidcJsonWebKeySetDocumentCache.getDocument("current");
+        assertNotSame(document, rebuilt);
+        assertTrue(rebuilt.version() > document.version());
+        assertEquals(document.etag(), rebuilt.etag());
+    }
+
+    @Test
+    void verifyDocumentKeptWhenServiceKeystoresUnchanged() throws Throwable {
+        val services = List.<RegisteredService>of(getOidcRegisteredService("client-jwks"));
+        realApplicationContext.publishEvent(new CasRegisteredServicesLoadedEvent(this, services, null));
+        val document = oidcJsonWebKeySetDocumentCache.getDocument(null);
+        realApplicationContext.publishEvent(new CasRegisteredServicesLoadedEvent(this, services, null));
+        assertSame(document, oidcJsonWebKeySetDocumentCache.getDocument(null));
+    }
+
+    @Test
+    void verifyUnknownStateProducesEmptyDocument() throws Throwable {
+        val document = oidcJsonWebKeySetDocumentCache.getDocument("unknown");
+        assertTrue(new JsonWebKeySet(document.body()).getJsonWebKeys().isEmpty());
+        assertEquals(document.etag(), oidcJsonWebKeySetDocumentCache.getDocument("unknown").etag());
+    }
+}
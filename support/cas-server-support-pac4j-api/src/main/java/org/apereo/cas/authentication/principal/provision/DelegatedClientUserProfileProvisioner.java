@@ -32,6 +32,23 @@ public interface DelegatedClientUserProfileProvisioner {
                          final BaseClient client, final Credential credential) throws Throwable {
     }
 
+    /**
+     * Provision the principal and report whether provisioning succeeded,
+     * so that failed attempts may be retried by the caller.
+     *
+     * @param principal  the principal
+     * @param profile    the profile
+     * @param client     the client
+     * @param credential the credential
+     * @return true if the principal was provisioned
+     * @throws Throwable the throwable
+     */
+    default boolean provision(final Principal principal, final UserProfile profile,
+                              final BaseClient client, final Credential credential) throws Throwable {
+        execute(principal, profile, client, credential);
+        return true;
+    }
+
     /**
      * No op delegated client user profile provisioner.
      *
@@ -0,0 +1,87 @@
+package org.apereo.cas.authentication.principal.provision;
+
+import org.apereo.cas.authentication.Credential;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.pac4j.core.client.BaseClient;
+import org.pac4j.core.profile.UserProfile;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is {@link QueuedDelegatedClientUserProfileProvisioner} that places
+ * provisioning requests for profiles returned by external identity providers
+ * into the {@link PrincipalProvisioningQueue}, so that delegated authentication
+ * does not wait for the provisioning target to respond.
+ * All requests are queued for the same provisioner, so that the queue can batch them;
+ * the profile and client of each principal are kept aside until the principal is provisioned.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class QueuedDelegatedClientUserProfileProvisioner extends BaseDelegatedClientUserProfileProvisioner {
+    private final DelegatedClientUserProfileProvisioner delegate;
+
+    private final PrincipalProvisioningQueue queue;
+
+    private final String name;
+
+    private final PrincipalProvisioner provisioner = this::provisionQueued;
+
+    private final Map<String, DelegatedProfile> profiles;
+
+    public QueuedDelegatedClientUserProfileProvisioner(final DelegatedClientUserProfileProvisioner delegate,
+                                                       final PrincipalProvisioningQueue queue,
+                                                       final String name) {
+        this.delegate = delegate;
+        this.queue = queue;
+        this.name = name;
+        val capacity = queue.getProperties().getCapacity() + queue.getProperties().getDeadLetterCapacity();
+        this.profiles = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, DelegatedProfile> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    @Override
+    public void execute(final Principal principal, final UserProfile profile,
+                        final BaseClient client, final Credential credential) throws Throwable {
+        val request = PrincipalProvisioningRequest.of(principal, credential);
+        profiles.put(principal.getId(), new DelegatedProfile(profile, client));
+        if (!queue.submit(name + ':' + principal.getId(), provisioner, request)) {
+            profiles.remove(principal.getId());
+            delegate.execute(principal, profile, client, credential);
+        }
+    }
+
+    private boolean provisionQueued(final Principal principal, final Credential credential) {
+        val delegatedProfile = profiles.get(principal.getId());
+        if (delegatedProfile == null) {
+            LOGGER.warn("Unable to locate the delegated profile of [{}] to provision", principal.getId());
+            return false;
+        }
+        try {
+            val provisioned = delegate.provision(principal, delegatedProfile.profile(), delegatedProfile.client(), credential);
+            if (provisioned) {
+                profiles.remove(principal.getId(), delegatedProfile);
+            }
+            return provisioned;
+        } catch (final Throwable e) {
+            LoggingUtils.error(LOGGER, e);
+            return false;
+        }
+    }
+
+    private record DelegatedProfile(UserProfile profile, BaseClient client) {
+    }
+}
@@ -31,6 +31,12 @@ public class RestfulDelegatedClientUserProfileProvisioner extends BaseDelegatedC
     @Override
     public void execute(final Principal principal, final UserProfile profile,
                         final BaseClient client, final Credential credential) {
+        provision(principal, profile, client, credential);
+    }
+
+    @Override
+    public boolean provision(final Principal principal, final UserProfile profile,
+                             final BaseClient client, final Credential credential) {
         HttpResponse response = null;
         try {
             val headers = new HashMap<String, String>();
@@ -54,11 +60,13 @@ public class RestfulDelegatedClientUserProfileProvisioner extends BaseDelegatedC
             if (response != null) {
                 val status = HttpStatus.valueOf(response.getCode());
                 LOGGER.debug("Provisioned principal [{}] with status result [{}]", principal.getId(), status);
+                return status.is2xxSuccessful();
             }
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
         } finally {
             HttpUtils.close(response);
         }
+        return false;
     }
 }
@@ -3,6 +3,8 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.principal.PrincipalProvisioner;
 import org.apereo.cas.authentication.principal.provision.DelegatedClientUserProfileProvisioner;
 import org.apereo.cas.authentication.principal.provision.GroovyDelegatedClientUserProfileProvisioner;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
+import org.apereo.cas.authentication.principal.provision.QueuedDelegatedClientUserProfileProvisioner;
 import org.apereo.cas.authentication.principal.provision.RestfulDelegatedClientUserProfileProvisioner;
 import org.apereo.cas.authentication.principal.provision.ScimDelegatedClientUserProfileProvisioner;
 import org.apereo.cas.configuration.CasConfigurationProperties;
@@ -86,11 +88,18 @@ class DelegatedAuthenticationProvisioningConfiguration {
         @ConditionalOnMissingBean(name = "restDelegatedClientUserProfileProvisioner")
         public Supplier<DelegatedClientUserProfileProvisioner> restDelegatedClientUserProfileProvisioner(
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier(PrincipalProvisioningQueue.BEAN_NAME)
+            final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue,
             final CasConfigurationProperties casProperties) throws Exception {
             return BeanSupplier.of(Supplier.class)
                 .when(BeanCondition.on("cas.authn.pac4j.provisioning.rest.url").isUrl().given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val provisioning = casProperties.getAuthn().getPac4j().getProvisioning();
+                    val queue = principalProvisioningQueue.getIfAvailable();
+                    if (queue != null && casProperties.getAuthn().getCore().getProvisioning().isEnabled()) {
+                        return () -> new QueuedDelegatedClientUserProfileProvisioner(
+                            new RestfulDelegatedClientUserProfileProvisioner(provisioning.getRest()), queue, "rest");
+                    }
                     return () -> new RestfulDelegatedClientUserProfileProvisioner(provisioning.getRest());
                 })
                 .otherwiseProxy()
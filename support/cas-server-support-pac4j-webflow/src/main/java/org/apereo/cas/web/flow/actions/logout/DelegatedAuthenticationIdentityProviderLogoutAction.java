@@ -57,6 +57,7 @@ public class DelegatedAuthenticationIdentityProviderLogoutAction extends BaseCas
                     val logoutResponse = HttpUtils.execute(exec);
                     FunctionUtils.doIf(logoutResponse == null || HttpStatus.valueOf(logoutResponse.getCode()).isError(),
                         r -> LOGGER.warn("Submitting logout response to [{}] failed with response [{}]", continuation.getUrl(), r)).accept(logoutResponse);
+                    HttpUtils.close(logoutResponse);
                     request.removeAttribute(SingleLogoutContinuation.class.getName());
                 });
             return new Event(this, CasWebflowConstants.TRANSITION_ID_DONE);
@@ -5,11 +5,14 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.impl.account.LdapPasswordlessUserAccountStore;
 import org.apereo.cas.util.LdapConnectionFactory;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -33,13 +36,15 @@ public class CasLdapPasswordlessAuthenticationAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "ldapPasswordlessUserAccountStore")
     public BeanSupplier<PasswordlessUserAccountStore> ldapPasswordlessUserAccountStore(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
         final ConfigurableApplicationContext applicationContext,
         final CasConfigurationProperties casProperties) {
         return BeanSupplier.of(PasswordlessUserAccountStore.class)
             .when(BeanCondition.on("cas.authn.passwordless.accounts.ldap.ldap-url").given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val ldap = casProperties.getAuthn().getPasswordless().getAccounts().getLdap();
-                val connectionFactory = LdapUtils.newLdaptivePooledConnectionFactory(ldap);
+                val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable());
                 return new LdapPasswordlessUserAccountStore(new LdapConnectionFactory(connectionFactory), ldap);
             })
             .otherwiseNull();
@@ -31,6 +31,8 @@ import java.util.Set;
  * called and the first that returns a result is used as the seed to the remaining child DAOs.  This is the default
  * to support legacy behavior.</li>
  * </ul>
+ * Child DAOs are always queried sequentially, even when parallel execution is enabled,
+ * since each DAO is queried with the results of the DAOs before it.
  *
  * @author Eric Dalquist
  * @since 7.1.0
@@ -55,6 +57,17 @@ public class CascadingPersonAttributeDao extends AbstractAggregatingDefaultQuery
         setAttributeMerger(new ReplacingAttributeAdder());
     }
 
+    /**
+     * Each child DAO is queried with the results of the previous DAO,
+     * so child DAOs are always queried one after another.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isParallelExecutionSupported() {
+        return false;
+    }
+
     /**
      * If this is the first call, or there are no results in the resultPeople Set and stopIfFirstDaoReturnsNull=false,
      * the seed map is used. If not the attributes of the first user in the resultPeople Set are used for each child
@@ -0,0 +1,66 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.authentication.attribute.SimplePersonAttributes;
+import org.apereo.cas.authentication.attribute.StubPersonAttributeDao;
+import org.apereo.cas.authentication.principal.attribute.PersonAttributeDaoFilter;
+import org.apereo.cas.authentication.principal.attribute.PersonAttributes;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CascadingPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Attributes")
+class CascadingPersonAttributeDaoTests {
+
+    @Test
+    void verifyParallelExecutionKeepsCascading() {
+        val queries = new ArrayList<Map<String, List<Object>>>();
+        val first = new RecordingPersonAttributeDao(Map.of("username", List.of("casuser"), "mail", List.of("casuser@example.org")), queries);
+        val second = new RecordingPersonAttributeDao(Map.of("department", List.of("engineering")), queries);
+        val third = new RecordingPersonAttributeDao(Map.of("phone", List.of("555-5555")), queries);
+
+        val dao = new CascadingPersonAttributeDao();
+        dao.setPersonAttributeDaos(List.of(first, second, third));
+        dao.setParallel(true);
+
+        val people = dao.getPeopleWithMultivaluedAttributes(Map.of("username", List.of("casuser")));
+        assertEquals(1, people.size());
+        assertEquals(3, queries.size());
+        assertTrue(queries.get(1).containsKey("mail"));
+        assertTrue(queries.get(2).containsKey("mail"));
+        assertTrue(queries.get(2).containsKey("department"));
+        val attributes = people.iterator().next().getAttributes();
+        assertTrue(attributes.containsKey("phone"));
+    }
+
+    private static final class RecordingPersonAttributeDao extends StubPersonAttributeDao {
+        private final List<Map<String, List<Object>>> queries;
+
+        RecordingPersonAttributeDao(final Map<String, List<Object>> backingMap,
+                                    final List<Map<String, List<Object>>> queries) {
+            super(backingMap);
+            this.queries = queries;
+        }
+
+        @Override
+        public Set<PersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                        final PersonAttributeDaoFilter filter,
+                                                                        final Set<PersonAttributes> resultPeople) {
+            queries.add(new HashMap<>(query));
+            val attributes = new HashMap<>(query);
+            attributes.putAll(getBackingMap());
+            return Set.of(new SimplePersonAttributes(attributes));
+        }
+    }
+}
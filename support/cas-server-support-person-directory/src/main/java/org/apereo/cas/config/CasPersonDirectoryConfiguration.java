@@ -15,6 +15,8 @@ import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipa
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.monitor.ExecutableObserver;
 import org.apereo.cas.persondir.CascadingPersonAttributeDao;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
@@ -205,7 +207,8 @@ class CasPersonDirectoryConfiguration {
             final AttributeMerger attributeRepositoryAttributeMerger,
             final CasConfigurationProperties casProperties,
             @Qualifier("personDirectoryAttributeRepositoryPlan")
-            final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan) {
+            final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan,
+            final ObjectProvider<ExecutableObserver> executableObserver) {
             val aggregate = getAggregateAttributeRepository(casProperties);
             aggregate.setAttributeMerger(attributeRepositoryAttributeMerger);
 
@@ -228,6 +231,10 @@ class CasPersonDirectoryConfiguration {
             aggregate.setRecoverExceptions(recoverExceptions);
             LOGGER.trace("Configured attribute repository to recover from exceptions: [{}]", recoverExceptions);
 
+            aggregate.setParallel(properties.getCore().isParallelExecution());
+            aggregate.setParallelTimeout(Beans.newDuration(properties.getCore().getParallelExecutionTimeout()));
+            aggregate.setExecutableObserver(executableObserver.getIfAvailable());
+
             return aggregate;
         }
 
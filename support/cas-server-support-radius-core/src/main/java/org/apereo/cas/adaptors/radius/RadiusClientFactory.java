@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.model.support.radius.RadiusClientProperties;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.val;
@@ -22,6 +23,7 @@ import java.net.InetAddress;
  * @since 4.0.0
  */
 @ToString(exclude = {"sharedSecret", "sslContext"})
+@EqualsAndHashCode
 @SuperBuilder
 public class RadiusClientFactory implements Serializable {
 
@@ -0,0 +1,301 @@
+package org.apereo.cas.adaptors.radius;
+
+import org.apereo.cas.configuration.model.support.radius.RadiusClientPoolProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.jradius.client.RadiusClient;
+import net.jradius.dictionary.Attr_UserName;
+import net.jradius.dictionary.Attr_UserPassword;
+import net.jradius.packet.AccessRequest;
+import net.jradius.packet.attribute.AttributeList;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serial;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link RadiusClientPool} that keeps long-lived RADIUS clients for a single server,
+ * so that requests reuse existing sockets instead of opening a new socket for every request.
+ * Requests are spread across the pooled clients with one request in flight per client,
+ * which bounds the number of concurrent requests sent to the server.
+ * Replies whose identifier does not match the request are discarded along with the client
+ * that received them, and the request is sent again on a new client.
+ * <p>
+ * The pool also tracks the health of the server. Consecutive failures mark the server
+ * as unavailable, after which it is probed in the background until it answers again.
+ * Without a probe, the server is tried again once per probe interval, and every failed attempt
+ * starts a new interval. The observed latency of successful requests is kept as a moving average.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class RadiusClientPool implements AutoCloseable {
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+
+    private final RadiusClientFactory clientFactory;
+
+    @Getter
+    private final RadiusClientPoolProperties properties;
+
+    private final Deque<RadiusClient> idleClients = new ConcurrentLinkedDeque<>();
+
+    private final Semaphore permits;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicBoolean probeScheduled = new AtomicBoolean();
+
+    private final LongAdder createdClients = new LongAdder();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder staleResponses = new LongAdder();
+
+    private final ScheduledExecutorService probeScheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("RadiusClientPoolProbe-", 0).factory());
+
+    private volatile long unavailableSince;
+
+    private volatile double averageLatencyMillis;
+
+    private volatile boolean closed;
+
+    public RadiusClientPool(final RadiusClientFactory clientFactory, final RadiusClientPoolProperties properties) {
+        this.clientFactory = clientFactory;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConnections(), true);
+    }
+
+    /**
+     * Execute the request with a pooled client.
+     *
+     * @param <T>      the type parameter
+     * @param callback the callback
+     * @return the result
+     * @throws Exception the exception
+     */
+    public <T> T execute(final RadiusClientCallback<T> callback) throws Exception {
+        val acquireTimeout = Beans.newDuration(properties.getAcquireTimeout()).toMillis();
+        if (!permits.tryAcquire(acquireTimeout, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("No RADIUS client became available for " + clientFactory + " within " + acquireTimeout + "ms");
+        }
+        try {
+            try {
+                return executeWithClient(callback);
+            } catch (final StaleResponseException e) {
+                LOGGER.debug("Sending request to [{}] again after discarding a stale response", clientFactory);
+                return executeWithClient(callback);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Whether the server should be tried before servers that are known to be unavailable.
+     *
+     * @return true/false
+     */
+    public boolean isAvailable() {
+        if (unavailableSince == 0) {
+            return true;
+        }
+        if (StringUtils.isBlank(properties.getProbeUsername())) {
+            val probeInterval = Beans.newDuration(properties.getProbeInterval()).toMillis();
+            return System.currentTimeMillis() - unavailableSince >= probeInterval;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the moving average of the latency of successful requests.
+     *
+     * @return the latency in milliseconds
+     */
+    public double getAverageLatency() {
+        return averageLatencyMillis;
+    }
+
+    /**
+     * Gets pool statistics.
+     *
+     * @return the statistics
+     */
+    public RadiusClientPoolStatistics getStatistics() {
+        return new RadiusClientPoolStatistics(isAvailable(), idleClients.size(), createdClients.sum(),
+            requests.sum(), failures.sum(), staleResponses.sum(), averageLatencyMillis);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        probeScheduler.shutdownNow();
+        RadiusClient client;
+        while ((client = idleClients.pollFirst()) != null) {
+            client.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '[' + clientFactory + ']';
+    }
+
+    private <T> T executeWithClient(final RadiusClientCallback<T> callback) throws Exception {
+        val client = borrowClient();
+        val startTime = System.nanoTime();
+        requests.increment();
+        try {
+            val result = callback.execute(client);
+            recordSuccess(System.nanoTime() - startTime);
+            if (closed) {
+                client.close();
+            } else {
+                idleClients.offerFirst(client);
+            }
+            return result;
+        } catch (final StaleResponseException e) {
+            staleResponses.increment();
+            client.close();
+            throw e;
+        } catch (final Exception e) {
+            client.close();
+            recordFailure();
+            throw e;
+        }
+    }
+
+    private RadiusClient borrowClient() {
+        val client = idleClients.pollFirst();
+        if (client != null) {
+            return client;
+        }
+        createdClients.increment();
+        return clientFactory.newInstance();
+    }
+
+    private void recordSuccess(final long nanos) {
+        val latency = TimeUnit.NANOSECONDS.toMicros(nanos) / 1000.0D;
+        averageLatencyMillis = averageLatencyMillis == 0
+            ? latency
+            : averageLatencyMillis + LATENCY_SMOOTHING_FACTOR * (latency - averageLatencyMillis);
+        consecutiveFailures.set(0);
+        if (unavailableSince != 0) {
+            LOGGER.info("RADIUS server [{}] is available again", clientFactory);
+            unavailableSince = 0;
+        }
+    }
+
+    private void recordFailure() {
+        failures.increment();
+        val failureCount = consecutiveFailures.incrementAndGet();
+        if (unavailableSince != 0) {
+            LOGGER.debug("RADIUS server [{}] is still unavailable", clientFactory);
+            unavailableSince = System.currentTimeMillis();
+        } else if (failureCount >= properties.getFailureThreshold()) {
+            LOGGER.warn("RADIUS server [{}] failed [{}] consecutive requests and is marked as unavailable",
+                clientFactory, consecutiveFailures.get());
+            unavailableSince = System.currentTimeMillis();
+            scheduleProbe();
+        }
+    }
+
+    private void scheduleProbe() {
+        if (!closed && StringUtils.isNotBlank(properties.getProbeUsername()) && probeScheduled.compareAndSet(false, true)) {
+            val probeInterval = Beans.newDuration(properties.getProbeInterval()).toMillis();
+            probeScheduler.schedule(this::probe, probeInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void probe() {
+        probeScheduled.set(false);
+        if (closed || unavailableSince == 0) {
+            return;
+        }
+        RadiusClient client = null;
+        try {
+            client = clientFactory.newInstance();
+            val attributes = new AttributeList();
+            attributes.add(new Attr_UserName(properties.getProbeUsername()));
+            attributes.add(new Attr_UserPassword(StringUtils.defaultString(properties.getProbePassword())));
+            val startTime = System.nanoTime();
+            val response = client.authenticate(new AccessRequest(client, attributes),
+                RadiusClient.getAuthProtocol(RadiusProtocol.PAP.getName()), 1);
+            if (response != null) {
+                LOGGER.debug("RADIUS server [{}] answered probe with [{}]", clientFactory, response.getCode());
+                recordSuccess(System.nanoTime() - startTime);
+                return;
+            }
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, "RADIUS server " + clientFactory + " did not answer probe", e);
+        } finally {
+            if (client != null) {
+                client.close();
+            }
+        }
+        scheduleProbe();
+    }
+
+    /**
+     * Callback that sends a request using a pooled client.
+     *
+     * @param <T> the type parameter
+     */
+    @FunctionalInterface
+    public interface RadiusClientCallback<T> {
+        /**
+         * Execute the request.
+         *
+         * @param client the client
+         * @return the result
+         * @throws Exception the exception
+         */
+        T execute(RadiusClient client) throws Exception;
+    }
+
+    /**
+     * Thrown when a reply does not belong to the request that was sent.
+     * The client that received it is discarded, since further stale replies
+     * may be waiting on its socket.
+     */
+    public static class StaleResponseException extends Exception {
+        @Serial
+        private static final long serialVersionUID = -3518215047612356190L;
+
+        public StaleResponseException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Pool statistics.
+     *
+     * @param available            whether the server is available
+     * @param idleConnections      the number of idle clients
+     * @param createdConnections   the number of clients created
+     * @param requests             the number of requests sent
+     * @param failures             the number of failed requests
+     * @param staleResponses       the number of stale replies discarded
+     * @param averageLatencyMillis the moving average latency
+     */
+    public record RadiusClientPoolStatistics(boolean available, int idleConnections, long createdConnections,
+                                             long requests, long failures, long staleResponses,
+                                             double averageLatencyMillis) {
+    }
+}
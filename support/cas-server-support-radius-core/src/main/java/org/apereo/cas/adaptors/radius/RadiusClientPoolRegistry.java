@@ -0,0 +1,52 @@
+package org.apereo.cas.adaptors.radius;
+
+import org.apereo.cas.configuration.model.support.radius.RadiusClientPoolProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link RadiusClientPoolRegistry} that hands out a single {@link RadiusClientPool}
+ * for each RADIUS client configuration, so that all servers built from the same client settings
+ * share their pooled clients. Pools are closed once the registry is destroyed, which happens
+ * when the application context is refreshed or shut down; servers built afterwards
+ * receive new pools from the new registry.
+ * When pools are requested for the same client settings with different pool settings,
+ * the pool settings of the first request apply.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class RadiusClientPoolRegistry implements DisposableBean {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "radiusClientPoolRegistry";
+
+    private final Map<RadiusClientFactory, RadiusClientPool> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Gets or create the pool for the client factory.
+     *
+     * @param clientFactory the client factory
+     * @param properties    the pool properties
+     * @return the pool, or null if pooling is disabled
+     */
+    public RadiusClientPool getPool(final RadiusClientFactory clientFactory, final RadiusClientPoolProperties properties) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        return pools.computeIfAbsent(clientFactory, __ -> new RadiusClientPool(clientFactory, properties));
+    }
+
+    @Override
+    public void destroy() {
+        LOGGER.debug("Closing [{}] RADIUS client pool(s)", pools.size());
+        pools.values().forEach(RadiusClientPool::close);
+        pools.clear();
+    }
+}
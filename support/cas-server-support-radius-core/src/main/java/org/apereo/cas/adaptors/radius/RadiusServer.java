@@ -50,4 +50,24 @@ public interface RadiusServer extends Serializable {
      */
     CasRadiusResponse authenticate(String username, String password, Optional state) throws Exception;
 
+    /**
+     * Whether the server is known to be available.
+     * Servers that are not available are tried after all others.
+     *
+     * @return true/false
+     */
+    default boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Gets the observed average latency of the server, if tracked.
+     * Servers whose latency is not measured yet report zero and are tried after measured servers.
+     *
+     * @return the latency in milliseconds
+     */
+    default double getAverageLatency() {
+        return 0;
+    }
+
 }
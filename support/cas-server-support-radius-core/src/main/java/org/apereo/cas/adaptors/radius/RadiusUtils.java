@@ -9,6 +9,7 @@ import net.jradius.packet.attribute.RadiusAttribute;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.security.auth.login.FailedLoginException;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,7 +27,9 @@ import java.util.stream.Collectors;
 public class RadiusUtils {
 
     /**
-     * Authenticate pair.
+     * Authenticate pair. Servers are tried in the order in which they are given,
+     * unless they track their health and latency, in which case available servers
+     * are tried first, fastest first, followed by servers whose latency is not measured yet.
      *
      * @param username                        the username
      * @param password                        the password
@@ -43,7 +46,12 @@ public class RadiusUtils {
                                                                             final boolean failoverOnAuthenticationFailure,
                                                                             final boolean failoverOnException,
                                                                             final Optional state) throws Exception {
-        for (val radiusServer : servers) {
+        val orderedServers = servers.stream()
+            .sorted(Comparator.comparing((RadiusServer server) -> !server.isAvailable())
+                .thenComparing(server -> server.getAverageLatency() <= 0)
+                .thenComparingDouble(RadiusServer::getAverageLatency))
+            .toList();
+        for (val radiusServer : orderedServers) {
             LOGGER.debug("Attempting to authenticate [{}] at [{}]", username, radiusServer);
             try {
                 val response = radiusServer.authenticate(username, password, state);
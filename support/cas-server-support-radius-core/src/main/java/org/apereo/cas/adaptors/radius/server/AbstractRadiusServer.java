@@ -1,6 +1,7 @@
 package org.apereo.cas.adaptors.radius.server;
 
 import org.apereo.cas.adaptors.radius.CasRadiusResponse;
+import org.apereo.cas.adaptors.radius.RadiusClientPool;
 import org.apereo.cas.adaptors.radius.RadiusServer;
 
 import lombok.AccessLevel;
@@ -110,27 +111,56 @@ public abstract class AbstractRadiusServer implements RadiusServer {
         if (configurationContext.getNasPortType() != -1) {
             attributeList.add(new Attr_NASPortType(configurationContext.getNasPortType()));
         }
+        val pool = configurationContext.getRadiusClientPool();
+        if (pool != null) {
+            return pool.execute(client -> {
+                val request = new AccessRequest(client, attributeList);
+                val response = sendRequest(client, request);
+                if (response.getIdentifier() != request.getIdentifier()) {
+                    throw new RadiusClientPool.StaleResponseException("RADIUS response identifier " + response.getIdentifier()
+                        + " does not match request identifier " + request.getIdentifier());
+                }
+                return toCasRadiusResponse(response);
+            });
+        }
         val client = configurationContext.getRadiusClientFactory().newInstance();
         try {
-            val request = new AccessRequest(client, attributeList);
-            LOGGER.debug("RADIUS access request prepared as [{}]", request.toString(true, true));
-
-            val response = authenticateRequest(client, request);
-            LOGGER.debug("RADIUS response from [{}]: [{}] as [{}]", client.getRemoteInetAddress().getCanonicalHostName(),
-                response.getClass().getName(), response.toString(true, true));
-
-            if (response instanceof AccessAccept || response instanceof AccessChallenge) {
-                val attributes = response.getAttributes().getAttributeList();
-                LOGGER.debug("Radius response code [{}] accepted with attributes [{}] and identifier [{}]",
-                    response.getCode(), attributes, response.getIdentifier());
-                return new CasRadiusResponse(response.getCode(), response.getIdentifier(), attributes);
-            }
-            LOGGER.warn("Response [{}] is not recognized", response);
+            return toCasRadiusResponse(sendRequest(client, new AccessRequest(client, attributeList)));
         } finally {
             if (client != null) {
                 client.close();
             }
         }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        val pool = configurationContext.getRadiusClientPool();
+        return pool == null || pool.isAvailable();
+    }
+
+    @Override
+    public double getAverageLatency() {
+        val pool = configurationContext.getRadiusClientPool();
+        return pool == null ? 0 : pool.getAverageLatency();
+    }
+
+    private RadiusResponse sendRequest(final RadiusClient client, final AccessRequest request) throws Exception {
+        LOGGER.debug("RADIUS access request prepared as [{}]", request.toString(true, true));
+        val response = authenticateRequest(client, request);
+        LOGGER.debug("RADIUS response from [{}]: [{}] as [{}]", client.getRemoteInetAddress().getCanonicalHostName(),
+            response.getClass().getName(), response.toString(true, true));
+        return response;
+    }
+
+    private static CasRadiusResponse toCasRadiusResponse(final RadiusResponse response) {
+        if (response instanceof AccessAccept || response instanceof AccessChallenge) {
+            val attributes = response.getAttributes().getAttributeList();
+            LOGGER.debug("Radius response code [{}] accepted with attributes [{}] and identifier [{}]",
+                response.getCode(), attributes, response.getIdentifier());
+            return new CasRadiusResponse(response.getCode(), response.getIdentifier(), attributes);
+        }
+        LOGGER.warn("Response [{}] is not recognized", response);
         return null;
     }
 
@@ -1,6 +1,7 @@
 package org.apereo.cas.adaptors.radius.server;
 
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
+import org.apereo.cas.adaptors.radius.RadiusClientPool;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 
 import lombok.Builder;
@@ -29,6 +30,13 @@ public class RadiusServerConfigurationContext implements Serializable {
     private final RadiusProtocol protocol;
     private final RadiusClientFactory radiusClientFactory;
 
+    /**
+     * Long-lived clients for the server, if requests
+     * should not create a new client every time.
+     */
+    @ToString.Exclude
+    private final transient RadiusClientPool radiusClientPool;
+
     private final String nasIpAddress;
     private final String nasIpv6Address;
     private final String nasIdentifier;
@@ -0,0 +1,179 @@
+package org.apereo.cas.adaptors.radius;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.ByteArrayOutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is {@link MockRadiusServer}, a minimal in-JVM RADIUS server
+ * that answers PAP access requests and status-server requests over UDP.
+ * It is used by tests and benchmarks in place of an external RADIUS server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class MockRadiusServer implements AutoCloseable {
+    private static final int CODE_ACCESS_REQUEST = 1;
+
+    private static final int CODE_ACCESS_ACCEPT = 2;
+
+    private static final int CODE_ACCESS_REJECT = 3;
+
+    private static final int CODE_STATUS_SERVER = 12;
+
+    private static final int ATTR_USER_NAME = 1;
+
+    private static final int ATTR_USER_PASSWORD = 2;
+
+    private static final int ATTR_REPLY_MESSAGE = 18;
+
+    private static final int HEADER_LENGTH = 20;
+
+    private static final int AUTHENTICATOR_LENGTH = 16;
+
+    private final DatagramSocket socket;
+
+    private final byte[] sharedSecret;
+
+    private final Map<String, String> accounts;
+
+    private final Thread listener;
+
+    @Getter
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * When set, requests are received but never answered.
+     */
+    @Setter
+    private volatile boolean unresponsive;
+
+    public MockRadiusServer(final String sharedSecret, final Map<String, String> accounts) throws Exception {
+        this.socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        this.sharedSecret = sharedSecret.getBytes(StandardCharsets.UTF_8);
+        this.accounts = accounts;
+        this.listener = Thread.ofVirtual().name("MockRadiusServer").start(this::listen);
+    }
+
+    public int getPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+        listener.interrupt();
+    }
+
+    private void listen() {
+        val buffer = new byte[4096];
+        while (!socket.isClosed()) {
+            try {
+                val packet = new DatagramPacket(buffer, buffer.length);
+                socket.receive(packet);
+                requests.incrementAndGet();
+                if (!unresponsive) {
+                    val reply = handle(Arrays.copyOf(packet.getData(), packet.getLength()));
+                    if (reply != null) {
+                        socket.send(new DatagramPacket(reply, reply.length, packet.getSocketAddress()));
+                    }
+                }
+            } catch (final SocketException e) {
+                return;
+            } catch (final Exception e) {
+                LOGGER.debug("Unable to handle RADIUS request", e);
+            }
+        }
+    }
+
+    private byte[] handle(final byte[] request) throws Exception {
+        val code = request[0] & 0xFF;
+        val requestAuthenticator = Arrays.copyOfRange(request, 4, HEADER_LENGTH);
+        if (code == CODE_STATUS_SERVER) {
+            return buildResponse(CODE_ACCESS_ACCEPT, request[1], requestAuthenticator, "Alive");
+        }
+        if (code != CODE_ACCESS_REQUEST) {
+            return null;
+        }
+        String username = null;
+        String password = null;
+        val length = ((request[2] & 0xFF) << 8) | (request[3] & 0xFF);
+        var offset = HEADER_LENGTH;
+        while (offset + 2 <= length) {
+            val type = request[offset] & 0xFF;
+            val attributeLength = request[offset + 1] & 0xFF;
+            if (attributeLength < 2) {
+                break;
+            }
+            val value = Arrays.copyOfRange(request, offset + 2, offset + attributeLength);
+            if (type == ATTR_USER_NAME) {
+                username = new String(value, StandardCharsets.UTF_8);
+            } else if (type == ATTR_USER_PASSWORD) {
+                password = decryptPassword(value, requestAuthenticator);
+            }
+            offset += attributeLength;
+        }
+        val accepted = username != null && password != null && password.equals(accounts.get(username));
+        return accepted
+            ? buildResponse(CODE_ACCESS_ACCEPT, request[1], requestAuthenticator, "Welcome " + username)
+            : buildResponse(CODE_ACCESS_REJECT, request[1], requestAuthenticator, "Rejected");
+    }
+
+    private String decryptPassword(final byte[] encrypted, final byte[] requestAuthenticator) throws Exception {
+        val result = new byte[encrypted.length];
+        var previous = requestAuthenticator;
+        for (var i = 0; i < encrypted.length; i += AUTHENTICATOR_LENGTH) {
+            val digest = MessageDigest.getInstance("MD5");
+            digest.update(sharedSecret);
+            digest.update(previous);
+            val hash = digest.digest();
+            for (var j = 0; j < AUTHENTICATOR_LENGTH && i + j < encrypted.length; j++) {
+                result[i + j] = (byte) (encrypted[i + j] ^ hash[j]);
+            }
+            previous = Arrays.copyOfRange(encrypted, i, Math.min(i + AUTHENTICATOR_LENGTH, encrypted.length));
+        }
+        var end = result.length;
+        while (end > 0 && result[end - 1] == 0) {
+            end--;
+        }
+        return new String(result, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private byte[] buildResponse(final int code, final byte identifier,
+                                 final byte[] requestAuthenticator, final String message) throws Exception {
+        val attributes = new ByteArrayOutputStream();
+        val messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        attributes.write(ATTR_REPLY_MESSAGE);
+        attributes.write(messageBytes.length + 2);
+        attributes.write(messageBytes);
+        val attributeBytes = attributes.toByteArray();
+        val length = HEADER_LENGTH + attributeBytes.length;
+
+        val response = new byte[length];
+        response[0] = (byte) code;
+        response[1] = identifier;
+        response[2] = (byte) (length >> 8);
+        response[3] = (byte) length;
+        System.arraycopy(requestAuthenticator, 0, response, 4, AUTHENTICATOR_LENGTH);
+        System.arraycopy(attributeBytes, 0, response, HEADER_LENGTH, attributeBytes.length);
+
+        val digest = MessageDigest.getInstance("MD5");
+        digest.update(response);
+        digest.update(sharedSecret);
+        System.arraycopy(digest.digest(), 0, response, 4, AUTHENTICATOR_LENGTH);
+        return response;
+    }
+}
@@ -0,0 +1,135 @@
+package org.apereo.cas.adaptors.radius;
+
+import org.apereo.cas.adaptors.radius.server.BlockingRadiusServer;
+import org.apereo.cas.adaptors.radius.server.RadiusServerConfigurationContext;
+import org.apereo.cas.configuration.model.support.radius.RadiusClientPoolProperties;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RadiusClientPoolTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Radius")
+class RadiusClientPoolTests {
+    private static final String SECRET = "testing123";
+
+    private static BlockingRadiusServer getRadiusServer(final int port, final RadiusClientPoolProperties properties) {
+        val factory = RadiusClientFactory.builder()
+            .authenticationPort(port)
+            .socketTimeout(1)
+            .inetAddress("127.0.0.1")
+            .sharedSecret(SECRET)
+            .build();
+        val context = RadiusServerConfigurationContext.builder()
+            .protocol(RadiusProtocol.PAP)
+            .radiusClientFactory(factory)
+            .radiusClientPool(new RadiusClientPool(factory, properties))
+            .retries(1)
+            .build();
+        return new BlockingRadiusServer(context);
+    }
+
+    @Test
+    void verifyClientsReused() throws Throwable {
+        try (val mockServer = new MockRadiusServer(SECRET, Map.of("casuser", "Mellon"))) {
+            val server = getRadiusServer(mockServer.getPort(), new RadiusClientPoolProperties().setEnabled(true));
+            for (var i = 0; i < 5; i++) {
+                val response = server.authenticate("casuser", "Mellon");
+                assertNotNull(response);
+                assertEquals(2, response.code());
+            }
+            assertNull(server.authenticate("casuser", "badpsw"));
+
+            val statistics = server.getConfigurationContext().getRadiusClientPool().getStatistics();
+            assertEquals(1, statistics.createdConnections());
+            assertEquals(6, statistics.requests());
+            assertEquals(0, statistics.failures());
+            assertTrue(statistics.available());
+            assertTrue(server.getAverageLatency() > 0);
+        }
+    }
+
+    @Test
+    void verifyUnavailableServerTriedLast() throws Throwable {
+        try (val liveServer = new MockRadiusServer(SECRET, Map.of("casuser", "Mellon"));
+             val deadServer = new MockRadiusServer(SECRET, Map.of())) {
+            deadServer.setUnresponsive(true);
+            val properties = new RadiusClientPoolProperties().setEnabled(true).setFailureThreshold(1).setProbeInterval("PT1M");
+            val primary = getRadiusServer(deadServer.getPort(), properties);
+            val secondary = getRadiusServer(liveServer.getPort(), properties);
+            val servers = List.<RadiusServer>of(primary, secondary);
+
+            assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true, Optional.empty()).getKey());
+            assertFalse(primary.isAvailable());
+            val attempts = deadServer.getRequests().get();
+
+            assertTrue(RadiusUtils.authenticate("casuser", "Mellon", servers, false, true, Optional.empty()).getKey());
+            assertEquals(attempts, deadServer.getRequests().get());
+        }
+    }
+
+    @Test
+    void verifyProbeRestoresServer() throws Throwable {
+        try (val mockServer = new MockRadiusServer(SECRET, Map.of("casuser", "Mellon"))) {
+            mockServer.setUnresponsive(true);
+            val properties = new RadiusClientPoolProperties()
+                .setEnabled(true)
+                .setFailureThreshold(1)
+                .setProbeInterval("PT0.5S")
+                .setProbeUsername("probe")
+                .setProbePassword("probe");
+            val server = getRadiusServer(mockServer.getPort(), properties);
+            assertThrows(Exception.class, () -> server.authenticate("casuser", "Mellon"));
+            assertFalse(server.isAvailable());
+
+            mockServer.setUnresponsive(false);
+            await().untilAsserted(() -> assertTrue(server.isAvailable()));
+            assertNotNull(server.authenticate("casuser", "Mellon"));
+        }
+    }
+
+    @Test
+    void verifyFailedRetryRestartsInterval() throws Throwable {
+        try (val mockServer = new MockRadiusServer(SECRET, Map.of("casuser", "Mellon"))) {
+            mockServer.setUnresponsive(true);
+            val properties = new RadiusClientPoolProperties()
+                .setEnabled(true)
+                .setFailureThreshold(1)
+                .setProbeInterval("PT0.5S");
+            val server = getRadiusServer(mockServer.getPort(), properties);
+            assertThrows(Exception.class, () -> server.authenticate("casuser", "Mellon"));
+            assertFalse(server.isAvailable());
+
+            await().untilAsserted(() -> assertTrue(server.isAvailable()));
+            assertThrows(Exception.class, () -> server.authenticate("casuser", "Mellon"));
+            assertFalse(server.isAvailable());
+        }
+    }
+
+    @Test
+    void verifyPoolsSharedAndClosedByRegistry() throws Throwable {
+        val registry = new RadiusClientPoolRegistry();
+        val properties = new RadiusClientPoolProperties().setEnabled(true);
+        val factory = RadiusClientFactory.builder().inetAddress("127.0.0.1").sharedSecret(SECRET).build();
+        val pool = registry.getPool(factory, properties);
+        assertNotNull(pool);
+        assertSame(pool, registry.getPool(RadiusClientFactory.builder().inetAddress("127.0.0.1").sharedSecret(SECRET).build(), properties));
+        assertNotSame(pool, registry.getPool(RadiusClientFactory.builder().inetAddress("127.0.0.1").sharedSecret("other").build(), properties));
+        assertNull(registry.getPool(factory, new RadiusClientPoolProperties()));
+
+        registry.destroy();
+        assertNotSame(pool, registry.getPool(factory, properties));
+    }
+}
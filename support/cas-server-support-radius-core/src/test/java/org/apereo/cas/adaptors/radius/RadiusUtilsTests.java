@@ -33,6 +33,21 @@ class RadiusUtilsTests {
         assertTrue(result.getRight().isPresent());
     }
 
+    @Test
+    void verifyMeasuredServersTriedBeforeUnmeasured() throws Throwable {
+        val unmeasured = mock(RadiusServer.class);
+        when(unmeasured.isAvailable()).thenReturn(true);
+        val measured = mock(RadiusServer.class);
+        when(measured.isAvailable()).thenReturn(true);
+        when(measured.getAverageLatency()).thenReturn(5.0D);
+        val response = new CasRadiusResponse(100, 100, CollectionUtils.wrapList(new Attr_ClientId("client_id")));
+        when(measured.authenticate(anyString(), anyString(), any())).thenReturn(response);
+        val result = RadiusUtils.authenticate("casuser", "Mellon",
+            CollectionUtils.wrapList(unmeasured, measured), true, false, Optional.empty());
+        assertTrue(result.getKey());
+        verify(unmeasured, never()).authenticate(anyString(), anyString(), any());
+    }
+
     @Test
     void verifyActionFailsWithFailOver() throws Throwable {
         val server = mock(RadiusServer.class);
@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
+import org.apereo.cas.adaptors.radius.RadiusClientPoolRegistry;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 import org.apereo.cas.adaptors.radius.RadiusServer;
 import org.apereo.cas.adaptors.radius.authentication.RadiusMultifactorAuthenticationProvider;
@@ -58,13 +59,22 @@ class RadiusTokenAuthenticationEventExecutionPlanConfiguration {
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     static class RadiusTokenAuthenticationServerConfiguration {
 
+        @ConditionalOnMissingBean(name = RadiusClientPoolRegistry.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RadiusClientPoolRegistry radiusClientPoolRegistry() {
+            return new RadiusClientPoolRegistry();
+        }
+
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @Bean
         @ConditionalOnMissingBean(name = "radiusTokenServers")
         public BeanContainer<RadiusServer> radiusTokenServers(
             final CasConfigurationProperties casProperties,
             @Qualifier(CasSSLContext.BEAN_NAME)
-            final CasSSLContext casSslContext) {
+            final CasSSLContext casSslContext,
+            @Qualifier(RadiusClientPoolRegistry.BEAN_NAME)
+            final RadiusClientPoolRegistry radiusClientPoolRegistry) {
             val radius = casProperties.getAuthn().getMfa().getRadius();
             val client = radius.getClient();
             val server = radius.getServer();
@@ -84,6 +94,7 @@ class RadiusTokenAuthenticationEventExecutionPlanConfiguration {
             val context = RadiusServerConfigurationContext.builder()
                 .protocol(protocol)
                 .radiusClientFactory(factory)
+                .radiusClientPool(radiusClientPoolRegistry.getPool(factory, client.getPool()))
                 .retries(server.getRetries())
                 .nasIpAddress(server.getNasIpAddress())
                 .nasIpv6Address(server.getNasIpv6Address())
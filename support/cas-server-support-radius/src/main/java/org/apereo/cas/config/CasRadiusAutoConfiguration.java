@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.adaptors.radius.RadiusClientFactory;
+import org.apereo.cas.adaptors.radius.RadiusClientPoolRegistry;
 import org.apereo.cas.adaptors.radius.RadiusProtocol;
 import org.apereo.cas.adaptors.radius.RadiusServer;
 import org.apereo.cas.adaptors.radius.authentication.handler.support.RadiusAuthenticationHandler;
@@ -68,7 +69,8 @@ public class CasRadiusAutoConfiguration {
     private static AbstractRadiusServer getSingleRadiusServer(final RadiusClientProperties client,
                                                               final RadiusServerProperties server,
                                                               final String clientInetAddress,
-                                                              final CasSSLContext casSSLContext) {
+                                                              final CasSSLContext casSSLContext,
+                                                              final RadiusClientPoolRegistry radiusClientPoolRegistry) {
         val factory = RadiusClientFactory.builder()
             .authenticationPort(client.getAccountingPort())
             .authenticationPort(client.getAuthenticationPort())
@@ -82,6 +84,7 @@ public class CasRadiusAutoConfiguration {
         val context = RadiusServerConfigurationContext.builder()
             .protocol(protocol)
             .radiusClientFactory(factory)
+            .radiusClientPool(radiusClientPoolRegistry.getPool(factory, client.getPool()))
             .retries(server.getRetries())
             .nasIpAddress(server.getNasIpAddress())
             .nasIpv6Address(server.getNasIpv6Address())
@@ -101,12 +104,21 @@ public class CasRadiusAutoConfiguration {
         return PrincipalFactoryUtils.newPrincipalFactory();
     }
 
+    @ConditionalOnMissingBean(name = RadiusClientPoolRegistry.BEAN_NAME)
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public RadiusClientPoolRegistry radiusClientPoolRegistry() {
+        return new RadiusClientPoolRegistry();
+    }
+
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
     public RadiusServer radiusServer(final CasConfigurationProperties casProperties,
                                      final ConfigurableApplicationContext applicationContext,
                                      @Qualifier(CasSSLContext.BEAN_NAME)
-                                     final CasSSLContext casSslContext) throws Exception {
+                                     final CasSSLContext casSslContext,
+                                     @Qualifier(RadiusClientPoolRegistry.BEAN_NAME)
+                                     final RadiusClientPoolRegistry radiusClientPoolRegistry) throws Exception {
         return BeanSupplier.of(RadiusServer.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
@@ -114,7 +126,7 @@ public class CasRadiusAutoConfiguration {
                 val client = radius.getClient();
                 val server = radius.getServer();
                 val ips = getClientIps(client);
-                return getSingleRadiusServer(client, server, ips.iterator().next(), casSslContext);
+                return getSingleRadiusServer(client, server, ips.iterator().next(), casSslContext, radiusClientPoolRegistry);
             })
             .otherwiseProxy()
             .get();
@@ -126,6 +138,8 @@ public class CasRadiusAutoConfiguration {
         final ConfigurableApplicationContext applicationContext,
         @Qualifier(CasSSLContext.BEAN_NAME)
         final CasSSLContext casSslContext,
+        @Qualifier(RadiusClientPoolRegistry.BEAN_NAME)
+        final RadiusClientPoolRegistry radiusClientPoolRegistry,
         final CasConfigurationProperties casProperties) throws Exception {
         return BeanSupplier.of(BeanContainer.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
@@ -135,7 +149,7 @@ public class CasRadiusAutoConfiguration {
                 val server = radius.getServer();
                 val ips = getClientIps(radius.getClient());
                 return BeanContainer.of(ips.stream()
-                    .map(ip -> getSingleRadiusServer(client, server, ip, casSslContext))
+                    .map(ip -> getSingleRadiusServer(client, server, ip, casSslContext, radiusClientPoolRegistry))
                     .collect(Collectors.toList()));
             })
             .otherwiseProxy()
@@ -0,0 +1,46 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.CasConfigurationRefreshManager;
+import org.apereo.cas.web.BaseCasActuatorEndpoint;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * This is {@link CasConfigurationRefreshEndpoint} that reports recent configuration refreshes,
+ * along with their duration and the refreshable components that were rebuilt.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Endpoint(id = "casConfigRefresh", enableByDefault = false)
+public class CasConfigurationRefreshEndpoint extends BaseCasActuatorEndpoint {
+    private final ObjectProvider<CasConfigurationRefreshManager> configurationRefreshManager;
+
+    public CasConfigurationRefreshEndpoint(final CasConfigurationProperties casProperties,
+                                           final ObjectProvider<CasConfigurationRefreshManager> configurationRefreshManager) {
+        super(casProperties);
+        this.configurationRefreshManager = configurationRefreshManager;
+    }
+
+    /**
+     * Report recent configuration refreshes, most recent first.
+     *
+     * @return the list
+     */
+    @ReadOperation(produces = {
+        MediaType.APPLICATION_JSON_VALUE, MEDIA_TYPE_SPRING_BOOT_V2_JSON, MEDIA_TYPE_CAS_YAML})
+    @Operation(summary = "Get recent configuration refreshes and the components that were rebuilt")
+    public List<CasConfigurationRefreshManager.ConfigurationRefreshReport> history() {
+        return configurationRefreshManager.stream()
+            .findFirst()
+            .map(CasConfigurationRefreshManager::getHistory)
+            .orElseGet(List::of);
+    }
+}
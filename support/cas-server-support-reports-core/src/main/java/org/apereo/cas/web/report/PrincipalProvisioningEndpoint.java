@@ -0,0 +1,68 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.BaseCasActuatorEndpoint;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+/**
+ * This is {@link PrincipalProvisioningEndpoint} that reports on the state
+ * of the principal provisioning queue, and allows requests that exhausted
+ * their retries to be reconciled with the provisioning targets.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Endpoint(id = "principalProvisioning", enableByDefault = false)
+public class PrincipalProvisioningEndpoint extends BaseCasActuatorEndpoint {
+
+    private final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue;
+
+    public PrincipalProvisioningEndpoint(
+        final CasConfigurationProperties casProperties,
+        final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue) {
+        super(casProperties);
+        this.principalProvisioningQueue = principalProvisioningQueue;
+    }
+
+    /**
+     * Report pending, in-flight and failed provisioning requests.
+     *
+     * @return the report
+     */
+    @ReadOperation(produces = {
+        MediaType.APPLICATION_JSON_VALUE, MEDIA_TYPE_SPRING_BOOT_V2_JSON, MEDIA_TYPE_CAS_YAML})
+    @Operation(summary = "Get the state of the principal provisioning queue and its dead letters")
+    public PrincipalProvisioningQueue.PrincipalProvisioningReport report() {
+        return principalProvisioningQueue.getObject().getReport();
+    }
+
+    /**
+     * Submit dead letters back into the queue.
+     *
+     * @return the number of resubmitted requests
+     */
+    @WriteOperation(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Resubmit provisioning requests that exhausted their retries")
+    public Map<String, Integer> reconcile() {
+        return Map.of("resubmitted", principalProvisioningQueue.getObject().retryDeadLetters());
+    }
+
+    /**
+     * Remove all dead letters.
+     */
+    @DeleteOperation
+    @Operation(summary = "Remove provisioning requests that exhausted their retries")
+    public void clear() {
+        principalProvisioningQueue.getObject().clearDeadLetters();
+    }
+}
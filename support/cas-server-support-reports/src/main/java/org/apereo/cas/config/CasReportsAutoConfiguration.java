@@ -9,7 +9,9 @@ import org.apereo.cas.authentication.principal.PrincipalFactory;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.CasConfigurationRefreshManager;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.services.ServicesManager;
@@ -31,6 +33,7 @@ import org.apereo.cas.web.ServiceValidateConfigurationContext;
 import org.apereo.cas.web.cookie.CasCookieBuilder;
 import org.apereo.cas.web.report.AuditLogEndpoint;
 import org.apereo.cas.web.report.CasConfigurationEndpoint;
+import org.apereo.cas.web.report.CasConfigurationRefreshEndpoint;
 import org.apereo.cas.web.report.CasFeaturesEndpoint;
 import org.apereo.cas.web.report.CasInfoEndpointContributor;
 import org.apereo.cas.web.report.CasProtocolValidationEndpoint;
@@ -38,6 +41,7 @@ import org.apereo.cas.web.report.CasReleaseAttributesReportEndpoint;
 import org.apereo.cas.web.report.CasResolveAttributesReportEndpoint;
 import org.apereo.cas.web.report.CasRuntimeModulesEndpoint;
 import org.apereo.cas.web.report.MultifactorAuthenticationDevicesEndpoint;
+import org.apereo.cas.web.report.PrincipalProvisioningEndpoint;
 import org.apereo.cas.web.report.RegisteredAuthenticationHandlersEndpoint;
 import org.apereo.cas.web.report.RegisteredAuthenticationPoliciesEndpoint;
 import org.apereo.cas.web.report.RegisteredServiceAccessEndpoint;
@@ -188,6 +192,16 @@ public class CasReportsAutoConfiguration {
             return new RegisteredAuthenticationPoliciesEndpoint(casProperties, authenticationEventExecutionPlan);
         }
 
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public PrincipalProvisioningEndpoint principalProvisioningEndpoint(
+            @Qualifier(PrincipalProvisioningQueue.BEAN_NAME)
+            final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue,
+            final CasConfigurationProperties casProperties) {
+            return new PrincipalProvisioningEndpoint(casProperties, principalProvisioningQueue);
+        }
+
     }
 
     @Configuration(value = "SystemInfoEndpointsConfiguration", proxyBeanMethods = false)
@@ -204,6 +218,16 @@ public class CasReportsAutoConfiguration {
             return new CasConfigurationEndpoint(casProperties, applicationContext, casConfigurationCipherExecutor);
         }
 
+        @Bean
+        @ConditionalOnAvailableEndpoint
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public CasConfigurationRefreshEndpoint casConfigurationRefreshEndpoint(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasConfigurationRefreshManager.BEAN_NAME)
+            final ObjectProvider<CasConfigurationRefreshManager> casConfigurationRefreshManager) {
+            return new CasConfigurationRefreshEndpoint(casProperties, casConfigurationRefreshManager);
+        }
+
 
         @Bean
         @ConditionalOnAvailableEndpoint
@@ -0,0 +1,184 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.configuration.CasConfigurationRefreshManager;
+import org.apereo.cas.configuration.model.core.events.ConfigurationRefreshEventsProperties;
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This is {@link CasConfigurationRefreshEndpointTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@TestPropertySource(properties = "management.endpoint.casConfigRefresh.enabled=true")
+@Tag("ActuatorEndpoint")
+@Import(CasConfigurationRefreshEndpointTests.RefreshableComponentsTestConfiguration.class)
+class CasConfigurationRefreshEndpointTests extends AbstractCasEndpointTests {
+    @Autowired
+    @Qualifier("casConfigurationRefreshEndpoint")
+    private CasConfigurationRefreshEndpoint endpoint;
+
+    @Autowired
+    @Qualifier(CasConfigurationRefreshManager.BEAN_NAME)
+    private CasConfigurationRefreshManager configurationRefreshManager;
+
+    @AfterEach
+    void tearDown() {
+        RefreshableComponentsTestConfiguration.FAIL.set(false);
+    }
+
+    @Test
+    void verifyRefreshReported() throws Throwable {
+        val refreshable = getComponent("refreshableComponent");
+        val dependent = getComponent("dependentComponent");
+        when(RefreshableComponentsTestConfiguration.CONTEXT_REFRESHER.refreshEnvironment())
+            .thenReturn(Set.of("cas.custom.properties.refreshable.name"));
+        configurationRefreshManager.refresh();
+
+        val report = endpoint.history().getFirst();
+        assertTrue(report.targeted());
+        assertEquals(Set.of("cas.custom.properties.refreshable.name"), report.keys());
+        assertEquals(Set.of("refreshableComponent", "dependentComponent"), report.refreshedBeans());
+        assertTrue(report.failures().isEmpty());
+        assertTrue(report.retainedBeans().isEmpty());
+        assertNotSame(refreshable, getComponent("refreshableComponent"));
+        assertSame(getComponent("refreshableComponent"), getComponent("dependentComponent").getDependency());
+        assertTrue(refreshable.isDestroyed());
+        assertTrue(dependent.isDestroyed());
+
+        mockMvc.perform(get("/actuator/casConfigRefresh")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].refreshedBeans").isArray());
+    }
+
+    @Test
+    void verifyFailedReplacementReported() throws Throwable {
+        val failing = getComponent("failingComponent");
+        RefreshableComponentsTestConfiguration.FAIL.set(true);
+        when(RefreshableComponentsTestConfiguration.CONTEXT_REFRESHER.refreshEnvironment())
+            .thenReturn(Set.of("cas.custom.properties.failing"));
+        configurationRefreshManager.refresh();
+
+        val report = endpoint.history().getFirst();
+        assertTrue(report.failures().containsKey("failingComponent"));
+        assertSame(failing, getComponent("failingComponent"));
+        assertFalse(failing.isDestroyed());
+    }
+
+    @Test
+    void verifyHeldInstanceReported() throws Throwable {
+        val held = getComponent("heldComponent");
+        assertSame(held, getComponent("componentHolder").getDependency());
+        when(RefreshableComponentsTestConfiguration.CONTEXT_REFRESHER.refreshEnvironment())
+            .thenReturn(Set.of("cas.custom.properties.held"));
+        configurationRefreshManager.refresh();
+
+        val report = endpoint.history().getFirst();
+        assertEquals(Set.of("heldComponent"), report.refreshedBeans());
+        assertEquals(Map.of("heldComponent", Set.of("componentHolder")), report.retainedBeans());
+        assertNotSame(held, getComponent("heldComponent"));
+        assertSame(held, getComponent("componentHolder").getDependency());
+        assertFalse(held.isDestroyed());
+    }
+
+    private RefreshableComponent getComponent(final String name) {
+        return applicationContext.getBean(name, RefreshableComponent.class);
+    }
+
+    @Getter
+    static class RefreshableComponent implements DisposableBean {
+        private final RefreshableComponent dependency;
+
+        private boolean destroyed;
+
+        RefreshableComponent(final RefreshableComponent dependency) {
+            this.dependency = dependency;
+        }
+
+        @Override
+        public void destroy() {
+            destroyed = true;
+        }
+    }
+
+    @TestConfiguration(value = "RefreshableComponentsTestConfiguration", proxyBeanMethods = false)
+    static class RefreshableComponentsTestConfiguration {
+        static final ContextRefresher CONTEXT_REFRESHER = mock(ContextRefresher.class);
+
+        static final AtomicBoolean FAIL = new AtomicBoolean();
+
+        @Bean
+        public CasConfigurationRefreshManager casConfigurationRefreshManager(
+            final ConfigurableApplicationContext applicationContext) {
+            val properties = new ConfigurationRefreshEventsProperties()
+                .setTargeted(true)
+                .setDestroyDelay("PT0S")
+                .setDependencies(Map.of(
+                    "cas.custom.properties.refreshable", List.of("refreshableComponent"),
+                    "cas.custom.properties.failing", List.of("failingComponent"),
+                    "cas.custom.properties.held", List.of("heldComponent")));
+            return new CasConfigurationRefreshManager(CONTEXT_REFRESHER, applicationContext, () -> properties);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent refreshableComponent() {
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent dependentComponent(
+            @Qualifier("refreshableComponent")
+            final RefreshableComponent refreshableComponent) {
+            return new RefreshableComponent(refreshableComponent);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent failingComponent() {
+            if (FAIL.get()) {
+                throw new IllegalStateException("Component cannot be rebuilt");
+            }
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public RefreshableComponent heldComponent() {
+            return new RefreshableComponent(null);
+        }
+
+        @Bean
+        public RefreshableComponent componentHolder(
+            @Qualifier("heldComponent")
+            final RefreshableComponent heldComponent) {
+            return new RefreshableComponent(heldComponent);
+        }
+    }
+}
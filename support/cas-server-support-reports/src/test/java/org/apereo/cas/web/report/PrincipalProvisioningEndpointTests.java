@@ -0,0 +1,58 @@
+package org.apereo.cas.web.report;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * This is {@link PrincipalProvisioningEndpointTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@TestPropertySource(properties = {
+    "management.endpoint.principalProvisioning.enabled=true",
+    "cas.authn.core.provisioning.enabled=true",
+    "cas.authn.core.provisioning.flush-interval=PT0.01S",
+    "cas.authn.core.provisioning.max-attempts=1"
+})
+@Tag("ActuatorEndpoint")
+class PrincipalProvisioningEndpointTests extends AbstractCasEndpointTests {
+    @Autowired
+    @Qualifier(PrincipalProvisioningQueue.BEAN_NAME)
+    private PrincipalProvisioningQueue principalProvisioningQueue;
+
+    @Test
+    void verifyOperation() throws Throwable {
+        val request = PrincipalProvisioningRequest.of(CoreAuthenticationTestUtils.getPrincipal("casuser"),
+            CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword("casuser"));
+        assertTrue(principalProvisioningQueue.submit("test:casuser", (principal, credential) -> false, request));
+        await().untilAsserted(() -> assertEquals(1, principalProvisioningQueue.getReport().deadLetters().size()));
+
+        mockMvc.perform(get("/actuator/principalProvisioning")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deadLetters[0].principal").value("casuser"));
+
+        mockMvc.perform(post("/actuator/principalProvisioning")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.resubmitted").value(1));
+        await().untilAsserted(() -> assertEquals(1, principalProvisioningQueue.getReport().deadLetters().size()));
+
+        mockMvc.perform(delete("/actuator/principalProvisioning"))
+            .andExpect(status().is2xxSuccessful());
+        assertTrue(principalProvisioningQueue.getReport().deadLetters().isEmpty());
+    }
+}
@@ -16,6 +16,7 @@ import org.apereo.cas.configuration.model.support.replication.CookieSessionRepli
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
+import org.apereo.cas.logout.slo.SingleLogoutMessageDispatcher;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.pac4j.BrowserWebStorageSessionStore;
@@ -350,11 +351,16 @@ class SamlIdPEndpointsConfiguration {
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
             final OpenSamlConfigBean openSamlConfigBean,
             @Qualifier(SamlRegisteredServiceCachingMetadataResolver.BEAN_NAME)
-            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver) {
-            return new SamlIdPSingleLogoutServiceMessageHandler(httpClient, samlLogoutBuilder, servicesManager,
-                singleLogoutServiceLogoutUrlBuilder, casProperties.getSlo().isAsynchronous(),
+            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver,
+            @Qualifier(SingleLogoutMessageDispatcher.BEAN_NAME)
+            final ObjectProvider<SingleLogoutMessageDispatcher> singleLogoutMessageDispatcher) {
+            val slo = casProperties.getSlo();
+            val handler = new SamlIdPSingleLogoutServiceMessageHandler(httpClient, samlLogoutBuilder, servicesManager,
+                singleLogoutServiceLogoutUrlBuilder, slo.isAsynchronous() && !slo.getOutbox().isEnabled(),
                 authenticationServiceSelectionPlan, defaultSamlRegisteredServiceCachingMetadataResolver,
                 velocityEngineFactory, openSamlConfigBean);
+            singleLogoutMessageDispatcher.ifAvailable(handler::setMessageDispatcher);
+            return handler;
         }
 
         @Bean
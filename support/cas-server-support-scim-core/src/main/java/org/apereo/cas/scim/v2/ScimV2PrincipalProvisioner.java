@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.authentication.Credential;
 import org.apereo.cas.authentication.principal.Principal;
 import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
 import org.apereo.cas.configuration.model.support.scim.ScimProperties;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceProperty.RegisteredServiceProperties;
@@ -13,6 +14,7 @@ import de.captaingoldfish.scim.sdk.client.ScimClientConfig;
 import de.captaingoldfish.scim.sdk.client.ScimRequestBuilder;
 import de.captaingoldfish.scim.sdk.common.constants.EndpointPaths;
 import de.captaingoldfish.scim.sdk.common.constants.enums.Comparator;
+import de.captaingoldfish.scim.sdk.common.constants.enums.HttpMethod;
 import de.captaingoldfish.scim.sdk.common.resources.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +22,13 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link ScimV2PrincipalProvisioner}.
@@ -48,6 +56,88 @@ public class ScimV2PrincipalProvisioner implements PrincipalProvisioner {
         return provision(credential, Optional.ofNullable(registeredService), principal);
     }
 
+    @Override
+    public Map<String, Boolean> provision(final List<PrincipalProvisioningRequest> requests) {
+        if (!scimProperties.isBulkEnabled() || requests.size() <= 1) {
+            return PrincipalProvisioner.super.provision(requests);
+        }
+        val results = new LinkedHashMap<String, Boolean>();
+        requests
+            .stream()
+            .collect(Collectors.groupingBy(request -> Optional.ofNullable(request.registeredService()),
+                LinkedHashMap::new, Collectors.toList()))
+            .forEach((registeredService, group) -> {
+                try {
+                    results.putAll(provisionInBulk(registeredService, group));
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                    results.putAll(PrincipalProvisioner.super.provision(group));
+                }
+            });
+        return results;
+    }
+
+    /**
+     * Provision all requests that target the same SCIM server using a single search
+     * for existing user resources and a single bulk request that creates or updates them.
+     *
+     * @param registeredService the registered service
+     * @param requests          the requests
+     * @return the provisioning results keyed by principal id
+     * @throws Exception the exception
+     */
+    protected Map<String, Boolean> provisionInBulk(final Optional<RegisteredService> registeredService,
+                                                   final List<PrincipalProvisioningRequest> requests) throws Exception {
+        val scimService = getScimService(registeredService);
+        val principalIds = requests.stream().map(request -> request.principal().getId()).toList();
+        LOGGER.info("Attempting to execute bulk provisioning ops for [{}]", principalIds);
+
+        val filter = scimService.list(User.class, EndpointPaths.USERS)
+            .count(principalIds.size())
+            .filter("userName", Comparator.EQ, principalIds.getFirst());
+        principalIds.stream().skip(1).forEach(id -> filter.or("userName", Comparator.EQ, id));
+        val response = filter.build().get().sendRequest();
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Unable to search for SCIM user resources: " + response.getHttpStatus());
+        }
+        val existingUsers = response.getResource().getListedResources()
+            .stream()
+            .filter(user -> user.getUserName().isPresent())
+            .collect(Collectors.toMap(user -> user.getUserName().orElseThrow(), Function.identity(), (first, second) -> first));
+
+        val bulkIds = new LinkedHashMap<String, String>();
+        val bulk = scimService.bulk();
+        for (val request : requests) {
+            val principal = request.principal();
+            val bulkId = UUID.randomUUID().toString();
+            bulkIds.put(bulkId, principal.getId());
+            if (existingUsers.containsKey(principal.getId())) {
+                val user = existingUsers.get(principal.getId());
+                mapper.map(user, principal, request.credential());
+                bulk.bulkRequestOperation(EndpointPaths.USERS + '/' + user.getId().orElseThrow())
+                    .method(HttpMethod.PUT).bulkId(bulkId).data(user).next();
+            } else {
+                val user = new User();
+                mapper.map(user, principal, request.credential());
+                bulk.bulkRequestOperation(EndpointPaths.USERS)
+                    .method(HttpMethod.POST).bulkId(bulkId).data(user).next();
+            }
+        }
+        val bulkResponse = bulk.sendRequest();
+        if (!bulkResponse.isSuccess()) {
+            throw new IllegalStateException("Unable to execute SCIM bulk request: " + bulkResponse.getHttpStatus());
+        }
+        val results = new LinkedHashMap<String, Boolean>();
+        principalIds.forEach(id -> results.put(id, Boolean.FALSE));
+        bulkResponse.getResource().getBulkResponseOperations().forEach(operation ->
+            operation.getBulkId().map(bulkIds::get).ifPresent(id -> {
+                val status = operation.getStatus();
+                results.put(id, status != null && status >= 200 && status < 300);
+            }));
+        LOGGER.debug("SCIM bulk provisioning results are [{}]", results);
+        return results;
+    }
+
     private boolean provision(final Credential credential,
                               final Optional<RegisteredService> registeredService,
                               final Principal principal) {
@@ -1,6 +1,8 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
+import org.apereo.cas.authentication.principal.provision.QueuedPrincipalProvisioner;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.scim.v2.DefaultScimV2PrincipalAttributeMapper;
@@ -15,6 +17,8 @@ import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.PrincipalProvisionerAction;
 import org.apereo.cas.web.flow.ScimWebflowConfigurer;
 import org.apereo.cas.web.flow.actions.ConsumerExecutionAction;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -104,9 +108,16 @@ public class CasScimAutoConfiguration {
         @ConditionalOnMissingBean(name = PrincipalProvisioner.BEAN_NAME)
         public PrincipalProvisioner principalProvisioner(
             final CasConfigurationProperties casProperties,
+            @Qualifier(PrincipalProvisioningQueue.BEAN_NAME)
+            final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue,
             @Qualifier("scim2PrincipalAttributeMapper")
             final ScimV2PrincipalAttributeMapper scim2PrincipalAttributeMapper) {
-            return new ScimV2PrincipalProvisioner(casProperties.getScim(), scim2PrincipalAttributeMapper);
+            val provisioner = new ScimV2PrincipalProvisioner(casProperties.getScim(), scim2PrincipalAttributeMapper);
+            val queue = principalProvisioningQueue.getIfAvailable();
+            if (queue != null && casProperties.getAuthn().getCore().getProvisioning().isEnabled()) {
+                return new QueuedPrincipalProvisioner(provisioner, queue, "scim");
+            }
+            return provisioner;
         }
     }
 }
@@ -1,6 +1,8 @@
 package org.apereo.cas.scim.v2;
 
 import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalProvisioningRequest;
 import org.apereo.cas.configuration.model.support.scim.ScimProperties;
 import org.apereo.cas.services.DefaultRegisteredServiceProperty;
 import org.apereo.cas.services.RegisteredServiceProperty;
@@ -10,10 +12,13 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -24,6 +29,11 @@ import static org.mockito.Mockito.*;
  */
 @Tag("SCIM")
 class ScimV2PrincipalProvisionerTests {
+    private static PrincipalProvisioningRequest getRequest(final String id) {
+        return PrincipalProvisioningRequest.of(CoreAuthenticationTestUtils.getPrincipal(id),
+            CoreAuthenticationTestUtils.getCredentialsWithSameUsernameAndPassword(id));
+    }
+
     @Test
     void verifyScimServicePerApp() throws Throwable {
         val provisioner = new ScimV2PrincipalProvisioner(new ScimProperties(),
@@ -45,4 +55,34 @@ class ScimV2PrincipalProvisionerTests {
         when(registeredService.getProperties()).thenReturn(props);
         assertNotNull(provisioner.getScimService(Optional.of(registeredService)));
     }
+
+    @Test
+    void verifyBatchProvisionedInBulk() throws Throwable {
+        val provisioner = spy(new ScimV2PrincipalProvisioner(new ScimProperties().setBulkEnabled(true),
+            new DefaultScimV2PrincipalAttributeMapper()));
+        doReturn(Map.of("casuser", true, "casadmin", true)).when(provisioner).provisionInBulk(any(), anyList());
+        val results = provisioner.provision(List.of(getRequest("casuser"), getRequest("casadmin")));
+        assertEquals(Map.of("casuser", true, "casadmin", true), results);
+        verify(provisioner).provisionInBulk(eq(Optional.empty()), argThat(requests -> requests.size() == 2));
+        verify(provisioner, never()).provision(any(Principal.class), any());
+    }
+
+    @Test
+    void verifyBatchProvisionedIndividuallyWhenBulkFails() throws Throwable {
+        val provisioner = spy(new ScimV2PrincipalProvisioner(new ScimProperties().setBulkEnabled(true),
+            new DefaultScimV2PrincipalAttributeMapper()));
+        val results = provisioner.provision(List.of(getRequest("casuser"), getRequest("casadmin")));
+        assertEquals(Map.of("casuser", false, "casadmin", false), results);
+        verify(provisioner).provisionInBulk(eq(Optional.empty()), anyList());
+        verify(provisioner, times(2)).provision(any(Principal.class), any());
+    }
+
+    @Test
+    void verifyBatchProvisionedIndividuallyWithoutBulk() throws Throwable {
+        val provisioner = spy(new ScimV2PrincipalProvisioner(new ScimProperties(),
+            new DefaultScimV2PrincipalAttributeMapper()));
+        val results = provisioner.provision(List.of(getRequest("casuser"), getRequest("casadmin")));
+        assertEquals(Map.of("casuser", false, "casadmin", false), results);
+        verify(provisioner, never()).provisionInBulk(any(), anyList());
+    }
 }
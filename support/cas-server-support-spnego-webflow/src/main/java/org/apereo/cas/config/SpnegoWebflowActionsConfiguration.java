@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.adaptive.AdaptiveAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -15,12 +16,18 @@ import org.apereo.cas.web.flow.SpnegoNegotiateCredentialsAction;
 import org.apereo.cas.web.flow.client.BaseSpnegoKnownClientSystemsFilterAction;
 import org.apereo.cas.web.flow.client.HostNameSpnegoKnownClientSystemsFilterAction;
 import org.apereo.cas.web.flow.client.LdapSpnegoKnownClientSystemsFilterAction;
+import org.apereo.cas.web.flow.client.SpnegoClientSystemClassificationCache;
 import org.apereo.cas.web.flow.resolver.CasDelegatingWebflowEventResolver;
 import org.apereo.cas.web.flow.resolver.CasWebflowEventResolver;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.ldaptive.SearchOperation;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
@@ -43,6 +50,25 @@ import java.util.stream.Stream;
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.SPNEGO)
 @Configuration(value = "SpnegoWebflowActionsConfiguration", proxyBeanMethods = false)
 class SpnegoWebflowActionsConfiguration {
+    private static final String BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE = "spnegoClientSystemClassificationCache";
+
+    private static Action withClientSystemClassificationCache(
+        final BaseSpnegoKnownClientSystemsFilterAction action,
+        final CasConfigurationProperties casProperties,
+        final SpnegoClientSystemClassificationCache cache) {
+        if (casProperties.getAuthn().getSpnego().getClientSystemsCache().isEnabled()) {
+            action.setClientSystemClassificationCache(cache);
+        }
+        return action;
+    }
+
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE)
+    public SpnegoClientSystemClassificationCache spnegoClientSystemClassificationCache(
+        final CasConfigurationProperties casProperties) {
+        return new SpnegoClientSystemClassificationCache(casProperties.getAuthn().getSpnego().getClientSystemsCache());
+    }
 
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -74,22 +100,30 @@ class SpnegoWebflowActionsConfiguration {
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_SPNEGO_CLIENT_BASE)
-    public Action baseSpnegoClientAction(final CasConfigurationProperties casProperties) {
+    public Action baseSpnegoClientAction(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE)
+        final SpnegoClientSystemClassificationCache spnegoClientSystemClassificationCache) {
         val spnegoProperties = casProperties.getAuthn().getSpnego();
-        return new BaseSpnegoKnownClientSystemsFilterAction(
+        val action = new BaseSpnegoKnownClientSystemsFilterAction(
             RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
             spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis());
+        return withClientSystemClassificationCache(action, casProperties, spnegoClientSystemClassificationCache);
     }
 
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_SPNEGO_CLIENT_HOSTNAME)
-    public Action hostnameSpnegoClientAction(final CasConfigurationProperties casProperties) {
+    public Action hostnameSpnegoClientAction(
+        final CasConfigurationProperties casProperties,
+        @Qualifier(BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE)
+        final SpnegoClientSystemClassificationCache spnegoClientSystemClassificationCache) {
         val spnegoProperties = casProperties.getAuthn().getSpnego();
-        return new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(
+        val action = new HostNameSpnegoKnownClientSystemsFilterAction(RegexUtils.createPattern(
             spnegoProperties.getIpsToCheckPattern()), spnegoProperties.getAlternativeRemoteHostAttribute(),
             Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(), spnegoProperties.getHostNamePatternString());
+        return withClientSystemClassificationCache(action, casProperties, spnegoClientSystemClassificationCache);
     }
 
     @Configuration(value = "SpnegoLdapWebflowActionsConfiguration", proxyBeanMethods = false)
@@ -102,26 +136,65 @@ class SpnegoWebflowActionsConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = CasWebflowConstants.ACTION_ID_SPNEGO_CLIENT_LDAP)
         public Action ldapSpnegoClientAction(
+            @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+            final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
             final ConfigurableApplicationContext applicationContext,
-            final CasConfigurationProperties casProperties) {
+            final CasConfigurationProperties casProperties,
+            @Qualifier(BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE)
+            final SpnegoClientSystemClassificationCache spnegoClientSystemClassificationCache) {
             return BeanSupplier.of(Action.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
                 .supply(() -> {
                     val spnegoProperties = casProperties.getAuthn().getSpnego();
-                    val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(spnegoProperties.getLdap());
+                    val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(spnegoProperties.getLdap(),
+                        ldapConnectionFactoryRegistry.getIfAvailable());
                     val filter = LdapUtils.newLdaptiveSearchFilter(spnegoProperties.getLdap().getSearchFilter());
                     val searchRequest = LdapUtils.newLdaptiveSearchRequest(spnegoProperties.getLdap().getBaseDn(), filter);
                     val searchOperation = new SearchOperation(connectionFactory, searchRequest);
                     searchOperation.setTemplate(filter);
-                    return new LdapSpnegoKnownClientSystemsFilterAction(
+                    val action = new LdapSpnegoKnownClientSystemsFilterAction(
                         RegexUtils.createPattern(spnegoProperties.getIpsToCheckPattern()),
                         spnegoProperties.getAlternativeRemoteHostAttribute(),
                         Beans.newDuration(spnegoProperties.getDnsTimeout()).toMillis(),
                         searchOperation, spnegoProperties.getSpnegoAttributeName());
+                    return withClientSystemClassificationCache(action, casProperties, spnegoClientSystemClassificationCache);
                 })
                 .otherwiseProxy()
                 .get();
         }
     }
 
+    @Configuration(value = "SpnegoClientSystemsMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
+    static class SpnegoClientSystemsMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "spnegoClientSystemClassificationCacheMeterBinder")
+        public MeterBinder spnegoClientSystemClassificationCacheMeterBinder(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(BEAN_NAME_CLIENT_SYSTEM_CLASSIFICATION_CACHE)
+            final ObjectProvider<SpnegoClientSystemClassificationCache> spnegoClientSystemClassificationCache) {
+            return registry -> {
+                val cache = spnegoClientSystemClassificationCache.getIfAvailable();
+                if (casProperties.getAuthn().getSpnego().getClientSystemsCache().isEnabled() && cache != null) {
+                    FunctionCounter.builder("cas.spnego.client.systems.cache.hits", cache, c -> c.getStatistics().hits())
+                        .description("Spnego client system checks answered by a remembered classification")
+                        .register(registry);
+                    FunctionCounter.builder("cas.spnego.client.systems.cache.misses", cache, c -> c.getStatistics().misses())
+                        .description("Spnego client system checks that required a lookup")
+                        .register(registry);
+                    FunctionCounter.builder("cas.spnego.client.systems.lookups.failed", cache, c -> c.getStatistics().failedLookups())
+                        .description("Spnego client system lookups that failed")
+                        .register(registry);
+                    Gauge.builder("cas.spnego.client.systems.cache.size", cache, c -> c.getStatistics().size())
+                        .description("Client addresses whose spnego classification is remembered")
+                        .register(registry);
+                    Gauge.builder("cas.spnego.client.systems.lookups.latency.average", cache, c -> c.getStatistics().averageLookupLatencyMillis())
+                        .description("Average spnego client system lookup latency in milliseconds")
+                        .register(registry);
+                }
+            };
+        }
+    }
 }
@@ -4,7 +4,6 @@ import org.apereo.cas.support.spnego.util.ReverseDNSRunnable;
 import org.apereo.cas.web.flow.actions.BaseCasWebflowAction;
 import org.apereo.cas.web.support.WebUtils;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -31,8 +30,8 @@ import java.util.regex.Pattern;
 @ToString
 @Setter
 @Getter
-@AllArgsConstructor
 public class BaseSpnegoKnownClientSystemsFilterAction extends BaseCasWebflowAction {
+    private static final ThreadLocal<String> RESOLVED_HOST_NAME = new ThreadLocal<>();
 
     /**
      * Pattern of ip addresses to check.
@@ -50,6 +49,20 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends BaseCasWebflowActi
      */
     private long timeout;
 
+    /**
+     * Remembers the classification of client systems per client address, if defined.
+     */
+    @ToString.Exclude
+    private SpnegoClientSystemClassificationCache clientSystemClassificationCache;
+
+    public BaseSpnegoKnownClientSystemsFilterAction(final Pattern ipsToCheckPattern,
+                                                    final String alternativeRemoteHostAttribute,
+                                                    final long timeout) {
+        this.ipsToCheckPattern = ipsToCheckPattern;
+        this.alternativeRemoteHostAttribute = alternativeRemoteHostAttribute;
+        this.timeout = timeout;
+    }
+
     /**
      * {@inheritDoc}
      * Gets the remote ip from the request, and invokes spnego if it isn't filtered.
@@ -62,7 +75,7 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends BaseCasWebflowActi
     protected Event doExecuteInternal(final RequestContext context) throws Exception {
         val remoteIp = getRemoteIp(context);
         LOGGER.debug("Current user IP [{}]", remoteIp);
-        if (shouldDoSpnego(remoteIp)) {
+        if (isKnownClientSystem(remoteIp)) {
             LOGGER.info("Spnego should be activated for [{}]", remoteIp);
             return yes();
         }
@@ -70,6 +83,41 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends BaseCasWebflowActi
         return no();
     }
 
+    /**
+     * Determine whether the client system is known and should be asked for spnego credentials,
+     * reusing the classification remembered for the client address if caching is turned on.
+     *
+     * @param remoteIp the remote ip
+     * @return true/false
+     * @throws Exception the exception
+     */
+    protected boolean isKnownClientSystem(final String remoteIp) throws Exception {
+        if (clientSystemClassificationCache != null && StringUtils.isNotBlank(remoteIp)) {
+            val classification = clientSystemClassificationCache.classify(this, remoteIp);
+            LOGGER.debug("Client system [{}] is classified as [{}]", remoteIp, classification);
+            return classification.known();
+        }
+        return shouldDoSpnego(remoteIp);
+    }
+
+    /**
+     * Classify the client system, recording the host name that was resolved for it, if any.
+     *
+     * @param remoteIp the remote ip
+     * @return the classification
+     * @throws Exception the exception
+     */
+    SpnegoClientSystemClassificationCache.ClientSystemClassification classify(final String remoteIp) throws Exception {
+        RESOLVED_HOST_NAME.remove();
+        try {
+            val known = shouldDoSpnego(remoteIp);
+            val hostName = StringUtils.defaultIfBlank(RESOLVED_HOST_NAME.get(), remoteIp);
+            return new SpnegoClientSystemClassificationCache.ClientSystemClassification(remoteIp, hostName, known);
+        } finally {
+            RESOLVED_HOST_NAME.remove();
+        }
+    }
+
     /**
      * Default implementation -- check the IP filter.
      *
@@ -128,6 +176,7 @@ public class BaseSpnegoKnownClientSystemsFilterAction extends BaseCasWebflowActi
         }
         val remoteHostName = revDNS.getHostName();
         LOGGER.debug("Found remote host name [{}].", remoteHostName);
+        RESOLVED_HOST_NAME.set(remoteHostName);
         return StringUtils.isNotBlank(remoteHostName) ? remoteHostName : remoteIp;
     }
 
@@ -0,0 +1,148 @@
+package org.apereo.cas.web.flow.client;
+
+import org.apereo.cas.configuration.model.support.spnego.SpnegoClientSystemsCacheProperties;
+import org.apereo.cas.configuration.support.Beans;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link SpnegoClientSystemClassificationCache} that remembers whether
+ * client systems are known, per client address and filter action. Known and unknown
+ * client systems are remembered for separate amounts of time, classifications that
+ * are about to expire are refreshed in the background while the current classification
+ * is still used, and concurrent requests from the same client address share a single lookup.
+ * Lookups that fail are not remembered.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Slf4j
+public class SpnegoClientSystemClassificationCache implements AutoCloseable {
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Getter
+    private final SpnegoClientSystemsCacheProperties properties;
+
+    private final LoadingCache<ClientSystem, ClientSystemClassification> classifications;
+
+    public SpnegoClientSystemClassificationCache(final SpnegoClientSystemsCacheProperties properties) {
+        this.properties = properties;
+        val knownTimeToLive = Beans.newDuration(properties.getKnownTimeToLive());
+        val unknownTimeToLive = Beans.newDuration(properties.getUnknownTimeToLive());
+        this.classifications = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfter(new ClassificationExpiry(knownTimeToLive, unknownTimeToLive))
+            .refreshAfterWrite(Beans.newDuration(properties.getRefreshAfter()))
+            .executor(refreshExecutor)
+            .recordStats()
+            .build(clientSystem -> clientSystem.action().classify(clientSystem.remoteIp()));
+    }
+
+    /**
+     * Classify the client system using the given filter action,
+     * or reuse the classification remembered for the client address.
+     *
+     * @param action   the action
+     * @param remoteIp the remote ip
+     * @return the classification
+     * @throws Exception the exception
+     */
+    public ClientSystemClassification classify(final BaseSpnegoKnownClientSystemsFilterAction action,
+                                               final String remoteIp) throws Exception {
+        try {
+            return classifications.get(new ClientSystem(action, remoteIp));
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forget all remembered classifications.
+     */
+    public void invalidate() {
+        classifications.invalidateAll();
+    }
+
+    /**
+     * Gets cache statistics.
+     *
+     * @return the statistics
+     */
+    public ClientSystemClassificationStatistics getStatistics() {
+        val stats = classifications.stats();
+        return new ClientSystemClassificationStatistics(classifications.estimatedSize(),
+            stats.hitCount(), stats.missCount(), stats.loadSuccessCount(), stats.loadFailureCount(),
+            TimeUnit.NANOSECONDS.toMicros((long) stats.averageLoadPenalty()) / 1000.0D);
+    }
+
+    @Override
+    public void close() {
+        classifications.invalidateAll();
+        refreshExecutor.shutdownNow();
+    }
+
+    private record ClientSystem(BaseSpnegoKnownClientSystemsFilterAction action, String remoteIp) {
+    }
+
+    private record ClassificationExpiry(Duration knownTimeToLive, Duration unknownTimeToLive)
+        implements Expiry<ClientSystem, ClientSystemClassification> {
+
+        @Override
+        public long expireAfterCreate(final ClientSystem key, final ClientSystemClassification value,
+                                      final long currentTime) {
+            val timeToLive = value.known() ? knownTimeToLive : unknownTimeToLive;
+            LOGGER.trace("Remembering [{}] for [{}]", value, timeToLive);
+            return timeToLive.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final ClientSystem key, final ClientSystemClassification value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final ClientSystem key, final ClientSystemClassification value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Outcome of checking a client system.
+     *
+     * @param remoteIp the remote ip
+     * @param hostName the resolved host name, or the remote ip if no host name was resolved
+     * @param known    whether the client system is known and should be asked for spnego credentials
+     */
+    public record ClientSystemClassification(String remoteIp, String hostName, boolean known) {
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param size                       the estimated number of remembered client addresses
+     * @param hits                       the number of requests answered by a remembered classification
+     * @param misses                     the number of requests that required a lookup
+     * @param lookups                    the number of successful lookups, including background refreshes
+     * @param failedLookups              the number of failed lookups
+     * @param averageLookupLatencyMillis the average lookup latency
+     */
+    public record ClientSystemClassificationStatistics(long size, long hits, long misses, long lookups,
+                                                       long failedLookups, double averageLookupLatencyMillis) {
+    }
+}
@@ -0,0 +1,143 @@
+package org.apereo.cas.web.flow.client;
+
+import org.apereo.cas.configuration.model.support.spnego.SpnegoClientSystemsCacheProperties;
+import org.apereo.cas.util.MockRequestContext;
+import org.apereo.cas.util.RegexUtils;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.action.EventFactorySupport;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SpnegoClientSystemClassificationCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+@Tag("Spnego")
+class SpnegoClientSystemClassificationCacheTests {
+
+    @Test
+    void verifyClassificationRemembered() throws Throwable {
+        try (val cache = new SpnegoClientSystemClassificationCache(new SpnegoClientSystemsCacheProperties().setEnabled(true))) {
+            val action = new CountingFilterAction("^192\\.158\\..+");
+            action.setClientSystemClassificationCache(cache);
+            for (var i = 0; i < 5; i++) {
+                assertEquals(new EventFactorySupport().yes(this).getId(), execute(action, "192.158.5.781"));
+                assertEquals(new EventFactorySupport().no(this).getId(), execute(action, "193.158.5.781"));
+            }
+            assertEquals(2, action.getLookups().get());
+            val statistics = cache.getStatistics();
+            assertEquals(8, statistics.hits());
+            assertEquals(2, statistics.misses());
+            assertEquals(2, statistics.size());
+
+            val classification = cache.classify(action, "192.158.5.781");
+            assertTrue(classification.known());
+            assertEquals("192.158.5.781", classification.hostName());
+        }
+    }
+
+    @Test
+    void verifyUnknownClientSystemsExpireSooner() throws Throwable {
+        val properties = new SpnegoClientSystemsCacheProperties()
+            .setEnabled(true)
+            .setKnownTimeToLive("PT1H")
+            .setUnknownTimeToLive("PT0.5S")
+            .setRefreshAfter("PT1H");
+        try (val cache = new SpnegoClientSystemClassificationCache(properties)) {
+            val action = new CountingFilterAction("^192\\.158\\..+");
+            action.setClientSystemClassificationCache(cache);
+            execute(action, "192.158.5.781");
+            execute(action, "193.158.5.781");
+            assertEquals(2, action.getLookups().get());
+
+            await().untilAsserted(() -> {
+                execute(action, "193.158.5.781");
+                assertTrue(action.getLookups().get() > 2);
+            });
+            val lookups = action.getLookups().get();
+            execute(action, "192.158.5.781");
+            assertEquals(lookups, action.getLookups().get());
+        }
+    }
+
+    @Test
+    void verifyConcurrentLookupsCoalesced() throws Throwable {
+        try (val cache = new SpnegoClientSystemClassificationCache(new SpnegoClientSystemsCacheProperties().setEnabled(true));
+             val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val release = new CountDownLatch(1);
+            val action = new CountingFilterAction("^192\\.158\\..+") {
+                @Override
+                protected boolean shouldDoSpnego(final String remoteIp) throws Exception {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return super.shouldDoSpnego(remoteIp);
+                }
+            };
+            action.setClientSystemClassificationCache(cache);
+            val results = new ArrayList<Future<String>>();
+            for (var i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> execute(action, "192.158.5.781")));
+            }
+            release.countDown();
+            for (val result : results) {
+                assertEquals(new EventFactorySupport().yes(this).getId(), result.get());
+            }
+            assertEquals(1, action.getLookups().get());
+        }
+    }
+
+    @Test
+    void verifyFailedLookupsNotRemembered() throws Throwable {
+        try (val cache = new SpnegoClientSystemClassificationCache(new SpnegoClientSystemsCacheProperties().setEnabled(true))) {
+            val action = new CountingFilterAction("^192\\.158\\..+") {
+                @Override
+                protected boolean shouldDoSpnego(final String remoteIp) throws Exception {
+                    getLookups().incrementAndGet();
+                    throw new IllegalArgumentException("Directory is unavailable");
+                }
+            };
+            action.setClientSystemClassificationCache(cache);
+            assertThrows(IllegalArgumentException.class, () -> cache.classify(action, "192.158.5.781"));
+            assertThrows(IllegalArgumentException.class, () -> cache.classify(action, "192.158.5.781"));
+            assertEquals(2, action.getLookups().get());
+            assertEquals(2, cache.getStatistics().failedLookups());
+            assertEquals(0, cache.getStatistics().size());
+        }
+    }
+
+    private static String execute(final BaseSpnegoKnownClientSystemsFilterAction action, final String remoteIp) throws Exception {
+        val context = MockRequestContext.create();
+        context.setRemoteAddr(remoteIp);
+        return action.execute(context).getId();
+    }
+
+    private static class CountingFilterAction extends BaseSpnegoKnownClientSystemsFilterAction {
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        CountingFilterAction(final String ipsToCheckPattern) {
+            super(RegexUtils.createPattern(ipsToCheckPattern), StringUtils.EMPTY, 0);
+        }
+
+        AtomicInteger getLookups() {
+            return lookups;
+        }
+
+        @Override
+        protected boolean shouldDoSpnego(final String remoteIp) throws Exception {
+            lookups.incrementAndGet();
+            return super.shouldDoSpnego(remoteIp);
+        }
+    }
+}
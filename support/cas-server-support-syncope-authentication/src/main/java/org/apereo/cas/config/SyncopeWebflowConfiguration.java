@@ -1,6 +1,8 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.authentication.principal.PrincipalProvisioner;
+import org.apereo.cas.authentication.principal.provision.PrincipalProvisioningQueue;
+import org.apereo.cas.authentication.principal.provision.QueuedPrincipalProvisioner;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.syncope.SyncopePrincipalProvisioner;
@@ -14,6 +16,8 @@ import org.apereo.cas.web.flow.CasWebflowExecutionPlanConfigurer;
 import org.apereo.cas.web.flow.PrincipalProvisionerAction;
 import org.apereo.cas.web.flow.actions.ConsumerExecutionAction;
 
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -46,10 +50,18 @@ class SyncopeWebflowConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public PrincipalProvisioner principalProvisioner(
             final CasConfigurationProperties casProperties,
+            @Qualifier(PrincipalProvisioningQueue.BEAN_NAME)
+            final ObjectProvider<PrincipalProvisioningQueue> principalProvisioningQueue,
             final ConfigurableApplicationContext applicationContext) {
             return BeanSupplier.of(PrincipalProvisioner.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new SyncopePrincipalProvisioner(casProperties.getAuthn().getSyncope().getProvisioning()))
+                .supply(() -> {
+                    val provisioner = new SyncopePrincipalProvisioner(casProperties.getAuthn().getSyncope().getProvisioning());
+                    val queue = principalProvisioningQueue.getIfAvailable();
+                    return queue != null && casProperties.getAuthn().getCore().getProvisioning().isEnabled()
+                        ? new QueuedPrincipalProvisioner(provisioner, queue, "syncope")
+                        : provisioner;
+                })
                 .otherwiseProxy()
                 .get();
         }
@@ -9,13 +9,16 @@ import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpContentCache;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import org.apereo.cas.util.http.HttpUtils;
 import org.apereo.cas.util.spring.ApplicationContextProvider;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.web.support.WebUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
@@ -34,7 +37,11 @@ import jakarta.annotation.Nonnull;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * {@link org.springframework.web.servlet.ThemeResolver} to determine the theme for CAS based on the service provided.
@@ -46,7 +53,8 @@ import java.util.Locale;
  * {@link FileSystemResource} system resource that exists, it will be executed as a
  * Groovy script that should return the name of the theme.
  * If the theme value is an HTTP {@link UrlResource}, then the contents referenced by the URL
- * will be read and the response used as the theme name.
+ * will be read and the response used as the theme name. Responses may be remembered
+ * by an {@link HttpContentCache}, if one is assigned.
  * Blank values returned from the script or the URL will result in the default theme being used.
  * If the theme attribute in the service is not a file or URL resource, it will be evaluated as
  * a Spring expression and then a search for property files with the theme name as the base name
@@ -67,6 +75,9 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
 
     protected final ObjectProvider<CasConfigurationProperties> casProperties;
 
+    @Setter
+    protected HttpContentCache remoteContentCache;
+
     @Nonnull
     @Override
     public String resolveThemeName(@Nonnull final HttpServletRequest request) {
@@ -100,7 +111,6 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
     protected String determineThemeNameToChoose(final HttpServletRequest request,
                                                 final Service service,
                                                 final WebBasedRegisteredService registeredService) {
-        HttpResponse response = null;
         try {
             LOGGER.debug("Service [{}] is configured to use a custom theme [{}]", registeredService, registeredService.getTheme());
 
@@ -111,18 +121,9 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
             }
             if (resource instanceof UrlResource) {
                 val url = resource.getURL().toExternalForm();
-                LOGGER.debug("Executing URL [{}] to determine theme for [{}]", url, service.getId());
-                val exec = HttpExecutionRequest.builder()
-                    .parameters(CollectionUtils.wrap("service", service.getId()))
-                    .url(url)
-                    .method(HttpMethod.GET)
-                    .build();
-                response = HttpUtils.execute(exec);
-                if (response != null && response.getCode() == HttpStatus.SC_OK) {
-                    try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
-                        val result = IOUtils.toString(content, StandardCharsets.UTF_8);
-                        return StringUtils.defaultIfBlank(result, getDefaultThemeName());
-                    }
+                val result = determineThemeFromUrl(request, service, url);
+                if (result.isPresent()) {
+                    return StringUtils.defaultIfBlank(result.get(), getDefaultThemeName());
                 }
             }
             val theme = resolveThemeForService(registeredService, request);
@@ -134,10 +135,36 @@ public class RegisteredServiceThemeResolver extends AbstractThemeResolver {
                 registeredService.getTheme(), registeredService.getName());
         } catch (final Exception e) {
             LoggingUtils.error(LOGGER, e);
+        }
+        return getDefaultThemeName();
+    }
+
+    protected Optional<String> determineThemeFromUrl(final HttpServletRequest request,
+                                                     final Service service,
+                                                     final String url) throws Exception {
+        LOGGER.debug("Executing URL [{}] to determine theme for [{}]", url, service.getId());
+        val requestBuilder = (Function<Map<String, String>, HttpExecutionRequest>) headers -> HttpExecutionRequest.builder()
+            .parameters(CollectionUtils.wrap("service", service.getId()))
+            .headers(new LinkedHashMap<>(headers))
+            .url(url)
+            .method(HttpMethod.GET)
+            .build();
+        if (BeanSupplier.isNotProxy(remoteContentCache)) {
+            val key = HttpContentCache.key(service.getId(), request.getLocale().toLanguageTag(), url);
+            return remoteContentCache.get(key, url, requestBuilder);
+        }
+        HttpResponse response = null;
+        try {
+            response = HttpUtils.execute(requestBuilder.apply(Map.of()));
+            if (response != null && response.getCode() == HttpStatus.SC_OK) {
+                try (val content = ((HttpEntityContainer) response).getEntity().getContent()) {
+                    return Optional.of(IOUtils.toString(content, StandardCharsets.UTF_8));
+                }
+            }
         } finally {
             HttpUtils.close(response);
         }
-        return getDefaultThemeName();
+        return Optional.empty();
     }
 
     protected String determineThemeFromGroovyResource(final HttpServletRequest request,
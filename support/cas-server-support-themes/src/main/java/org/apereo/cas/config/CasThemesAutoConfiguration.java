@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.web.view.ViewProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.web.AggregateCasThemeSource;
 import org.apereo.cas.services.web.ChainingThemeResolver;
@@ -12,8 +13,17 @@ import org.apereo.cas.services.web.RegisteredServiceThemeResolver;
 import org.apereo.cas.services.web.RequestHeaderThemeResolver;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.DefaultHttpContentCache;
+import org.apereo.cas.util.http.HttpContentCache;
+import org.apereo.cas.util.http.HttpContentCacheStatistics;
+import org.apereo.cas.util.spring.beans.BeanCondition;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.support.CookieUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -22,12 +32,15 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
 import org.springframework.boot.autoconfigure.web.WebProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.Resource;
@@ -40,6 +53,9 @@ import org.springframework.web.servlet.theme.CookieThemeResolver;
 import org.springframework.web.servlet.theme.FixedThemeResolver;
 import org.springframework.web.servlet.theme.SessionThemeResolver;
 import jakarta.annotation.Nonnull;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 /**
  * This is {@link CasThemesAutoConfiguration}.
@@ -64,6 +80,32 @@ public class CasThemesAutoConfiguration {
         return new DefaultCasThemeSource(casProperties);
     }
 
+    @ConditionalOnMissingBean(name = HttpContentCacheStatistics.BEAN_NAME_REMOTE_VIEWS)
+    @Bean
+    public HttpContentCacheStatistics remoteViewContentCacheStatistics() {
+        return new HttpContentCacheStatistics();
+    }
+
+    @ConditionalOnMissingBean(name = HttpContentCache.BEAN_NAME_REMOTE_VIEWS)
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    public HttpContentCache remoteViewContentCache(
+        final ConfigurableApplicationContext applicationContext,
+        @Qualifier(HttpContentCacheStatistics.BEAN_NAME_REMOTE_VIEWS)
+        final HttpContentCacheStatistics remoteViewContentCacheStatistics,
+        final CasConfigurationProperties casProperties) {
+        return BeanSupplier.of(HttpContentCache.class)
+            .when(BeanCondition.on("cas.view.remote-cache.enabled").isTrue().given(applicationContext.getEnvironment()))
+            .supply(() -> {
+                val cache = casProperties.getView().getRemoteCache();
+                return new DefaultHttpContentCache(Beans.newDuration(cache.getTimeToLive()),
+                    Beans.newDuration(cache.getStaleWhileRevalidate()), Beans.newDuration(cache.getStaleIfError()),
+                    Beans.newDuration(cache.getFailureTimeToLive()), cache.getMaximumSize(), remoteViewContentCacheStatistics);
+            })
+            .otherwiseProxy()
+            .get();
+    }
+
     @ConditionalOnMissingBean(name = "casThemeResolver")
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -72,7 +114,9 @@ public class CasThemesAutoConfiguration {
         @Qualifier(AuthenticationServiceSelectionPlan.BEAN_NAME)
         final ObjectProvider<AuthenticationServiceSelectionPlan> authenticationRequestServiceSelectionStrategies,
         @Qualifier(ServicesManager.BEAN_NAME)
-        final ObjectProvider<ServicesManager> servicesManager) {
+        final ObjectProvider<ServicesManager> servicesManager,
+        @Qualifier(HttpContentCache.BEAN_NAME_REMOTE_VIEWS)
+        final HttpContentCache remoteViewContentCache) {
 
         val defaultThemeName = casProperties.getObject().getTheme().getDefaultThemeName();
         val fixedResolver = new FixedThemeResolver();
@@ -93,6 +137,7 @@ public class CasThemesAutoConfiguration {
         val serviceThemeResolver = new RegisteredServiceThemeResolver(servicesManager,
             authenticationRequestServiceSelectionStrategies, casProperties);
         serviceThemeResolver.setDefaultThemeName(defaultThemeName);
+        serviceThemeResolver.setRemoteContentCache(remoteViewContentCache);
 
         val header = new RequestHeaderThemeResolver(casProperties.getObject().getTheme().getParamName());
         header.setDefaultThemeName(defaultThemeName);
@@ -150,4 +195,64 @@ public class CasThemesAutoConfiguration {
             }
         };
     }
+
+    @Configuration(value = "CasThemesRemoteContentMetricsConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.Metrics)
+    static class CasThemesRemoteContentMetricsConfiguration {
+        @Bean
+        @ConditionalOnMissingBean(name = "remoteViewContentCacheMeterBinder")
+        public MeterBinder remoteViewContentCacheMeterBinder(
+            @Qualifier(HttpContentCache.BEAN_NAME_REMOTE_VIEWS)
+            final ObjectProvider<HttpContentCache> remoteViewContentCache) {
+            return registry -> {
+                val cache = remoteViewContentCache.getIfAvailable();
+                if (cache == null || !BeanSupplier.isNotProxy(cache)) {
+                    return;
+                }
+                cache.registerOriginListener(origin -> {
+                    val tags = Tags.of("origin", origin);
+                    FunctionCounter.builder("cas.view.remote.content.hits", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::hits))
+                        .description("Remote theme and view requests answered by fresh content")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.view.remote.content.stale.hits", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::staleHits))
+                        .description("Remote theme and view requests answered by stale content while it was refreshed")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.view.remote.content.failure.hits", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::failureHits))
+                        .description("Remote theme and view requests answered by a remembered failure")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.view.remote.content.misses", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::misses))
+                        .description("Remote theme and view requests that waited for content to be fetched")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.view.remote.content.not.modified", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::notModified))
+                        .description("Remote theme and view fetches answered with a not-modified response")
+                        .tags(tags).register(registry);
+                    FunctionCounter.builder("cas.view.remote.content.failures", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::failures))
+                        .description("Remote theme and view fetches that failed")
+                        .tags(tags).register(registry);
+                    FunctionTimer.builder("cas.view.remote.content.fetches", HttpContentCache.class,
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::fetches),
+                            type -> statistic(remoteViewContentCache, origin, HttpContentCache.OriginStatistics::fetchTime),
+                            TimeUnit.NANOSECONDS)
+                        .description("Remote theme and view fetches sent to the endpoint")
+                        .tags(tags).register(registry);
+                });
+            };
+        }
+
+        private static long statistic(final ObjectProvider<HttpContentCache> remoteViewContentCache, final String origin,
+                                      final ToLongFunction<HttpContentCache.OriginStatistics> metric) {
+            return Optional.ofNullable(remoteViewContentCache.getIfAvailable())
+                .map(cache -> cache.getStatistics().get(origin))
+                .map(metric::applyAsLong)
+                .orElse(0L);
+        }
+    }
 }
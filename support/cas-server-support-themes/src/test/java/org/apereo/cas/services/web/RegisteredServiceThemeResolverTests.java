@@ -6,6 +6,7 @@ import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.test.CasTestExtension;
 import org.apereo.cas.util.MockRequestContext;
 import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.http.HttpContentCache;
 import org.apereo.cas.web.support.WebUtils;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
@@ -14,8 +15,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
 import java.io.File;
 import java.util.UUID;
 import static java.nio.charset.StandardCharsets.*;
@@ -53,6 +57,61 @@ class RegisteredServiceThemeResolverTests {
         }
     }
 
+    @SpringBootTest(classes = BaseThemeTests.SharedTestConfiguration.class,
+        properties = {
+            "cas.view.remote-cache.enabled=true",
+            "cas.theme.default-theme-name=example"
+        })
+    @Nested
+    @ExtendWith(CasTestExtension.class)
+    class RemoteContentCacheThemeTests extends BaseThemeTests {
+        @Autowired
+        @Qualifier(HttpContentCache.BEAN_NAME_REMOTE_VIEWS)
+        private HttpContentCache remoteViewContentCache;
+
+        @Test
+        void verifyUrlThemeRemembered() throws Throwable {
+            try (val webServer = new MockWebServer("custom-theme")) {
+                webServer.start();
+                val url = "http://localhost:%s".formatted(webServer.getPort());
+                val registeredService = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString());
+                registeredService.setTheme(url);
+                servicesManager.save(registeredService);
+                val service = RegisteredServiceTestUtils.getService(registeredService.getServiceId());
+
+                for (var i = 0; i < 2; i++) {
+                    val context = MockRequestContext.create();
+                    WebUtils.putServiceIntoFlowScope(context, service);
+                    assertEquals("custom-theme", themeResolver.resolveThemeName(context.getHttpServletRequest()));
+                }
+                val statistics = remoteViewContentCache.getStatistics().get(url);
+                assertEquals(1, statistics.fetches());
+                assertEquals(1, statistics.hits());
+            }
+        }
+
+        @Test
+        void verifyFailedUrlThemeFallsBackToDefault() throws Throwable {
+            try (val webServer = new MockWebServer(HttpStatus.INTERNAL_SERVER_ERROR)) {
+                webServer.start();
+                val url = "http://localhost:%s".formatted(webServer.getPort());
+                val registeredService = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString());
+                registeredService.setTheme(url);
+                servicesManager.save(registeredService);
+                val service = RegisteredServiceTestUtils.getService(registeredService.getServiceId());
+
+                for (var i = 0; i < 2; i++) {
+                    val context = MockRequestContext.create();
+                    WebUtils.putServiceIntoFlowScope(context, service);
+                    assertEquals("example", themeResolver.resolveThemeName(context.getHttpServletRequest()));
+                }
+                val statistics = remoteViewContentCache.getStatistics().get(url);
+                assertEquals(1, statistics.fetches());
+                assertEquals(1, statistics.failureHits());
+            }
+        }
+    }
+
     @SpringBootTest(classes = BaseThemeTests.SharedTestConfiguration.class, properties = "cas.theme.default-theme-name=example")
     @Nested
     @ExtendWith(CasTestExtension.class)
@@ -2,15 +2,19 @@ package org.apereo.cas.web.view;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpContentCache;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import org.apereo.cas.util.http.HttpUtils;
+import org.apereo.cas.util.spring.beans.BeanSupplier;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.ThemeResolver;
@@ -22,15 +26,29 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * This is {@link RestfulUrlTemplateResolver}.
+ * When templates are remembered by an {@link HttpContentCache}, browser credentials and
+ * conditional request headers are not forwarded to the template endpoint, since the
+ * remembered templates are shared across users.
  *
  * @author Misagh Moayyed
  * @since 5.3.0
  */
 @Slf4j
 public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
+    private static final Set<String> UNCACHEABLE_REQUEST_HEADERS = Set.of(
+        HttpHeaders.AUTHORIZATION.toLowerCase(Locale.ENGLISH),
+        HttpHeaders.PROXY_AUTHORIZATION.toLowerCase(Locale.ENGLISH),
+        HttpHeaders.COOKIE.toLowerCase(Locale.ENGLISH),
+        HttpHeaders.IF_NONE_MATCH.toLowerCase(Locale.ENGLISH),
+        HttpHeaders.IF_MODIFIED_SINCE.toLowerCase(Locale.ENGLISH));
+
+    @Setter
+    private HttpContentCache remoteContentCache;
 
     public RestfulUrlTemplateResolver(final CasConfigurationProperties casProperties,
                                       final ThemeResolver themeResolver) {
@@ -62,31 +80,47 @@ public class RestfulUrlTemplateResolver extends ThemeFileTemplateResolver {
         
         headers.put("locale", request.getLocale().getCountry());
         headers.putAll(HttpRequestUtils.getRequestHeaders(request));
+        if (BeanSupplier.isNotProxy(remoteContentCache)) {
+            headers.keySet().removeIf(name -> UNCACHEABLE_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ENGLISH)));
+        }
         headers.putAll(rest.getHeaders());
 
-        HttpResponse response = null;
-        try {
-            val exec = HttpExecutionRequest.builder()
+        val requestBuilder = (Function<Map<String, String>, HttpExecutionRequest>) conditionalHeaders -> {
+            val requestHeaders = new LinkedHashMap<>(headers);
+            requestHeaders.putAll(conditionalHeaders);
+            return HttpExecutionRequest.builder()
                 .basicAuthPassword(rest.getBasicAuthPassword())
                 .basicAuthUsername(rest.getBasicAuthUsername())
                 .method(HttpMethod.valueOf(rest.getMethod().toUpperCase(Locale.ENGLISH).trim()))
                 .url(rest.getUrl())
-                .headers(headers)
+                .headers(requestHeaders)
                 .parameters(queryParams.toSingleValueMap())
                 .build();
-            response = HttpUtils.execute(exec);
-            val statusCode = response.getCode();
-            if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
-                val entity = ((HttpEntityContainer) response).getEntity();
-                try (val content = entity.getContent()) {
-                    val result = IOUtils.toString(content, StandardCharsets.UTF_8);
-                    return new StringTemplateResource(result);
+        };
+        if (BeanSupplier.isNotProxy(remoteContentCache)) {
+            val key = HttpContentCache.key(queryParams.getFirst("service"), request.getLocale().toLanguageTag(),
+                themeName, ownerTemplate, template, resourceName);
+            val result = remoteContentCache.get(key, rest.getUrl(), requestBuilder);
+            if (result.isPresent()) {
+                return new StringTemplateResource(result.get());
+            }
+        } else {
+            HttpResponse response = null;
+            try {
+                response = HttpUtils.execute(requestBuilder.apply(Map.of()));
+                val statusCode = response.getCode();
+                if (HttpStatus.valueOf(statusCode).is2xxSuccessful()) {
+                    val entity = ((HttpEntityContainer) response).getEntity();
+                    try (val content = entity.getContent()) {
+                        val result = IOUtils.toString(content, StandardCharsets.UTF_8);
+                        return new StringTemplateResource(result);
+                    }
                 }
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            } finally {
+                HttpUtils.close(response);
             }
-        } catch (final Exception e) {
-            LoggingUtils.error(LOGGER, e);
-        } finally {
-            HttpUtils.close(response);
         }
 
         return super.computeTemplateResource(configuration, ownerTemplate, template, resourceName,
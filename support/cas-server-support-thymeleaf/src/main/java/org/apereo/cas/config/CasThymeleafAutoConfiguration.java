@@ -10,6 +10,7 @@ import org.apereo.cas.services.web.ThemeViewResolver;
 import org.apereo.cas.services.web.ThemeViewResolverFactory;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.http.HttpContentCache;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.validation.CasProtocolViewFactory;
@@ -135,6 +136,8 @@ public class CasThymeleafAutoConfiguration {
         final ThymeleafProperties thymeleafProperties,
         @Qualifier("themeResolver") final ThemeResolver themeResolver,
         final List<CasThymeleafViewResolverConfigurer> thymeleafViewResolverConfigurers,
+        @Qualifier(HttpContentCache.BEAN_NAME_REMOTE_VIEWS)
+        final ObjectProvider<HttpContentCache> remoteViewContentCache,
         final CasConfigurationProperties casProperties) {
 
         val chain = new ChainingTemplateViewResolver();
@@ -151,6 +154,7 @@ public class CasThymeleafAutoConfiguration {
         val rest = casProperties.getView().getRest();
         if (StringUtils.isNotBlank(rest.getUrl())) {
             val url = new RestfulUrlTemplateResolver(casProperties, themeResolver);
+            url.setRemoteContentCache(remoteViewContentCache.getIfAvailable());
             configureTemplateViewResolver(url, thymeleafProperties);
             chain.addResolver(url);
         }
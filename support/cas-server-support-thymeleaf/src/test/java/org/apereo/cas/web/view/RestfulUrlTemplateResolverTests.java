@@ -2,10 +2,15 @@ package org.apereo.cas.web.view;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.MockWebServer;
+import org.apereo.cas.util.http.DefaultHttpContentCache;
+import org.apereo.cas.util.http.HttpContentCache;
+import org.apereo.cas.util.http.HttpExecutionRequest;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -13,7 +18,13 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.theme.FixedThemeResolver;
 import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.templateresource.StringTemplateResource;
+import java.time.Duration;
 import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -47,6 +58,78 @@ class RestfulUrlTemplateResolverTests {
         }
     }
 
+    @Test
+    void verifyCachedTemplateRemembered() {
+        try (val webServer = new MockWebServer("template");
+             val cache = new DefaultHttpContentCache(Duration.ofMinutes(5), Duration.ofMinutes(1),
+                 Duration.ofHours(1), Duration.ofSeconds(30), 100)) {
+            webServer.start();
+            val props = new CasConfigurationProperties();
+            props.getView().getRest().setUrl("http://localhost:%s".formatted(webServer.getPort()));
+            val resolver = new RestfulUrlTemplateResolver(props, new FixedThemeResolver());
+            resolver.setRemoteContentCache(cache);
+            for (var i = 0; i < 2; i++) {
+                val res = resolver.resolveTemplate(mock(IEngineConfiguration.class), "cas",
+                    "template", new LinkedHashMap<>());
+                assertInstanceOf(StringTemplateResource.class, res.getTemplateResource());
+            }
+            val statistics = cache.getStatistics().get(props.getView().getRest().getUrl());
+            assertEquals(1, statistics.fetches());
+            assertEquals(1, statistics.hits());
+        }
+    }
+
+    @Test
+    void verifyCachedTemplateRequest() {
+        val request = new MockHttpServletRequest();
+        request.setRequestURI("/cas/login");
+        request.setQueryString("service=https://app.example.org");
+        request.setParameter("service", "https://app.example.org");
+        request.addPreferredLocale(Locale.FRENCH);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic Y2FzOk1lbGxvbg==");
+        request.addHeader(HttpHeaders.COOKIE, "TGC=TGT-1");
+        request.addHeader(HttpHeaders.USER_AGENT, "Mozilla");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+
+        val cache = mock(HttpContentCache.class);
+        when(cache.get(anyString(), anyString(), any())).thenReturn(Optional.of("template"));
+        val props = new CasConfigurationProperties();
+        props.getView().getRest().setUrl("http://localhost:8080/templates");
+        val resolver = new RestfulUrlTemplateResolver(props, new FixedThemeResolver());
+        resolver.setRemoteContentCache(cache);
+        val res = resolver.resolveTemplate(mock(IEngineConfiguration.class), "cas",
+            "template", new LinkedHashMap<>());
+        assertInstanceOf(StringTemplateResource.class, res.getTemplateResource());
+
+        val key = ArgumentCaptor.forClass(String.class);
+        val requestBuilder = ArgumentCaptor.forClass(Function.class);
+        verify(cache).get(key.capture(), eq(props.getView().getRest().getUrl()), requestBuilder.capture());
+        assertTrue(key.getValue().contains("https://app.example.org"));
+        assertTrue(key.getValue().contains(Locale.FRENCH.toLanguageTag()));
+        val executionRequest = (HttpExecutionRequest) requestBuilder.getValue().apply(Map.of());
+        val headerNames = executionRequest.getHeaders().keySet()
+            .stream()
+            .map(name -> name.toLowerCase(Locale.ENGLISH))
+            .toList();
+        assertFalse(headerNames.contains(HttpHeaders.AUTHORIZATION.toLowerCase(Locale.ENGLISH)));
+        assertFalse(headerNames.contains(HttpHeaders.COOKIE.toLowerCase(Locale.ENGLISH)));
+        assertTrue(headerNames.contains(HttpHeaders.USER_AGENT.toLowerCase(Locale.ENGLISH)));
+    }
+
+    @Test
+    void verifyEmptyCachedTemplateFallsBack() {
+        val cache = mock(HttpContentCache.class);
+        when(cache.get(anyString(), anyString(), any())).thenReturn(Optional.empty());
+        val props = new CasConfigurationProperties();
+        props.getView().getRest().setUrl("http://localhost:8080/templates");
+        val resolver = new RestfulUrlTemplateResolver(props, new FixedThemeResolver());
+        resolver.setRemoteContentCache(cache);
+        val res = resolver.resolveTemplate(mock(IEngineConfiguration.class), "cas",
+            "template", new LinkedHashMap<>());
+        assertNotNull(res);
+        assertFalse(res.getTemplateResource() instanceof StringTemplateResource);
+    }
+
     private static void setRequestAttributes() {
         val request = new MockHttpServletRequest();
         request.setRequestURI("https://cas.example.org/cas/login?key1=value1");
@@ -1,11 +1,13 @@
 package org.apereo.cas.trusted.authentication.api;
 
 import org.apereo.cas.util.crypto.CipherExecutor;
+import org.apache.commons.lang3.StringUtils;
 import java.io.Serializable;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link MultifactorAuthenticationTrustStorage}.
@@ -80,6 +82,37 @@ public interface MultifactorAuthenticationTrustStorage {
      */
     Set<? extends MultifactorAuthenticationTrustRecord> get(String principal, ZonedDateTime onOrAfterDate);
 
+    /**
+     * Determine whether the principal has any unexpired trusted-device records.
+     * Implementations that index records by principal are encouraged to answer this
+     * without loading the records themselves.
+     *
+     * @param principal the principal id
+     * @return true or false
+     */
+    default boolean exists(final String principal) {
+        return get(principal).stream().anyMatch(entry -> !entry.isExpired());
+    }
+
+    /**
+     * Get unexpired records for the principal that are registered
+     * for the given device fingerprint. Implementations are encouraged to
+     * look up records by their principal and device fingerprint directly
+     * rather than loading and filtering every record for the principal.
+     *
+     * @param principal         the principal id
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    default Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return get(principal)
+            .stream()
+            .filter(entry -> !entry.isExpired())
+            .filter(entry -> StringUtils.isNotBlank(entry.getDeviceFingerprint()))
+            .filter(entry -> entry.getDeviceFingerprint().equals(deviceFingerprint))
+            .collect(Collectors.toSet());
+    }
+
     /**
      * Set trusted record.
      *
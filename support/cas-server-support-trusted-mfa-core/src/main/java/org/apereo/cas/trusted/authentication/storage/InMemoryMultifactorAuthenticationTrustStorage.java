@@ -3,18 +3,20 @@ package org.apereo.cas.trusted.authentication.storage;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
-import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link InMemoryMultifactorAuthenticationTrustStorage}.
@@ -27,6 +29,8 @@ import java.util.stream.Collectors;
 public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifactorAuthenticationTrustStorage {
     private final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage;
 
+    private final MultifactorAuthenticationTrustRecordIndex index = new MultifactorAuthenticationTrustRecordIndex();
+
     public InMemoryMultifactorAuthenticationTrustStorage(final TrustedDevicesMultifactorProperties properties,
                                                          final CipherExecutor<Serializable, String> cipherExecutor,
                                                          final LoadingCache<String, MultifactorAuthenticationTrustRecord> storage,
@@ -37,25 +41,22 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
 
     @Override
     public void remove(final String key) {
-        storage.asMap().keySet().removeIf(k -> k.equalsIgnoreCase(key));
+        storage.asMap().keySet().removeIf(k -> {
+            val matched = k.equalsIgnoreCase(key);
+            if (matched) {
+                index.remove(k);
+            }
+            return matched;
+        });
     }
 
     @Override
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage.asMap()
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        val results = index.findExpiredRecordKeys(expirationDate);
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.invalidate(entry.getRecordKey()));
+            storage.invalidateAll(results);
+            results.forEach(index::remove);
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
         }
     }
@@ -74,11 +75,20 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        return storage.asMap()
-            .values()
-            .stream()
-            .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
+        return getIndexedRecords(principal)
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public boolean exists(final String principal) {
+        return getIndexedRecords(principal).findAny().isPresent();
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return getIndexedRecords(principal)
+            .filter(entry -> StringUtils.equals(entry.getDeviceFingerprint(), deviceFingerprint))
             .sorted()
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
@@ -110,6 +120,21 @@ public class InMemoryMultifactorAuthenticationTrustStorage extends BaseMultifact
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
         this.storage.put(record.getRecordKey(), record);
+        index.add(record);
         return record;
     }
+
+    private Stream<MultifactorAuthenticationTrustRecord> getIndexedRecords(final String principal) {
+        return index.findRecordKeys(principal)
+            .stream()
+            .map(key -> {
+                val record = storage.getIfPresent(key);
+                if (record == null) {
+                    index.remove(key);
+                }
+                return record;
+            })
+            .filter(Objects::nonNull)
+            .filter(entry -> !entry.isExpired());
+    }
 }
@@ -3,7 +3,6 @@ package org.apereo.cas.trusted.authentication.storage;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
-import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -27,9 +26,11 @@ import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link JsonMultifactorAuthenticationTrustStorage}.
@@ -44,6 +45,8 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     private final Resource location;
 
+    private final MultifactorAuthenticationTrustRecordIndex index = new MultifactorAuthenticationTrustRecordIndex();
+
     private Map<String, MultifactorAuthenticationTrustRecord> storage;
 
     private WatcherService watcherService;
@@ -76,20 +79,10 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public void remove(final ZonedDateTime expirationDate) {
-        val results = storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getExpirationDate() != null)
-            .filter(entry -> {
-                val expDate = DateTimeUtils.dateOf(expirationDate);
-                return expDate.compareTo(entry.getExpirationDate()) >= 0;
-            })
-            .sorted()
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        val results = index.findExpiredRecordKeys(expirationDate);
         LOGGER.info("Found [{}] expired trusted-device records", results.size());
         if (!results.isEmpty()) {
-            results.forEach(entry -> storage.remove(entry.getRecordKey()));
+            results.forEach(storage::remove);
             LOGGER.info("Invalidated and removed [{}] expired records", results.size());
             writeTrustedRecordsToResource();
         }
@@ -128,35 +121,57 @@ public class JsonMultifactorAuthenticationTrustStorage extends BaseMultifactorAu
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        return storage
-            .values()
-            .stream()
-            .filter(entry -> entry.getPrincipal().equalsIgnoreCase(principal))
-            .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
+        return getIndexedRecords(principal)
             .sorted()
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
+    @Override
+    public boolean exists(final String principal) {
+        return getIndexedRecords(principal).findAny().isPresent();
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return getIndexedRecords(principal)
+            .filter(entry -> StringUtils.equals(entry.getDeviceFingerprint(), deviceFingerprint))
+            .sorted()
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 
     @Override
     public MultifactorAuthenticationTrustRecord saveInternal(final MultifactorAuthenticationTrustRecord record) {
         this.storage.put(record.getRecordKey(), record);
+        index.add(record);
         writeTrustedRecordsToResource();
         return record;
     }
 
+    private Stream<MultifactorAuthenticationTrustRecord> getIndexedRecords(final String principal) {
+        return index.findRecordKeys(principal)
+            .stream()
+            .map(storage::get)
+            .filter(Objects::nonNull)
+            .filter(entry -> StringUtils.isNotBlank(entry.getRecordKey()))
+            .filter(entry -> !entry.isExpired());
+    }
+
     private void readTrustedRecordsFromResource() {
-        this.storage = new LinkedHashMap<>();
-        if (ResourceUtils.doesResourceExist(location)) {
-            FunctionUtils.doUnchecked(__ -> {
-                try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
-                    val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
-                    };
-                    this.storage = MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
-                }
-            });
-        }
+        val records = ResourceUtils.doesResourceExist(location)
+            ? readTrustedRecords()
+            : new LinkedHashMap<String, MultifactorAuthenticationTrustRecord>();
+        this.storage = records;
+        index.reset(records.values());
+    }
+
+    private Map<String, MultifactorAuthenticationTrustRecord> readTrustedRecords() {
+        return FunctionUtils.doUnchecked(() -> {
+            try (val reader = new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8)) {
+                val personList = new TypeReference<Map<String, MultifactorAuthenticationTrustRecord>>() {
+                };
+                return MAPPER.readValue(JsonValue.readHjson(reader).toString(), personList);
+            }
+        });
     }
 
     private void writeTrustedRecordsToResource() {
@@ -0,0 +1,120 @@
+package org.apereo.cas.trusted.authentication.storage;
+
+import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
+import org.apereo.cas.util.DateTimeUtils;
+import lombok.val;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * This is {@link MultifactorAuthenticationTrustRecordIndex} that tracks the record keys
+ * of trusted-device records by principal and by expiration date, so that storage
+ * implementations that keep records in memory can locate the records of a principal
+ * and the records that have expired without walking every record.
+ * The index only holds record keys; the owning storage remains the source of truth for records.
+ *
+ * @author Misagh Moayyed
+ * @since 7.2.0
+ */
+public class MultifactorAuthenticationTrustRecordIndex {
+    private final Map<String, Set<String>> recordKeysByPrincipal = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListMap<Long, Set<String>> recordKeysByExpiration = new ConcurrentSkipListMap<>();
+
+    private final Map<String, MultifactorAuthenticationTrustRecord> indexedRecords = new ConcurrentHashMap<>();
+
+    private static String normalize(final String principal) {
+        return principal.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static Optional<Long> getExpiration(final MultifactorAuthenticationTrustRecord record) {
+        return Optional.ofNullable(record.getExpirationDate()).map(Date::getTime);
+    }
+
+    /**
+     * Add the record to the index, replacing any previous entry with the same record key.
+     *
+     * @param record the record
+     */
+    public void add(final MultifactorAuthenticationTrustRecord record) {
+        remove(record.getRecordKey());
+        indexedRecords.put(record.getRecordKey(), record);
+        recordKeysByPrincipal.computeIfAbsent(normalize(record.getPrincipal()), __ -> ConcurrentHashMap.newKeySet())
+            .add(record.getRecordKey());
+        getExpiration(record).ifPresent(expiration ->
+            recordKeysByExpiration.computeIfAbsent(expiration, __ -> ConcurrentHashMap.newKeySet())
+                .add(record.getRecordKey()));
+    }
+
+    /**
+     * Remove the record from the index.
+     *
+     * @param recordKey the record key
+     */
+    public void remove(final String recordKey) {
+        val record = indexedRecords.remove(recordKey);
+        if (record != null) {
+            recordKeysByPrincipal.computeIfPresent(normalize(record.getPrincipal()), (__, keys) -> {
+                keys.remove(recordKey);
+                return keys.isEmpty() ? null : keys;
+            });
+            getExpiration(record).ifPresent(expiration ->
+                recordKeysByExpiration.computeIfPresent(expiration, (__, keys) -> {
+                    keys.remove(recordKey);
+                    return keys.isEmpty() ? null : keys;
+                }));
+        }
+    }
+
+    /**
+     * Rebuild the index from the given records.
+     *
+     * @param records the records
+     */
+    public void reset(final Collection<? extends MultifactorAuthenticationTrustRecord> records) {
+        clear();
+        records.forEach(this::add);
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        indexedRecords.clear();
+        recordKeysByPrincipal.clear();
+        recordKeysByExpiration.clear();
+    }
+
+    /**
+     * Find the record keys that belong to the principal, ignoring case.
+     *
+     * @param principal the principal
+     * @return the record keys
+     */
+    public Set<String> findRecordKeys(final String principal) {
+        return Set.copyOf(recordKeysByPrincipal.getOrDefault(normalize(principal), Set.of()));
+    }
+
+    /**
+     * Find the record keys whose expiration date is on or before the given date,
+     * ordered by expiration date.
+     *
+     * @param expirationDate the expiration date
+     * @return the record keys
+     */
+    public List<String> findExpiredRecordKeys(final ZonedDateTime expirationDate) {
+        val expiration = DateTimeUtils.dateOf(expirationDate).getTime();
+        val results = new ArrayList<String>();
+        recordKeysByExpiration.headMap(expiration, true).values().forEach(results::addAll);
+        return results;
+    }
+}
@@ -3,7 +3,6 @@ package org.apereo.cas.trusted.web.flow;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.MultifactorAuthenticationTrustedDeviceBypassEvaluator;
-import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustStorage;
 import org.apereo.cas.trusted.util.MultifactorAuthenticationTrustUtils;
 import org.apereo.cas.trusted.web.flow.fingerprint.DeviceFingerprintStrategy;
@@ -17,7 +16,6 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
-import java.util.Set;
 
 /**
  * This is {@link MultifactorAuthenticationVerifyTrustAction}.
@@ -57,20 +55,20 @@ public class MultifactorAuthenticationVerifyTrustAction extends BaseCasWebflowAc
             return result(CasWebflowConstants.TRANSITION_ID_SKIP);
         }
         val principal = authentication.getPrincipal().getId();
-        LOGGER.trace("Retrieving trusted authentication records for [{}]", principal);
-        val results = storage.isAvailable() ? storage.get(principal) : Set.<MultifactorAuthenticationTrustRecord>of();
-        if (results.isEmpty()) {
+        LOGGER.trace("Checking trusted authentication records for [{}]", principal);
+        if (!storage.isAvailable() || !storage.exists(principal)) {
             LOGGER.debug("No valid trusted authentication records could be found for [{}]", principal);
             return no();
         }
         val request = WebUtils.getHttpServletRequestFromExternalWebflowContext(requestContext);
         val response = WebUtils.getHttpServletResponseFromExternalWebflowContext(requestContext);
         val fingerprint = deviceFingerprintStrategy.determineFingerprint(authentication, request, response);
+        if (StringUtils.isBlank(fingerprint)) {
+            LOGGER.debug("No device fingerprint could be determined for [{}]", principal);
+            return no();
+        }
         LOGGER.trace("Retrieving authentication records for [{}] that matches [{}]", principal, fingerprint);
-        val foundRecord = results.stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getDeviceFingerprint()))
-            .filter(entry -> entry.getDeviceFingerprint().equals(fingerprint))
-            .findAny();
+        val foundRecord = storage.get(principal, fingerprint).stream().findAny();
         if (foundRecord.isEmpty()) {
             LOGGER.debug("No trusted authentication records could be found for [{}] to match the current device fingerprint", principal);
             return no();
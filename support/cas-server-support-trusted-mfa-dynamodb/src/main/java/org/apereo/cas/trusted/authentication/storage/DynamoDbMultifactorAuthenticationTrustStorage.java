@@ -54,6 +54,11 @@ public class DynamoDbMultifactorAuthenticationTrustStorage extends BaseMultifact
         return dynamoDbFacilitator.getRecordForPrincipal(principal);
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return dynamoDbFacilitator.getRecordForPrincipal(principal, deviceFingerprint);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
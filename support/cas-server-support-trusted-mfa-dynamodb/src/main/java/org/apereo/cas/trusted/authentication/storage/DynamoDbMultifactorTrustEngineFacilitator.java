@@ -16,12 +16,17 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndex;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -82,10 +87,22 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
      * @param deleteTables the delete tables
      */
     public void createTable(final boolean deleteTables) {
-        FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
-            dynamoDbProperties.getTableName(), deleteTables,
-            List.of(AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build()),
-            List.of(KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build())));
+        val attributeDefinitions = List.of(
+            AttributeDefinition.builder().attributeName(ColumnNames.ID.getColumnName()).attributeType(ScalarAttributeType.S).build());
+        val keySchemaElements = List.of(
+            KeySchemaElement.builder().attributeName(ColumnNames.ID.getColumnName()).keyType(KeyType.HASH).build());
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            val indexAttributeDefinitions = new ArrayList<>(attributeDefinitions);
+            indexAttributeDefinitions.addAll(getPrincipalIndexAttributeDefinitions());
+            val index = buildPrincipalIndex();
+            FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTableName(), deleteTables, indexAttributeDefinitions, keySchemaElements, List.of(index)));
+            DynamoDbTableUtils.createGlobalSecondaryIndexIfMissing(amazonDynamoDBClient,
+                dynamoDbProperties.getTableName(), getPrincipalIndexAttributeDefinitions(), index);
+        } else {
+            FunctionUtils.doUnchecked(__ -> DynamoDbTableUtils.createTable(amazonDynamoDBClient, dynamoDbProperties,
+                dynamoDbProperties.getTableName(), deleteTables, attributeDefinitions, keySchemaElements));
+        }
     }
 
     /**
@@ -95,6 +112,9 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
      * @return the record for principal
      */
     public Set<MultifactorAuthenticationTrustRecord> getRecordForPrincipal(final String principal) {
+        if (dynamoDbProperties.isPrincipalIndexEnabled()) {
+            return queryPrincipalIndex(principal).collect(Collectors.toSet());
+        }
         val queries = List.of(DynamoDbQueryBuilder.builder()
             .key(ColumnNames.PRINCIPAL.getColumnName())
             .operator(ComparisonOperator.EQ)
@@ -105,6 +125,21 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
             .collect(Collectors.toSet());
     }
 
+    /**
+     * Gets unexpired records for principal and device fingerprint.
+     *
+     * @param principal         the principal
+     * @param deviceFingerprint the device fingerprint
+     * @return the records
+     */
+    public Set<MultifactorAuthenticationTrustRecord> getRecordForPrincipal(final String principal, final String deviceFingerprint) {
+        return getRecordForPrincipal(principal)
+            .stream()
+            .filter(record -> deviceFingerprint.equals(record.getDeviceFingerprint()))
+            .filter(record -> !record.isExpired())
+            .collect(Collectors.toSet());
+    }
+
     /**
      * Save.
      *
@@ -243,6 +278,40 @@ public record DynamoDbMultifactorTrustEngineFacilitator(DynamoDbTrustedDevicesMu
 
     }
 
+    private static List<AttributeDefinition> getPrincipalIndexAttributeDefinitions() {
+        return List.of(AttributeDefinition.builder()
+            .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+            .attributeType(ScalarAttributeType.S)
+            .build());
+    }
+
+    private GlobalSecondaryIndex buildPrincipalIndex() {
+        return GlobalSecondaryIndex.builder()
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keySchema(KeySchemaElement.builder()
+                .attributeName(ColumnNames.PRINCIPAL.getColumnName())
+                .keyType(KeyType.HASH)
+                .build())
+            .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+            .provisionedThroughput(DynamoDbTableUtils.getProvisionedThroughput(dynamoDbProperties))
+            .build();
+    }
+
+    private Stream<MultifactorAuthenticationTrustRecord> queryPrincipalIndex(final String principal) {
+        val request = QueryRequest.builder()
+            .tableName(dynamoDbProperties.getTableName())
+            .indexName(dynamoDbProperties.getPrincipalIndexName())
+            .keyConditionExpression("#principal = :principal")
+            .expressionAttributeNames(Map.of("#principal", ColumnNames.PRINCIPAL.getColumnName()))
+            .expressionAttributeValues(Map.of(":principal", AttributeValue.builder().s(principal).build()))
+            .build();
+        LOGGER.debug("Querying index [{}] with request [{}]", dynamoDbProperties.getPrincipalIndexName(), request);
+        return amazonDynamoDBClient.queryPaginator(request)
+            .items()
+            .stream()
+            .map(DynamoDbMultifactorTrustEngineFacilitator::extractAttributeValuesFrom);
+    }
+
     private void deleteMultifactorTrustRecords(final Stream<MultifactorAuthenticationTrustRecord> records) {
         records.forEach(record -> {
             val del = DeleteItemRequest.builder()
@@ -115,6 +115,20 @@ public class JpaMultifactorAuthenticationTrustStorage extends BaseMultifactorAut
         }), e -> new HashSet<MultifactorAuthenticationTrustRecord>()).get();
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return FunctionUtils.doAndHandle(() -> transactionTemplate.execute(__ -> {
+            val query = entityManager
+                .createQuery(QUERY_SELECT + " WHERE r.principal = :principal AND r.expirationDate > :expirationDate"
+                    + " AND r.deviceFingerprint = :deviceFingerprint", getEntityFactory().getType())
+                .setParameter("principal", principal)
+                .setParameter("expirationDate", DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC)))
+                .setParameter("deviceFingerprint", deviceFingerprint);
+            val results = query.getResultList();
+            return new HashSet<>(results);
+        }), e -> new HashSet<MultifactorAuthenticationTrustRecord>()).get();
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         try {
@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 
@@ -20,7 +21,10 @@ import java.io.Serial;
  * @since 6.2.0
  */
 @Entity(name = "JpaMultifactorAuthenticationTrustRecord")
-@Table(name = "JpaMultifactorAuthenticationTrustRecord")
+@Table(name = "JpaMultifactorAuthenticationTrustRecord", indexes = {
+    @Index(name = "idx_mfatrust_principal", columnList = "principal"),
+    @Index(name = "idx_mfatrust_expiration", columnList = "expirationDate")
+})
 @Getter
 @DiscriminatorValue("JPA")
 public class JpaMultifactorAuthenticationTrustRecord extends MultifactorAuthenticationTrustRecord {
@@ -15,6 +15,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.io.Serial;
 
 /**
@@ -31,6 +33,10 @@ import java.io.Serial;
 })
 @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
 @Entity(name = "JpaMultifactorAuthenticationTrustRecord")
+@Table(indexes = {
+    @Index(name = "idx_mfatrust_principal", columnList = "principal"),
+    @Index(name = "idx_mfatrust_expiration", columnList = "expirationDate")
+})
 @Getter
 @DiscriminatorValue("ORACLE")
 public class OracleJpaMultifactorAuthenticationTrustRecord extends MultifactorAuthenticationTrustRecord {
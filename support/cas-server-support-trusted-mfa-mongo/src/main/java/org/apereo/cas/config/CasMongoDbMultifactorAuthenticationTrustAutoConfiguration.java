@@ -18,7 +18,10 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import java.util.List;
 
 /**
  * This is {@link CasMongoDbMultifactorAuthenticationTrustAutoConfiguration}.
@@ -47,6 +50,11 @@ public class CasMongoDbMultifactorAuthenticationTrustAutoConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(
+            new Index().on("principal", Sort.Direction.ASC).on("deviceFingerprint", Sort.Direction.ASC).named("principalDeviceFingerprintIndex"),
+            new Index().on("expirationDate", Sort.Direction.ASC).named("expirationDateIndex"),
+            new Index().on("recordKey", Sort.Direction.ASC).named("recordKeyIndex")));
         return mongoTemplate;
     }
 
@@ -3,6 +3,7 @@ package org.apereo.cas.trusted.authentication.storage;
 import org.apereo.cas.configuration.model.support.mfa.trusteddevice.TrustedDevicesMultifactorProperties;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecord;
 import org.apereo.cas.trusted.authentication.api.MultifactorAuthenticationTrustRecordKeyGenerator;
+import org.apereo.cas.util.DateTimeUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -13,6 +14,7 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.io.Serializable;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -90,6 +92,17 @@ public class MongoDbMultifactorAuthenticationTrustStorage extends BaseMultifacto
         return new HashSet<>(results);
     }
 
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        val query = new Query();
+        query.addCriteria(Criteria.where("principal").is(principal)
+            .and("deviceFingerprint").is(deviceFingerprint)
+            .and("expirationDate").gt(DateTimeUtils.dateOf(ZonedDateTime.now(ZoneOffset.UTC))));
+        val results = mongoTemplate.find(query, MultifactorAuthenticationTrustRecord.class,
+            getTrustedDevicesMultifactorProperties().getMongo().getCollection());
+        return new HashSet<>(results);
+    }
+
     @Override
     public MultifactorAuthenticationTrustRecord get(final long id) {
         remove();
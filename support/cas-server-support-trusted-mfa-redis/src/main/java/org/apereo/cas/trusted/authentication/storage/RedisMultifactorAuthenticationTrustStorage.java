@@ -9,18 +9,30 @@ import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.val;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.RedisCallback;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * This is {@link RedisMultifactorAuthenticationTrustStorage}.
+ * Records are indexed by principal and by expiration date. Records that are not yet indexed,
+ * such as those stored by earlier versions or by nodes that do not maintain the indexes,
+ * are picked up by the backfill that runs with every purge of expired records;
+ * until the first backfill completes, lookups scan the records of the principal instead.
  *
  * @author Misagh Moayyed
  * @since 6.4.0
@@ -31,10 +43,24 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
      */
     public static final String CAS_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix for the sets that index record keys by principal.
+     */
+    public static final String CAS_PRINCIPAL_INDEX_PREFIX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + "Principals:";
+
+    /**
+     * Redis key of the sorted set that indexes record keys by expiration date.
+     */
+    public static final String CAS_EXPIRATION_INDEX = RedisMultifactorAuthenticationTrustStorage.class.getSimpleName() + "Expirations";
+
     private final CasRedisTemplate<String, List<MultifactorAuthenticationTrustRecord>> redisTemplate;
 
     private final long scanCount;
 
+    private final AtomicBoolean indexed = new AtomicBoolean();
+
+    private final ReentrantLock indexLock = new ReentrantLock();
+
     public RedisMultifactorAuthenticationTrustStorage(
         final TrustedDevicesMultifactorProperties properties,
         final CipherExecutor<Serializable, String> cipherExecutor,
@@ -62,27 +88,45 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
         return CAS_PREFIX + record.getPrincipal() + ':' + record.getId();
     }
 
+    private static byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String fromBytes(final byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static long getLatestExpiration(final List<MultifactorAuthenticationTrustRecord> records) {
+        return records
+            .stream()
+            .mapToLong(record -> Optional.ofNullable(record.getExpirationDate()).map(Date::getTime).orElse(Long.MAX_VALUE))
+            .max()
+            .orElse(Long.MAX_VALUE);
+    }
+
     @Override
     public void remove(final String key) {
         val principal = getKeyGenerationStrategy().getPrincipalFromRecordKey(getCipherExecutor().decode(key));
         try (val results = redisTemplate.scan(buildRedisKeyForRecord(principal), this.scanCount)) {
-            results.findFirst().ifPresent(redisTemplate::delete);
+            results.findFirst().ifPresent(redisKey -> {
+                redisTemplate.delete(redisKey);
+                removeFromIndex(List.of(redisKey));
+            });
         }
     }
 
     @Override
     public void remove(final ZonedDateTime expirationDate) {
-        try (val results = redisTemplate.scan(getPatternRedisKey(), this.scanCount)) {
-            results
-                .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
-                .filter(Objects::nonNull)
-                .flatMap(List::stream)
-                .filter(record -> DateTimeUtils.zonedDateTimeOf(record.getExpirationDate()).isBefore(expirationDate))
-                .forEach(record -> {
-                    try (val recordKeys = redisTemplate.scan(buildRedisKeyForRecord(record), this.scanCount)) {
-                        redisTemplate.delete(Objects.requireNonNull(recordKeys.collect(Collectors.toSet())));
-                    }
-                });
+        indexExistingRecords();
+        val expiration = DateTimeUtils.dateOf(expirationDate).getTime();
+        val expiredKeys = Objects.requireNonNull(redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                connection.zSetCommands().zRangeByScore(toBytes(CAS_EXPIRATION_INDEX), 0, expiration)))
+            .stream()
+            .map(RedisMultifactorAuthenticationTrustStorage::fromBytes)
+            .toList();
+        if (!expiredKeys.isEmpty()) {
+            redisTemplate.delete(expiredKeys);
+            removeFromIndex(expiredKeys);
         }
     }
 
@@ -105,10 +149,19 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
 
     @Override
     public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal) {
-        remove();
-        try (val keys = redisTemplate.scan(buildRedisKeyForRecord(principal), this.scanCount)) {
-            return getFromRedisKeys(keys);
-        }
+        return getIndexedRecords(principal).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean exists(final String principal) {
+        return getIndexedRecords(principal).findAny().isPresent();
+    }
+
+    @Override
+    public Set<? extends MultifactorAuthenticationTrustRecord> get(final String principal, final String deviceFingerprint) {
+        return getIndexedRecords(principal)
+            .filter(record -> StringUtils.equals(record.getDeviceFingerprint(), deviceFingerprint))
+            .collect(Collectors.toSet());
     }
 
     @Override
@@ -135,6 +188,7 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
             ObjectUtils.defaultIfNull(redisTemplate.boundValueOps(redisKey).get(), new ArrayList<>());
         results.add(record);
         redisTemplate.boundValueOps(redisKey).set(results);
+        addToIndex(redisKey, record.getPrincipal(), getLatestExpiration(results));
         return record;
     }
 
@@ -145,4 +199,76 @@ public class RedisMultifactorAuthenticationTrustStorage extends BaseMultifactorA
             .flatMap(List::stream)
             .collect(Collectors.toSet());
     }
+
+    private Stream<MultifactorAuthenticationTrustRecord> getIndexedRecords(final String principal) {
+        val redisKeys = indexed.get() ? getIndexedRedisKeys(principal) : scanRedisKeys(principal);
+        return redisKeys
+            .stream()
+            .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .filter(record -> !record.isExpired());
+    }
+
+    private List<String> getIndexedRedisKeys(final String principal) {
+        return Objects.requireNonNull(redisTemplate.execute((RedisCallback<Set<byte[]>>) connection ->
+                connection.setCommands().sMembers(toBytes(CAS_PRINCIPAL_INDEX_PREFIX + principal))))
+            .stream()
+            .map(RedisMultifactorAuthenticationTrustStorage::fromBytes)
+            .toList();
+    }
+
+    private List<String> scanRedisKeys(final String principal) {
+        try (val keys = redisTemplate.scan(buildRedisKeyForRecord(principal), this.scanCount)) {
+            return keys.toList();
+        }
+    }
+
+    /**
+     * Index the record key by principal and expiration. The principal index set expires
+     * with the latest record it holds, or never if any of its records never expire.
+     */
+    private void addToIndex(final String redisKey, final String principal, final long expiration) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            val indexKey = toBytes(CAS_PRINCIPAL_INDEX_PREFIX + principal);
+            val timeToLive = Objects.requireNonNullElse(connection.keyCommands().pTtl(indexKey), -2L);
+            connection.setCommands().sAdd(indexKey, toBytes(redisKey));
+            connection.zSetCommands().zAdd(toBytes(CAS_EXPIRATION_INDEX), expiration, toBytes(redisKey));
+            if (expiration == Long.MAX_VALUE) {
+                connection.keyCommands().persist(indexKey);
+            } else if (timeToLive == -2L || (timeToLive >= 0 && System.currentTimeMillis() + timeToLive < expiration)) {
+                connection.keyCommands().pExpireAt(indexKey, expiration);
+            }
+            return null;
+        });
+    }
+
+    private void removeFromIndex(final Collection<String> redisKeys) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            redisKeys.forEach(redisKey -> {
+                val principal = StringUtils.substringBeforeLast(StringUtils.removeStart(redisKey, CAS_PREFIX), ":");
+                connection.setCommands().sRem(toBytes(CAS_PRINCIPAL_INDEX_PREFIX + principal), toBytes(redisKey));
+                connection.zSetCommands().zRem(toBytes(CAS_EXPIRATION_INDEX), toBytes(redisKey));
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Records stored without the indexes are only reachable by scanning; index them
+     * so that lookups and expiration purges can rely on the indexes. Only one backfill
+     * runs at a time, and lookups switch to the indexes once a backfill has completed.
+     */
+    private void indexExistingRecords() {
+        if (indexLock.tryLock()) {
+            try (val keys = redisTemplate.scan(getPatternRedisKey(), this.scanCount)) {
+                keys.forEach(redisKey -> Optional.ofNullable(redisTemplate.boundValueOps(redisKey).get())
+                    .filter(records -> !records.isEmpty())
+                    .ifPresent(records -> addToIndex(redisKey, records.getFirst().getPrincipal(), getLatestExpiration(records))));
+                indexed.set(true);
+            } finally {
+                indexLock.unlock();
+            }
+        }
+    }
 }
@@ -100,6 +100,16 @@ public abstract class AbstractMultifactorAuthenticationTrustStorageTests {
         return record;
     }
 
+    @Test
+    void verifyTrustEngineByDeviceFingerprint() throws Throwable {
+        val record = getMfaTrustEngine().save(getMultifactorAuthenticationTrustRecord());
+        assertFalse(getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint()).isEmpty());
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), UUID.randomUUID().toString()).isEmpty());
+        assertTrue(getMfaTrustEngine().get(UUID.randomUUID().toString(), record.getDeviceFingerprint()).isEmpty());
+        getMfaTrustEngine().remove(DateTimeUtils.zonedDateTimeOf(record.getExpirationDate()).plusDays(1));
+        assertTrue(getMfaTrustEngine().get(record.getPrincipal(), record.getDeviceFingerprint()).isEmpty());
+    }
+
     @Test
     void verifyTrustEngine() throws Throwable {
         var record = getMultifactorAuthenticationTrustRecord();
@@ -53,6 +53,16 @@ class MultifactorAuthenticationVerifyTrustActionTests extends AbstractMultifacto
         assertEquals(CasWebflowConstants.TRANSITION_ID_NO, mfaVerifyTrustAction.execute(context).getId());
     }
 
+    @Test
+    void verifyNoFingerprintWithoutTrustedRecords() throws Throwable {
+        val context = MockRequestContext.create(applicationContext);
+        WebUtils.putServiceIntoFlowScope(context, RegisteredServiceTestUtils.getService());
+        WebUtils.putRegisteredService(context, RegisteredServiceTestUtils.getRegisteredService("sample-service", Collections.emptyMap()));
+        WebUtils.putAuthentication(CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString()), context);
+        assertEquals(CasWebflowConstants.TRANSITION_ID_NO, mfaVerifyTrustAction.execute(context).getId());
+        assertEquals(0, context.getHttpServletResponse().getCookies().length);
+    }
+
     @Test
     void verifyDeviceTrusted() throws Throwable {
         val context = MockRequestContext.create(applicationContext);
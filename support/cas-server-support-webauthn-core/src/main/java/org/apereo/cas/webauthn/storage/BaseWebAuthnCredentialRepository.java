@@ -2,6 +2,7 @@ package org.apereo.cas.webauthn.storage;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.util.DateTimeUtils;
+import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
@@ -24,10 +25,18 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link BaseWebAuthnCredentialRepository}.
+ * Registrations may be located by credential id or user handle through hashed index keys,
+ * so that repositories that maintain such keys only read and decode the registrations of the owning user.
+ * Registrations stored before they were indexed are indexed by the repository cleaner on its first run;
+ * until then, lookups that find no indexed registration fall back onto scanning all registrations.
+ * Repositories that do not maintain index keys always scan.
  *
  * @author Misagh Moayyed
  * @since 6.3.0
@@ -41,6 +50,9 @@ public abstract class BaseWebAuthnCredentialRepository implements WebAuthnCreden
 
     private final CipherExecutor<String, String> cipherExecutor;
 
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean indexed = new AtomicBoolean(false);
+
     @Override
     public boolean addRegistrationByUsername(final String username, final CredentialRegistration credentialRegistration) {
         val registrations = getRegistrationsByUsername(username);
@@ -55,10 +67,51 @@ public abstract class BaseWebAuthnCredentialRepository implements WebAuthnCreden
         return registrations.stream().filter(credReg -> id.equals(credReg.getCredential().getCredentialId())).findFirst();
     }
 
+    /**
+     * Gets the index key for the credential id.
+     *
+     * @param credentialId the credential id
+     * @return the index key
+     */
+    public static String getCredentialIdIndexKey(final ByteArray credentialId) {
+        return "credential:" + DigestUtils.sha256(credentialId.getBase64Url());
+    }
+
+    /**
+     * Gets the index key for the user handle.
+     *
+     * @param userHandle the user handle
+     * @return the index key
+     */
+    public static String getUserHandleIndexKey(final ByteArray userHandle) {
+        return "handle:" + DigestUtils.sha256(userHandle.getBase64Url());
+    }
+
+    /**
+     * Collect the index keys of credential ids and user handles of the given registrations.
+     *
+     * @param registrations the registrations
+     * @return the index keys
+     */
+    public static Set<String> getIndexKeys(final Collection<? extends CredentialRegistration> registrations) {
+        return registrations.stream()
+            .filter(Objects::nonNull)
+            .flatMap(registration -> Stream.of(
+                getCredentialIdIndexKey(registration.getCredential().getCredentialId()),
+                getUserHandleIndexKey(registration.getUserIdentity().getId())))
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    @Override
+    public Stream<? extends CredentialRegistration> getRegistrationsByCredentialId(final ByteArray credentialId) {
+        return locateRegistrations(getCredentialIdIndexKey(credentialId),
+            registration -> credentialId.equals(registration.getCredential().getCredentialId()));
+    }
+
     @Override
     public Collection<CredentialRegistration> getRegistrationsByUserHandle(final ByteArray handle) {
-        return stream()
-            .filter(registration -> handle.equals(registration.getUserIdentity().getId()))
+        return locateRegistrations(getUserHandleIndexKey(handle),
+            registration -> handle.equals(registration.getUserIdentity().getId()))
             .collect(Collectors.toList());
     }
 
@@ -123,35 +176,21 @@ public abstract class BaseWebAuthnCredentialRepository implements WebAuthnCreden
 
     @Override
     public Optional<RegisteredCredential> lookup(final ByteArray credentialId, final ByteArray userHandle) {
-        val registration = stream()
-            .filter(Objects::nonNull)
-            .filter(credReg -> credentialId.equals(credReg.getCredential().getCredentialId()))
-            .findAny();
-
-        return registration.flatMap(reg -> Optional.of(RegisteredCredential.builder()
-            .credentialId(reg.getCredential().getCredentialId())
-            .userHandle(reg.getUserIdentity().getId())
-            .publicKeyCose(reg.getCredential().getPublicKeyCose())
-            .signatureCount(reg.getCredential().getSignatureCount())
-            .build()));
+        return getRegistrationsByCredentialId(credentialId)
+            .findAny()
+            .map(BaseWebAuthnCredentialRepository::toRegisteredCredential);
     }
 
     @Override
     public Set<RegisteredCredential> lookupAll(final ByteArray credentialId) {
-        return stream()
-            .filter(Objects::nonNull)
-            .filter(reg -> reg.getCredential().getCredentialId().equals(credentialId))
-            .map(reg -> RegisteredCredential.builder()
-                .credentialId(reg.getCredential().getCredentialId())
-                .userHandle(reg.getUserIdentity().getId())
-                .publicKeyCose(reg.getCredential().getPublicKeyCose())
-                .signatureCount(reg.getCredential().getSignatureCount())
-                .build())
+        return getRegistrationsByCredentialId(credentialId)
+            .map(BaseWebAuthnCredentialRepository::toRegisteredCredential)
             .collect(Collectors.toSet());
     }
 
     @Override
     public void clean() {
+        indexExistingRegistrations();
         try {
             val webAuthn = properties.getAuthn().getMfa().getWebAuthn().getCore();
             val expirationDate = LocalDate.now(ZoneOffset.UTC)
@@ -171,6 +210,80 @@ public abstract class BaseWebAuthnCredentialRepository implements WebAuthnCreden
         }
     }
 
+    /**
+     * Gets the registrations of the users that own the index key.
+     * Repositories that maintain index keys should override this operation
+     * to avoid reading and decoding every registration.
+     *
+     * @param indexKey the index key
+     * @return the registrations
+     */
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        return Stream.empty();
+    }
+
+    /**
+     * Whether this repository maintains index keys for its registrations.
+     *
+     * @return true/false
+     */
+    protected boolean isIndexingEnabled() {
+        return false;
+    }
+
+    /**
+     * Index registrations that were stored before the repository maintained index keys.
+     * Users whose registrations are not all indexed are updated so that their index keys are saved.
+     * Once done, lookups no longer scan all registrations.
+     */
+    protected void indexExistingRegistrations() {
+        if (isIndexingEnabled() && !indexed.get()) {
+            try {
+                val registrations = stream()
+                    .filter(Objects::nonNull)
+                    .map(CredentialRegistration.class::cast)
+                    .collect(Collectors.groupingBy(CredentialRegistration::getUsername, Collectors.toCollection(HashSet::new)));
+                registrations.forEach((username, records) -> {
+                    val missing = records.stream().anyMatch(registration -> getRegistrationsByIndexKey(
+                            getCredentialIdIndexKey(registration.getCredential().getCredentialId())).findAny().isEmpty());
+                    if (missing) {
+                        LOGGER.debug("Indexing [{}] existing registration(s) for [{}]", records.size(), username);
+                        update(username, records);
+                    }
+                });
+                indexed.set(true);
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+        }
+    }
+
+    private Stream<CredentialRegistration> locateRegistrations(final String indexKey,
+                                                               final Predicate<CredentialRegistration> predicate) {
+        if (!isIndexingEnabled()) {
+            return stream().filter(Objects::nonNull).map(CredentialRegistration.class::cast).filter(predicate);
+        }
+        val results = getRegistrationsByIndexKey(indexKey)
+            .filter(Objects::nonNull)
+            .filter(predicate)
+            .toList();
+        if (!results.isEmpty() || indexed.get()) {
+            return results.stream();
+        }
+        LOGGER.trace("No indexed registration is found for [{}] while existing registrations are not yet indexed; "
+            + "Scanning all registrations", indexKey);
+        return stream().filter(Objects::nonNull).map(CredentialRegistration.class::cast).filter(predicate);
+    }
+
+    private static RegisteredCredential toRegisteredCredential(final CredentialRegistration registration) {
+        return RegisteredCredential.builder()
+            .credentialId(registration.getCredential().getCredentialId())
+            .userHandle(registration.getUserIdentity().getId())
+            .publicKeyCose(registration.getCredential().getPublicKeyCose())
+            .signatureCount(registration.getCredential().getSignatureCount())
+            .build();
+    }
+
     /**
      * Update records by user.
      *
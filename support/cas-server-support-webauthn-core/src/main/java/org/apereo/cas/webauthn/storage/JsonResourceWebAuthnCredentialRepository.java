@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -33,6 +34,8 @@ import java.util.stream.Stream;
 public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepository implements InitializingBean {
     private final Resource location;
 
+    private final Map<String, String> index = new ConcurrentHashMap<>();
+
     public JsonResourceWebAuthnCredentialRepository(final CasConfigurationProperties properties,
                                                     final Resource location,
                                                     final CipherExecutor<String, String> cipherExecutor) {
@@ -42,7 +45,7 @@ public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCreden
 
     @Override
     public void afterPropertiesSet() {
-        readFromJsonRepository();
+        readFromJsonRepository().forEach(this::index);
     }
 
     @Override
@@ -68,8 +71,27 @@ public class JsonResourceWebAuthnCredentialRepository extends BaseWebAuthnCreden
                 }
                 return record;
             }).toList();
-        storage.put(username.trim().toLowerCase(Locale.ENGLISH), new LinkedHashSet<>(records));
+        val key = username.trim().toLowerCase(Locale.ENGLISH);
+        storage.put(key, new LinkedHashSet<>(records));
         FunctionUtils.doUnchecked(__ -> WebAuthnUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(location.getFile(), storage));
+        index.values().removeIf(key::equals);
+        index(key, records);
+    }
+
+    @Override
+    protected boolean isIndexingEnabled() {
+        return true;
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        return Optional.ofNullable(index.get(indexKey))
+            .stream()
+            .flatMap(username -> getRegistrationsByUsername(username).stream());
+    }
+
+    private void index(final String username, final Collection<CredentialRegistration> records) {
+        getIndexKeys(records).forEach(key -> index.put(key, username));
     }
 
     private Map<String, Set<CredentialRegistration>> readFromJsonRepository() {
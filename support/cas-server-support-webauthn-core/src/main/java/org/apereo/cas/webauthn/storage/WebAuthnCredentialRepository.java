@@ -2,7 +2,9 @@ package org.apereo.cas.webauthn.storage;
 
 import com.yubico.core.RegistrationStorage;
 import com.yubico.data.CredentialRegistration;
+import com.yubico.webauthn.data.ByteArray;
 
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -23,4 +25,16 @@ public interface WebAuthnCredentialRepository extends RegistrationStorage, WebAu
      * @return the stream
      */
     Stream<? extends CredentialRegistration> stream();
+
+    /**
+     * Gets registrations by credential id.
+     *
+     * @param credentialId the credential id
+     * @return the registrations
+     */
+    default Stream<? extends CredentialRegistration> getRegistrationsByCredentialId(final ByteArray credentialId) {
+        return stream()
+            .filter(Objects::nonNull)
+            .filter(registration -> credentialId.equals(registration.getCredential().getCredentialId()));
+    }
 }
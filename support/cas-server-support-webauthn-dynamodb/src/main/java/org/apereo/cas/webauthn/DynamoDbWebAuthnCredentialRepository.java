@@ -56,11 +56,25 @@ public class DynamoDbWebAuthnCredentialRepository extends BaseWebAuthnCredential
             })));
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return true;
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        return facilitator.getUsernameByIndexKey(indexKey)
+            .stream()
+            .flatMap(username -> getRegistrationsByUsername(username).stream());
+    }
+
     @Override
     protected void update(final String username, final Collection<CredentialRegistration> records) {
+        val previousIndexKeys = getIndexKeys(getRegistrationsByUsername(username));
         if (records.isEmpty()) {
             LOGGER.debug("No records are provided for [{}] so entry will be removed", username);
             facilitator.remove(username.trim().toLowerCase(Locale.ENGLISH));
+            facilitator.removeIndex(previousIndexKeys);
         } else {
             val jsonRecords = records.stream()
                 .map(record -> {
@@ -76,6 +90,9 @@ public class DynamoDbWebAuthnCredentialRepository extends BaseWebAuthnCredential
                 .username(username.trim().toLowerCase(Locale.ENGLISH))
                 .build();
             facilitator.save(entry);
+            val indexKeys = getIndexKeys(records);
+            facilitator.saveIndex(entry.getUsername(), indexKeys);
+            facilitator.removeIndex(previousIndexKeys.stream().filter(key -> !indexKeys.contains(key)).collect(Collectors.toSet()));
         }
     }
 }
@@ -13,18 +13,21 @@ import lombok.val;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
-import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,6 +40,11 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 @Slf4j
 public class DynamoDbWebAuthnFacilitator {
+    /**
+     * Prefix of the principal column for items that map index keys to usernames.
+     */
+    public static final String INDEX_PREFIX = "#webauthn-index#";
+
     private final WebAuthnDynamoDbMultifactorProperties dynamoDbProperties;
 
     private final DynamoDbClient amazonDynamoDBClient;
@@ -86,11 +94,7 @@ public class DynamoDbWebAuthnFacilitator {
      * @return the accounts by
      */
     public Stream<DynamoDbWebAuthnCredentialRegistration> getAccountsBy(final String username) {
-        return getRecordsByKeys(DynamoDbQueryBuilder.builder()
-            .operator(ComparisonOperator.EQ)
-            .attributeValue(List.of(AttributeValue.builder().s(username.trim().toLowerCase(Locale.ENGLISH)).build()))
-            .key(ColumnNames.PRINCIPAL.getColumnName())
-            .build());
+        return getItem(username.trim().toLowerCase(Locale.ENGLISH)).stream();
     }
 
     /**
@@ -99,7 +103,41 @@ public class DynamoDbWebAuthnFacilitator {
      * @return the list
      */
     public Stream<DynamoDbWebAuthnCredentialRegistration> load() {
-        return getRecordsByKeys();
+        return getRecordsByKeys().filter(registration -> !registration.getUsername().startsWith(INDEX_PREFIX));
+    }
+
+    /**
+     * Gets the username owning the registrations for the index key.
+     *
+     * @param indexKey the index key
+     * @return the username
+     */
+    public Optional<String> getUsernameByIndexKey(final String indexKey) {
+        return getItem(INDEX_PREFIX + indexKey)
+            .map(DynamoDbWebAuthnCredentialRegistration::getRecords)
+            .flatMap(records -> records.stream().findFirst());
+    }
+
+    /**
+     * Save index keys for the username.
+     *
+     * @param username  the username
+     * @param indexKeys the index keys
+     */
+    public void saveIndex(final String username, final Collection<String> indexKeys) {
+        indexKeys.forEach(key -> save(DynamoDbWebAuthnCredentialRegistration.builder()
+            .username(INDEX_PREFIX + key)
+            .records(List.of(username.trim().toLowerCase(Locale.ENGLISH)))
+            .build()));
+    }
+
+    /**
+     * Remove index keys.
+     *
+     * @param indexKeys the index keys
+     */
+    public void removeIndex(final Collection<String> indexKeys) {
+        indexKeys.forEach(key -> remove(INDEX_PREFIX + key));
     }
 
     /**
@@ -149,13 +187,27 @@ public class DynamoDbWebAuthnFacilitator {
 
     private Stream<DynamoDbWebAuthnCredentialRegistration> getRecordsByKeys(final DynamoDbQueryBuilder... queries) {
         return DynamoDbTableUtils.getRecordsByKeys(amazonDynamoDBClient, dynamoDbProperties.getTableName(),
-            Arrays.stream(queries).collect(Collectors.toList()), item -> {
-                val username = item.get(ColumnNames.PRINCIPAL.getColumnName()).s().trim().toLowerCase(Locale.ENGLISH);
-                val records = item.get(ColumnNames.RECORDS.getColumnName()).l();
-                return DynamoDbWebAuthnCredentialRegistration.builder()
-                    .username(username)
-                    .records(records.stream().map(AttributeValue::s).collect(Collectors.toList()))
-                    .build();
-            });
+            Arrays.stream(queries).collect(Collectors.toList()), DynamoDbWebAuthnFacilitator::toRegistration);
+    }
+
+    private Optional<DynamoDbWebAuthnCredentialRegistration> getItem(final String principal) {
+        val request = GetItemRequest.builder()
+            .tableName(dynamoDbProperties.getTableName())
+            .key(CollectionUtils.wrap(ColumnNames.PRINCIPAL.getColumnName(), AttributeValue.builder().s(principal).build()))
+            .build();
+        LOGGER.debug("Submitting request [{}] to get item for [{}]", request, principal);
+        return Optional.of(amazonDynamoDBClient.getItem(request))
+            .filter(GetItemResponse::hasItem)
+            .map(GetItemResponse::item)
+            .map(DynamoDbWebAuthnFacilitator::toRegistration);
+    }
+
+    private static DynamoDbWebAuthnCredentialRegistration toRegistration(final Map<String, AttributeValue> item) {
+        val username = item.get(ColumnNames.PRINCIPAL.getColumnName()).s().trim().toLowerCase(Locale.ENGLISH);
+        val records = item.get(ColumnNames.RECORDS.getColumnName()).l();
+        return DynamoDbWebAuthnCredentialRegistration.builder()
+            .username(username)
+            .records(records.stream().map(AttributeValue::s).collect(Collectors.toList()))
+            .build();
     }
 }
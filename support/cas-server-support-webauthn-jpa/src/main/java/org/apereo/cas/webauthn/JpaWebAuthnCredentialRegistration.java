@@ -2,6 +2,7 @@ package org.apereo.cas.webauthn;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,14 +10,21 @@ import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.SequenceGenerator;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * This is {@link JpaWebAuthnCredentialRegistration}.
@@ -53,4 +61,12 @@ public class JpaWebAuthnCredentialRegistration implements Serializable {
     @Lob
     @Column(name = "records", length = Integer.MAX_VALUE)
     private String records;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "JpaWebAuthnCredentialRegistrationIndex",
+        joinColumns = @JoinColumn(name = "registration_id"),
+        indexes = @Index(name = "idx_webauthn_index_key", columnList = "indexKey"))
+    @Column(name = "indexKey", length = 128)
+    @Builder.Default
+    private Set<String> indexKeys = new HashSet<>();
 }
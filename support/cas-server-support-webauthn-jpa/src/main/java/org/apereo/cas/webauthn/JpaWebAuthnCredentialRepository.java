@@ -16,7 +16,9 @@ import jakarta.persistence.PersistenceContext;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -28,10 +30,11 @@ import java.util.stream.Stream;
  * @since 6.3.0
  */
 public class JpaWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepository {
-    private static final String UPDATE_QUERY = String.format("UPDATE %s r ", JpaWebAuthnCredentialRegistration.ENTITY_NAME);
-
     private static final String SELECT_QUERY = String.format("SELECT r from %s r ", JpaWebAuthnCredentialRegistration.ENTITY_NAME);
 
+    private static final String SELECT_INDEXED_USERNAMES_QUERY = String.format(
+        "SELECT DISTINCT r.username FROM %s r JOIN r.indexKeys k WHERE k = :indexKey", JpaWebAuthnCredentialRegistration.ENTITY_NAME);
+
     private final TransactionOperations transactionTemplate;
 
     @PersistenceContext(unitName = "jpaWebAuthnRegistryContext")
@@ -72,6 +75,22 @@ public class JpaWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepos
             .flatMap(Collection::stream);
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return true;
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        val usernames = transactionTemplate.execute(status ->
+            entityManager.createQuery(SELECT_INDEXED_USERNAMES_QUERY, String.class)
+                .setParameter("indexKey", indexKey)
+                .getResultList());
+        return Objects.requireNonNull(usernames)
+            .stream()
+            .flatMap(username -> getRegistrationsByUsername(username).stream());
+    }
+
     @Override
     public void update(final String username, final Collection<CredentialRegistration> givenRecords) {
         val records = givenRecords.stream()
@@ -83,19 +102,18 @@ public class JpaWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepos
             })
             .collect(Collectors.toList());
         val jsonRecords = FunctionUtils.doUnchecked(() -> getCipherExecutor().encode(WebAuthnUtils.getObjectMapper().writeValueAsString(records)));
+        val indexKeys = getIndexKeys(records);
         transactionTemplate.executeWithoutResult(status -> {
-            val count = entityManager.createQuery(UPDATE_QUERY.concat("SET r.records=:records WHERE r.username = :username"))
-                .setParameter("username", username.trim().toLowerCase(Locale.ENGLISH))
-                .setParameter("records", jsonRecords)
-                .executeUpdate();
-
-            if (count == 0) {
-                val record = JpaWebAuthnCredentialRegistration.builder()
-                    .username(username.trim().toLowerCase(Locale.ENGLISH))
-                    .records(jsonRecords)
-                    .build();
-                entityManager.merge(record);
-            }
+            val key = username.trim().toLowerCase(Locale.ENGLISH);
+            val record = entityManager.createQuery(
+                    SELECT_QUERY.concat("WHERE r.username = :username"), JpaWebAuthnCredentialRegistration.class)
+                .setParameter("username", key)
+                .getResultStream()
+                .findFirst()
+                .orElseGet(() -> JpaWebAuthnCredentialRegistration.builder().username(key).build());
+            record.setRecords(jsonRecords);
+            record.setIndexKeys(new HashSet<>(indexKeys));
+            entityManager.merge(record);
         });
     }
 }
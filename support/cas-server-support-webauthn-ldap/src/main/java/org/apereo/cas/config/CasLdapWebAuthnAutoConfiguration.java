@@ -2,12 +2,14 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.util.LdapConnectionFactoryRegistry;
 import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.webauthn.LdapWebAuthnCredentialRepository;
 import org.apereo.cas.webauthn.storage.WebAuthnCredentialRepository;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -36,11 +38,13 @@ public class CasLdapWebAuthnAutoConfiguration {
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @Bean
     public WebAuthnCredentialRepository webAuthnCredentialRepository(
+        @Qualifier(LdapConnectionFactoryRegistry.BEAN_NAME)
+        final ObjectProvider<LdapConnectionFactoryRegistry> ldapConnectionFactoryRegistry,
         final CasConfigurationProperties casProperties,
         @Qualifier("webAuthnCredentialRegistrationCipherExecutor")
         final CipherExecutor webAuthnCredentialRegistrationCipherExecutor) {
         val ldap = casProperties.getAuthn().getMfa().getWebAuthn().getLdap();
-        val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap);
+        val connectionFactory = LdapUtils.newLdaptiveConnectionFactory(ldap, ldapConnectionFactoryRegistry.getIfAvailable());
         return new LdapWebAuthnCredentialRepository(connectionFactory, casProperties, webAuthnCredentialRegistrationCipherExecutor);
     }
 }
@@ -77,6 +77,41 @@ public class LdapWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepo
             .collect(Collectors.toSet());
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return StringUtils.isNotBlank(getProperties().getAuthn().getMfa().getWebAuthn().getLdap().getIndexAttributeName());
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        val ldapProperties = getProperties().getAuthn().getMfa().getWebAuthn().getLdap();
+        if (StringUtils.isBlank(ldapProperties.getIndexAttributeName())) {
+            return Stream.empty();
+        }
+        val filter = LdapUtils.newLdaptiveSearchFilter('(' + ldapProperties.getIndexAttributeName() + "={index})",
+            List.of("index"), CollectionUtils.wrapList(indexKey));
+        try {
+            LOGGER.debug("Locating LDAP entries via filter [{}]", filter);
+            val response = connectionFactory.executeSearchOperation(ldapProperties.getBaseDn(),
+                filter, ldapProperties.getPageSize(), ldapProperties.getAccountAttributeName());
+            if (LdapUtils.containsResultEntry(response)) {
+                return response.getEntries()
+                    .stream()
+                    .map(entry -> entry.getAttribute(ldapProperties.getAccountAttributeName()))
+                    .filter(Objects::nonNull)
+                    .flatMap(attr -> attr.getStringValues().stream())
+                    .filter(StringUtils::isNotBlank)
+                    .map(record -> getCipherExecutor().decode(record.trim()))
+                    .filter(Objects::nonNull)
+                    .map(LdapWebAuthnCredentialRepository::mapFromJson)
+                    .flatMap(List::stream);
+            }
+        } catch (final LdapException e) {
+            LOGGER.debug(e.getMessage(), e);
+        }
+        return Stream.empty();
+    }
+
     @Override
     public Stream<CredentialRegistration> stream() {
         val ldapProperties = getProperties().getAuthn().getMfa().getWebAuthn().getLdap();
@@ -101,7 +136,7 @@ public class LdapWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepo
     protected void update(final String username, final Collection<CredentialRegistration> givenRecords) {
         if (givenRecords.isEmpty()) {
             LOGGER.debug("No records are provided for [{}] so entry will be removed", username);
-            executeModifyOperation(new HashSet<>(0), Optional.ofNullable(locateLdapEntryFor(username)));
+            executeModifyOperation(new HashSet<>(0), new HashSet<>(0), Optional.ofNullable(locateLdapEntryFor(username)));
         } else {
             val records = givenRecords.stream()
                 .map(record -> {
@@ -115,7 +150,7 @@ public class LdapWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepo
                 .map(Unchecked.function(reg -> WebAuthnUtils.getObjectMapper().writeValueAsString(records)))
                 .map(reg -> getCipherExecutor().encode(reg))
                 .collect(Collectors.toSet());
-            executeModifyOperation(results, Optional.ofNullable(locateLdapEntryFor(username)));
+            executeModifyOperation(results, getIndexKeys(records), Optional.ofNullable(locateLdapEntryFor(username)));
         }
     }
 
@@ -139,12 +174,16 @@ public class LdapWebAuthnCredentialRepository extends BaseWebAuthnCredentialRepo
         return null;
     }
 
-    private boolean executeModifyOperation(final Set<String> accounts, final Optional<LdapEntry> result) {
+    private boolean executeModifyOperation(final Set<String> accounts, final Set<String> indexKeys,
+                                           final Optional<LdapEntry> result) {
         if (result.isPresent()) {
             val entry = result.get();
             val ldapProperties = getProperties().getAuthn().getMfa().getWebAuthn().getLdap();
             val attrMap = new HashMap<String, Set<String>>();
             attrMap.put(ldapProperties.getAccountAttributeName(), accounts);
+            if (StringUtils.isNotBlank(ldapProperties.getIndexAttributeName())) {
+                attrMap.put(ldapProperties.getIndexAttributeName(), indexKeys);
+            }
             LOGGER.debug("Storing records [{}] at LDAP attribute [{}] for [{}]", accounts, attrMap.keySet(), entry.getDn());
             return connectionFactory.executeModifyOperation(entry.getDn(), CollectionUtils.wrap(attrMap));
         }
@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.webauthn.MongoDbWebAuthnCredentialRegistration;
 import org.apereo.cas.webauthn.MongoDbWebAuthnCredentialRepository;
 import org.apereo.cas.webauthn.storage.WebAuthnCredentialRepository;
 import lombok.val;
@@ -16,7 +17,11 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.dao.annotation.PersistenceExceptionTranslationPostProcessor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.util.List;
 
 /**
  * This is {@link CasMongoDbWebAuthnAutoConfiguration}.
@@ -45,6 +50,9 @@ public class CasMongoDbWebAuthnAutoConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, List.of(
+            new Index().on(MongoDbWebAuthnCredentialRegistration.FIELD_INDEX_KEYS, Sort.Direction.ASC).named("indexKeysIndex")));
         return mongoTemplate;
     }
 
@@ -1,6 +1,7 @@
 package org.apereo.cas.webauthn;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +12,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * This is {@link MongoDbWebAuthnCredentialRegistration}.
@@ -35,6 +38,11 @@ public class MongoDbWebAuthnCredentialRegistration implements Serializable {
      */
     public static final String FIELD_RECORDS = "records";
 
+    /**
+     * index keys field.
+     */
+    public static final String FIELD_INDEX_KEYS = "indexKeys";
+
     @Serial
     private static final long serialVersionUID = 1505204109111619367L;
 
@@ -46,4 +54,8 @@ public class MongoDbWebAuthnCredentialRegistration implements Serializable {
 
     @JsonProperty
     private String records;
+
+    @JsonProperty
+    @Builder.Default
+    private Set<String> indexKeys = new HashSet<>();
 }
@@ -70,6 +70,24 @@ public class MongoDbWebAuthnCredentialRepository extends BaseWebAuthnCredentialR
             .flatMap(Collection::stream);
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return true;
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        val query = new Query().addCriteria(Criteria.where(MongoDbWebAuthnCredentialRegistration.FIELD_INDEX_KEYS).is(indexKey));
+        val records = mongoTemplate.find(query, MongoDbWebAuthnCredentialRegistration.class,
+            getProperties().getAuthn().getMfa().getWebAuthn().getMongo().getCollection());
+        return records.stream()
+            .map(record -> getCipherExecutor().decode(record.getRecords()))
+            .map(Unchecked.function(record -> WebAuthnUtils.getObjectMapper()
+                .readValue(record, new TypeReference<Set<CredentialRegistration>>() {
+                })))
+            .flatMap(Collection::stream);
+    }
+
     @Override
     protected void update(final String username, final Collection<CredentialRegistration> givenRecords) {
         val records = givenRecords
@@ -90,12 +108,15 @@ public class MongoDbWebAuthnCredentialRepository extends BaseWebAuthnCredentialR
             mongoTemplate.remove(query, MongoDbWebAuthnCredentialRegistration.class, collection);
         } else {
             val jsonRecords = FunctionUtils.doUnchecked(() -> getCipherExecutor().encode(WebAuthnUtils.getObjectMapper().writeValueAsString(records)));
+            val indexKeys = getIndexKeys(records);
             val entry = MongoDbWebAuthnCredentialRegistration.builder()
                 .records(jsonRecords)
                 .username(username)
+                .indexKeys(indexKeys)
                 .build();
 
-            val update = Update.update(MongoDbWebAuthnCredentialRegistration.FIELD_RECORDS, jsonRecords);
+            val update = Update.update(MongoDbWebAuthnCredentialRegistration.FIELD_RECORDS, jsonRecords)
+                .set(MongoDbWebAuthnCredentialRegistration.FIELD_INDEX_KEYS, indexKeys);
             val result = mongoTemplate.updateFirst(query, update, collection);
             if (result.getMatchedCount() <= 0) {
                 LOGGER.debug("Storing new registration record for [{}]", username);
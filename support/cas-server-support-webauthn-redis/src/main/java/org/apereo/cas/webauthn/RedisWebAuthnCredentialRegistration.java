@@ -1,6 +1,7 @@
 package org.apereo.cas.webauthn;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +10,8 @@ import lombok.experimental.SuperBuilder;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * This is {@link RedisWebAuthnCredentialRegistration}.
@@ -30,4 +33,8 @@ public class RedisWebAuthnCredentialRegistration implements Serializable {
 
     @JsonProperty
     private String records;
+
+    @JsonProperty
+    @Builder.Default
+    private Set<String> indexKeys = new HashSet<>();
 }
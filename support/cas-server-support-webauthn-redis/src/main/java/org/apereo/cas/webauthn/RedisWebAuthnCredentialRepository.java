@@ -16,6 +16,7 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -32,6 +33,11 @@ public class RedisWebAuthnCredentialRepository extends BaseWebAuthnCredentialRep
      */
     public static final String CAS_WEB_AUTHN_PREFIX = RedisWebAuthnCredentialRepository.class.getSimpleName() + ':';
 
+    /**
+     * Redis key prefix for entries that map index keys to usernames.
+     */
+    public static final String CAS_WEB_AUTHN_INDEX_PREFIX = "RedisWebAuthnCredentialIndex:";
+
     private final CasRedisTemplate<String, RedisWebAuthnCredentialRegistration> redisTemplate;
 
     private final long scanCount;
@@ -59,11 +65,28 @@ public class RedisWebAuthnCredentialRepository extends BaseWebAuthnCredentialRep
         }
     }
 
+    @Override
+    protected boolean isIndexingEnabled() {
+        return true;
+    }
+
+    @Override
+    protected Stream<CredentialRegistration> getRegistrationsByIndexKey(final String indexKey) {
+        return Stream.ofNullable(redisTemplate.boundValueOps(CAS_WEB_AUTHN_INDEX_PREFIX + indexKey).get())
+            .map(RedisWebAuthnCredentialRegistration::getUsername)
+            .filter(Objects::nonNull)
+            .flatMap(username -> getRegistrationsByUsername(username).stream());
+    }
+
     @Override
     protected void update(final String username, final Collection<CredentialRegistration> givenRecords) {
         val redisKey = buildRedisKeyForRecord(username);
+        val previousIndexKeys = Optional.ofNullable(redisTemplate.boundValueOps(redisKey).get())
+            .map(RedisWebAuthnCredentialRegistration::getIndexKeys)
+            .orElseGet(Set::of);
         if (givenRecords.isEmpty()) {
             redisTemplate.delete(redisKey);
+            deleteIndexKeys(previousIndexKeys);
         } else {
             val records = givenRecords.stream()
                 .map(record -> {
@@ -74,11 +97,22 @@ public class RedisWebAuthnCredentialRepository extends BaseWebAuthnCredentialRep
                 })
                 .collect(Collectors.toList());
             val jsonRecords = FunctionUtils.doUnchecked(() -> getCipherExecutor().encode(WebAuthnUtils.getObjectMapper().writeValueAsString(records)));
+            val indexKeys = getIndexKeys(records);
             val entry = RedisWebAuthnCredentialRegistration.builder()
                 .records(jsonRecords)
                 .username(username.trim().toLowerCase(Locale.ENGLISH))
+                .indexKeys(indexKeys)
                 .build();
             redisTemplate.boundValueOps(redisKey).set(entry);
+            val indexEntry = RedisWebAuthnCredentialRegistration.builder().username(entry.getUsername()).build();
+            indexKeys.forEach(key -> redisTemplate.boundValueOps(CAS_WEB_AUTHN_INDEX_PREFIX + key).set(indexEntry));
+            deleteIndexKeys(previousIndexKeys.stream().filter(key -> !indexKeys.contains(key)).collect(Collectors.toSet()));
+        }
+    }
+
+    private void deleteIndexKeys(final Set<String> indexKeys) {
+        if (!indexKeys.isEmpty()) {
+            redisTemplate.delete(indexKeys.stream().map(key -> CAS_WEB_AUTHN_INDEX_PREFIX + key).collect(Collectors.toSet()));
         }
     }
 
@@ -4,6 +4,7 @@ import org.apereo.cas.config.CasRestfulWebAuthnAutoConfiguration;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.MockWebServer;
 import org.apereo.cas.webauthn.storage.BaseWebAuthnCredentialRepositoryTests;
+import com.yubico.webauthn.data.ByteArray;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
@@ -15,6 +16,8 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -37,6 +40,29 @@ class RestfulWebAuthnCredentialRepositoryTests extends BaseWebAuthnCredentialRep
         assertRegistrationBadInput();
     }
 
+    @Test
+    @Override
+    protected void verifyIndexedLookups() throws Throwable {
+        val first = getUsername().toLowerCase(Locale.ENGLISH);
+        val second = getUsername().toLowerCase(Locale.ENGLISH);
+        val results = cipherExecutor.encode(WebAuthnUtils.getObjectMapper()
+            .writeValueAsString(List.of(getCredentialRegistration(first), getCredentialRegistration(second))));
+        try (val webServer = new MockWebServer(9559,
+            new ByteArrayResource(results.getBytes(StandardCharsets.UTF_8), "REST Output"), HttpStatus.OK)) {
+            webServer.start();
+            val credentialId = ByteArray.fromBase64Url(first);
+            val registrations = webAuthnCredentialRepository.lookupAll(credentialId);
+            assertEquals(1, registrations.size());
+            assertEquals(credentialId, registrations.iterator().next().getUserHandle());
+            assertTrue(webAuthnCredentialRepository.lookup(credentialId, credentialId).isPresent());
+            assertEquals(first, webAuthnCredentialRepository.getUsernameForUserHandle(credentialId).orElseThrow());
+            assertEquals(1, webAuthnCredentialRepository.getRegistrationsByCredentialId(ByteArray.fromBase64Url(second)).count());
+            val unknown = ByteArray.fromBase64Url(getUsername().toLowerCase(Locale.ENGLISH));
+            assertTrue(webAuthnCredentialRepository.lookupAll(unknown).isEmpty());
+            assertTrue(webAuthnCredentialRepository.getUsernameForUserHandle(unknown).isEmpty());
+        }
+    }
+
     @Test
     void verifyLoadOperation() throws Throwable {
         assertLoadIsFound();
@@ -107,6 +107,29 @@ public abstract class BaseWebAuthnCredentialRepositoryTests {
         assertDoesNotThrow(() -> webAuthnCredentialRepository.clean());
     }
 
+    @Test
+    protected void verifyIndexedLookups() throws Throwable {
+        val first = getUsername().toLowerCase(Locale.ENGLISH);
+        val second = getUsername().toLowerCase(Locale.ENGLISH);
+        val firstRegistration = getCredentialRegistration(first);
+        assertTrue(webAuthnCredentialRepository.addRegistrationByUsername(first, firstRegistration));
+        assertTrue(webAuthnCredentialRepository.addRegistrationByUsername(second, getCredentialRegistration(second)));
+        assertDoesNotThrow(() -> webAuthnCredentialRepository.clean());
+
+        val credentialId = ByteArray.fromBase64Url(first);
+        val results = webAuthnCredentialRepository.lookupAll(credentialId);
+        assertEquals(1, results.size());
+        assertEquals(credentialId, results.iterator().next().getUserHandle());
+        assertEquals(first, webAuthnCredentialRepository.getUsernameForUserHandle(credentialId).orElseThrow());
+        assertEquals(1, webAuthnCredentialRepository.getRegistrationsByCredentialId(credentialId).count());
+
+        webAuthnCredentialRepository.removeRegistrationByUsername(first, firstRegistration);
+        assertTrue(webAuthnCredentialRepository.lookupAll(credentialId).isEmpty());
+        assertTrue(webAuthnCredentialRepository.getUsernameForUserHandle(credentialId).isEmpty());
+        assertFalse(webAuthnCredentialRepository.lookupAll(ByteArray.fromBase64Url(second)).isEmpty());
+        webAuthnCredentialRepository.removeAllRegistrations(second);
+    }
+
     protected String getUsername() throws Exception {
         return UUID.randomUUID().toString();
     }